@@ -19,12 +19,14 @@ package org.apache.shardingsphere.sharding.metadata;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.datanode.DataNodes;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.metadata.schema.dialect.DialectTableMetaDataLoaderRegistry;
 import org.apache.shardingsphere.infra.metadata.schema.spi.RuleMetaDataLoader;
 import org.apache.shardingsphere.sharding.constant.ShardingOrder;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
@@ -32,15 +34,20 @@ import org.apache.shardingsphere.sharding.rule.TableRule;
 import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
 import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
 import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaDataLoader;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.dialect.DialectTableMetaDataLoader;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -52,6 +59,7 @@ import java.util.stream.Collectors;
 /**
  * Meta data loader for sharding.
  */
+@Slf4j
 public final class ShardingMetaDataLoader implements RuleMetaDataLoader<ShardingRule> {
     
     private static final int CPU_CORES = Runtime.getRuntime().availableProcessors();
@@ -61,15 +69,88 @@ public final class ShardingMetaDataLoader implements RuleMetaDataLoader<Sharding
     @Override
     public SchemaMetaData load(final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap, final DataNodes dataNodes,
                                final ShardingRule rule, final ConfigurationProperties props, final Collection<String> excludedTableNames) throws SQLException {
-        SchemaMetaData result = new SchemaMetaData(new HashMap<>(rule.getTableRules().size(), 1));
+        boolean isCheckingMetaData = props.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED);
+        Map<String, Collection<DataNode>> logicTableDataNodes = new LinkedHashMap<>(rule.getTableRules().size(), 1);
         for (TableRule each : rule.getTableRules()) {
             if (!excludedTableNames.contains(each.getLogicTable())) {
-                load(databaseType, dataSourceMap, dataNodes, each.getLogicTable(), rule, props).ifPresent(tableMetaData -> result.put(each.getLogicTable(), tableMetaData));
+                Collection<DataNode> tableDataNodes = dataNodes.getDataNodes(each.getLogicTable());
+                logicTableDataNodes.put(each.getLogicTable(), isCheckingMetaData ? tableDataNodes : Collections.singletonList(tableDataNodes.iterator().next()));
+            }
+        }
+        Map<String, Map<String, TableMetaData>> actualTableMetaDataMap = loadActualTables(databaseType, dataSourceMap, logicTableDataNodes.values());
+        SchemaMetaData result = new SchemaMetaData(new HashMap<>(logicTableDataNodes.size(), 1));
+        for (Entry<String, Collection<DataNode>> entry : logicTableDataNodes.entrySet()) {
+            Map<String, TableMetaData> tableMetaDataMap = new LinkedHashMap<>(entry.getValue().size(), 1);
+            for (DataNode each : entry.getValue()) {
+                TableMetaData tableMetaData = actualTableMetaDataMap.getOrDefault(each.getDataSourceName(), Collections.emptyMap()).get(each.getTableName());
+                if (null != tableMetaData) {
+                    tableMetaDataMap.put(each.getDataSourceName() + "." + each.getTableName(), tableMetaData);
+                }
+            }
+            if (tableMetaDataMap.isEmpty()) {
+                continue;
+            }
+            if (isCheckingMetaData) {
+                checkUniformed(entry.getKey(), tableMetaDataMap, rule);
+            }
+            result.put(entry.getKey(), tableMetaDataMap.values().iterator().next());
+        }
+        return result;
+    }
+    
+    private Map<String, Map<String, TableMetaData>> loadActualTables(final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap, 
+                                                                     final Collection<Collection<DataNode>> dataNodes) throws SQLException {
+        Map<String, Collection<String>> dataSourceTables = new LinkedHashMap<>();
+        for (Collection<DataNode> each : dataNodes) {
+            for (DataNode dataNode : each) {
+                dataSourceTables.computeIfAbsent(dataNode.getDataSourceName(), key -> new LinkedHashSet<>()).add(dataNode.getTableName());
+            }
+        }
+        Map<String, Map<String, TableMetaData>> result = new HashMap<>(dataSourceTables.size(), 1);
+        if (dataSourceTables.isEmpty()) {
+            return result;
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(CPU_CORES * 2, dataSourceTables.size()));
+        try {
+            Map<String, Future<Map<String, TableMetaData>>> futures = new LinkedHashMap<>(dataSourceTables.size(), 1);
+            for (Entry<String, Collection<String>> entry : dataSourceTables.entrySet()) {
+                futures.put(entry.getKey(), executorService.submit(() -> loadDataSourceTables(databaseType, dataSourceMap.get(entry.getKey()), entry.getKey(), entry.getValue())));
             }
+            for (Entry<String, Future<Map<String, TableMetaData>>> entry : futures.entrySet()) {
+                Map<String, TableMetaData> tableMetaDataMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+                tableMetaDataMap.putAll(getActualTables(entry.getKey(), entry.getValue()));
+                result.put(entry.getKey(), tableMetaDataMap);
+            }
+        } finally {
+            executorService.shutdownNow();
         }
         return result;
     }
     
+    private Map<String, TableMetaData> loadDataSourceTables(final DatabaseType databaseType, final DataSource dataSource, 
+                                                            final String dataSourceName, final Collection<String> tableNames) throws SQLException {
+        long start = System.currentTimeMillis();
+        Optional<DialectTableMetaDataLoader> dialectLoader = DialectTableMetaDataLoaderRegistry.getInstance().findLoader(databaseType.getName());
+        Map<String, TableMetaData> result = dialectLoader.isPresent()
+                ? dialectLoader.get().load(dataSource, tableNames) : TableMetaDataLoader.load(dataSource, tableNames, databaseType.getName());
+        log.info("Load {} tables' meta data of data source {} finished, cost {} milliseconds.", result.size(), dataSourceName, System.currentTimeMillis() - start);
+        return result;
+    }
+    
+    private Map<String, TableMetaData> getActualTables(final String dataSourceName, final Future<Map<String, TableMetaData>> future) throws SQLException {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(String.format("Interrupted while loading table meta data of data source %s", dataSourceName), ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw new IllegalStateException(String.format("Error while loading table meta data of data source %s", dataSourceName), ex.getCause());
+        }
+    }
+    
     @Override
     public Optional<TableMetaData> load(final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap, final DataNodes dataNodes,
                                         final String tableName, final ShardingRule rule, final ConfigurationProperties props) throws SQLException {
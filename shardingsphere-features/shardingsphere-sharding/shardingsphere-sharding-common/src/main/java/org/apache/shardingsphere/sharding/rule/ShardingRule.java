@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.rule;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmFactory;
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
@@ -40,11 +41,14 @@ import org.apache.shardingsphere.sharding.strategy.ShardingStrategyFactory;
 import org.apache.shardingsphere.sharding.strategy.none.NoneShardingStrategy;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
 
@@ -77,6 +81,18 @@ public final class ShardingRule implements DataNodeRoutedRule {
     
     private final KeyGenerateAlgorithm defaultKeyGenerateAlgorithm;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> logicTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> actualTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, BindingTableRule> logicTableBindingTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Set<String> lowerCaseBroadcastTables;
+    
     public ShardingRule(final ShardingRuleConfiguration configuration, final Collection<String> dataSourceNames) {
         Preconditions.checkArgument(null != configuration, "ShardingRuleConfig cannot be null.");
         Preconditions.checkArgument(null != dataSourceNames && !dataSourceNames.isEmpty(), "Data sources cannot be empty.");
@@ -85,12 +101,16 @@ public final class ShardingRule implements DataNodeRoutedRule {
         configuration.getKeyGenerators().forEach((key, value) -> keyGenerators.put(key, ShardingSphereAlgorithmFactory.createAlgorithm(value, KeyGenerateAlgorithm.class)));
         tableRules = new LinkedList<>(createTableRules(configuration.getTables(), configuration.getDefaultKeyGenerateStrategy()));
         tableRules.addAll(createAutoTableRules(configuration.getAutoTables(), configuration.getDefaultKeyGenerateStrategy()));
+        logicTableRules = createLogicTableRules();
         broadcastTables = configuration.getBroadcastTables();
+        lowerCaseBroadcastTables = broadcastTables.stream().map(String::toLowerCase).collect(Collectors.toCollection(HashSet::new));
         bindingTableRules = createBindingTableRules(configuration.getBindingTableGroups());
         defaultDatabaseShardingStrategy = createDefaultShardingStrategy(configuration.getDefaultDatabaseShardingStrategy());
         defaultTableShardingStrategy = createDefaultShardingStrategy(configuration.getDefaultTableShardingStrategy());
         defaultKeyGenerateAlgorithm = null == configuration.getDefaultKeyGenerateStrategy()
                 ? TypedSPIRegistry.getRegisteredService(KeyGenerateAlgorithm.class) : keyGenerators.get(configuration.getDefaultKeyGenerateStrategy().getKeyGeneratorName());
+        actualTableRules = createActualTableRules();
+        logicTableBindingTableRules = createLogicTableBindingTableRules();
     }
     
     public ShardingRule(final AlgorithmProvidedShardingRuleConfiguration configuration, final Collection<String> dataSourceNames) {
@@ -101,12 +121,16 @@ public final class ShardingRule implements DataNodeRoutedRule {
         keyGenerators.putAll(configuration.getKeyGenerators());
         tableRules = new LinkedList<>(createTableRules(configuration.getTables(), configuration.getDefaultKeyGenerateStrategy()));
         tableRules.addAll(createAutoTableRules(configuration.getAutoTables(), configuration.getDefaultKeyGenerateStrategy()));
+        logicTableRules = createLogicTableRules();
         broadcastTables = configuration.getBroadcastTables();
+        lowerCaseBroadcastTables = broadcastTables.stream().map(String::toLowerCase).collect(Collectors.toCollection(HashSet::new));
         bindingTableRules = createBindingTableRules(configuration.getBindingTableGroups());
         defaultDatabaseShardingStrategy = createDefaultShardingStrategy(configuration.getDefaultDatabaseShardingStrategy());
         defaultTableShardingStrategy = createDefaultShardingStrategy(configuration.getDefaultTableShardingStrategy());
         defaultKeyGenerateAlgorithm = null == configuration.getDefaultKeyGenerateStrategy()
                 ? TypedSPIRegistry.getRegisteredService(KeyGenerateAlgorithm.class) : keyGenerators.get(configuration.getDefaultKeyGenerateStrategy().getKeyGeneratorName());
+        actualTableRules = createActualTableRules();
+        logicTableBindingTableRules = createLogicTableBindingTableRules();
     }
     
     private Collection<String> getDataSourceNames(final Collection<ShardingTableRuleConfiguration> tableRuleConfigs, final Collection<String> dataSourceNames) {
@@ -155,6 +179,34 @@ public final class ShardingRule implements DataNodeRoutedRule {
         return Optional.ofNullable(defaultKeyGenerateStrategyConfiguration).map(KeyGenerateStrategyConfiguration::getColumn).orElse(null);
     }
     
+    private Map<String, TableRule> createLogicTableRules() {
+        Map<String, TableRule> result = new HashMap<>(tableRules.size(), 1);
+        for (TableRule each : tableRules) {
+            result.putIfAbsent(each.getLogicTable(), each);
+        }
+        return result;
+    }
+    
+    private Map<String, TableRule> createActualTableRules() {
+        Map<String, TableRule> result = new HashMap<>();
+        for (TableRule each : tableRules) {
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                result.putIfAbsent(dataNode.getTableName(), each);
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, BindingTableRule> createLogicTableBindingTableRules() {
+        Map<String, BindingTableRule> result = new HashMap<>();
+        for (BindingTableRule each : bindingTableRules) {
+            for (String logicTable : each.getAllLogicTables()) {
+                result.putIfAbsent(logicTable, each);
+            }
+        }
+        return result;
+    }
+    
     private Collection<BindingTableRule> createBindingTableRules(final Collection<String> bindingTableGroups) {
         return bindingTableGroups.stream().map(this::createBindingTableRule).collect(Collectors.toList());
     }
@@ -175,7 +227,7 @@ public final class ShardingRule implements DataNodeRoutedRule {
      * @return table rule
      */
     public Optional<TableRule> findTableRule(final String logicTableName) {
-        return tableRules.stream().filter(each -> each.getLogicTable().equalsIgnoreCase(logicTableName)).findFirst();
+        return null == logicTableName ? Optional.empty() : Optional.ofNullable(logicTableRules.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -185,7 +237,7 @@ public final class ShardingRule implements DataNodeRoutedRule {
      * @return table rule
      */
     public Optional<TableRule> findTableRuleByActualTable(final String actualTableName) {
-        return tableRules.stream().filter(each -> each.isExisted(actualTableName)).findFirst();
+        return Optional.ofNullable(actualTableRules.get(actualTableName));
     }
     
     /**
@@ -263,7 +315,7 @@ public final class ShardingRule implements DataNodeRoutedRule {
      * @return binding table rule
      */
     public Optional<BindingTableRule> findBindingTableRule(final String logicTableName) {
-        return bindingTableRules.stream().filter(each -> each.hasLogicTable(logicTableName)).findFirst();
+        return Optional.ofNullable(logicTableBindingTableRules.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -283,7 +335,7 @@ public final class ShardingRule implements DataNodeRoutedRule {
      * @return logic table is belong to broadcast tables or not
      */
     public boolean isBroadcastTable(final String logicTableName) {
-        return broadcastTables.stream().anyMatch(each -> each.equalsIgnoreCase(logicTableName));
+        return null != logicTableName && lowerCaseBroadcastTables.contains(logicTableName.toLowerCase());
     }
     
     /**
@@ -304,7 +356,7 @@ public final class ShardingRule implements DataNodeRoutedRule {
      * @return is sharding column or not
      */
     public boolean isShardingColumn(final String columnName, final String tableName) {
-        return tableRules.stream().anyMatch(each -> each.getLogicTable().equalsIgnoreCase(tableName) && isShardingColumn(each, columnName));
+        return findTableRule(tableName).map(tableRule -> isShardingColumn(tableRule, columnName)).orElse(false);
     }
     
     private boolean isShardingColumn(final TableRule tableRule, final String columnName) {
@@ -319,7 +371,7 @@ public final class ShardingRule implements DataNodeRoutedRule {
      * @return is generate key column or not
      */
     public boolean isGenerateKeyColumn(final String columnName, final String tableName) {
-        return tableRules.stream().anyMatch(each -> each.getLogicTable().equalsIgnoreCase(tableName) && isGenerateKeyColumn(each, columnName));
+        return findTableRule(tableName).map(tableRule -> isGenerateKeyColumn(tableRule, columnName)).orElse(false);
     }
     
     private boolean isGenerateKeyColumn(final TableRule tableRule, final String columnName) {
@@ -334,8 +386,7 @@ public final class ShardingRule implements DataNodeRoutedRule {
      * @return column name of generated key
      */
     public Optional<String> findGenerateKeyColumnName(final String logicTableName) {
-        return tableRules.stream().filter(each -> each.getLogicTable().equalsIgnoreCase(logicTableName) && each.getGenerateKeyColumn().isPresent())
-                .map(TableRule::getGenerateKeyColumn).findFirst().orElse(Optional.empty());
+        return findTableRule(logicTableName).flatMap(TableRule::getGenerateKeyColumn);
     }
     
     /**
@@ -36,6 +36,7 @@ import org.junit.Test;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -332,6 +333,23 @@ public final class ShardingRuleTest {
         assertFalse(createMinimumShardingRule().tableRuleExists(Collections.singletonList("table_0")));
     }
     
+    @Test
+    public void assertFindTableRuleWithThousandsOfLogicTables() {
+        ShardingRuleConfiguration shardingRuleConfiguration = new ShardingRuleConfiguration();
+        for (int i = 0; i < 8000; i++) {
+            shardingRuleConfiguration.getTables().add(createTableRuleConfiguration("LOGIC_TABLE_" + i, "ds_${0..1}.table_" + i + "_${0..1}"));
+            shardingRuleConfiguration.getBroadcastTables().add("BROADCAST_TABLE_" + i);
+        }
+        shardingRuleConfiguration.getBindingTableGroups().add("LOGIC_TABLE_0,LOGIC_TABLE_7999");
+        ShardingRule actual = new ShardingRule(shardingRuleConfiguration, createDataSourceNames());
+        assertThat(actual.getTableRule("logic_table_7999").getLogicTable(), is("logic_table_7999"));
+        assertThat(actual.findLogicTableByActualTable("table_7999_1"), is(Optional.of("logic_table_7999")));
+        assertTrue(actual.findBindingTableRule("Logic_Table_7999").isPresent());
+        assertFalse(actual.findBindingTableRule("logic_table_1").isPresent());
+        assertTrue(actual.isBroadcastTable("broadcast_table_7999"));
+        assertFalse(actual.isBroadcastTable("logic_table_7999"));
+    }
+    
     private ShardingRule createMaximumShardingRule() {
         ShardingRuleConfiguration shardingRuleConfiguration = new ShardingRuleConfiguration();
         ShardingTableRuleConfiguration shardingTableRuleConfiguration = createTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}");
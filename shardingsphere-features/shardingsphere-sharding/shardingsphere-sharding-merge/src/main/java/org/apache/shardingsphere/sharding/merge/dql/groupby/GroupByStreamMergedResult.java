@@ -26,6 +26,7 @@ import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaDat
 import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationDistinctProjection;
 import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.PrimitiveValueUtil;
 import org.apache.shardingsphere.infra.executor.sql.QueryResult;
 
 import java.sql.SQLException;
@@ -126,6 +127,21 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
         return result;
     }
     
+    @Override
+    public int getInt(final int columnIndex) {
+        return PrimitiveValueUtil.toInt(getValue(columnIndex, int.class));
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) {
+        return PrimitiveValueUtil.toLong(getValue(columnIndex, long.class));
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) {
+        return PrimitiveValueUtil.toDouble(getValue(columnIndex, double.class));
+    }
+    
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
         Object result = currentRow.get(columnIndex - 1);
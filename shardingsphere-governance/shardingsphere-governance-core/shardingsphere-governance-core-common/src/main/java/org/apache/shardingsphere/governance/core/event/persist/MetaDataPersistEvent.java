@@ -22,6 +22,9 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.governance.core.event.GovernanceEvent;
 import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaData;
 
+import java.util.Collection;
+import java.util.Collections;
+
 /**
  * Meta data event.
  */
@@ -32,4 +35,13 @@ public final class MetaDataPersistEvent implements GovernanceEvent {
     private final String schemaName;
     
     private final RuleSchemaMetaData metaData;
+    
+    /**
+     * Names of changed tables, all tables may be changed if it is empty.
+     */
+    private final Collection<String> changedTableNames;
+    
+    public MetaDataPersistEvent(final String schemaName, final RuleSchemaMetaData metaData) {
+        this(schemaName, metaData, Collections.emptyList());
+    }
 }
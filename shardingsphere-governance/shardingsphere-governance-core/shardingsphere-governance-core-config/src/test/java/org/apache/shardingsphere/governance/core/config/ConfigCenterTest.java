@@ -21,7 +21,6 @@ import lombok.SneakyThrows;
 import org.apache.commons.dbcp2.BasicDataSource;
 import org.apache.shardingsphere.encrypt.api.config.EncryptRuleConfiguration;
 import org.apache.shardingsphere.governance.core.event.persist.DataSourcePersistEvent;
-import org.apache.shardingsphere.governance.core.event.persist.MetaDataPersistEvent;
 import org.apache.shardingsphere.governance.core.event.persist.RulePersistEvent;
 import org.apache.shardingsphere.governance.core.event.persist.SchemaNamePersistEvent;
 import org.apache.shardingsphere.governance.core.yaml.config.metadata.YamlRuleSchemaMetaData;
@@ -525,13 +524,4 @@ public final class ConfigCenterTest {
         assertThat(ruleSchemaMetaData.getUnconfiguredSchemaMetaDataMap().get("ds_0").get("t_user").getIndexes().keySet(), is(Collections.singleton("primary")));
         assertThat(ruleSchemaMetaData.getUnconfiguredSchemaMetaDataMap().get("ds_0").get("t_user").getColumns().keySet(), is(Collections.singleton("id")));
     }
-    
-    @Test
-    public void assertRenewMetaDataPersistEvent() {
-        MetaDataPersistEvent event = new MetaDataPersistEvent("sharding_db", 
-                new RuleSchemaMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(readYAML(META_DATA_YAML), YamlRuleSchemaMetaData.class)));
-        ConfigCenter configCenter = new ConfigCenter(configurationRepository);
-        configCenter.renew(event);
-        verify(configurationRepository).persist(eq("/schemas/sharding_db/table"), anyString());
-    }
 }
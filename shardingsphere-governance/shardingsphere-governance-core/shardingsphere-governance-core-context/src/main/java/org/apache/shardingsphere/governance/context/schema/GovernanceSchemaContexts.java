@@ -28,10 +28,12 @@ import org.apache.shardingsphere.governance.core.event.schema.SchemaAddedEvent;
 import org.apache.shardingsphere.governance.core.event.schema.SchemaDeletedEvent;
 import org.apache.shardingsphere.governance.core.facade.GovernanceFacade;
 import org.apache.shardingsphere.governance.core.metadata.event.MetaDataChangedEvent;
+import org.apache.shardingsphere.governance.core.metadata.event.TableMetaDataChangedEvent;
 import org.apache.shardingsphere.governance.core.registry.event.CircuitStateChangedEvent;
 import org.apache.shardingsphere.governance.core.registry.event.DisabledStateChangedEvent;
 import org.apache.shardingsphere.governance.core.registry.schema.GovernanceSchema;
 import org.apache.shardingsphere.infra.auth.Authentication;
+import org.apache.shardingsphere.infra.config.DatabaseAccessConfiguration;
 import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.datasource.DataSourceConfiguration;
 import org.apache.shardingsphere.infra.config.datasource.DataSourceConverter;
@@ -41,6 +43,7 @@ import org.apache.shardingsphere.infra.context.SchemaContext;
 import org.apache.shardingsphere.infra.context.SchemaContexts;
 import org.apache.shardingsphere.infra.context.SchemaContextsBuilder;
 import org.apache.shardingsphere.infra.context.impl.StandardSchemaContexts;
+import org.apache.shardingsphere.infra.context.runtime.CachedDatabaseMetaData;
 import org.apache.shardingsphere.infra.context.runtime.RuntimeContext;
 import org.apache.shardingsphere.infra.context.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
@@ -48,21 +51,31 @@ import org.apache.shardingsphere.infra.database.type.DatabaseTypes;
 import org.apache.shardingsphere.governance.core.eventbus.ShardingSphereEventBus;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorKernel;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.datasource.DataSourceMetaDatas;
 import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaDataLoader;
+import org.apache.shardingsphere.infra.rule.DataNodeRoutedRule;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRulesBuilder;
 import org.apache.shardingsphere.infra.rule.StatusContainedRule;
 import org.apache.shardingsphere.infra.rule.event.impl.DataSourceNameDisabledEvent;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.swapper.YamlRuleConfigurationSwapperEngine;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -97,8 +110,8 @@ public final class GovernanceSchemaContexts implements SchemaContexts {
     }
     
     private void persistMetaData() {
-        schemaContexts.getSchemaContexts().forEach((key, value) -> governanceFacade.getConfigCenter()
-            .persistMetaData(key, value.getSchema().getMetaData().getRuleSchemaMetaData()));
+        schemaContexts.getSchemaContexts().forEach((key, value) -> governanceFacade.getMetaDataCenter()
+            .persistMetaDataCenterNode(key, value.getSchema().getMetaData().getRuleSchemaMetaData()));
     }
     
     @Override
@@ -158,7 +171,7 @@ public final class GovernanceSchemaContexts implements SchemaContexts {
         Map<String, SchemaContext> schemas = new HashMap<>(schemaContexts.getSchemaContexts());
         schemas.put(event.getSchemaName(), createAddedSchemaContext(event));
         schemaContexts = new StandardSchemaContexts(schemas, schemaContexts.getAuthentication(), schemaContexts.getProps(), schemaContexts.getDatabaseType());
-        governanceFacade.getConfigCenter().persistMetaData(event.getSchemaName(), 
+        governanceFacade.getMetaDataCenter().persistMetaDataCenterNode(event.getSchemaName(), 
                 schemaContexts.getSchemaContexts().get(event.getSchemaName()).getSchema().getMetaData().getRuleSchemaMetaData());
         ShardingSphereEventBus.getInstance().post(
                 new DataSourceChangeCompletedEvent(event.getSchemaName(), schemaContexts.getDatabaseType(), schemas.get(event.getSchemaName()).getSchema().getDataSources()));
@@ -216,6 +229,34 @@ public final class GovernanceSchemaContexts implements SchemaContexts {
         schemaContexts = new StandardSchemaContexts(newSchemaContexts, schemaContexts.getAuthentication(), schemaContexts.getProps(), schemaContexts.getDatabaseType());
     }
     
+    /**
+     * Renew meta data of the table.
+     * 
+     * <p>
+     * Event only carries decorated meta data, so undecorated meta data of the configured table is removed and loaded from databases again on next reload.
+     * </p>
+     *
+     * @param event table meta data changed event
+     */
+    @Subscribe
+    public synchronized void renew(final TableMetaDataChangedEvent event) {
+        SchemaContext schemaContext = schemaContexts.getSchemaContexts().get(event.getSchemaName());
+        if (null == schemaContext) {
+            return;
+        }
+        RuleSchemaMetaData ruleSchemaMetaData = schemaContext.getSchema().getMetaData().getRuleSchemaMetaData();
+        SchemaMetaData schemaMetaData = null == event.getDataSourceName() ? ruleSchemaMetaData.getConfiguredSchemaMetaData()
+                : ruleSchemaMetaData.getUnconfiguredSchemaMetaDataMap().computeIfAbsent(event.getDataSourceName(), key -> new SchemaMetaData());
+        if (null == event.getTableMetaData()) {
+            schemaMetaData.remove(event.getTableName());
+        } else {
+            schemaMetaData.put(event.getTableName(), event.getTableMetaData());
+        }
+        if (null == event.getDataSourceName()) {
+            ruleSchemaMetaData.findUndecoratedConfiguredSchemaMetaData().ifPresent(optional -> optional.remove(event.getTableName()));
+        }
+    }
+    
     /**
      * Renew rule configurations.
      *
@@ -229,7 +270,7 @@ public final class GovernanceSchemaContexts implements SchemaContexts {
         newSchemaContexts.remove(schemaName);
         newSchemaContexts.put(schemaName, getChangedSchemaContext(schemaContexts.getSchemaContexts().get(schemaName), event.getRuleConfigurations()));
         schemaContexts = new StandardSchemaContexts(newSchemaContexts, schemaContexts.getAuthentication(), schemaContexts.getProps(), schemaContexts.getDatabaseType());
-        governanceFacade.getConfigCenter().persistMetaData(schemaName, newSchemaContexts.get(schemaName).getSchema().getMetaData().getRuleSchemaMetaData());
+        governanceFacade.getMetaDataCenter().persistMetaDataCenterNode(schemaName, newSchemaContexts.get(schemaName).getSchema().getMetaData().getRuleSchemaMetaData());
     }
     
     /**
@@ -302,6 +343,12 @@ public final class GovernanceSchemaContexts implements SchemaContexts {
     
     private SchemaContext getChangedSchemaContext(final SchemaContext oldSchemaContext, final Collection<RuleConfiguration> ruleConfigs) throws SQLException {
         ShardingSphereSchema oldSchema = oldSchemaContext.getSchema();
+        if (isOnlyDataNodeRoutedRulesChanged(oldSchema.getConfigurations(), ruleConfigs, oldSchema.getDataSources().keySet())) {
+            Optional<SchemaContext> result = reloadSchemaContext(oldSchemaContext, ruleConfigs, oldSchema.getDataSources(), Collections.emptyList());
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
         SchemaContextsBuilder builder = new SchemaContextsBuilder(schemaContexts.getDatabaseType(), Collections.singletonMap(oldSchemaContext.getName(), oldSchema.getDataSources()),
                 Collections.singletonMap(oldSchemaContext.getName(), ruleConfigs), schemaContexts.getAuthentication(), schemaContexts.getProps().getProps());
         return builder.build().getSchemaContexts().values().iterator().next();
@@ -310,15 +357,86 @@ public final class GovernanceSchemaContexts implements SchemaContexts {
     private SchemaContext getChangedSchemaContext(final SchemaContext oldSchemaContext, final Map<String, DataSourceConfiguration> newDataSourceConfigs) throws SQLException {
         Collection<String> deletedDataSources = getDeletedDataSources(oldSchemaContext, newDataSourceConfigs);
         Map<String, DataSource> modifiedDataSources = getModifiedDataSources(oldSchemaContext, newDataSourceConfigs);
+        Map<String, DataSource> addedDataSources = getAddedDataSources(oldSchemaContext, newDataSourceConfigs);
         oldSchemaContext.getSchema().closeDataSources(deletedDataSources);
         oldSchemaContext.getSchema().closeDataSources(modifiedDataSources.keySet());
-        Map<String, Map<String, DataSource>> dataSourcesMap = Collections.singletonMap(oldSchemaContext.getName(), 
-                getNewDataSources(oldSchemaContext.getSchema().getDataSources(), getAddedDataSources(oldSchemaContext, newDataSourceConfigs), modifiedDataSources, deletedDataSources));
+        Map<String, DataSource> newDataSources = getNewDataSources(oldSchemaContext.getSchema().getDataSources(), addedDataSources, modifiedDataSources, deletedDataSources);
+        Collection<String> changedDataSourceNames = new HashSet<>(addedDataSources.keySet());
+        changedDataSourceNames.addAll(modifiedDataSources.keySet());
+        Optional<SchemaContext> result = reloadSchemaContext(oldSchemaContext, oldSchemaContext.getSchema().getConfigurations(), newDataSources, changedDataSourceNames);
+        if (result.isPresent()) {
+            return result.get();
+        }
+        Map<String, Map<String, DataSource>> dataSourcesMap = Collections.singletonMap(oldSchemaContext.getName(), newDataSources);
         return new SchemaContextsBuilder(schemaContexts.getDatabaseType(), dataSourcesMap,
                 Collections.singletonMap(oldSchemaContext.getName(), oldSchemaContext.getSchema().getConfigurations()), schemaContexts.getAuthentication(), 
                 schemaContexts.getProps().getProps()).build().getSchemaContexts().get(oldSchemaContext.getName());
     }
     
+    private boolean isOnlyDataNodeRoutedRulesChanged(final Collection<RuleConfiguration> oldRuleConfigs, final Collection<RuleConfiguration> newRuleConfigs, 
+                                                     final Collection<String> dataSourceNames) {
+        Map<Class<?>, String> oldYamlRuleConfigs = marshalRuleConfigurations(oldRuleConfigs);
+        Map<Class<?>, String> newYamlRuleConfigs = marshalRuleConfigurations(newRuleConfigs);
+        if (!oldYamlRuleConfigs.keySet().equals(newYamlRuleConfigs.keySet())) {
+            return false;
+        }
+        Collection<RuleConfiguration> changedRuleConfigs = newRuleConfigs.stream()
+                .filter(each -> !oldYamlRuleConfigs.get(each.getClass()).equals(newYamlRuleConfigs.get(each.getClass()))).collect(Collectors.toList());
+        return ShardingSphereRulesBuilder.build(changedRuleConfigs, dataSourceNames).stream().allMatch(each -> each instanceof DataNodeRoutedRule);
+    }
+    
+    private Map<Class<?>, String> marshalRuleConfigurations(final Collection<RuleConfiguration> ruleConfigs) {
+        Map<Class<?>, String> result = new HashMap<>(ruleConfigs.size(), 1);
+        YamlRuleConfigurationSwapperEngine swapperEngine = new YamlRuleConfigurationSwapperEngine();
+        for (RuleConfiguration each : ruleConfigs) {
+            result.put(each.getClass(), YamlEngine.marshal(swapperEngine.swapToYamlConfigurations(Collections.singletonList(each))));
+        }
+        return result;
+    }
+    
+    private Optional<SchemaContext> reloadSchemaContext(final SchemaContext oldSchemaContext, final Collection<RuleConfiguration> ruleConfigs, 
+                                                        final Map<String, DataSource> dataSources, final Collection<String> changedDataSourceNames) throws SQLException {
+        ShardingSphereMetaData oldMetaData = oldSchemaContext.getSchema().getMetaData();
+        if (null == oldMetaData.getRuleSchemaMetaData()) {
+            return Optional.empty();
+        }
+        Collection<ShardingSphereRule> rules = ShardingSphereRulesBuilder.build(ruleConfigs, dataSources.keySet());
+        Optional<RuleSchemaMetaData> ruleSchemaMetaData = new RuleSchemaMetaDataLoader(rules).reload(schemaContexts.getDatabaseType(), 
+                dataSources, oldSchemaContext.getSchema().getRules(), oldMetaData.getRuleSchemaMetaData(), changedDataSourceNames, schemaContexts.getProps());
+        if (!ruleSchemaMetaData.isPresent()) {
+            return Optional.empty();
+        }
+        if (oldSchemaContext.getSchema().getDataSources().equals(dataSources)) {
+            ShardingSphereMetaData metaData = new ShardingSphereMetaData(oldMetaData.getDataSourceMetaDatas(), ruleSchemaMetaData.get(), oldSchemaContext.getName());
+            return Optional.of(new SchemaContext(oldSchemaContext.getName(), new ShardingSphereSchema(ruleConfigs, rules, dataSources, metaData), oldSchemaContext.getRuntimeContext()));
+        }
+        DataSourceMetaDatas dataSourceMetaDatas = new DataSourceMetaDatas(schemaContexts.getDatabaseType(), getDatabaseAccessConfigurationMap(dataSources));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(dataSourceMetaDatas, ruleSchemaMetaData.get(), oldSchemaContext.getName());
+        RuntimeContext oldRuntimeContext = oldSchemaContext.getRuntimeContext();
+        RuntimeContext runtimeContext = new RuntimeContext(createCachedDatabaseMetaData(dataSources).orElse(null), oldRuntimeContext.getExecutorKernel(), oldRuntimeContext.getSqlParserEngine());
+        return Optional.of(new SchemaContext(oldSchemaContext.getName(), new ShardingSphereSchema(ruleConfigs, rules, dataSources, metaData), runtimeContext));
+    }
+    
+    private Optional<CachedDatabaseMetaData> createCachedDatabaseMetaData(final Map<String, DataSource> dataSources) throws SQLException {
+        if (dataSources.isEmpty()) {
+            return Optional.empty();
+        }
+        try (Connection connection = dataSources.values().iterator().next().getConnection()) {
+            return Optional.of(new CachedDatabaseMetaData(connection.getMetaData()));
+        }
+    }
+    
+    private Map<String, DatabaseAccessConfiguration> getDatabaseAccessConfigurationMap(final Map<String, DataSource> dataSources) throws SQLException {
+        Map<String, DatabaseAccessConfiguration> result = new LinkedHashMap<>(dataSources.size(), 1);
+        for (Entry<String, DataSource> entry : dataSources.entrySet()) {
+            try (Connection connection = entry.getValue().getConnection()) {
+                DatabaseMetaData metaData = connection.getMetaData();
+                result.put(entry.getKey(), new DatabaseAccessConfiguration(metaData.getURL(), metaData.getUserName()));
+            }
+        }
+        return result;
+    }
+    
     private Map<String, DataSource> getNewDataSources(final Map<String, DataSource> oldDataSources, 
                                                       final Map<String, DataSource> addedDataSources, final Map<String, DataSource> modifiedDataSources, final Collection<String> deletedDataSources) {
         Map<String, DataSource> result = new LinkedHashMap<>(oldDataSources);
@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.governance.context.schema;
 
 import lombok.SneakyThrows;
-import org.apache.shardingsphere.governance.core.config.ConfigCenter;
 import org.apache.shardingsphere.governance.core.event.auth.AuthenticationChangedEvent;
 import org.apache.shardingsphere.governance.core.event.datasource.DataSourceChangedEvent;
 import org.apache.shardingsphere.governance.core.event.props.PropertiesChangedEvent;
@@ -26,15 +25,19 @@ import org.apache.shardingsphere.governance.core.event.rule.RuleConfigurationsCh
 import org.apache.shardingsphere.governance.core.event.schema.SchemaAddedEvent;
 import org.apache.shardingsphere.governance.core.event.schema.SchemaDeletedEvent;
 import org.apache.shardingsphere.governance.core.facade.GovernanceFacade;
+import org.apache.shardingsphere.governance.core.metadata.MetaDataCenter;
 import org.apache.shardingsphere.governance.core.metadata.event.MetaDataChangedEvent;
+import org.apache.shardingsphere.governance.core.metadata.event.TableMetaDataChangedEvent;
 import org.apache.shardingsphere.governance.core.registry.RegistryCenter;
 import org.apache.shardingsphere.governance.core.registry.event.CircuitStateChangedEvent;
 import org.apache.shardingsphere.governance.core.registry.event.DisabledStateChangedEvent;
 import org.apache.shardingsphere.governance.core.registry.schema.GovernanceSchema;
 import org.apache.shardingsphere.infra.auth.Authentication;
+import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.datasource.DataSourceConfiguration;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.context.SchemaContext;
+import org.apache.shardingsphere.infra.context.SchemaContextsBuilder;
 import org.apache.shardingsphere.infra.context.impl.StandardSchemaContexts;
 import org.apache.shardingsphere.infra.context.runtime.RuntimeContext;
 import org.apache.shardingsphere.infra.context.schema.ShardingSphereSchema;
@@ -45,13 +48,22 @@ import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaData;
 import org.apache.shardingsphere.infra.rule.event.RuleChangedEvent;
 import org.apache.shardingsphere.jdbc.test.MockedDataSource;
 import org.apache.shardingsphere.masterslave.rule.MasterSlaveRule;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
@@ -59,12 +71,14 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -83,7 +97,7 @@ public final class GovernanceSchemaContextsTest {
     private RegistryCenter registryCenter;
     
     @Mock
-    private ConfigCenter configCenter;
+    private MetaDataCenter metaDataCenter;
     
     @Mock
     private SchemaContext schemaContext;
@@ -102,7 +116,7 @@ public final class GovernanceSchemaContextsTest {
         when(databaseType.getName()).thenReturn("H2");
         when(databaseType.getDataSourceMetaData(any(), any())).thenReturn(mock(DataSourceMetaData.class));
         when(governanceFacade.getRegistryCenter()).thenReturn(registryCenter);
-        when(governanceFacade.getConfigCenter()).thenReturn(configCenter);
+        when(governanceFacade.getMetaDataCenter()).thenReturn(metaDataCenter);
         when(registryCenter.loadDisabledDataSources("schema")).thenReturn(Collections.singletonList("schema.ds_1"));
         governanceSchemaContexts = new GovernanceSchemaContexts(new StandardSchemaContexts(getSchemaContextMap(), authentication, configurationProperties, databaseType), governanceFacade);
     }
@@ -206,6 +220,32 @@ public final class GovernanceSchemaContextsTest {
         assertThat(governanceSchemaContexts.getSchemaContexts().get("schema"), not(schemaContext));
     }
     
+    @Test
+    public void assertTableMetaDataChanged() {
+        SchemaMetaData configuredSchemaMetaData = new SchemaMetaData();
+        configuredSchemaMetaData.put("t_order", new TableMetaData(Collections.emptyList(), Collections.emptyList()));
+        SchemaMetaData undecoratedSchemaMetaData = new SchemaMetaData();
+        undecoratedSchemaMetaData.put("t_order", new TableMetaData(Collections.emptyList(), Collections.emptyList()));
+        RuleSchemaMetaData ruleSchemaMetaData = new RuleSchemaMetaData(configuredSchemaMetaData, new HashMap<>(), undecoratedSchemaMetaData);
+        when(schemaContext.getSchema().getMetaData().getRuleSchemaMetaData()).thenReturn(ruleSchemaMetaData);
+        TableMetaData tableMetaData = new TableMetaData(Collections.emptyList(), Collections.emptyList());
+        governanceSchemaContexts.renew(new TableMetaDataChangedEvent("schema", null, "t_order", tableMetaData));
+        assertThat(configuredSchemaMetaData.get("t_order"), sameInstance(tableMetaData));
+        assertFalse(undecoratedSchemaMetaData.containsTable("t_order"));
+    }
+    
+    @Test
+    public void assertUnconfiguredTableMetaDataDropped() {
+        SchemaMetaData unconfiguredSchemaMetaData = new SchemaMetaData();
+        unconfiguredSchemaMetaData.put("t_user", new TableMetaData(Collections.emptyList(), Collections.emptyList()));
+        Map<String, SchemaMetaData> unconfiguredSchemaMetaDataMap = new HashMap<>();
+        unconfiguredSchemaMetaDataMap.put("ds_0", unconfiguredSchemaMetaData);
+        RuleSchemaMetaData ruleSchemaMetaData = new RuleSchemaMetaData(new SchemaMetaData(), unconfiguredSchemaMetaDataMap, new SchemaMetaData());
+        when(schemaContext.getSchema().getMetaData().getRuleSchemaMetaData()).thenReturn(ruleSchemaMetaData);
+        governanceSchemaContexts.renew(new TableMetaDataChangedEvent("schema", "ds_0", "t_user", null));
+        assertFalse(unconfiguredSchemaMetaData.containsTable("t_user"));
+    }
+    
     @Test
     @SneakyThrows
     public void assertRuleConfigurationsChanged() {
@@ -215,6 +255,69 @@ public final class GovernanceSchemaContextsTest {
         assertThat(governanceSchemaContexts.getSchemaContexts().get("schema"), not(schemaContext));
     }
     
+    @Test
+    public void assertRuleConfigurationsChangedWithOnlyDataNodesChanged() throws SQLException {
+        Map<String, DataSource> dataSources = Collections.singletonMap("ds_0", mockDataSource());
+        GovernanceSchemaContexts governanceSchemaContexts = createGovernanceSchemaContexts(dataSources, "ds_0.t_order_item_0");
+        SchemaContext oldSchemaContext = governanceSchemaContexts.getSchemaContexts().get("sharding_db");
+        governanceSchemaContexts.renew(new RuleConfigurationsChangedEvent("sharding_db", createRuleConfigurations("ds_0.t_order_item_${0..1}")));
+        SchemaContext actual = governanceSchemaContexts.getSchemaContexts().get("sharding_db");
+        assertThat(getUndecoratedSchemaMetaData(actual).get("t_order"), sameInstance(getUndecoratedSchemaMetaData(oldSchemaContext).get("t_order")));
+        assertTrue(getUndecoratedSchemaMetaData(actual).containsTable("t_order_item"));
+        assertThat(getUndecoratedSchemaMetaData(actual).get("t_order_item"), not(sameInstance(getUndecoratedSchemaMetaData(oldSchemaContext).get("t_order_item"))));
+        assertThat(actual.getRuntimeContext(), sameInstance(oldSchemaContext.getRuntimeContext()));
+    }
+    
+    @Test
+    public void assertDataSourceChangedWithIncrementalReload() throws SQLException {
+        Map<String, DataSource> dataSources = new LinkedHashMap<>(2, 1);
+        dataSources.put("ds_0", mockDataSource());
+        dataSources.put("ds_1", mockDataSource());
+        GovernanceSchemaContexts governanceSchemaContexts = createGovernanceSchemaContexts(dataSources, "ds_1.t_order_item_0");
+        SchemaContext oldSchemaContext = governanceSchemaContexts.getSchemaContexts().get("sharding_db");
+        assertTrue(getUndecoratedSchemaMetaData(oldSchemaContext).containsTable("t_order_item"));
+        Map<String, DataSourceConfiguration> dataSourceConfigs = new LinkedHashMap<>(2, 1);
+        dataSourceConfigs.put("ds_0", DataSourceConfiguration.getDataSourceConfiguration(dataSources.get("ds_0")));
+        dataSourceConfigs.put("ds_1", DataSourceConfiguration.getDataSourceConfiguration(new MockedDataSource()));
+        governanceSchemaContexts.renew(new DataSourceChangedEvent("sharding_db", dataSourceConfigs));
+        SchemaContext actual = governanceSchemaContexts.getSchemaContexts().get("sharding_db");
+        assertThat(getUndecoratedSchemaMetaData(actual).get("t_order"), sameInstance(getUndecoratedSchemaMetaData(oldSchemaContext).get("t_order")));
+        assertFalse(getUndecoratedSchemaMetaData(actual).containsTable("t_order_item"));
+        assertThat(actual.getRuntimeContext(), not(sameInstance(oldSchemaContext.getRuntimeContext())));
+        assertThat(actual.getRuntimeContext().getCachedDatabaseMetaData(), not(sameInstance(oldSchemaContext.getRuntimeContext().getCachedDatabaseMetaData())));
+        assertThat(actual.getRuntimeContext().getExecutorKernel(), sameInstance(oldSchemaContext.getRuntimeContext().getExecutorKernel()));
+        assertThat(actual.getRuntimeContext().getSqlParserEngine(), sameInstance(oldSchemaContext.getRuntimeContext().getSqlParserEngine()));
+    }
+    
+    private DataSource mockDataSource() throws SQLException {
+        DataSource result = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        when(result.getConnection().getMetaData().getTables(any(), any(), any(), any())).thenAnswer(invocation -> mockTablesResultSet(null != invocation.getArgument(2)));
+        return result;
+    }
+    
+    private ResultSet mockTablesResultSet(final boolean tableExisted) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(tableExisted, false);
+        return result;
+    }
+    
+    private GovernanceSchemaContexts createGovernanceSchemaContexts(final Map<String, DataSource> dataSources, final String orderItemDataNodes) throws SQLException {
+        SchemaContextsBuilder builder = new SchemaContextsBuilder(databaseType, Collections.singletonMap("sharding_db", dataSources), 
+                Collections.singletonMap("sharding_db", createRuleConfigurations(orderItemDataNodes)), new Properties());
+        return new GovernanceSchemaContexts(builder.build(), governanceFacade);
+    }
+    
+    private Collection<RuleConfiguration> createRuleConfigurations(final String orderItemDataNodes) {
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        result.getTables().add(new ShardingTableRuleConfiguration("t_order", "ds_0.t_order_0"));
+        result.getTables().add(new ShardingTableRuleConfiguration("t_order_item", orderItemDataNodes));
+        return Collections.singletonList(result);
+    }
+    
+    private SchemaMetaData getUndecoratedSchemaMetaData(final SchemaContext schemaContext) {
+        return schemaContext.getSchema().getMetaData().getRuleSchemaMetaData().findUndecoratedConfiguredSchemaMetaData().get();
+    }
+    
     @Test
     public void assertDisableStateChanged() {
         DisabledStateChangedEvent event = new DisabledStateChangedEvent(new GovernanceSchema("schema.ds_0"), true);
@@ -19,18 +19,39 @@ package org.apache.shardingsphere.governance.core.metadata;
 
 import com.google.common.base.Strings;
 import com.google.common.eventbus.Subscribe;
-import org.apache.shardingsphere.governance.repository.api.GovernanceRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.governance.core.event.persist.MetaDataPersistEvent;
+import org.apache.shardingsphere.governance.core.eventbus.ShardingSphereEventBus;
 import org.apache.shardingsphere.governance.core.metadata.yaml.RuleSchemaMetaDataYamlSwapper;
+import org.apache.shardingsphere.governance.core.metadata.yaml.TableMetaDataYamlSwapper;
 import org.apache.shardingsphere.governance.core.metadata.yaml.YamlRuleSchemaMetaData;
-import org.apache.shardingsphere.governance.core.eventbus.ShardingSphereEventBus;
-import org.apache.shardingsphere.governance.core.event.persist.MetaDataPersistEvent;
+import org.apache.shardingsphere.governance.core.metadata.yaml.YamlTableMetaData;
+import org.apache.shardingsphere.governance.repository.api.GovernanceRepository;
 import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaData;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Meta data center.
+ * 
+ * <p>
+ * Table meta data are persisted one node per table with version, only changed tables are written to center repository.
+ * Persisted version is read from center repository before writing, but reading and writing are not atomic,
+ * so concurrent writes of the same table from different instances may race and the last write wins.
+ * Version only tells the changes of a table, it is not a guard against concurrent writes.
+ * </p>
  */
 public final class MetaDataCenter {
     
@@ -38,9 +59,15 @@ public final class MetaDataCenter {
     
     private final GovernanceRepository repository;
     
+    private final TableMetaDataYamlSwapper tableMetaDataYamlSwapper;
+    
+    private final Map<String, Map<String, PersistedTableMetaData>> persistedTableMetaDataMap;
+    
     public MetaDataCenter(final GovernanceRepository governanceRepository) {
         node = new MetaDataCenterNode();
         repository = governanceRepository;
+        tableMetaDataYamlSwapper = new TableMetaDataYamlSwapper();
+        persistedTableMetaDataMap = new HashMap<>();
         ShardingSphereEventBus.getInstance().register(this);
     }
     
@@ -51,9 +78,115 @@ public final class MetaDataCenter {
      * @param ruleSchemaMetaData rule schema meta data of the schema
      */
     public void persistMetaDataCenterNode(final String schemaName, final RuleSchemaMetaData ruleSchemaMetaData) {
-        repository.persist(node.getMetaDataCenterNodeFullPath(schemaName), YamlEngine.marshal(new RuleSchemaMetaDataYamlSwapper().swapToYamlConfiguration(ruleSchemaMetaData)));
+        persistMetaDataCenterNode(schemaName, ruleSchemaMetaData, Collections.emptyList());
     }
-
+    
+    /**
+     * Persist changed tables of rule schema meta data to center repository.
+     *
+     * @param schemaName schema name
+     * @param ruleSchemaMetaData rule schema meta data of the schema
+     * @param changedTableNames changed table names, all tables are compared with persisted ones if it is empty
+     */
+    public synchronized void persistMetaDataCenterNode(final String schemaName, final RuleSchemaMetaData ruleSchemaMetaData, final Collection<String> changedTableNames) {
+        Map<String, PersistedTableMetaData> persistedTableMetaData = persistedTableMetaDataMap.computeIfAbsent(schemaName, this::loadPersistedTableMetaData);
+        Collection<String> lowerCaseChangedTableNames = changedTableNames.stream().map(String::toLowerCase).collect(Collectors.toSet());
+        Map<String, TableMetaData> tableMetaDataMap = getTableMetaDataMap(schemaName, ruleSchemaMetaData, lowerCaseChangedTableNames);
+        for (Entry<String, TableMetaData> entry : tableMetaDataMap.entrySet()) {
+            persistTableMetaData(persistedTableMetaData, entry.getKey(), entry.getValue());
+        }
+        for (String each : getDeletedTablePaths(persistedTableMetaData.keySet(), tableMetaDataMap.keySet(), lowerCaseChangedTableNames)) {
+            repository.delete(each);
+            persistedTableMetaData.remove(each);
+        }
+    }
+    
+    private Map<String, PersistedTableMetaData> loadPersistedTableMetaData(final String schemaName) {
+        Map<String, PersistedTableMetaData> result = new HashMap<>();
+        for (String each : getTablePaths(schemaName)) {
+            String content = repository.get(each);
+            if (!Strings.isNullOrEmpty(content)) {
+                result.put(each, new PersistedTableMetaData(YamlEngine.unmarshal(content, YamlTableMetaData.class).getVersion(), content));
+            }
+        }
+        return result;
+    }
+    
+    private Collection<String> getTablePaths(final String schemaName) {
+        Collection<String> result = new LinkedList<>();
+        for (String each : getChildrenKeys(node.getConfiguredTablesPath(schemaName))) {
+            result.add(node.getConfiguredTablePath(schemaName, each));
+        }
+        for (String each : getChildrenKeys(node.getUnconfiguredDataSourcesPath(schemaName))) {
+            for (String tableName : getChildrenKeys(node.getUnconfiguredTablesPath(schemaName, each))) {
+                result.add(node.getUnconfiguredTablePath(schemaName, each, tableName));
+            }
+        }
+        return result;
+    }
+    
+    private Collection<String> getChildrenKeys(final String key) {
+        Collection<String> result = repository.getChildrenKeys(key);
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    private Map<String, TableMetaData> getTableMetaDataMap(final String schemaName, final RuleSchemaMetaData ruleSchemaMetaData, final Collection<String> changedTableNames) {
+        Map<String, TableMetaData> result = new LinkedHashMap<>();
+        SchemaMetaData configuredSchemaMetaData = ruleSchemaMetaData.getConfiguredSchemaMetaData();
+        for (String each : changedTableNames.isEmpty() ? configuredSchemaMetaData.getAllTableNames() : changedTableNames) {
+            if (configuredSchemaMetaData.containsTable(each)) {
+                result.put(node.getConfiguredTablePath(schemaName, each), configuredSchemaMetaData.get(each));
+            }
+        }
+        for (Entry<String, SchemaMetaData> entry : ruleSchemaMetaData.getUnconfiguredSchemaMetaDataMap().entrySet()) {
+            for (String each : changedTableNames.isEmpty() ? entry.getValue().getAllTableNames() : changedTableNames) {
+                if (entry.getValue().containsTable(each)) {
+                    result.put(node.getUnconfiguredTablePath(schemaName, entry.getKey(), each), entry.getValue().get(each));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private void persistTableMetaData(final Map<String, PersistedTableMetaData> persistedTableMetaData, final String tablePath, final TableMetaData tableMetaData) {
+        PersistedTableMetaData persisted = refreshPersistedTableMetaData(persistedTableMetaData, tablePath);
+        YamlTableMetaData yamlTableMetaData = tableMetaDataYamlSwapper.swapToYamlConfiguration(tableMetaData);
+        if (null != persisted) {
+            yamlTableMetaData.setVersion(persisted.getVersion());
+            if (YamlEngine.marshal(yamlTableMetaData).equals(persisted.getContent())) {
+                return;
+            }
+        }
+        long version = null == persisted ? 1L : persisted.getVersion() + 1;
+        yamlTableMetaData.setVersion(version);
+        String content = YamlEngine.marshal(yamlTableMetaData);
+        repository.persist(tablePath, content);
+        persistedTableMetaData.put(tablePath, new PersistedTableMetaData(version, content));
+    }
+    
+    private PersistedTableMetaData refreshPersistedTableMetaData(final Map<String, PersistedTableMetaData> persistedTableMetaData, final String tablePath) {
+        String content = repository.get(tablePath);
+        if (Strings.isNullOrEmpty(content)) {
+            persistedTableMetaData.remove(tablePath);
+            return null;
+        }
+        PersistedTableMetaData cached = persistedTableMetaData.get(tablePath);
+        if (null != cached && cached.getContent().equals(content)) {
+            return cached;
+        }
+        PersistedTableMetaData result = new PersistedTableMetaData(YamlEngine.unmarshal(content, YamlTableMetaData.class).getVersion(), content);
+        persistedTableMetaData.put(tablePath, result);
+        return result;
+    }
+    
+    private Collection<String> getDeletedTablePaths(final Collection<String> persistedTablePaths, final Collection<String> currentTablePaths, final Collection<String> changedTableNames) {
+        return persistedTablePaths.stream().filter(each -> !currentTablePaths.contains(each) && isChangedTablePath(each, changedTableNames)).collect(Collectors.toList());
+    }
+    
+    private boolean isChangedTablePath(final String tablePath, final Collection<String> changedTableNames) {
+        return changedTableNames.isEmpty() || node.findTableNode(tablePath).map(optional -> changedTableNames.contains(optional.getTableName())).orElse(false);
+    }
+    
     /**
      * Load rule schema meta data from center repository.
      *
@@ -61,11 +194,35 @@ public final class MetaDataCenter {
      * @return rule schema meta data of the schema
      */
     public Optional<RuleSchemaMetaData> loadRuleSchemaMetaData(final String schemaName) {
-        String path = repository.get(node.getMetaDataCenterNodeFullPath(schemaName));
-        if (Strings.isNullOrEmpty(path)) {
+        SchemaMetaData configuredSchemaMetaData = new SchemaMetaData();
+        for (String each : getChildrenKeys(node.getConfiguredTablesPath(schemaName))) {
+            loadTableMetaData(node.getConfiguredTablePath(schemaName, each)).ifPresent(tableMetaData -> configuredSchemaMetaData.put(each, tableMetaData));
+        }
+        Map<String, SchemaMetaData> unconfiguredSchemaMetaDataMap = new HashMap<>();
+        for (String each : getChildrenKeys(node.getUnconfiguredDataSourcesPath(schemaName))) {
+            SchemaMetaData schemaMetaData = new SchemaMetaData();
+            for (String tableName : getChildrenKeys(node.getUnconfiguredTablesPath(schemaName, each))) {
+                loadTableMetaData(node.getUnconfiguredTablePath(schemaName, each, tableName)).ifPresent(tableMetaData -> schemaMetaData.put(tableName, tableMetaData));
+            }
+            unconfiguredSchemaMetaDataMap.put(each, schemaMetaData);
+        }
+        if (configuredSchemaMetaData.getAllTableNames().isEmpty() && unconfiguredSchemaMetaDataMap.isEmpty()) {
+            return loadSchemaNode(schemaName);
+        }
+        return Optional.of(new RuleSchemaMetaData(configuredSchemaMetaData, unconfiguredSchemaMetaDataMap));
+    }
+    
+    private Optional<TableMetaData> loadTableMetaData(final String tablePath) {
+        String content = repository.get(tablePath);
+        return Strings.isNullOrEmpty(content) ? Optional.empty() : Optional.of(tableMetaDataYamlSwapper.swapToObject(YamlEngine.unmarshal(content, YamlTableMetaData.class)));
+    }
+    
+    private Optional<RuleSchemaMetaData> loadSchemaNode(final String schemaName) {
+        String content = repository.get(node.getMetaDataCenterNodeFullPath(schemaName));
+        if (Strings.isNullOrEmpty(content)) {
             return Optional.empty();
         }
-        return Optional.of(new RuleSchemaMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(path, YamlRuleSchemaMetaData.class)));
+        return Optional.of(new RuleSchemaMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(content, YamlRuleSchemaMetaData.class)));
     }
     
     /**
@@ -74,7 +231,16 @@ public final class MetaDataCenter {
      * @param event Meta data event.
      */
     @Subscribe
-    public synchronized void renew(final MetaDataPersistEvent event) {
-        persistMetaDataCenterNode(event.getSchemaName(), event.getMetaData());
+    public void renew(final MetaDataPersistEvent event) {
+        persistMetaDataCenterNode(event.getSchemaName(), event.getMetaData(), event.getChangedTableNames());
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class PersistedTableMetaData {
+        
+        private final long version;
+        
+        private final String content;
     }
 }
@@ -21,6 +21,9 @@ import com.google.common.base.Joiner;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Collection;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -31,6 +34,15 @@ public final class MetaDataCenterNode {
     
     private static final String ROOT = "metadata";
     
+    private static final String CONFIGURED_NODE = "configured";
+    
+    private static final String UNCONFIGURED_NODE = "unconfigured";
+    
+    private static final String PATH_SEPARATOR = "/";
+    
+    private static final Pattern TABLE_PATH_PATTERN = Pattern.compile(
+            String.format("^/%s/([^/]+)/(%s|%s/([^/]+))/([^/]+)$", ROOT, CONFIGURED_NODE, UNCONFIGURED_NODE));
+    
     /**
      * Get meta data node full path.
      *
@@ -38,7 +50,72 @@ public final class MetaDataCenterNode {
      * @return meta data node full path
      */
     public String getMetaDataCenterNodeFullPath(final String schemaName) {
-        return Joiner.on("/").join("", ROOT, schemaName);
+        return Joiner.on(PATH_SEPARATOR).join("", ROOT, schemaName);
+    }
+    
+    /**
+     * Get configured tables path.
+     *
+     * @param schemaName schema name
+     * @return configured tables path
+     */
+    public String getConfiguredTablesPath(final String schemaName) {
+        return Joiner.on(PATH_SEPARATOR).join("", ROOT, schemaName, CONFIGURED_NODE);
+    }
+    
+    /**
+     * Get configured table path.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @return configured table path
+     */
+    public String getConfiguredTablePath(final String schemaName, final String tableName) {
+        return Joiner.on(PATH_SEPARATOR).join("", ROOT, schemaName, CONFIGURED_NODE, tableName);
+    }
+    
+    /**
+     * Get unconfigured data sources path.
+     *
+     * @param schemaName schema name
+     * @return unconfigured data sources path
+     */
+    public String getUnconfiguredDataSourcesPath(final String schemaName) {
+        return Joiner.on(PATH_SEPARATOR).join("", ROOT, schemaName, UNCONFIGURED_NODE);
+    }
+    
+    /**
+     * Get unconfigured tables path.
+     *
+     * @param schemaName schema name
+     * @param dataSourceName data source name
+     * @return unconfigured tables path
+     */
+    public String getUnconfiguredTablesPath(final String schemaName, final String dataSourceName) {
+        return Joiner.on(PATH_SEPARATOR).join("", ROOT, schemaName, UNCONFIGURED_NODE, dataSourceName);
+    }
+    
+    /**
+     * Get unconfigured table path.
+     *
+     * @param schemaName schema name
+     * @param dataSourceName data source name
+     * @param tableName table name
+     * @return unconfigured table path
+     */
+    public String getUnconfiguredTablePath(final String schemaName, final String dataSourceName, final String tableName) {
+        return Joiner.on(PATH_SEPARATOR).join("", ROOT, schemaName, UNCONFIGURED_NODE, dataSourceName, tableName);
+    }
+    
+    /**
+     * Find table node via table path.
+     *
+     * @param tablePath configured or unconfigured table path
+     * @return table node
+     */
+    public Optional<MetaDataTableNode> findTableNode(final String tablePath) {
+        Matcher matcher = TABLE_PATH_PATTERN.matcher(tablePath);
+        return matcher.matches() ? Optional.of(new MetaDataTableNode(matcher.group(1), matcher.group(3), matcher.group(4))) : Optional.empty();
     }
     
     /**
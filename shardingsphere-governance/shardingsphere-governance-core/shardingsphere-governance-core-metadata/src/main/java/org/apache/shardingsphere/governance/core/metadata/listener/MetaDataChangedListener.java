@@ -17,19 +17,29 @@
 
 package org.apache.shardingsphere.governance.core.metadata.listener;
 
-import org.apache.shardingsphere.governance.core.metadata.event.MetaDataChangedEvent;
-import org.apache.shardingsphere.governance.repository.api.GovernanceRepository;
-import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent;
+import com.google.common.base.Strings;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.governance.core.event.GovernanceEvent;
 import org.apache.shardingsphere.governance.core.listener.PostGovernanceRepositoryEventListener;
-import org.apache.shardingsphere.governance.core.metadata.yaml.RuleSchemaMetaDataYamlSwapper;
 import org.apache.shardingsphere.governance.core.metadata.MetaDataCenterNode;
+import org.apache.shardingsphere.governance.core.metadata.MetaDataTableNode;
+import org.apache.shardingsphere.governance.core.metadata.event.MetaDataChangedEvent;
+import org.apache.shardingsphere.governance.core.metadata.event.TableMetaDataChangedEvent;
+import org.apache.shardingsphere.governance.core.metadata.yaml.RuleSchemaMetaDataYamlSwapper;
+import org.apache.shardingsphere.governance.core.metadata.yaml.TableMetaDataYamlSwapper;
 import org.apache.shardingsphere.governance.core.metadata.yaml.YamlRuleSchemaMetaData;
+import org.apache.shardingsphere.governance.core.metadata.yaml.YamlTableMetaData;
+import org.apache.shardingsphere.governance.repository.api.GovernanceRepository;
+import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent;
+import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent.ChangedType;
 import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaData;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Meta data changed listener.
@@ -38,14 +48,54 @@ public final class MetaDataChangedListener extends PostGovernanceRepositoryEvent
     
     private final Collection<String> schemaNames;
     
+    private final MetaDataCenterNode node;
+    
+    private final Map<String, AppliedTableMetaData> appliedTableMetaDataMap;
+    
     public MetaDataChangedListener(final GovernanceRepository governanceRepository, final Collection<String> schemaNames) {
         super(governanceRepository, new MetaDataCenterNode().getAllSchemaMetadataPaths(schemaNames));
         this.schemaNames = schemaNames;
+        node = new MetaDataCenterNode();
+        appliedTableMetaDataMap = new ConcurrentHashMap<>();
     }
     
     @Override
     protected Optional<GovernanceEvent> createGovernanceEvent(final DataChangedEvent event) {
+        Optional<MetaDataTableNode> tableNode = node.findTableNode(event.getKey());
+        if (tableNode.isPresent()) {
+            return schemaNames.contains(tableNode.get().getSchemaName()) ? createTableMetaDataChangedEvent(tableNode.get(), event) : Optional.empty();
+        }
+        if (ChangedType.UPDATED != event.getChangedType() || !node.getAllSchemaMetadataPaths(schemaNames).contains(event.getKey()) || Strings.isNullOrEmpty(event.getValue())) {
+            return Optional.empty();
+        }
         RuleSchemaMetaData ruleSchemaMetaData = new RuleSchemaMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(event.getValue(), YamlRuleSchemaMetaData.class));
         return Optional.of(new MetaDataChangedEvent(schemaNames, ruleSchemaMetaData));
     }
+    
+    private Optional<GovernanceEvent> createTableMetaDataChangedEvent(final MetaDataTableNode tableNode, final DataChangedEvent event) {
+        if (ChangedType.DELETED == event.getChangedType()) {
+            appliedTableMetaDataMap.remove(event.getKey());
+            return Optional.of(new TableMetaDataChangedEvent(tableNode.getSchemaName(), tableNode.getDataSourceName(), tableNode.getTableName(), null));
+        }
+        if (Strings.isNullOrEmpty(event.getValue())) {
+            return Optional.empty();
+        }
+        YamlTableMetaData yamlTableMetaData = YamlEngine.unmarshal(event.getValue(), YamlTableMetaData.class);
+        AppliedTableMetaData applied = appliedTableMetaDataMap.get(event.getKey());
+        if (null != applied && (applied.getVersion() > yamlTableMetaData.getVersion() || applied.getContent().equals(event.getValue()))) {
+            return Optional.empty();
+        }
+        appliedTableMetaDataMap.put(event.getKey(), new AppliedTableMetaData(yamlTableMetaData.getVersion(), event.getValue()));
+        return Optional.of(new TableMetaDataChangedEvent(
+                tableNode.getSchemaName(), tableNode.getDataSourceName(), tableNode.getTableName(), new TableMetaDataYamlSwapper().swapToObject(yamlTableMetaData)));
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class AppliedTableMetaData {
+        
+        private final long version;
+        
+        private final String content;
+    }
 }
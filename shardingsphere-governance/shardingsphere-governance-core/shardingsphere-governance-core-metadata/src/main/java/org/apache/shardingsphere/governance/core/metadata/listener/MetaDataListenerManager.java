@@ -37,6 +37,6 @@ public final class MetaDataListenerManager {
      * Initialize all metadata changed listeners.
      */
     public void initListeners() {
-        metaDataChangedListener.watch(ChangedType.UPDATED);
+        metaDataChangedListener.watch(ChangedType.ADDED, ChangedType.UPDATED, ChangedType.DELETED);
     }
 }
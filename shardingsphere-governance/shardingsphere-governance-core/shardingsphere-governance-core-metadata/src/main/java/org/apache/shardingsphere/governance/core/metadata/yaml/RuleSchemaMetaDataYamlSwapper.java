@@ -17,15 +17,10 @@
 
 package org.apache.shardingsphere.governance.core.metadata.yaml;
 
-import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
-import org.apache.shardingsphere.sql.parser.binder.metadata.index.IndexMetaData;
 import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
-import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaData;
 import org.apache.shardingsphere.infra.yaml.swapper.YamlSwapper;
 
-import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -36,6 +31,8 @@ import java.util.stream.Collectors;
  * Rule schema meta data configuration YAML swapper.
  */
 public final class RuleSchemaMetaDataYamlSwapper implements YamlSwapper<YamlRuleSchemaMetaData, RuleSchemaMetaData> {
+    
+    private final TableMetaDataYamlSwapper tableMetaDataYamlSwapper = new TableMetaDataYamlSwapper();
 
     @Override
     public YamlRuleSchemaMetaData swapToYamlConfiguration(final RuleSchemaMetaData metaData) {
@@ -56,65 +53,13 @@ public final class RuleSchemaMetaDataYamlSwapper implements YamlSwapper<YamlRule
     }
 
     private SchemaMetaData convertSchema(final YamlSchemaMetaData schema) {
-        return new SchemaMetaData(schema.getTables().entrySet().stream().collect(Collectors.toMap(Entry::getKey, entry -> convertTable(entry.getValue()))));
-    }
-
-    private TableMetaData convertTable(final YamlTableMetaData table) {
-        return new TableMetaData(convertColumns(table.getColumns()), convertIndexes(table.getIndexes()));
-    }
-
-    private Collection<IndexMetaData> convertIndexes(final Map<String, YamlIndexMetaData> indexes) {
-        return null == indexes ? Collections.emptyList() : indexes.values().stream().map(this::convertIndex).collect(Collectors.toList());
-    }
-
-    private IndexMetaData convertIndex(final YamlIndexMetaData index) {
-        return new IndexMetaData(index.getName());
-    }
-
-    private Collection<ColumnMetaData> convertColumns(final Map<String, YamlColumnMetaData> indexes) {
-        return indexes.values().stream().map(this::convertColumn).collect(Collectors.toList());
+        return new SchemaMetaData(schema.getTables().entrySet().stream().collect(Collectors.toMap(Entry::getKey, entry -> tableMetaDataYamlSwapper.swapToObject(entry.getValue()))));
     }
 
-    private ColumnMetaData convertColumn(final YamlColumnMetaData column) {
-        return new ColumnMetaData(column.getName(), column.getDataType(), column.getDataTypeName(), column.isPrimaryKey(), column.isGenerated(), column.isCaseSensitive());
-    }
-    
     private YamlSchemaMetaData convertYamlSchema(final SchemaMetaData schema) {
-        Map<String, YamlTableMetaData> tables = schema.getAllTableNames().stream().collect(Collectors.toMap(each -> each, each -> convertYamlTable(schema.get(each))));
+        Map<String, YamlTableMetaData> tables = schema.getAllTableNames().stream().collect(Collectors.toMap(each -> each, each -> tableMetaDataYamlSwapper.swapToYamlConfiguration(schema.get(each))));
         YamlSchemaMetaData result = new YamlSchemaMetaData();
         result.setTables(tables);
         return result;
     }
-
-    private YamlTableMetaData convertYamlTable(final TableMetaData table) {
-        YamlTableMetaData result = new YamlTableMetaData();
-        result.setColumns(convertYamlColumns(table.getColumns()));
-        result.setIndexes(convertYamlIndexes(table.getIndexes()));
-        return result;
-    }
-
-    private Map<String, YamlIndexMetaData> convertYamlIndexes(final Map<String, IndexMetaData> indexes) {
-        return indexes.entrySet().stream().collect(Collectors.toMap(Entry::getKey, entry -> convertYamlIndex(entry.getValue())));
-    }
-
-    private YamlIndexMetaData convertYamlIndex(final IndexMetaData index) {
-        YamlIndexMetaData result = new YamlIndexMetaData();
-        result.setName(index.getName());
-        return result;
-    }
-
-    private Map<String, YamlColumnMetaData> convertYamlColumns(final Map<String, ColumnMetaData> columns) {
-        return columns.entrySet().stream().collect(Collectors.toMap(Entry::getKey, entry -> convertYamlColumn(entry.getValue())));
-    }
-
-    private YamlColumnMetaData convertYamlColumn(final ColumnMetaData column) {
-        YamlColumnMetaData result = new YamlColumnMetaData();
-        result.setName(column.getName());
-        result.setCaseSensitive(column.isCaseSensitive());
-        result.setGenerated(column.isGenerated());
-        result.setPrimaryKey(column.isPrimaryKey());
-        result.setDataType(result.getDataType());
-        result.setDataTypeName(result.getDataTypeName());
-        return result;
-    }
 }
@@ -33,4 +33,6 @@ public final class YamlTableMetaData implements YamlConfiguration {
     private Map<String, YamlColumnMetaData> columns;
     
     private Map<String, YamlIndexMetaData> indexes;
+    
+    private long version;
 }
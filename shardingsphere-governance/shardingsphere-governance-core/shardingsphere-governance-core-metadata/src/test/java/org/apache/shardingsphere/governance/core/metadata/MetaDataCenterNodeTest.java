@@ -19,8 +19,13 @@ package org.apache.shardingsphere.governance.core.metadata;
 
 import org.junit.Test;
 
+import java.util.Optional;
+
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class MetaDataCenterNodeTest {
     
@@ -31,4 +36,37 @@ public final class MetaDataCenterNodeTest {
         assertThat(metaDataCenterNode.getMetaDataCenterNodeFullPath("schema"),
                 is("/metadata/schema"));
     }
+    
+    @Test
+    public void assertGetConfiguredTablePath() {
+        assertThat(metaDataCenterNode.getConfiguredTablePath("schema", "t_order"), is("/metadata/schema/configured/t_order"));
+    }
+    
+    @Test
+    public void assertGetUnconfiguredTablePath() {
+        assertThat(metaDataCenterNode.getUnconfiguredTablePath("schema", "ds_0", "t_user"), is("/metadata/schema/unconfigured/ds_0/t_user"));
+    }
+    
+    @Test
+    public void assertFindConfiguredTableNode() {
+        Optional<MetaDataTableNode> actual = metaDataCenterNode.findTableNode("/metadata/schema/configured/t_order");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSchemaName(), is("schema"));
+        assertNull(actual.get().getDataSourceName());
+        assertThat(actual.get().getTableName(), is("t_order"));
+    }
+    
+    @Test
+    public void assertFindUnconfiguredTableNode() {
+        Optional<MetaDataTableNode> actual = metaDataCenterNode.findTableNode("/metadata/schema/unconfigured/ds_0/t_user");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSchemaName(), is("schema"));
+        assertThat(actual.get().getDataSourceName(), is("ds_0"));
+        assertThat(actual.get().getTableName(), is("t_user"));
+    }
+    
+    @Test
+    public void assertFindTableNodeWithSchemaPath() {
+        assertFalse(metaDataCenterNode.findTableNode("/metadata/schema").isPresent());
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.governance.core.metadata;
 
 import org.apache.shardingsphere.governance.core.metadata.yaml.YamlRuleSchemaMetaData;
+import org.apache.shardingsphere.governance.core.metadata.yaml.YamlTableMetaData;
 import org.apache.shardingsphere.governance.repository.api.GovernanceRepository;
 import org.apache.shardingsphere.governance.core.metadata.yaml.RuleSchemaMetaDataYamlSwapper;
 import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaData;
@@ -28,7 +29,10 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -37,6 +41,8 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -57,7 +63,57 @@ public final class MetaDataCenterTest {
     public void assertPersistMetaDataCenterNode() {
         RuleSchemaMetaData ruleSchemaMetaData = new RuleSchemaMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(MetaDataJson.META_DATA, YamlRuleSchemaMetaData.class));
         metaDataCenter.persistMetaDataCenterNode("schema", ruleSchemaMetaData);
-        verify(repository).persist(eq("/metadata/schema"), anyString());
+        verify(repository).persist(eq("/metadata/schema/configured/t_order"), anyString());
+        verify(repository).persist(eq("/metadata/schema/unconfigured/ds_0/t_user"), anyString());
+    }
+    
+    @Test
+    public void assertPersistMetaDataCenterNodeWithoutChange() {
+        mockRepository(new HashMap<>());
+        RuleSchemaMetaData ruleSchemaMetaData = new RuleSchemaMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(MetaDataJson.META_DATA, YamlRuleSchemaMetaData.class));
+        metaDataCenter.persistMetaDataCenterNode("schema", ruleSchemaMetaData);
+        metaDataCenter.persistMetaDataCenterNode("schema", ruleSchemaMetaData);
+        verify(repository, times(1)).persist(eq("/metadata/schema/configured/t_order"), anyString());
+        verify(repository, times(1)).persist(eq("/metadata/schema/unconfigured/ds_0/t_user"), anyString());
+    }
+    
+    @Test
+    public void assertPersistMetaDataCenterNodeWithChangedTables() {
+        mockRepository(new HashMap<>());
+        RuleSchemaMetaData ruleSchemaMetaData = new RuleSchemaMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(MetaDataJson.META_DATA, YamlRuleSchemaMetaData.class));
+        metaDataCenter.persistMetaDataCenterNode("schema", ruleSchemaMetaData);
+        ruleSchemaMetaData.getConfiguredSchemaMetaData().get("t_order").getIndexes().clear();
+        ruleSchemaMetaData.getUnconfiguredSchemaMetaDataMap().get("ds_0").remove("t_user");
+        metaDataCenter.persistMetaDataCenterNode("schema", ruleSchemaMetaData, Arrays.asList("t_order", "t_user"));
+        verify(repository, times(2)).persist(eq("/metadata/schema/configured/t_order"), anyString());
+        verify(repository).delete("/metadata/schema/unconfigured/ds_0/t_user");
+    }
+    
+    @Test
+    public void assertPersistMetaDataCenterNodeFromTwoInstances() {
+        Map<String, String> contents = new HashMap<>();
+        mockRepository(contents);
+        MetaDataCenter anotherMetaDataCenter = new MetaDataCenter(repository);
+        RuleSchemaMetaData ruleSchemaMetaData = new RuleSchemaMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(MetaDataJson.META_DATA, YamlRuleSchemaMetaData.class));
+        metaDataCenter.persistMetaDataCenterNode("schema", ruleSchemaMetaData);
+        anotherMetaDataCenter.persistMetaDataCenterNode("schema", ruleSchemaMetaData);
+        assertThat(getVersion(contents, "/metadata/schema/configured/t_order"), is(1L));
+        ruleSchemaMetaData.getConfiguredSchemaMetaData().get("t_order").getIndexes().clear();
+        metaDataCenter.persistMetaDataCenterNode("schema", ruleSchemaMetaData, Collections.singleton("t_order"));
+        assertThat(getVersion(contents, "/metadata/schema/configured/t_order"), is(2L));
+        RuleSchemaMetaData anotherRuleSchemaMetaData = new RuleSchemaMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(MetaDataJson.META_DATA, YamlRuleSchemaMetaData.class));
+        anotherMetaDataCenter.persistMetaDataCenterNode("schema", anotherRuleSchemaMetaData, Collections.singleton("t_order"));
+        assertThat(getVersion(contents, "/metadata/schema/configured/t_order"), is(3L));
+        assertThat(YamlEngine.unmarshal(contents.get("/metadata/schema/configured/t_order"), YamlTableMetaData.class).getIndexes().keySet(), is(Collections.singleton("primary")));
+    }
+    
+    private void mockRepository(final Map<String, String> contents) {
+        when(repository.get(anyString())).thenAnswer(invocation -> contents.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> contents.put(invocation.getArgument(0), invocation.getArgument(1))).when(repository).persist(anyString(), anyString());
+    }
+    
+    private long getVersion(final Map<String, String> contents, final String tablePath) {
+        return YamlEngine.unmarshal(contents.get(tablePath), YamlTableMetaData.class).getVersion();
     }
     
     @Test
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.governance.core.metadata.listener;
 import org.apache.shardingsphere.governance.core.event.GovernanceEvent;
 import org.apache.shardingsphere.governance.core.metadata.MetaDataJson;
 import org.apache.shardingsphere.governance.core.metadata.event.MetaDataChangedEvent;
+import org.apache.shardingsphere.governance.core.metadata.event.TableMetaDataChangedEvent;
 import org.apache.shardingsphere.governance.repository.api.GovernanceRepository;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent.ChangedType;
@@ -31,6 +32,8 @@ import java.util.Collections;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -52,4 +55,37 @@ public final class MetaDataChangedListenerTest {
         assertTrue(actual.isPresent());
         assertThat(((MetaDataChangedEvent) actual.get()).getSchemaNames(), is(Collections.singleton("schema")));
     }
+    
+    @Test
+    public void assertCreateTableMetaDataChangedEvent() {
+        String value = "columns:\n  id:\n    dataType: 4\n    name: id\n    primaryKey: true\nversion: 2\n";
+        Optional<GovernanceEvent> actual = metaDataChangedListener.createGovernanceEvent(new DataChangedEvent("/metadata/schema/unconfigured/ds_0/t_user", value, ChangedType.UPDATED));
+        assertTrue(actual.isPresent());
+        TableMetaDataChangedEvent event = (TableMetaDataChangedEvent) actual.get();
+        assertThat(event.getSchemaName(), is("schema"));
+        assertThat(event.getDataSourceName(), is("ds_0"));
+        assertThat(event.getTableName(), is("t_user"));
+        assertThat(event.getTableMetaData().getColumns().keySet(), is(Collections.singleton("id")));
+        assertFalse(metaDataChangedListener.createGovernanceEvent(new DataChangedEvent("/metadata/schema/unconfigured/ds_0/t_user", value, ChangedType.UPDATED)).isPresent());
+    }
+    
+    @Test
+    public void assertCreateTableMetaDataChangedEventWithSameVersionFromAnotherInstance() {
+        String value = "columns:\n  id:\n    dataType: 4\n    name: id\n    primaryKey: true\nversion: 2\n";
+        String anotherValue = "columns:\n  id:\n    dataType: 4\n    name: id\n    primaryKey: true\n  status:\n    dataType: 12\n    name: status\nversion: 2\n";
+        String staleValue = "columns:\n  id:\n    dataType: 4\n    name: id\nversion: 1\n";
+        assertTrue(metaDataChangedListener.createGovernanceEvent(new DataChangedEvent("/metadata/schema/configured/t_order", value, ChangedType.UPDATED)).isPresent());
+        Optional<GovernanceEvent> actual = metaDataChangedListener.createGovernanceEvent(new DataChangedEvent("/metadata/schema/configured/t_order", anotherValue, ChangedType.UPDATED));
+        assertTrue(actual.isPresent());
+        assertThat(((TableMetaDataChangedEvent) actual.get()).getTableMetaData().getColumns().size(), is(2));
+        assertFalse(metaDataChangedListener.createGovernanceEvent(new DataChangedEvent("/metadata/schema/configured/t_order", staleValue, ChangedType.UPDATED)).isPresent());
+    }
+    
+    @Test
+    public void assertCreateTableMetaDataDroppedEvent() {
+        Optional<GovernanceEvent> actual = metaDataChangedListener.createGovernanceEvent(new DataChangedEvent("/metadata/schema/configured/t_order", "", ChangedType.DELETED));
+        assertTrue(actual.isPresent());
+        assertThat(((TableMetaDataChangedEvent) actual.get()).getTableName(), is("t_order"));
+        assertNull(((TableMetaDataChangedEvent) actual.get()).getTableMetaData());
+    }
 }
@@ -43,6 +43,6 @@ public final class MetaDataListenerManagerTest {
         MetaDataListenerManager actual = new MetaDataListenerManager(governanceRepository, Collections.singleton("sharding_db"));
         FieldUtil.setField(actual, "metaDataChangedListener", metaDataChangedListener);
         actual.initListeners();
-        verify(metaDataChangedListener).watch(ChangedType.UPDATED);
+        verify(metaDataChangedListener).watch(ChangedType.ADDED, ChangedType.UPDATED, ChangedType.DELETED);
     }
 }
@@ -38,6 +38,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     SQL_SIMPLE("sql.simple", String.valueOf(Boolean.FALSE), boolean.class),
     
+    /**
+     * Sampling interval of SQL show, only one of every interval SQLs is logged.
+     */
+    SQL_SHOW_SAMPLING_INTERVAL("sql.show.sampling.interval", String.valueOf(1), int.class),
+    
     /**
      * The max thread size of accepter group to accept TCP connections.
      */
@@ -53,11 +58,22 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max.connections.size.per.query", String.valueOf(1), int.class),
     
+    /**
+     * Whether combine plain select SQL units of the same data source into one {@code UNION ALL} SQL.
+     */
+    SQL_UNION_ALL_COMBINE_ENABLED("sql.union.all.combine.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
     /**
      * Whether validate table meta data consistency when application startup or updated.
      */
     CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class),
     
+    /**
+     * Directory of local meta data snapshot, serve with meta data snapshot first and validate it in background when application startup.
+     * Meta data snapshot is disabled if it is empty.
+     */
+    METADATA_SNAPSHOT_DIRECTORY("metadata.snapshot.directory", "", String.class),
+    
     /**
      * Whether query with cipher column for data encrypt.
      */
@@ -93,10 +109,59 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_OPENTRACING_ENABLED("proxy.opentracing.enabled", String.valueOf(Boolean.FALSE), boolean.class),
     
+    /**
+     * Whether enable metrics for ShardingSphere-Proxy.
+     */
+    PROXY_METRICS_ENABLED("proxy.metrics.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Type of metrics exporter for ShardingSphere-Proxy.
+     */
+    PROXY_METRICS_EXPORTER_TYPE("proxy.metrics.exporter.type", "PROMETHEUS", String.class),
+    
+    /**
+     * Port of metrics exporter for ShardingSphere-Proxy.
+     */
+    PROXY_METRICS_EXPORTER_PORT("proxy.metrics.exporter.port", String.valueOf(9190), int.class),
+    
+    /**
+     * Whether enable SQL statistics aggregated by SQL fingerprint for ShardingSphere-Proxy.
+     */
+    PROXY_SQL_STATISTICS_ENABLED("proxy.sql.statistics.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max count of SQL fingerprints kept by SQL statistics for ShardingSphere-Proxy.
+     */
+    PROXY_SQL_STATISTICS_CAPACITY("proxy.sql.statistics.capacity", String.valueOf(1000), int.class),
+    
+    /**
+     * Threshold in milliseconds of slow query log for ShardingSphere-Proxy.
+     * Slow query log is disabled if it is not greater than 0.
+     */
+    PROXY_SLOW_QUERY_THRESHOLD_MILLISECONDS("proxy.slow.query.threshold.milliseconds", String.valueOf(0), long.class),
+    
+    /**
+     * Max size of prepared statement cache of each backend connection held by ShardingSphere-Proxy.
+     * Prepared statement cache is disabled if it is not greater than 0.
+     */
+    PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE("proxy.backend.prepared.statement.cache.size", String.valueOf(0), int.class),
+    
+    /**
+     * Idle time in milliseconds to keep backend connections for next statement of same client connection outside transaction for ShardingSphere-Proxy.
+     * Backend connections are released after every statement if it is not greater than 0.
+     */
+    PROXY_BACKEND_CONNECTION_STICKY_IDLE_MILLISECONDS("proxy.backend.connection.sticky.idle.milliseconds", String.valueOf(0), long.class),
+    
     /**
      * Whether enable hint for ShardingSphere-Proxy.
      */
-    PROXY_HINT_ENABLED("proxy.hint.enabled", String.valueOf(Boolean.FALSE), boolean.class);
+    PROXY_HINT_ENABLED("proxy.hint.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * File of representative SQL for ShardingSphere-Proxy to warm up SQL parser before accepting connections, one SQL per line.
+     * Warm-up is disabled if it is empty.
+     */
+    PROXY_SQL_PARSER_WARMUP_FILE("proxy.sql.parser.warmup.file", "", String.class);
     
     private final String key;
     
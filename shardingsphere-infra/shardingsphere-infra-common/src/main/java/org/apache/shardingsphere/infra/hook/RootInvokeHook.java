@@ -19,18 +19,23 @@ package org.apache.shardingsphere.infra.hook;
 
 /**
  * Root invoke hook.
+ * 
+ * <p>Hook is shared by all root invocations, state of one root invocation should be returned as context by start and is passed back to finish.</p>
  */
 public interface RootInvokeHook {
     
     /**
      * Handle when root invoke started.
+     * 
+     * @return context of root invoke, null if no state need to be kept
      */
-    void start();
+    Object start();
     
     /**
      * Handle when root invoke finished.
      * 
+     * @param context context of root invoke returned by start
      * @param connectionCount connection count
      */
-    void finish(int connectionCount);
+    void finish(Object context, int connectionCount);
 }
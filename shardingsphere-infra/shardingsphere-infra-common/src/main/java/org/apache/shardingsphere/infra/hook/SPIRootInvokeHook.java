@@ -23,26 +23,60 @@ import java.util.Collection;
 
 /**
  * Root invoke hook for SPI.
+ * 
+ * <p>Registered hooks are resolved once and shared by all root invocations, contexts of registered hooks are returned by start and passed back to finish.
+ * Nothing is allocated if no hook registered or all registered hooks return null context.</p>
  */
 public final class SPIRootInvokeHook implements RootInvokeHook {
     
-    private final Collection<RootInvokeHook> rootInvokeHooks = ShardingSphereServiceLoader.newServiceInstances(RootInvokeHook.class);
+    private static final SPIRootInvokeHook INSTANCE;
+    
+    private final RootInvokeHook[] rootInvokeHooks;
     
     static {
         ShardingSphereServiceLoader.register(RootInvokeHook.class);
+        INSTANCE = new SPIRootInvokeHook(ShardingSphereServiceLoader.newServiceInstances(RootInvokeHook.class));
+    }
+    
+    SPIRootInvokeHook(final Collection<RootInvokeHook> rootInvokeHooks) {
+        this.rootInvokeHooks = rootInvokeHooks.toArray(new RootInvokeHook[0]);
+    }
+    
+    /**
+     * Get instance of root invoke hook.
+     *
+     * @return root invoke hook
+     */
+    public static SPIRootInvokeHook getInstance() {
+        return INSTANCE;
     }
     
     @Override
-    public void start() {
-        for (RootInvokeHook each : rootInvokeHooks) {
-            each.start();
+    public Object start() {
+        if (1 == rootInvokeHooks.length) {
+            return rootInvokeHooks[0].start();
+        }
+        Object[] result = null;
+        for (int i = 0; i < rootInvokeHooks.length; i++) {
+            Object context = rootInvokeHooks[i].start();
+            if (null != context) {
+                if (null == result) {
+                    result = new Object[rootInvokeHooks.length];
+                }
+                result[i] = context;
+            }
         }
+        return result;
     }
     
     @Override
-    public void finish(final int connectionCount) {
-        for (RootInvokeHook each : rootInvokeHooks) {
-            each.finish(connectionCount);
+    public void finish(final Object context, final int connectionCount) {
+        if (1 == rootInvokeHooks.length) {
+            rootInvokeHooks[0].finish(context, connectionCount);
+            return;
+        }
+        for (int i = 0; i < rootInvokeHooks.length; i++) {
+            rootInvokeHooks[i].finish(null == context ? null : ((Object[]) context)[i], connectionCount);
         }
     }
 }
@@ -17,18 +17,22 @@
 
 package org.apache.shardingsphere.infra.metadata.schema;
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
 
 /**
  * Rule schema meta data.
  */
-@RequiredArgsConstructor
+@AllArgsConstructor
 @Getter
 public final class RuleSchemaMetaData {
     
@@ -36,6 +40,22 @@ public final class RuleSchemaMetaData {
     
     private final Map<String, SchemaMetaData> unconfiguredSchemaMetaDataMap;
     
+    @Getter(AccessLevel.NONE)
+    private final SchemaMetaData undecoratedConfiguredSchemaMetaData;
+    
+    public RuleSchemaMetaData(final SchemaMetaData configuredSchemaMetaData, final Map<String, SchemaMetaData> unconfiguredSchemaMetaDataMap) {
+        this(configuredSchemaMetaData, unconfiguredSchemaMetaDataMap, null);
+    }
+    
+    /**
+     * Find configured schema meta data before decorated by rules.
+     * 
+     * @return configured schema meta data before decorated by rules, empty if it is not loaded from databases directly
+     */
+    public Optional<SchemaMetaData> findUndecoratedConfiguredSchemaMetaData() {
+        return Optional.ofNullable(undecoratedConfiguredSchemaMetaData);
+    }
+    
     /**
      * Get schema meta data.
      * 
@@ -60,4 +80,43 @@ public final class RuleSchemaMetaData {
         }
         return result;
     }
+    
+    /**
+     * Reconcile with the latest rule schema meta data, changed tables are replaced in place.
+     * 
+     * <p>
+     * Unconfigured schema meta data map should be thread safe if the rule schema meta data is in use.
+     * </p>
+     *
+     * @param latest latest rule schema meta data
+     * @return drift found or not
+     */
+    public boolean reconcile(final RuleSchemaMetaData latest) {
+        boolean result = reconcile(configuredSchemaMetaData, latest.configuredSchemaMetaData);
+        if (null != undecoratedConfiguredSchemaMetaData && null != latest.undecoratedConfiguredSchemaMetaData) {
+            reconcile(undecoratedConfiguredSchemaMetaData, latest.undecoratedConfiguredSchemaMetaData);
+        }
+        result = unconfiguredSchemaMetaDataMap.keySet().retainAll(latest.unconfiguredSchemaMetaDataMap.keySet()) || result;
+        for (Entry<String, SchemaMetaData> entry : latest.unconfiguredSchemaMetaDataMap.entrySet()) {
+            result = reconcile(unconfiguredSchemaMetaDataMap.computeIfAbsent(entry.getKey(), key -> new SchemaMetaData()), entry.getValue()) || result;
+        }
+        return result;
+    }
+    
+    private boolean reconcile(final SchemaMetaData current, final SchemaMetaData latest) {
+        boolean result = false;
+        for (String each : new ArrayList<>(current.getAllTableNames())) {
+            if (!latest.containsTable(each)) {
+                current.remove(each);
+                result = true;
+            }
+        }
+        for (String each : latest.getAllTableNames()) {
+            if (!latest.get(each).equals(current.get(each))) {
+                current.put(each, latest.get(each));
+                result = true;
+            }
+        }
+        return result;
+    }
 }
@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.datanode.DataNodes;
 import org.apache.shardingsphere.infra.metadata.schema.spi.RuleMetaDataDecorator;
 import org.apache.shardingsphere.infra.metadata.schema.spi.RuleMetaDataLoader;
@@ -38,7 +39,9 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.TreeSet;
 
 /**
@@ -76,9 +79,117 @@ public final class RuleSchemaMetaDataLoader {
             }
             configuredSchemaMetaData.merge(schemaMetaData);
         }
+        SchemaMetaData undecoratedConfiguredSchemaMetaData = new SchemaMetaData();
+        undecoratedConfiguredSchemaMetaData.merge(configuredSchemaMetaData);
         decorate(configuredSchemaMetaData);
         Map<String, SchemaMetaData> unConfiguredSchemaMetaDataMap = loadUnConfiguredSchemaMetaData(databaseType, dataSourceMap, excludedTableNames);
-        return new RuleSchemaMetaData(configuredSchemaMetaData, unConfiguredSchemaMetaDataMap);
+        return new RuleSchemaMetaData(configuredSchemaMetaData, unConfiguredSchemaMetaDataMap, undecoratedConfiguredSchemaMetaData);
+    }
+    
+    /**
+     * Restore rule schema meta data from configured table meta data before decorated by rules.
+     *
+     * @param undecoratedConfiguredSchemaMetaData configured schema meta data before decorated by rules
+     * @param unconfiguredSchemaMetaDataMap unconfigured schema meta data map
+     * @return rule schema meta data, empty if meta data of any logic table of data node routed rules is absent
+     */
+    public Optional<RuleSchemaMetaData> restore(final SchemaMetaData undecoratedConfiguredSchemaMetaData, final Map<String, SchemaMetaData> unconfiguredSchemaMetaDataMap) {
+        for (ShardingSphereRule each : rules) {
+            if (each instanceof DataNodeRoutedRule && !((DataNodeRoutedRule) each).getAllDataNodes().keySet().stream().allMatch(undecoratedConfiguredSchemaMetaData::containsTable)) {
+                return Optional.empty();
+            }
+        }
+        SchemaMetaData configuredSchemaMetaData = new SchemaMetaData();
+        configuredSchemaMetaData.merge(undecoratedConfiguredSchemaMetaData);
+        decorate(configuredSchemaMetaData);
+        return Optional.of(new RuleSchemaMetaData(configuredSchemaMetaData, unconfiguredSchemaMetaDataMap, undecoratedConfiguredSchemaMetaData));
+    }
+    
+    /**
+     * Reload rule schema meta data incrementally.
+     * 
+     * <p>
+     * Table meta data loaded before is reused if its data nodes and its structure are not changed,
+     * only the tables with changed data nodes or located in changed data sources are loaded from databases again.
+     * </p>
+     *
+     * @param databaseType database type
+     * @param dataSourceMap data source map
+     * @param oldRules rules before changed
+     * @param oldRuleSchemaMetaData rule schema meta data before changed
+     * @param changedDataSourceNames added or modified data source names
+     * @param props configuration properties
+     * @return rule schema meta data, empty if it can not be reloaded incrementally
+     * @throws SQLException SQL exception
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Optional<RuleSchemaMetaData> reload(final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap, final Collection<ShardingSphereRule> oldRules, 
+                                               final RuleSchemaMetaData oldRuleSchemaMetaData, final Collection<String> changedDataSourceNames, 
+                                               final ConfigurationProperties props) throws SQLException {
+        Optional<SchemaMetaData> oldUndecoratedSchemaMetaData = oldRuleSchemaMetaData.findUndecoratedConfiguredSchemaMetaData();
+        Map<String, Collection<DataNode>> oldDataNodes = getAllDataNodes(oldRules);
+        Map<String, Collection<DataNode>> newDataNodes = getAllDataNodes(rules);
+        if (!oldUndecoratedSchemaMetaData.isPresent() || !newDataNodes.keySet().containsAll(oldDataNodes.keySet())) {
+            return Optional.empty();
+        }
+        Map<ShardingSphereRule, RuleMetaDataDecorator> oldDecorators = OrderedSPIRegistry.getRegisteredServices(oldRules, RuleMetaDataDecorator.class);
+        SchemaMetaData undecoratedSchemaMetaData = new SchemaMetaData();
+        Collection<String> reloadTableNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        reloadTableNames.addAll(newDataNodes.keySet());
+        for (String each : oldUndecoratedSchemaMetaData.get().getAllTableNames()) {
+            TableMetaData oldUndecoratedTableMetaData = oldUndecoratedSchemaMetaData.get().get(each);
+            if (isReusable(oldDataNodes.get(each), newDataNodes.get(each), changedDataSourceNames)
+                    && decorate(oldDecorators, each, oldUndecoratedTableMetaData).equals(oldRuleSchemaMetaData.getConfiguredSchemaMetaData().get(each))) {
+                undecoratedSchemaMetaData.put(each, oldUndecoratedTableMetaData);
+            } else {
+                reloadTableNames.add(each);
+            }
+        }
+        for (String each : reloadTableNames) {
+            if (!undecoratedSchemaMetaData.containsTable(each)) {
+                loadUndecorated(databaseType, dataSourceMap, each, props).ifPresent(tableMetaData -> undecoratedSchemaMetaData.put(each, tableMetaData));
+            }
+        }
+        SchemaMetaData configuredSchemaMetaData = new SchemaMetaData();
+        configuredSchemaMetaData.merge(undecoratedSchemaMetaData);
+        decorate(configuredSchemaMetaData);
+        Map<String, SchemaMetaData> unConfiguredSchemaMetaDataMap = reloadUnConfiguredSchemaMetaData(
+                databaseType, dataSourceMap, oldRuleSchemaMetaData.getUnconfiguredSchemaMetaDataMap(), getExcludedTableNames(undecoratedSchemaMetaData), changedDataSourceNames);
+        return Optional.of(new RuleSchemaMetaData(configuredSchemaMetaData, unConfiguredSchemaMetaDataMap, undecoratedSchemaMetaData));
+    }
+    
+    private Map<String, Collection<DataNode>> getAllDataNodes(final Collection<ShardingSphereRule> rules) {
+        Map<String, Collection<DataNode>> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        DataNodes dataNodes = new DataNodes(rules);
+        for (ShardingSphereRule each : rules) {
+            if (each instanceof DataNodeRoutedRule) {
+                for (String logicTable : ((DataNodeRoutedRule) each).getAllDataNodes().keySet()) {
+                    result.put(logicTable, dataNodes.getDataNodes(logicTable));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private boolean isReusable(final Collection<DataNode> oldDataNodes, final Collection<DataNode> newDataNodes, final Collection<String> changedDataSourceNames) {
+        if (!Objects.equals(oldDataNodes, newDataNodes)) {
+            return false;
+        }
+        if (null == newDataNodes) {
+            return changedDataSourceNames.isEmpty();
+        }
+        return newDataNodes.stream().noneMatch(each -> changedDataSourceNames.contains(each.getDataSourceName()));
+    }
+    
+    private Collection<String> getExcludedTableNames(final SchemaMetaData configuredSchemaMetaData) {
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        result.addAll(configuredSchemaMetaData.getAllTableNames());
+        for (ShardingSphereRule each : rules) {
+            if (each instanceof DataNodeRoutedRule) {
+                result.addAll(((DataNodeRoutedRule) each).getAllActualTables());
+            }
+        }
+        return result;
     }
     
     /**
@@ -107,16 +218,10 @@ public final class RuleSchemaMetaDataLoader {
      * @return schema meta data
      * @throws SQLException SQL exception
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
     public Optional<TableMetaData> load(final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap, 
                                         final String tableName, final ConfigurationProperties props) throws SQLException {
-        for (Entry<ShardingSphereRule, RuleMetaDataLoader> entry : OrderedSPIRegistry.getRegisteredServices(rules, RuleMetaDataLoader.class).entrySet()) {
-            Optional<TableMetaData> result = entry.getValue().load(databaseType, dataSourceMap, new DataNodes(rules), tableName, entry.getKey(), props);
-            if (result.isPresent()) {
-                return Optional.of(decorate(tableName, result.get()));
-            }
-        }
-        return Optional.empty();
+        Optional<TableMetaData> result = loadUndecorated(databaseType, dataSourceMap, tableName, props);
+        return result.map(tableMetaData -> decorate(tableName, tableMetaData));
     }
     
     /**
@@ -136,6 +241,18 @@ public final class RuleSchemaMetaDataLoader {
         return load(databaseType, dataSourceMap, tableName, props);
     }
     
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Optional<TableMetaData> loadUndecorated(final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap, 
+                                                    final String tableName, final ConfigurationProperties props) throws SQLException {
+        for (Entry<ShardingSphereRule, RuleMetaDataLoader> entry : OrderedSPIRegistry.getRegisteredServices(rules, RuleMetaDataLoader.class).entrySet()) {
+            Optional<TableMetaData> result = entry.getValue().load(databaseType, dataSourceMap, new DataNodes(rules), tableName, entry.getKey(), props);
+            if (result.isPresent()) {
+                return result;
+            }
+        }
+        return Optional.empty();
+    }
+    
     private Map<String, SchemaMetaData> loadUnConfiguredSchemaMetaData(final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap,
                                                                        final Collection<String> excludedTableNames) throws SQLException {
         Map<String, SchemaMetaData> result = new HashMap<>(dataSourceMap.size(), 1);
@@ -148,6 +265,34 @@ public final class RuleSchemaMetaDataLoader {
         return result;
     }
     
+    private Map<String, SchemaMetaData> reloadUnConfiguredSchemaMetaData(final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap, 
+                                                                         final Map<String, SchemaMetaData> oldUnConfiguredSchemaMetaDataMap, 
+                                                                         final Collection<String> excludedTableNames, final Collection<String> changedDataSourceNames) throws SQLException {
+        Map<String, SchemaMetaData> result = new HashMap<>(dataSourceMap.size(), 1);
+        for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
+            SchemaMetaData schemaMetaData = changedDataSourceNames.contains(entry.getKey()) 
+                    ? SchemaMetaDataLoader.load(entry.getValue(), databaseType.getName(), excludedTableNames) 
+                    : getUnConfiguredSchemaMetaData(oldUnConfiguredSchemaMetaDataMap.get(entry.getKey()), excludedTableNames);
+            if (!schemaMetaData.getAllTableNames().isEmpty()) {
+                result.put(entry.getKey(), schemaMetaData);
+            }
+        }
+        return result;
+    }
+    
+    private SchemaMetaData getUnConfiguredSchemaMetaData(final SchemaMetaData oldUnConfiguredSchemaMetaData, final Collection<String> excludedTableNames) {
+        SchemaMetaData result = new SchemaMetaData();
+        if (null == oldUnConfiguredSchemaMetaData) {
+            return result;
+        }
+        for (String each : oldUnConfiguredSchemaMetaData.getAllTableNames()) {
+            if (!excludedTableNames.contains(each)) {
+                result.put(each, oldUnConfiguredSchemaMetaData.get(each));
+            }
+        }
+        return result;
+    }
+    
     @SuppressWarnings({"unchecked", "rawtypes"})
     private void decorate(final SchemaMetaData schemaMetaData) {
         Map<String, TableMetaData> tableMetaDataMap = new HashMap<>(schemaMetaData.getAllTableNames().size(), 1);
@@ -160,6 +305,15 @@ public final class RuleSchemaMetaDataLoader {
         schemaMetaData.merge(new SchemaMetaData(tableMetaDataMap));
     }
     
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private TableMetaData decorate(final Map<ShardingSphereRule, RuleMetaDataDecorator> decorators, final String tableName, final TableMetaData tableMetaData) {
+        TableMetaData result = tableMetaData;
+        for (Entry<ShardingSphereRule, RuleMetaDataDecorator> entry : decorators.entrySet()) {
+            result = entry.getValue().decorate(tableName, result, entry.getKey());
+        }
+        return result;
+    }
+    
     @SuppressWarnings("unchecked")
     private TableMetaData decorate(final String tableName, final TableMetaData tableMetaData) {
         return OrderedSPIRegistry.getRegisteredServices(rules, RuleMetaDataDecorator.class).entrySet().stream()
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.dialect;
+
+import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.dialect.DialectTableMetaDataLoader;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Dialect table meta data loader registry.
+ */
+public final class DialectTableMetaDataLoaderRegistry {
+    
+    private static final DialectTableMetaDataLoaderRegistry INSTANCE = new DialectTableMetaDataLoaderRegistry();
+    
+    private final Map<String, DialectTableMetaDataLoader> loaders;
+    
+    private DialectTableMetaDataLoaderRegistry() {
+        ShardingSphereServiceLoader.register(DialectTableMetaDataLoader.class);
+        loaders = new HashMap<>();
+        for (DialectTableMetaDataLoader each : ShardingSphereServiceLoader.newServiceInstances(DialectTableMetaDataLoader.class)) {
+            loaders.put(each.getDatabaseType(), each);
+        }
+    }
+    
+    /**
+     * Get instance.
+     *
+     * @return instance
+     */
+    public static DialectTableMetaDataLoaderRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Find dialect table meta data loader.
+     *
+     * @param databaseType database type
+     * @return dialect table meta data loader
+     */
+    public Optional<DialectTableMetaDataLoader> findLoader(final String databaseType) {
+        return Optional.ofNullable(loaders.get(databaseType));
+    }
+}
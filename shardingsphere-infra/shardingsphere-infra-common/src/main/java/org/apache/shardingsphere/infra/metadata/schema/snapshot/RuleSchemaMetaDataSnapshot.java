@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.snapshot;
+
+import com.google.common.base.Strings;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaDataLoader;
+import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.index.IndexMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Snapshot of rule schema meta data in local file.
+ * 
+ * <p>
+ * Only table meta data before decorated by rules are persisted, they are decorated by current rules when loaded.
+ * Snapshot is keyed by URLs of data sources, it is ignored if any data source is added, removed or pointed to another database.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class RuleSchemaMetaDataSnapshot {
+    
+    private static final int MAGIC_NUMBER = 0x53534d44;
+    
+    private static final int VERSION = 2;
+    
+    private final Path file;
+    
+    private final Map<String, String> dataSourceURLs;
+    
+    /**
+     * Persist rule schema meta data.
+     *
+     * @param ruleSchemaMetaData rule schema meta data
+     * @return persisted or not, rule schema meta data without undecorated configured table meta data can not be persisted
+     * @throws IOException IO exception
+     */
+    public boolean persist(final RuleSchemaMetaData ruleSchemaMetaData) throws IOException {
+        Optional<SchemaMetaData> undecoratedSchemaMetaData = ruleSchemaMetaData.findUndecoratedConfiguredSchemaMetaData();
+        if (!undecoratedSchemaMetaData.isPresent()) {
+            return false;
+        }
+        if (null != file.getParent()) {
+            Files.createDirectories(file.getParent());
+        }
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(tempFile))))) {
+            outputStream.writeInt(MAGIC_NUMBER);
+            outputStream.writeInt(VERSION);
+            writeDataSourceURLs(outputStream);
+            writeSchemaMetaData(outputStream, undecoratedSchemaMetaData.get());
+            outputStream.writeInt(ruleSchemaMetaData.getUnconfiguredSchemaMetaDataMap().size());
+            for (Entry<String, SchemaMetaData> entry : ruleSchemaMetaData.getUnconfiguredSchemaMetaDataMap().entrySet()) {
+                outputStream.writeUTF(entry.getKey());
+                writeSchemaMetaData(outputStream, entry.getValue());
+            }
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return true;
+    }
+    
+    private void writeDataSourceURLs(final DataOutputStream outputStream) throws IOException {
+        outputStream.writeInt(dataSourceURLs.size());
+        for (Entry<String, String> entry : dataSourceURLs.entrySet()) {
+            outputStream.writeUTF(entry.getKey());
+            outputStream.writeUTF(Strings.nullToEmpty(entry.getValue()));
+        }
+    }
+    
+    private void writeSchemaMetaData(final DataOutputStream outputStream, final SchemaMetaData schemaMetaData) throws IOException {
+        Collection<String> tableNames = new ArrayList<>(schemaMetaData.getAllTableNames());
+        outputStream.writeInt(tableNames.size());
+        for (String each : tableNames) {
+            outputStream.writeUTF(each);
+            writeTableMetaData(outputStream, schemaMetaData.get(each));
+        }
+    }
+    
+    private void writeTableMetaData(final DataOutputStream outputStream, final TableMetaData tableMetaData) throws IOException {
+        Collection<ColumnMetaData> columns = new ArrayList<>(tableMetaData.getColumns().values());
+        outputStream.writeInt(columns.size());
+        for (ColumnMetaData each : columns) {
+            outputStream.writeUTF(each.getName());
+            outputStream.writeInt(each.getDataType());
+            outputStream.writeUTF(Strings.nullToEmpty(each.getDataTypeName()));
+            outputStream.writeBoolean(each.isPrimaryKey());
+            outputStream.writeBoolean(each.isGenerated());
+            outputStream.writeBoolean(each.isCaseSensitive());
+        }
+        Collection<IndexMetaData> indexes = new ArrayList<>(tableMetaData.getIndexes().values());
+        outputStream.writeInt(indexes.size());
+        for (IndexMetaData each : indexes) {
+            outputStream.writeUTF(each.getName());
+        }
+    }
+    
+    /**
+     * Load rule schema meta data.
+     *
+     * @param loader rule schema meta data loader to decorate table meta data with current rules
+     * @return rule schema meta data, empty if snapshot is absent, incompatible or not matched with current data sources or rules
+     * @throws IOException IO exception
+     */
+    public Optional<RuleSchemaMetaData> load(final RuleSchemaMetaDataLoader loader) throws IOException {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try (DataInputStream inputStream = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+            if (MAGIC_NUMBER != inputStream.readInt() || VERSION != inputStream.readInt() || !isSameDataSourceURLs(readDataSourceURLs(inputStream))) {
+                return Optional.empty();
+            }
+            SchemaMetaData undecoratedSchemaMetaData = readSchemaMetaData(inputStream);
+            int unconfiguredSize = inputStream.readInt();
+            Map<String, SchemaMetaData> unconfiguredSchemaMetaDataMap = new ConcurrentHashMap<>(unconfiguredSize, 1);
+            for (int i = 0; i < unconfiguredSize; i++) {
+                String dataSourceName = inputStream.readUTF();
+                unconfiguredSchemaMetaDataMap.put(dataSourceName, readSchemaMetaData(inputStream));
+            }
+            return loader.restore(undecoratedSchemaMetaData, unconfiguredSchemaMetaDataMap);
+        }
+    }
+    
+    private Map<String, String> readDataSourceURLs(final DataInputStream inputStream) throws IOException {
+        int dataSourceSize = inputStream.readInt();
+        Map<String, String> result = new HashMap<>(dataSourceSize, 1);
+        for (int i = 0; i < dataSourceSize; i++) {
+            String dataSourceName = inputStream.readUTF();
+            result.put(dataSourceName, inputStream.readUTF());
+        }
+        return result;
+    }
+    
+    private boolean isSameDataSourceURLs(final Map<String, String> persistedDataSourceURLs) {
+        Map<String, String> currentDataSourceURLs = new HashMap<>(dataSourceURLs.size(), 1);
+        dataSourceURLs.forEach((key, value) -> currentDataSourceURLs.put(key, Strings.nullToEmpty(value)));
+        return currentDataSourceURLs.equals(persistedDataSourceURLs);
+    }
+    
+    private SchemaMetaData readSchemaMetaData(final DataInputStream inputStream) throws IOException {
+        SchemaMetaData result = new SchemaMetaData();
+        int tableSize = inputStream.readInt();
+        for (int i = 0; i < tableSize; i++) {
+            String tableName = inputStream.readUTF();
+            result.put(tableName, readTableMetaData(inputStream));
+        }
+        return result;
+    }
+    
+    private TableMetaData readTableMetaData(final DataInputStream inputStream) throws IOException {
+        int columnSize = inputStream.readInt();
+        Collection<ColumnMetaData> columns = new ArrayList<>(columnSize);
+        for (int i = 0; i < columnSize; i++) {
+            String name = inputStream.readUTF();
+            int dataType = inputStream.readInt();
+            String dataTypeName = Strings.emptyToNull(inputStream.readUTF());
+            boolean primaryKey = inputStream.readBoolean();
+            boolean generated = inputStream.readBoolean();
+            boolean caseSensitive = inputStream.readBoolean();
+            columns.add(new ColumnMetaData(name, dataType, dataTypeName, primaryKey, generated, caseSensitive));
+        }
+        int indexSize = inputStream.readInt();
+        Collection<IndexMetaData> indexes = new ArrayList<>(indexSize);
+        for (int i = 0; i < indexSize; i++) {
+            indexes.add(new IndexMetaData(inputStream.readUTF()));
+        }
+        return new TableMetaData(columns, indexes);
+    }
+}
@@ -21,13 +21,13 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.spi.exception.ServiceLoaderInstantiationException;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 /**
  * ShardingSphere service loader.
@@ -66,7 +66,15 @@ public final class ShardingSphereServiceLoader {
      */
     @SuppressWarnings("unchecked")
     public static <T> Collection<T> newServiceInstances(final Class<T> service) {
-        return SERVICE_MAP.containsKey(service) ? SERVICE_MAP.get(service).stream().map(each -> (T) newServiceInstance(each)).collect(Collectors.toList()) : Collections.emptyList();
+        Collection<Class<?>> serviceClasses = SERVICE_MAP.get(service);
+        if (null == serviceClasses) {
+            return Collections.emptyList();
+        }
+        Collection<T> result = new ArrayList<>(serviceClasses.size());
+        for (Class<?> each : serviceClasses) {
+            result.add((T) newServiceInstance(each));
+        }
+        return result;
     }
     
     private static Object newServiceInstance(final Class<?> clazz) {
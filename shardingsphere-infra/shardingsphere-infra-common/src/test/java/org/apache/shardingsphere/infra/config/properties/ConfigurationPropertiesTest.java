@@ -33,26 +33,46 @@ public final class ConfigurationPropertiesTest {
         Properties props = new Properties();
         props.setProperty(ConfigurationPropertyKey.SQL_SHOW.getKey(), Boolean.TRUE.toString());
         props.setProperty(ConfigurationPropertyKey.SQL_SIMPLE.getKey(), Boolean.TRUE.toString());
+        props.setProperty(ConfigurationPropertyKey.SQL_SHOW_SAMPLING_INTERVAL.getKey(), "10");
         props.setProperty(ConfigurationPropertyKey.ACCEPTOR_SIZE.getKey(), "20");
         props.setProperty(ConfigurationPropertyKey.EXECUTOR_SIZE.getKey(), "20");
         props.setProperty(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY.getKey(), "20");
+        props.setProperty(ConfigurationPropertyKey.SQL_UNION_ALL_COMBINE_ENABLED.getKey(), Boolean.TRUE.toString());
         props.setProperty(ConfigurationPropertyKey.QUERY_WITH_CIPHER_COLUMN.getKey(), Boolean.FALSE.toString());
         props.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), "20");
         props.setProperty(ConfigurationPropertyKey.PROXY_TRANSACTION_TYPE.getKey(), "XA");
         props.setProperty(ConfigurationPropertyKey.PROXY_OPENTRACING_ENABLED.getKey(), Boolean.TRUE.toString());
+        props.setProperty(ConfigurationPropertyKey.PROXY_METRICS_ENABLED.getKey(), Boolean.TRUE.toString());
+        props.setProperty(ConfigurationPropertyKey.PROXY_METRICS_EXPORTER_PORT.getKey(), "9200");
+        props.setProperty(ConfigurationPropertyKey.PROXY_SQL_STATISTICS_ENABLED.getKey(), Boolean.TRUE.toString());
+        props.setProperty(ConfigurationPropertyKey.PROXY_SQL_STATISTICS_CAPACITY.getKey(), "200");
+        props.setProperty(ConfigurationPropertyKey.PROXY_SLOW_QUERY_THRESHOLD_MILLISECONDS.getKey(), "500");
+        props.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE.getKey(), "64");
+        props.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_CONNECTION_STICKY_IDLE_MILLISECONDS.getKey(), "1000");
         props.setProperty(ConfigurationPropertyKey.PROXY_HINT_ENABLED.getKey(), Boolean.TRUE.toString());
+        props.setProperty(ConfigurationPropertyKey.PROXY_SQL_PARSER_WARMUP_FILE.getKey(), "conf/warmup.sql");
         props.setProperty(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED.getKey(), Boolean.TRUE.toString());
         ConfigurationProperties actual = new ConfigurationProperties(props);
         assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_SHOW_SAMPLING_INTERVAL), is(10));
         assertThat(actual.getValue(ConfigurationPropertyKey.ACCEPTOR_SIZE), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.EXECUTOR_SIZE), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(20));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_UNION_ALL_COMBINE_ENABLED));
         assertFalse(actual.getValue(ConfigurationPropertyKey.QUERY_WITH_CIPHER_COLUMN));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_TRANSACTION_TYPE), is("XA"));
         assertTrue(actual.getValue(ConfigurationPropertyKey.PROXY_OPENTRACING_ENABLED));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.PROXY_METRICS_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_METRICS_EXPORTER_PORT), is(9200));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.PROXY_SQL_STATISTICS_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_SQL_STATISTICS_CAPACITY), is(200));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_SLOW_QUERY_THRESHOLD_MILLISECONDS), is(500L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE), is(64));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_CONNECTION_STICKY_IDLE_MILLISECONDS), is(1000L));
         assertTrue(actual.getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_SQL_PARSER_WARMUP_FILE), is("conf/warmup.sql"));
         assertTrue(actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
     }
     
@@ -61,14 +81,25 @@ public final class ConfigurationPropertiesTest {
         ConfigurationProperties actual = new ConfigurationProperties(new Properties());
         assertFalse(actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertFalse(actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_SHOW_SAMPLING_INTERVAL), is(1));
         assertThat(actual.getValue(ConfigurationPropertyKey.ACCEPTOR_SIZE), is(Runtime.getRuntime().availableProcessors() * 2));
         assertThat(actual.getValue(ConfigurationPropertyKey.EXECUTOR_SIZE), is(0));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(1));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.SQL_UNION_ALL_COMBINE_ENABLED));
         assertTrue(actual.getValue(ConfigurationPropertyKey.QUERY_WITH_CIPHER_COLUMN));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(128));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_TRANSACTION_TYPE), is("LOCAL"));
         assertFalse(actual.getValue(ConfigurationPropertyKey.PROXY_OPENTRACING_ENABLED));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.PROXY_METRICS_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_METRICS_EXPORTER_TYPE), is("PROMETHEUS"));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_METRICS_EXPORTER_PORT), is(9190));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.PROXY_SQL_STATISTICS_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_SQL_STATISTICS_CAPACITY), is(1000));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_SLOW_QUERY_THRESHOLD_MILLISECONDS), is(0L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_CONNECTION_STICKY_IDLE_MILLISECONDS), is(0L));
         assertFalse(actual.getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_SQL_PARSER_WARMUP_FILE), is(""));
         assertFalse(actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
     }
 }
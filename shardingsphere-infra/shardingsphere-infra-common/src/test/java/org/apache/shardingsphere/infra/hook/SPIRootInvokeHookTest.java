@@ -21,27 +21,50 @@ import org.apache.shardingsphere.infra.hook.fixture.RootInvokeHookFixture;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 public final class SPIRootInvokeHookTest {
     
-    private SPIRootInvokeHook spiRootInvokeHook;
-    
     @Before
     public void setUp() {
         RootInvokeHookFixture.clearActions();
-        spiRootInvokeHook = new SPIRootInvokeHook();
+    }
+    
+    @Test
+    public void assertGetInstance() {
+        assertThat(SPIRootInvokeHook.getInstance(), sameInstance(SPIRootInvokeHook.getInstance()));
     }
     
     @Test
     public void assertStart() {
-        spiRootInvokeHook.start();
+        assertThat(SPIRootInvokeHook.getInstance().start(), is(RootInvokeHookFixture.CONTEXT));
         assertTrue(RootInvokeHookFixture.containsAction("start"));
     }
     
     @Test
-    public void assertFinishSuccess() {
-        spiRootInvokeHook.finish(0);
+    public void assertFinish() {
+        SPIRootInvokeHook.getInstance().finish(RootInvokeHookFixture.CONTEXT, 0);
+        assertTrue(RootInvokeHookFixture.containsAction("finish"));
+    }
+    
+    @Test
+    public void assertStartAndFinishWithMultipleHooks() {
+        SPIRootInvokeHook spiRootInvokeHook = new SPIRootInvokeHook(Arrays.asList(new RootInvokeHookFixture(), new RootInvokeHookFixture()));
+        Object context = spiRootInvokeHook.start();
+        assertThat(context, is((Object) new Object[]{RootInvokeHookFixture.CONTEXT, RootInvokeHookFixture.CONTEXT}));
+        spiRootInvokeHook.finish(context, 0);
         assertTrue(RootInvokeHookFixture.containsAction("finish"));
     }
+    
+    @Test
+    public void assertStartWithoutHooks() {
+        assertThat(new SPIRootInvokeHook(Collections.emptyList()).start(), nullValue());
+    }
 }
@@ -24,16 +24,21 @@ import java.util.LinkedList;
 
 public final class RootInvokeHookFixture implements RootInvokeHook {
     
+    public static final Object CONTEXT = new Object();
+    
     private static final Collection<String> ACTIONS = new LinkedList<>();
     
     @Override
-    public void start() {
+    public Object start() {
         ACTIONS.add("start");
+        return CONTEXT;
     }
     
     @Override
-    public void finish(final int connectionCount) {
-        ACTIONS.add("finish");
+    public void finish(final Object context, final int connectionCount) {
+        if (CONTEXT == context) {
+            ACTIONS.add("finish");
+        }
     }
     
     /**
@@ -22,6 +22,8 @@ import org.apache.shardingsphere.infra.rule.DataNodeRoutedRule;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -29,7 +31,10 @@ public final class DataNodeRoutedFixtureRule implements DataNodeRoutedRule {
     
     @Override
     public Map<String, Collection<DataNode>> getAllDataNodes() {
-        return null;
+        Map<String, Collection<DataNode>> result = new HashMap<>(2, 1);
+        result.put("data_node_routed_table_0", Collections.singletonList(new DataNode("logic_db", "data_node_routed_table_0")));
+        result.put("data_node_routed_table_1", Collections.singletonList(new DataNode("logic_db", "data_node_routed_table_1")));
+        return result;
     }
     
     @Override
@@ -32,8 +32,11 @@ import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -101,4 +104,23 @@ public final class RuleSchemaMetaDataLoaderTest {
     public void assertLoadWithNotExistedTableName() throws SQLException {
         assertFalse(loader.load(databaseType, dataSource, "invalid_table", props).isPresent());
     }
+    
+    @Test
+    public void assertReloadWithoutChange() throws SQLException {
+        RuleSchemaMetaData oldRuleSchemaMetaData = loader.load(databaseType, dataSource, props);
+        Optional<RuleSchemaMetaData> actual = loader.reload(databaseType, Collections.singletonMap("logic_db", dataSource), 
+                Arrays.asList(new CommonFixtureRule(), new DataNodeRoutedFixtureRule()), oldRuleSchemaMetaData, Collections.emptyList(), props);
+        assertTrue(actual.isPresent());
+        assertRuleSchemaMetaData(actual.get());
+        assertThat(actual.get().findUndecoratedConfiguredSchemaMetaData().get().get("data_node_routed_table_0"), 
+                sameInstance(oldRuleSchemaMetaData.findUndecoratedConfiguredSchemaMetaData().get().get("data_node_routed_table_0")));
+    }
+    
+    @Test
+    public void assertReloadWithoutUndecoratedSchemaMetaData() throws SQLException {
+        RuleSchemaMetaData loadedRuleSchemaMetaData = loader.load(databaseType, dataSource, props);
+        RuleSchemaMetaData oldRuleSchemaMetaData = new RuleSchemaMetaData(loadedRuleSchemaMetaData.getConfiguredSchemaMetaData(), loadedRuleSchemaMetaData.getUnconfiguredSchemaMetaDataMap());
+        assertFalse(loader.reload(databaseType, Collections.singletonMap("logic_db", dataSource), 
+                Arrays.asList(new CommonFixtureRule(), new DataNodeRoutedFixtureRule()), oldRuleSchemaMetaData, Collections.emptyList(), props).isPresent());
+    }
 }
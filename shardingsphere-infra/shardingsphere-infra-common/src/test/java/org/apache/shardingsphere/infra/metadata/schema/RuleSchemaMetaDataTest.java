@@ -17,13 +17,21 @@
 
 package org.apache.shardingsphere.infra.metadata.schema;
 
+import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
 import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
 import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
 import org.junit.Test;
+
+import java.sql.Types;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class RuleSchemaMetaDataTest {
 
@@ -35,4 +43,22 @@ public final class RuleSchemaMetaDataTest {
         SchemaMetaData schemaMetaData = ruleSchemaMetaData.getSchemaMetaData();
         assertNotNull("SchemaMetaData is null", schemaMetaData);
     }
+    
+    @Test
+    public void assertReconcile() {
+        RuleSchemaMetaData actual = new RuleSchemaMetaData(createSchemaMetaData("t_order", "t_stale"), new HashMap<>(Collections.singletonMap("ds", createSchemaMetaData("t_single"))));
+        RuleSchemaMetaData latest = new RuleSchemaMetaData(createSchemaMetaData("t_order", "t_order_item"), Collections.singletonMap("ds", createSchemaMetaData("t_single")));
+        assertTrue(actual.reconcile(latest));
+        assertThat(actual.getConfiguredSchemaMetaData().getAllTableNames(), is(latest.getConfiguredSchemaMetaData().getAllTableNames()));
+        assertThat(actual.getUnconfiguredSchemaMetaDataMap().get("ds").getAllTableNames(), is(latest.getUnconfiguredSchemaMetaDataMap().get("ds").getAllTableNames()));
+        assertFalse(actual.reconcile(latest));
+    }
+    
+    private SchemaMetaData createSchemaMetaData(final String... tableNames) {
+        SchemaMetaData result = new SchemaMetaData();
+        for (String each : tableNames) {
+            result.put(each, new TableMetaData(Collections.singletonList(new ColumnMetaData("id", Types.INTEGER, "int", true, false, false)), Collections.emptyList()));
+        }
+        return result;
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.snapshot;
+
+import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaDataLoader;
+import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.index.IndexMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RuleSchemaMetaDataSnapshotTest {
+    
+    private static final Map<String, String> DATA_SOURCE_URLS = Collections.singletonMap("ds", "jdbc:mysql://127.0.0.1:3306/ds");
+    
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void assertPersistAndLoad() throws IOException {
+        RuleSchemaMetaDataSnapshot snapshot = new RuleSchemaMetaDataSnapshot(temporaryFolder.getRoot().toPath().resolve("logic_db.snapshot"), DATA_SOURCE_URLS);
+        assertTrue(snapshot.persist(new RuleSchemaMetaData(createSchemaMetaData(), Collections.singletonMap("ds", createSchemaMetaData()), createSchemaMetaData())));
+        Optional<RuleSchemaMetaData> actual = snapshot.load(new RuleSchemaMetaDataLoader(Collections.emptyList()));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getConfiguredSchemaMetaData().get("t_order"), is(createTableMetaData()));
+        assertThat(actual.get().getUnconfiguredSchemaMetaDataMap().get("ds").get("t_order"), is(createTableMetaData()));
+        assertTrue(actual.get().findUndecoratedConfiguredSchemaMetaData().isPresent());
+    }
+    
+    @Test
+    public void assertPersistWithoutUndecoratedSchemaMetaData() throws IOException {
+        Path file = temporaryFolder.getRoot().toPath().resolve("logic_db.snapshot");
+        assertFalse(new RuleSchemaMetaDataSnapshot(file, DATA_SOURCE_URLS).persist(new RuleSchemaMetaData(createSchemaMetaData(), Collections.emptyMap())));
+        assertFalse(Files.exists(file));
+    }
+    
+    @Test
+    public void assertLoadWithChangedDataSourceURLs() throws IOException {
+        Path file = temporaryFolder.getRoot().toPath().resolve("logic_db.snapshot");
+        assertTrue(new RuleSchemaMetaDataSnapshot(file, DATA_SOURCE_URLS).persist(new RuleSchemaMetaData(createSchemaMetaData(), Collections.emptyMap(), createSchemaMetaData())));
+        RuleSchemaMetaDataLoader loader = new RuleSchemaMetaDataLoader(Collections.emptyList());
+        assertFalse(new RuleSchemaMetaDataSnapshot(file, Collections.singletonMap("ds", "jdbc:mysql://127.0.0.2:3306/ds")).load(loader).isPresent());
+        assertFalse(new RuleSchemaMetaDataSnapshot(file, Collections.emptyMap()).load(loader).isPresent());
+        assertTrue(new RuleSchemaMetaDataSnapshot(file, DATA_SOURCE_URLS).load(loader).isPresent());
+    }
+    
+    @Test
+    public void assertLoadWithoutSnapshot() throws IOException {
+        RuleSchemaMetaDataSnapshot snapshot = new RuleSchemaMetaDataSnapshot(temporaryFolder.getRoot().toPath().resolve("absent.snapshot"), DATA_SOURCE_URLS);
+        assertFalse(snapshot.load(new RuleSchemaMetaDataLoader(Collections.emptyList())).isPresent());
+    }
+    
+    private SchemaMetaData createSchemaMetaData() {
+        SchemaMetaData result = new SchemaMetaData();
+        result.put("t_order", createTableMetaData());
+        return result;
+    }
+    
+    private TableMetaData createTableMetaData() {
+        return new TableMetaData(Arrays.asList(new ColumnMetaData("order_id", Types.BIGINT, "bigint", true, true, false), new ColumnMetaData("status", Types.VARCHAR, null, false, false, true)),
+                Collections.singletonList(new IndexMetaData("idx_status")));
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.context;
 
+import com.google.common.base.Strings;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.auth.Authentication;
 import org.apache.shardingsphere.infra.config.DatabaseAccessConfiguration;
@@ -26,10 +27,12 @@ import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKe
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypes;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorKernel;
+import org.apache.shardingsphere.infra.executor.kernel.impl.ShardingSphereThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.datasource.DataSourceMetaDatas;
 import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaDataLoader;
+import org.apache.shardingsphere.infra.metadata.schema.snapshot.RuleSchemaMetaDataSnapshot;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRulesBuilder;
 import org.apache.shardingsphere.infra.context.impl.StandardSchemaContexts;
@@ -39,6 +42,8 @@ import org.apache.shardingsphere.infra.context.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.rdl.parser.engine.ShardingSphereSQLParserEngineFactory;
 
 import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
@@ -48,6 +53,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Schema contexts builder.
@@ -55,6 +62,8 @@ import java.util.Properties;
 @Slf4j
 public final class SchemaContextsBuilder {
     
+    private static final ExecutorService SNAPSHOT_VALIDATE_EXECUTOR = Executors.newSingleThreadExecutor(ShardingSphereThreadFactoryBuilder.build("MetaData-Snapshot-%d"));
+    
     private final DatabaseType databaseType;
     
     private final Map<String, Map<String, DataSource>> dataSources;
@@ -121,13 +130,72 @@ public final class SchemaContextsBuilder {
     
     private ShardingSphereMetaData createMetaData(final String schemaName, final Map<String, DataSource> dataSourceMap, final Collection<ShardingSphereRule> rules) throws SQLException {
         long start = System.currentTimeMillis();
-        DataSourceMetaDatas dataSourceMetas = new DataSourceMetaDatas(databaseType, getDatabaseAccessConfigurationMap(dataSourceMap));
-        RuleSchemaMetaData ruleSchemaMetaData = new RuleSchemaMetaDataLoader(rules).load(databaseType, dataSourceMap, props);
+        Map<String, DatabaseAccessConfiguration> databaseAccessConfigs = getDatabaseAccessConfigurationMap(dataSourceMap);
+        DataSourceMetaDatas dataSourceMetas = new DataSourceMetaDatas(databaseType, databaseAccessConfigs);
+        RuleSchemaMetaData ruleSchemaMetaData = loadRuleSchemaMetaData(schemaName, dataSourceMap, databaseAccessConfigs, new RuleSchemaMetaDataLoader(rules));
         ShardingSphereMetaData result = new ShardingSphereMetaData(dataSourceMetas, ruleSchemaMetaData, schemaName);
         log.info("Load meta data for schema {} finished, cost {} milliseconds.", schemaName, System.currentTimeMillis() - start);
         return result;
     }
     
+    private RuleSchemaMetaData loadRuleSchemaMetaData(final String schemaName, final Map<String, DataSource> dataSourceMap, 
+                                                      final Map<String, DatabaseAccessConfiguration> databaseAccessConfigs, final RuleSchemaMetaDataLoader loader) throws SQLException {
+        String snapshotDirectory = props.getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_DIRECTORY);
+        if (Strings.isNullOrEmpty(snapshotDirectory)) {
+            return loader.load(databaseType, dataSourceMap, props);
+        }
+        RuleSchemaMetaDataSnapshot snapshot = new RuleSchemaMetaDataSnapshot(Paths.get(snapshotDirectory, schemaName + ".snapshot"), getDataSourceURLs(databaseAccessConfigs));
+        Optional<RuleSchemaMetaData> snapshotRuleSchemaMetaData = loadSnapshot(schemaName, snapshot, loader);
+        if (snapshotRuleSchemaMetaData.isPresent()) {
+            log.info("Load meta data for schema {} from snapshot, it will be validated in background.", schemaName);
+            validateSnapshot(schemaName, dataSourceMap, loader, snapshot, snapshotRuleSchemaMetaData.get());
+            return snapshotRuleSchemaMetaData.get();
+        }
+        RuleSchemaMetaData result = loader.load(databaseType, dataSourceMap, props);
+        persistSnapshot(schemaName, snapshot, result);
+        return result;
+    }
+    
+    private Map<String, String> getDataSourceURLs(final Map<String, DatabaseAccessConfiguration> databaseAccessConfigs) {
+        Map<String, String> result = new LinkedHashMap<>(databaseAccessConfigs.size(), 1);
+        databaseAccessConfigs.forEach((key, value) -> result.put(key, value.getUrl()));
+        return result;
+    }
+    
+    private Optional<RuleSchemaMetaData> loadSnapshot(final String schemaName, final RuleSchemaMetaDataSnapshot snapshot, final RuleSchemaMetaDataLoader loader) {
+        try {
+            return snapshot.load(loader);
+        } catch (final IOException ex) {
+            log.warn("Load meta data snapshot for schema {} failed, meta data will be loaded from databases.", schemaName, ex);
+            return Optional.empty();
+        }
+    }
+    
+    private void validateSnapshot(final String schemaName, final Map<String, DataSource> dataSourceMap, 
+                                  final RuleSchemaMetaDataLoader loader, final RuleSchemaMetaDataSnapshot snapshot, final RuleSchemaMetaData ruleSchemaMetaData) {
+        SNAPSHOT_VALIDATE_EXECUTOR.submit(() -> {
+            try {
+                RuleSchemaMetaData latest = loader.load(databaseType, dataSourceMap, props);
+                if (ruleSchemaMetaData.reconcile(latest)) {
+                    log.warn("Meta data snapshot of schema {} is stale, meta data are reconciled with databases.", schemaName);
+                }
+                persistSnapshot(schemaName, snapshot, latest);
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                log.error("Validate meta data snapshot for schema {} failed.", schemaName, ex);
+            }
+        });
+    }
+    
+    private void persistSnapshot(final String schemaName, final RuleSchemaMetaDataSnapshot snapshot, final RuleSchemaMetaData ruleSchemaMetaData) {
+        try {
+            snapshot.persist(ruleSchemaMetaData);
+        } catch (final IOException ex) {
+            log.warn("Persist meta data snapshot for schema {} failed.", schemaName, ex);
+        }
+    }
+    
     private Map<String, DatabaseAccessConfiguration> getDatabaseAccessConfigurationMap(final Map<String, DataSource> dataSourceMap) throws SQLException {
         Map<String, DatabaseAccessConfiguration> result = new LinkedHashMap<>(dataSourceMap.size(), 1);
         for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
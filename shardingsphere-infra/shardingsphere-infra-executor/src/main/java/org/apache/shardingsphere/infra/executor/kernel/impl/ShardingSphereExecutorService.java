@@ -19,11 +19,13 @@ package org.apache.shardingsphere.infra.executor.kernel.impl;
 
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -36,6 +38,9 @@ public final class ShardingSphereExecutorService {
     
     private static final ExecutorService SHUTDOWN_EXECUTOR = Executors.newSingleThreadExecutor(ShardingSphereThreadFactoryBuilder.build("Executor-Engine-Closer"));
     
+    @Getter(AccessLevel.NONE)
+    private final ThreadPoolExecutor threadPoolExecutor;
+    
     private final ListeningExecutorService executorService;
     
     public ShardingSphereExecutorService(final int executorSize) {
@@ -43,7 +48,8 @@ public final class ShardingSphereExecutorService {
     }
     
     public ShardingSphereExecutorService(final int executorSize, final String nameFormat) {
-        executorService = MoreExecutors.listeningDecorator(getExecutorService(executorSize, nameFormat));
+        threadPoolExecutor = (ThreadPoolExecutor) getExecutorService(executorSize, nameFormat);
+        executorService = MoreExecutors.listeningDecorator(threadPoolExecutor);
         MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
     }
     
@@ -52,6 +58,15 @@ public final class ShardingSphereExecutorService {
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
     
+    /**
+     * Get count of tasks waiting in queue.
+     * 
+     * @return count of tasks waiting in queue
+     */
+    public int getQueueSize() {
+        return threadPoolExecutor.getQueue().size();
+    }
+    
     /**
      * Close executor service.
      */
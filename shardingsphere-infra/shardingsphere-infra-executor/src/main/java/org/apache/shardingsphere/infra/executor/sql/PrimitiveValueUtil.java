@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Primitive value utility.
+ * 
+ * <p>Converts boxed values to primitive values in the same way as JDBC driver of ShardingSphere does:
+ * null is converted to zero, and byte array with length of byte, short, int or long is decoded as big endian signed number.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PrimitiveValueUtil {
+    
+    /**
+     * Convert value to int.
+     *
+     * @param value value
+     * @return int value
+     */
+    public static int toInt(final Object value) {
+        return null == value ? 0 : toNumber(value).intValue();
+    }
+    
+    /**
+     * Convert value to long.
+     *
+     * @param value value
+     * @return long value
+     */
+    public static long toLong(final Object value) {
+        return null == value ? 0L : toNumber(value).longValue();
+    }
+    
+    /**
+     * Convert value to double.
+     *
+     * @param value value
+     * @return double value
+     */
+    public static double toDouble(final Object value) {
+        return null == value ? 0.0D : toNumber(value).doubleValue();
+    }
+    
+    private static Number toNumber(final Object value) {
+        if (value instanceof byte[] && isNumberLength(((byte[]) value).length)) {
+            return toNumber((byte[]) value);
+        }
+        return (Number) value;
+    }
+    
+    private static boolean isNumberLength(final int length) {
+        return Byte.BYTES == length || Short.BYTES == length || Integer.BYTES == length || Long.BYTES == length;
+    }
+    
+    private static Number toNumber(final byte[] value) {
+        long result = value[0];
+        for (int i = 1; i < value.length; i++) {
+            result = result << 8 | (value[i] & 0xFF);
+        }
+        return result;
+    }
+}
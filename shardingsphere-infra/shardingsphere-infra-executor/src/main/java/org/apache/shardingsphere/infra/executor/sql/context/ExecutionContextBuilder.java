@@ -19,6 +19,8 @@ package org.apache.shardingsphere.infra.executor.sql.context;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.rewrite.engine.result.GenericSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
@@ -56,6 +58,21 @@ public final class ExecutionContextBuilder {
                 : build(metaData, (RouteSQLRewriteResult) sqlRewriteResult);
     }
     
+    /**
+     * Build execution contexts.
+     *
+     * @param metaData meta data
+     * @param sqlRewriteResult SQL rewrite result
+     * @param sqlStatementContext SQL statement context
+     * @param props configuration properties
+     * @return execution contexts
+     */
+    public static Collection<ExecutionUnit> build(final ShardingSphereMetaData metaData, final SQLRewriteResult sqlRewriteResult,
+                                                  final SQLStatementContext<?> sqlStatementContext, final ConfigurationProperties props) {
+        Collection<ExecutionUnit> result = build(metaData, sqlRewriteResult, sqlStatementContext);
+        return props.<Boolean>getValue(ConfigurationPropertyKey.SQL_UNION_ALL_COMBINE_ENABLED) ? UnionAllExecutionUnitCombiner.combine(result, sqlStatementContext) : result;
+    }
+    
     private static Collection<ExecutionUnit> build(final ShardingSphereMetaData metaData, final GenericSQLRewriteResult sqlRewriteResult, final SQLStatementContext<?> sqlStatementContext) {
         String dataSourceName = metaData.getDataSourceMetaDatas().getAllInstanceDataSourceNames().iterator().next();
         return Collections.singletonList(new ExecutionUnit(dataSourceName,
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.context;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Union all execution unit combiner.
+ *
+ * <p>
+ * Combines select execution units of the same data source into one {@code UNION ALL} execution unit, so that each data source is queried in one round trip.
+ * Only selects whose results are iterated one by one in merging are combined,
+ * selects with order by, group by, aggregation, distinct, pagination, subquery or lock keep their execution units.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class UnionAllExecutionUnitCombiner {
+    
+    private static final String UNION_ALL = " UNION ALL ";
+    
+    /**
+     * Combine execution units.
+     *
+     * @param executionUnits execution units
+     * @param sqlStatementContext SQL statement context
+     * @return combined execution units
+     */
+    public static Collection<ExecutionUnit> combine(final Collection<ExecutionUnit> executionUnits, final SQLStatementContext<?> sqlStatementContext) {
+        if (executionUnits.size() <= 1 || !isCombinable(sqlStatementContext)) {
+            return executionUnits;
+        }
+        Map<String, List<ExecutionUnit>> executionUnitGroups = new LinkedHashMap<>();
+        for (ExecutionUnit each : executionUnits) {
+            executionUnitGroups.computeIfAbsent(each.getDataSourceName(), key -> new LinkedList<>()).add(each);
+        }
+        if (executionUnitGroups.size() == executionUnits.size()) {
+            return executionUnits;
+        }
+        Collection<ExecutionUnit> result = new LinkedHashSet<>();
+        for (Entry<String, List<ExecutionUnit>> entry : executionUnitGroups.entrySet()) {
+            result.add(1 == entry.getValue().size() ? entry.getValue().get(0) : combine(entry.getKey(), entry.getValue()));
+        }
+        return result;
+    }
+    
+    private static boolean isCombinable(final SQLStatementContext<?> sqlStatementContext) {
+        if (!(sqlStatementContext instanceof SelectStatementContext)) {
+            return false;
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+        return selectStatementContext.getOrderByContext().getItems().isEmpty() && selectStatementContext.getGroupByContext().getItems().isEmpty()
+                && selectStatementContext.getProjectionsContext().getAggregationProjections().isEmpty() && !selectStatementContext.getProjectionsContext().isDistinctRow()
+                && !selectStatementContext.getPaginationContext().isHasPagination() && !selectStatementContext.isContainsSubquery()
+                && !selectStatementContext.getSqlStatement().getLock().isPresent();
+    }
+    
+    private static ExecutionUnit combine(final String dataSourceName, final List<ExecutionUnit> executionUnits) {
+        StringBuilder sql = new StringBuilder();
+        List<Object> parameters = new ArrayList<>();
+        List<String> logicTables = new LinkedList<>();
+        List<String> actualTables = new LinkedList<>();
+        List<PrimaryKeyMetaData> primaryKeyMetaDatas = new LinkedList<>();
+        for (ExecutionUnit each : executionUnits) {
+            if (0 != sql.length()) {
+                sql.append(UNION_ALL);
+            }
+            sql.append('(').append(each.getSqlUnit().getSql()).append(')');
+            parameters.addAll(each.getSqlUnit().getParameters());
+            SQLRuntimeContext sqlRuntimeContext = each.getSqlUnit().getSqlRuntimeContext();
+            logicTables.addAll(sqlRuntimeContext.getLogicTables());
+            actualTables.addAll(sqlRuntimeContext.getActualTables());
+            primaryKeyMetaDatas.addAll(sqlRuntimeContext.getPrimaryKeyMetaDatas());
+        }
+        return new ExecutionUnit(dataSourceName, new SQLUnit(sql.toString(), parameters, new SQLRuntimeContext(logicTables, actualTables, primaryKeyMetaDatas)));
+    }
+}
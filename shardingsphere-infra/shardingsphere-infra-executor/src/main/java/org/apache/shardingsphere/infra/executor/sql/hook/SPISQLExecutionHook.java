@@ -26,34 +26,76 @@ import java.util.Map;
 
 /**
  * SQL Execution hook for SPI.
+ * 
+ * <p>Registered hooks are resolved once and shared by all executions, contexts of registered hooks are returned by start and passed back to finish methods.
+ * Nothing is allocated if no hook registered or all registered hooks return null context.</p>
  */
 public final class SPISQLExecutionHook implements SQLExecutionHook {
     
-    private final Collection<SQLExecutionHook> sqlExecutionHooks = ShardingSphereServiceLoader.newServiceInstances(SQLExecutionHook.class);
+    private static final SPISQLExecutionHook INSTANCE;
+    
+    private final SQLExecutionHook[] sqlExecutionHooks;
     
     static {
         ShardingSphereServiceLoader.register(SQLExecutionHook.class);
+        INSTANCE = new SPISQLExecutionHook(ShardingSphereServiceLoader.newServiceInstances(SQLExecutionHook.class));
+    }
+    
+    SPISQLExecutionHook(final Collection<SQLExecutionHook> sqlExecutionHooks) {
+        this.sqlExecutionHooks = sqlExecutionHooks.toArray(new SQLExecutionHook[0]);
+    }
+    
+    /**
+     * Get instance of SQL execution hook.
+     *
+     * @return SQL execution hook
+     */
+    public static SPISQLExecutionHook getInstance() {
+        return INSTANCE;
     }
     
     @Override
-    public void start(final String dataSourceName, final String sql, final List<Object> parameters, 
-                      final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
-        for (SQLExecutionHook each : sqlExecutionHooks) {
-            each.start(dataSourceName, sql, parameters, dataSourceMetaData, isTrunkThread, shardingExecuteDataMap);
+    public Object start(final String dataSourceName, final String sql, final List<Object> parameters, 
+                        final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+        if (1 == sqlExecutionHooks.length) {
+            return sqlExecutionHooks[0].start(dataSourceName, sql, parameters, dataSourceMetaData, isTrunkThread, shardingExecuteDataMap);
         }
+        Object[] result = null;
+        for (int i = 0; i < sqlExecutionHooks.length; i++) {
+            Object context = sqlExecutionHooks[i].start(dataSourceName, sql, parameters, dataSourceMetaData, isTrunkThread, shardingExecuteDataMap);
+            if (null != context) {
+                if (null == result) {
+                    result = new Object[sqlExecutionHooks.length];
+                }
+                result[i] = context;
+            }
+        }
+        return result;
     }
     
     @Override
-    public void finishSuccess() {
-        for (SQLExecutionHook each : sqlExecutionHooks) {
-            each.finishSuccess();
+    public void finishSuccess(final Object context) {
+        if (1 == sqlExecutionHooks.length) {
+            sqlExecutionHooks[0].finishSuccess(context);
+            return;
+        }
+        for (int i = 0; i < sqlExecutionHooks.length; i++) {
+            sqlExecutionHooks[i].finishSuccess(getContext(context, i));
         }
     }
     
     @Override
-    public void finishFailure(final Exception cause) {
-        for (SQLExecutionHook each : sqlExecutionHooks) {
-            each.finishFailure(cause);
+    public void finishFailure(final Object context, final Exception cause) {
+        if (1 == sqlExecutionHooks.length) {
+            sqlExecutionHooks[0].finishFailure(context, cause);
+            return;
+        }
+        for (int i = 0; i < sqlExecutionHooks.length; i++) {
+            sqlExecutionHooks[i].finishFailure(getContext(context, i), cause);
         }
     }
+    
+    private Object getContext(final Object context, final int index) {
+        return null == context ? null : ((Object[]) context)[index];
+    }
 }
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.hook;
+
+import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+
+import java.util.Collection;
+
+/**
+ * Transaction completion hook for SPI.
+ */
+public final class SPITransactionCompletionHook implements TransactionCompletionHook {
+    
+    private final Collection<TransactionCompletionHook> transactionCompletionHooks = ShardingSphereServiceLoader.newServiceInstances(TransactionCompletionHook.class);
+    
+    static {
+        ShardingSphereServiceLoader.register(TransactionCompletionHook.class);
+    }
+    
+    @Override
+    public void finishDataSource(final String dataSourceName, final boolean isCommit, final long elapsedNanos, final boolean isSuccess) {
+        for (TransactionCompletionHook each : transactionCompletionHooks) {
+            each.finishDataSource(dataSourceName, isCommit, elapsedNanos, isSuccess);
+        }
+    }
+    
+    @Override
+    public void finishTransaction(final boolean isCommit, final int connectionCount, final long elapsedNanos, final boolean isSuccess) {
+        for (TransactionCompletionHook each : transactionCompletionHooks) {
+            each.finishTransaction(isCommit, connectionCount, elapsedNanos, isSuccess);
+        }
+    }
+}
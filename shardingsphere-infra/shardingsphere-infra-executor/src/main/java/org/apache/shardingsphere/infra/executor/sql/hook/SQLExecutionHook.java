@@ -24,6 +24,8 @@ import java.util.Map;
 
 /**
  * SQL Execution hook.
+ * 
+ * <p>Hook is shared by all executions, state of one execution should be returned as context by start and is passed back to finish methods.</p>
  */
 public interface SQLExecutionHook {
     
@@ -36,18 +38,22 @@ public interface SQLExecutionHook {
      * @param dataSourceMetaData data source meta data
      * @param isTrunkThread is execution in trunk thread
      * @param shardingExecuteDataMap sharding execute data map
+     * @return context of SQL execution, null if no state need to be kept
      */
-    void start(String dataSourceName, String sql, List<Object> parameters, DataSourceMetaData dataSourceMetaData, boolean isTrunkThread, Map<String, Object> shardingExecuteDataMap);
+    Object start(String dataSourceName, String sql, List<Object> parameters, DataSourceMetaData dataSourceMetaData, boolean isTrunkThread, Map<String, Object> shardingExecuteDataMap);
     
     /**
      * Handle when SQL execution finished success.
+     * 
+     * @param context context of SQL execution returned by start
      */
-    void finishSuccess();
+    void finishSuccess(Object context);
     
     /**
      * Handle when SQL execution finished failure.
      *
+     * @param context context of SQL execution returned by start
      * @param cause failure cause
      */
-    void finishFailure(Exception cause);
+    void finishFailure(Object context, Exception cause);
 }
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.hook;
+
+/**
+ * Transaction completion hook.
+ */
+public interface TransactionCompletionHook {
+    
+    /**
+     * Handle when commit or rollback of one backend connection finished.
+     *
+     * @param dataSourceName data source name
+     * @param isCommit is commit or rollback
+     * @param elapsedNanos elapsed nanoseconds of commit or rollback
+     * @param isSuccess is finished success or failure
+     */
+    void finishDataSource(String dataSourceName, boolean isCommit, long elapsedNanos, boolean isSuccess);
+    
+    /**
+     * Handle when commit or rollback of all backend connections finished.
+     *
+     * @param isCommit is commit or rollback
+     * @param connectionCount count of backend connections
+     * @param elapsedNanos elapsed nanoseconds of commit or rollback
+     * @param isSuccess is finished success or failure
+     */
+    void finishTransaction(boolean isCommit, int connectionCount, long elapsedNanos, boolean isSuccess);
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.log;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.impl.ShardingSphereThreadFactoryBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Asynchronous log writer.
+ * 
+ * <p>Log entries are put into a bounded lock-free buffer without blocking the caller and written in batches by a daemon thread,
+ * which parks while the buffer is empty and is unparked by the first entry appended after that. Entries are dropped and counted if the buffer is full.</p>
+ *
+ * @param <T> type of log entry
+ */
+@Slf4j
+public final class AsyncLogWriter<T> {
+    
+    private static final int BATCH_SIZE = 128;
+    
+    private final String name;
+    
+    private final int capacity;
+    
+    private final Queue<T> buffer = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicInteger bufferedCount = new AtomicInteger();
+    
+    private final Consumer<T> writer;
+    
+    private final LongAdder droppedCount = new LongAdder();
+    
+    private final AtomicBoolean waiting = new AtomicBoolean();
+    
+    private final Thread writeThread;
+    
+    private long reportedDroppedCount;
+    
+    public AsyncLogWriter(final String name, final int capacity, final Consumer<T> writer) {
+        this.name = name;
+        this.capacity = capacity;
+        this.writer = writer;
+        writeThread = ShardingSphereThreadFactoryBuilder.build(name).newThread(this::write);
+        writeThread.start();
+    }
+    
+    /**
+     * Append log entry.
+     *
+     * @param entry log entry
+     * @return appended or dropped because buffer is full
+     */
+    public boolean append(final T entry) {
+        if (bufferedCount.incrementAndGet() > capacity) {
+            bufferedCount.decrementAndGet();
+            droppedCount.increment();
+            return false;
+        }
+        buffer.offer(entry);
+        if (waiting.get() && waiting.compareAndSet(true, false)) {
+            LockSupport.unpark(writeThread);
+        }
+        return true;
+    }
+    
+    /**
+     * Get count of dropped log entries.
+     *
+     * @return count of dropped log entries
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+    
+    private void write() {
+        List<T> batch = new ArrayList<>(BATCH_SIZE);
+        while (!Thread.currentThread().isInterrupted()) {
+            T entry;
+            while (batch.size() < BATCH_SIZE && null != (entry = buffer.poll())) {
+                batch.add(entry);
+            }
+            if (batch.isEmpty()) {
+                waitForEntry();
+                continue;
+            }
+            bufferedCount.addAndGet(-batch.size());
+            for (T each : batch) {
+                write(each);
+            }
+            batch.clear();
+            reportDroppedCount();
+        }
+    }
+    
+    private void waitForEntry() {
+        waiting.set(true);
+        if (buffer.isEmpty()) {
+            LockSupport.park(this);
+        }
+        waiting.set(false);
+    }
+    
+    private void write(final T entry) {
+        try {
+            writer.accept(entry);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.error("Write log of `{}` failed.", name, ex);
+        }
+    }
+    
+    private void reportDroppedCount() {
+        long currentDroppedCount = droppedCount.sum();
+        if (currentDroppedCount > reportedDroppedCount) {
+            log.warn("{} log entries of `{}` were dropped because the buffer is full.", currentDroppedCount - reportedDroppedCount, name);
+            reportedDroppedCount = currentDroppedCount;
+        }
+    }
+}
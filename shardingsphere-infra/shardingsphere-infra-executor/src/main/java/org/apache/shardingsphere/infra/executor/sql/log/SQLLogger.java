@@ -19,13 +19,19 @@ package org.apache.shardingsphere.infra.executor.sql.log;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * SQL logger.
@@ -42,12 +48,52 @@ public final class SQLLogger {
      * @param executionContext Execution context
      */
     public static void logSQL(final String logicSQL, final boolean showSimple, final ExecutionContext executionContext) {
+        logSQL(logicSQL, executionContext.getSqlStatementContext(), showSimple, executionContext.getExecutionUnits());
+    }
+    
+    /**
+     * Print SQL log asynchronously.
+     * 
+     * <p>Only one of every sampling interval SQLs is logged, SQL log is dropped if buffer of SQL log writer is full.</p>
+     * 
+     * @param logicSQL logic SQL
+     * @param showSimple whether show SQL in simple style
+     * @param executionContext Execution context
+     * @param samplingInterval sampling interval
+     */
+    public static void logSQLAsync(final String logicSQL, final boolean showSimple, final ExecutionContext executionContext, final int samplingInterval) {
+        if (samplingInterval > 1 && 0 != ThreadLocalRandom.current().nextInt(samplingInterval)) {
+            return;
+        }
+        Collection<ExecutionUnit> executionUnits = showSimple ? executionContext.getExecutionUnits() : copyParameters(executionContext.getExecutionUnits());
+        AsyncSQLLogWriterHolder.WRITER.append(new SQLLogEvent(logicSQL, executionContext.getSqlStatementContext(), showSimple, executionUnits));
+    }
+    
+    /**
+     * Get count of dropped asynchronous SQL logs.
+     * 
+     * @return count of dropped asynchronous SQL logs
+     */
+    public static long getDroppedCount() {
+        return AsyncSQLLogWriterHolder.WRITER.getDroppedCount();
+    }
+    
+    private static Collection<ExecutionUnit> copyParameters(final Collection<ExecutionUnit> executionUnits) {
+        Collection<ExecutionUnit> result = new ArrayList<>(executionUnits.size());
+        for (ExecutionUnit each : executionUnits) {
+            List<Object> parameters = each.getSqlUnit().getParameters();
+            result.add(parameters.isEmpty() ? each : new ExecutionUnit(each.getDataSourceName(), new SQLUnit(each.getSqlUnit().getSql(), new ArrayList<>(parameters))));
+        }
+        return result;
+    }
+    
+    private static void logSQL(final String logicSQL, final SQLStatementContext<?> sqlStatementContext, final boolean showSimple, final Collection<ExecutionUnit> executionUnits) {
         log("Logic SQL: {}", logicSQL);
-        log("SQLStatement: {}", executionContext.getSqlStatementContext());
+        log("SQLStatement: {}", sqlStatementContext);
         if (showSimple) {
-            logSimpleMode(executionContext.getExecutionUnits());
+            logSimpleMode(executionUnits);
         } else {
-            logNormalMode(executionContext.getExecutionUnits());
+            logNormalMode(executionUnits);
         }
     }
     
@@ -72,4 +118,24 @@ public final class SQLLogger {
     private static void log(final String pattern, final Object... arguments) {
         log.info(pattern, arguments);
     }
+    
+    @RequiredArgsConstructor
+    private static final class SQLLogEvent {
+        
+        private final String logicSQL;
+        
+        private final SQLStatementContext<?> sqlStatementContext;
+        
+        private final boolean showSimple;
+        
+        private final Collection<ExecutionUnit> executionUnits;
+    }
+    
+    private static final class AsyncSQLLogWriterHolder {
+        
+        private static final int BUFFER_SIZE = 4096;
+        
+        private static final AsyncLogWriter<SQLLogEvent> WRITER = new AsyncLogWriter<>("SQLLog", BUFFER_SIZE,
+                each -> logSQL(each.logicSQL, each.sqlStatementContext, each.showSimple, each.executionUnits));
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.connection;
+
+import com.google.common.collect.Multimap;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.impl.ShardingSphereThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.executor.sql.hook.SPITransactionCompletionHook;
+import org.apache.shardingsphere.infra.executor.sql.hook.TransactionCompletionHook;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local transaction executor.
+ * 
+ * <p>Commit or rollback cached backend connections in parallel, the first connection is handled by caller thread.
+ * All connections are handled even if some of them failed, and failures are thrown together after all finished.</p>
+ * 
+ * <p>Connections are handed to a dedicated bounded executor instead of the SQL executor kernel,
+ * so a commit never waits behind statements of other transactions.
+ * When all commit threads are busy, the caller thread commits the connection itself.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class LocalTransactionExecutor {
+    
+    private static final TransactionCompletionHook TRANSACTION_COMPLETION_HOOK = new SPITransactionCompletionHook();
+    
+    private static final int MAX_COMMIT_THREADS = Runtime.getRuntime().availableProcessors() * 2;
+    
+    private static final ExecutorService COMMIT_EXECUTOR_SERVICE = createCommitExecutorService();
+    
+    private final ExecutorService executorService;
+    
+    public LocalTransactionExecutor() {
+        this(COMMIT_EXECUTOR_SERVICE);
+    }
+    
+    private static ExecutorService createCommitExecutorService() {
+        ThreadPoolExecutor result = new ThreadPoolExecutor(MAX_COMMIT_THREADS, MAX_COMMIT_THREADS, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), ShardingSphereThreadFactoryBuilder.build("LocalTransaction-%d"), new CallerRunsPolicy());
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+    
+    /**
+     * Commit cached connections.
+     *
+     * @param cachedConnections cached connections, key is data source name
+     * @throws SQLException throw SQL exception after all connections are committed
+     */
+    public void commit(final Multimap<String, Connection> cachedConnections) throws SQLException {
+        execute(cachedConnections, true);
+    }
+    
+    /**
+     * Rollback cached connections.
+     *
+     * @param cachedConnections cached connections, key is data source name
+     * @throws SQLException throw SQL exception after all connections are rolled back
+     */
+    public void rollback(final Multimap<String, Connection> cachedConnections) throws SQLException {
+        execute(cachedConnections, false);
+    }
+    
+    private void execute(final Multimap<String, Connection> cachedConnections, final boolean isCommit) throws SQLException {
+        List<Entry<String, Connection>> connections = new ArrayList<>(cachedConnections.entries());
+        if (connections.isEmpty()) {
+            return;
+        }
+        long startTime = System.nanoTime();
+        Collection<SQLException> exceptions = 1 == connections.size() ? serialExecute(connections, isCommit) : parallelExecute(connections, isCommit);
+        TRANSACTION_COMPLETION_HOOK.finishTransaction(isCommit, connections.size(), System.nanoTime() - startTime, exceptions.isEmpty());
+        throwSQLExceptionIfNecessary(exceptions);
+    }
+    
+    private Collection<SQLException> serialExecute(final List<Entry<String, Connection>> connections, final boolean isCommit) {
+        Collection<SQLException> result = new LinkedList<>();
+        for (Entry<String, Connection> each : connections) {
+            execute(each, isCommit).ifPresent(result::add);
+        }
+        return result;
+    }
+    
+    private Collection<SQLException> parallelExecute(final List<Entry<String, Connection>> connections, final boolean isCommit) {
+        Iterator<Entry<String, Connection>> iterator = connections.iterator();
+        Entry<String, Connection> firstConnection = iterator.next();
+        Collection<Future<Optional<SQLException>>> futures = new LinkedList<>();
+        while (iterator.hasNext()) {
+            Entry<String, Connection> each = iterator.next();
+            futures.add(executorService.submit(() -> execute(each, isCommit)));
+        }
+        Collection<SQLException> result = new LinkedList<>();
+        execute(firstConnection, isCommit).ifPresent(result::add);
+        for (Future<Optional<SQLException>> each : futures) {
+            try {
+                each.get().ifPresent(result::add);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                result.add(new SQLException(ex));
+            } catch (final ExecutionException ex) {
+                result.add(new SQLException(ex.getCause()));
+            }
+        }
+        return result;
+    }
+    
+    private Optional<SQLException> execute(final Entry<String, Connection> connection, final boolean isCommit) {
+        long startTime = System.nanoTime();
+        try {
+            if (isCommit) {
+                connection.getValue().commit();
+            } else {
+                connection.getValue().rollback();
+            }
+            TRANSACTION_COMPLETION_HOOK.finishDataSource(connection.getKey(), isCommit, System.nanoTime() - startTime, true);
+            return Optional.empty();
+        } catch (final SQLException ex) {
+            TRANSACTION_COMPLETION_HOOK.finishDataSource(connection.getKey(), isCommit, System.nanoTime() - startTime, false);
+            return Optional.of(ex);
+        }
+    }
+    
+    private void throwSQLExceptionIfNecessary(final Collection<SQLException> exceptions) throws SQLException {
+        if (exceptions.isEmpty()) {
+            return;
+        }
+        SQLException ex = new SQLException();
+        exceptions.forEach(ex::setNextException);
+        throw ex;
+    }
+}
@@ -68,15 +68,16 @@ public abstract class DefaultSQLExecutorCallback<T> implements SQLExecutorCallba
     private T execute0(final StatementExecuteUnit statementExecuteUnit, final boolean isTrunkThread, final Map<String, Object> dataMap) throws SQLException {
         ExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
         DataSourceMetaData dataSourceMetaData = getDataSourceMetaData(statementExecuteUnit.getStorageResource().getConnection().getMetaData());
-        SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
+        SQLExecutionHook sqlExecutionHook = SPISQLExecutionHook.getInstance();
+        Object hookContext = null;
         try {
             ExecutionUnit executionUnit = statementExecuteUnit.getExecutionUnit();
-            sqlExecutionHook.start(executionUnit.getDataSourceName(), executionUnit.getSqlUnit().getSql(), executionUnit.getSqlUnit().getParameters(), dataSourceMetaData, isTrunkThread, dataMap);
-            T result = executeSQL(executionUnit.getSqlUnit().getSql(), statementExecuteUnit.getStorageResource(), statementExecuteUnit.getConnectionMode());
-            sqlExecutionHook.finishSuccess();
+            hookContext = sqlExecutionHook.start(executionUnit.getDataSourceName(), executionUnit.getSqlUnit().getSql(), executionUnit.getSqlUnit().getParameters(), dataSourceMetaData, isTrunkThread, dataMap);
+            T result = executeSQL(executionUnit, statementExecuteUnit.getStorageResource(), statementExecuteUnit.getConnectionMode());
+            sqlExecutionHook.finishSuccess(hookContext);
             return result;
         } catch (final SQLException ex) {
-            sqlExecutionHook.finishFailure(ex);
+            sqlExecutionHook.finishFailure(hookContext, ex);
             ExecutorExceptionHandler.handleException(ex);
             return null;
         }
@@ -92,5 +93,18 @@ public abstract class DefaultSQLExecutorCallback<T> implements SQLExecutorCallba
         return result;
     }
     
+    /**
+     * Execute SQL of execution unit, override it if data source name or parameters of execution unit are needed.
+     *
+     * @param executionUnit execution unit
+     * @param statement statement
+     * @param connectionMode connection mode
+     * @return execute result
+     * @throws SQLException SQL exception
+     */
+    protected T executeSQL(final ExecutionUnit executionUnit, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
+        return executeSQL(executionUnit.getSqlUnit().getSql(), statement, connectionMode);
+    }
+    
     protected abstract T executeSQL(String sql, Statement statement, ConnectionMode connectionMode) throws SQLException;
 }
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PrimitiveValueUtilTest {
+    
+    @Test
+    public void assertConvertNull() {
+        assertThat(PrimitiveValueUtil.toInt(null), is(0));
+        assertThat(PrimitiveValueUtil.toLong(null), is(0L));
+        assertThat(PrimitiveValueUtil.toDouble(null), is(0.0D));
+    }
+    
+    @Test
+    public void assertConvertNumber() {
+        assertThat(PrimitiveValueUtil.toInt(1L), is(1));
+        assertThat(PrimitiveValueUtil.toLong((short) 1), is(1L));
+        assertThat(PrimitiveValueUtil.toDouble(new BigDecimal("1.5")), is(1.5D));
+    }
+    
+    @Test
+    public void assertConvertByteArray() {
+        assertThat(PrimitiveValueUtil.toInt(new byte[]{1}), is(1));
+        assertThat(PrimitiveValueUtil.toInt(new byte[]{1, 0}), is(256));
+        assertThat(PrimitiveValueUtil.toLong(new byte[]{-1, -1, -1, -2}), is(-2L));
+        assertThat(PrimitiveValueUtil.toLong(new byte[]{0, 0, 0, 0, 0, 0, 1, 1}), is(257L));
+    }
+    
+    @Test(expected = ClassCastException.class)
+    public void assertConvertUnsupportedValue() {
+        PrimitiveValueUtil.toLong("1");
+    }
+}
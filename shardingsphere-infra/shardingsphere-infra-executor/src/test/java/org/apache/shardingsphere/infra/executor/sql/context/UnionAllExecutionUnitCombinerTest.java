@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.context;
+
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.LockSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class UnionAllExecutionUnitCombinerTest {
+    
+    @Test
+    public void assertCombineSameDataSource() {
+        Collection<ExecutionUnit> actual = UnionAllExecutionUnitCombiner.combine(mockExecutionUnits(), mockSelectStatementContext());
+        assertThat(actual.size(), is(2));
+        Iterator<ExecutionUnit> iterator = actual.iterator();
+        ExecutionUnit combined = iterator.next();
+        assertThat(combined.getDataSourceName(), is("ds_0"));
+        assertThat(combined.getSqlUnit().getSql(), is("(SELECT * FROM t_order_0 WHERE user_id = ?) UNION ALL (SELECT * FROM t_order_1 WHERE user_id = ?)"));
+        assertThat(combined.getSqlUnit().getParameters(), is(Arrays.<Object>asList(10, 10)));
+        assertThat(combined.getSqlUnit().getSqlRuntimeContext().getActualTables(), is(Arrays.asList("t_order_0", "t_order_1")));
+        ExecutionUnit single = iterator.next();
+        assertThat(single.getDataSourceName(), is("ds_1"));
+        assertThat(single.getSqlUnit().getSql(), is("SELECT * FROM t_order_0 WHERE user_id = ?"));
+    }
+    
+    @Test
+    public void assertNotCombineWithOrderBy() {
+        SelectStatementContext selectStatementContext = mockSelectStatementContext();
+        when(selectStatementContext.getOrderByContext().getItems()).thenReturn(Collections.singletonList(null));
+        Collection<ExecutionUnit> executionUnits = mockExecutionUnits();
+        assertThat(UnionAllExecutionUnitCombiner.combine(executionUnits, selectStatementContext), is(executionUnits));
+    }
+    
+    @Test
+    public void assertNotCombineWithPagination() {
+        SelectStatementContext selectStatementContext = mockSelectStatementContext();
+        when(selectStatementContext.getPaginationContext().isHasPagination()).thenReturn(true);
+        Collection<ExecutionUnit> executionUnits = mockExecutionUnits();
+        assertThat(UnionAllExecutionUnitCombiner.combine(executionUnits, selectStatementContext), is(executionUnits));
+    }
+    
+    @Test
+    public void assertNotCombineWithLock() {
+        SelectStatementContext selectStatementContext = mockSelectStatementContext();
+        selectStatementContext.getSqlStatement().setLock(new LockSegment(0, 0));
+        Collection<ExecutionUnit> executionUnits = mockExecutionUnits();
+        assertThat(UnionAllExecutionUnitCombiner.combine(executionUnits, selectStatementContext), is(executionUnits));
+    }
+    
+    @Test
+    public void assertNotCombineNonSelect() {
+        Collection<ExecutionUnit> executionUnits = mockExecutionUnits();
+        assertThat(UnionAllExecutionUnitCombiner.combine(executionUnits, mock(SQLStatementContext.class)), is(executionUnits));
+    }
+    
+    private SelectStatementContext mockSelectStatementContext() {
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getOrderByContext().getItems()).thenReturn(Collections.emptyList());
+        when(result.getGroupByContext().getItems()).thenReturn(Collections.emptyList());
+        when(result.getProjectionsContext().getAggregationProjections()).thenReturn(Collections.emptyList());
+        when(result.getSqlStatement()).thenReturn(new SelectStatement());
+        return result;
+    }
+    
+    private Collection<ExecutionUnit> mockExecutionUnits() {
+        return Arrays.asList(mockExecutionUnit("ds_0", "t_order_0"), mockExecutionUnit("ds_0", "t_order_1"), mockExecutionUnit("ds_1", "t_order_0"));
+    }
+    
+    private ExecutionUnit mockExecutionUnit(final String dataSourceName, final String actualTable) {
+        SQLRuntimeContext sqlRuntimeContext = new SQLRuntimeContext(Collections.singletonList("t_order"), Collections.singletonList(actualTable), Collections.emptyList());
+        return new ExecutionUnit(dataSourceName, new SQLUnit(String.format("SELECT * FROM %s WHERE user_id = ?", actualTable), Collections.singletonList(10), sqlRuntimeContext));
+    }
+}
@@ -17,39 +17,102 @@
 
 package org.apache.shardingsphere.infra.executor.sql.hook;
 
+import org.apache.shardingsphere.infra.executor.sql.hook.fixture.DisabledSQLExecutionHookFixture;
 import org.apache.shardingsphere.infra.executor.sql.hook.fixture.SQLExecutionHookFixture;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 
 public final class SPISQLExecutionHookTest {
     
-    private SPISQLExecutionHook spiSQLExecutionHook;
+    private static final int ITERATIONS = 100000;
+    
+    private final List<Object> parameters = Collections.emptyList();
     
     @Before
     public void setUp() {
         SQLExecutionHookFixture.clearActions();
-        spiSQLExecutionHook = new SPISQLExecutionHook();
+    }
+    
+    @Test
+    public void assertGetInstance() {
+        assertThat(SPISQLExecutionHook.getInstance(), sameInstance(SPISQLExecutionHook.getInstance()));
     }
     
     @Test
     public void assertStart() {
-        spiSQLExecutionHook.start("ds", "SELECT 1", Collections.emptyList(), null, true, null);
+        assertThat(SPISQLExecutionHook.getInstance().start("ds", "SELECT 1", parameters, null, true, null), is(SQLExecutionHookFixture.CONTEXT));
         assertTrue(SQLExecutionHookFixture.containsAction("start"));
     }
     
     @Test
     public void assertFinishSuccess() {
-        spiSQLExecutionHook.finishSuccess();
+        SPISQLExecutionHook.getInstance().finishSuccess(SQLExecutionHookFixture.CONTEXT);
         assertTrue(SQLExecutionHookFixture.containsAction("finishSuccess"));
     }
     
     @Test
     public void assertFinishFailure() {
-        spiSQLExecutionHook.finishFailure(null);
+        SPISQLExecutionHook.getInstance().finishFailure(SQLExecutionHookFixture.CONTEXT, null);
         assertTrue(SQLExecutionHookFixture.containsAction("finishFailure"));
     }
+    
+    @Test
+    public void assertStartAndFinishWithMultipleHooks() {
+        SPISQLExecutionHook spiSQLExecutionHook = new SPISQLExecutionHook(Arrays.asList(new DisabledSQLExecutionHookFixture(), new SQLExecutionHookFixture()));
+        Object context = spiSQLExecutionHook.start("ds", "SELECT 1", parameters, null, true, null);
+        assertThat(context, is((Object) new Object[]{null, SQLExecutionHookFixture.CONTEXT}));
+        spiSQLExecutionHook.finishSuccess(context);
+        assertTrue(SQLExecutionHookFixture.containsAction("finishSuccess"));
+    }
+    
+    @Test
+    public void assertStartWithDisabledHooks() {
+        SPISQLExecutionHook spiSQLExecutionHook = new SPISQLExecutionHook(Arrays.asList(new DisabledSQLExecutionHookFixture(), new DisabledSQLExecutionHookFixture()));
+        assertThat(spiSQLExecutionHook.start("ds", "SELECT 1", parameters, null, true, null), nullValue());
+    }
+    
+    @Test
+    public void assertNoAllocationWithoutHooks() {
+        assertNoAllocation(new SPISQLExecutionHook(Collections.emptyList()));
+    }
+    
+    @Test
+    public void assertNoAllocationWithDisabledHooks() {
+        assertNoAllocation(new SPISQLExecutionHook(Collections.singletonList(new DisabledSQLExecutionHookFixture())));
+        assertNoAllocation(new SPISQLExecutionHook(Arrays.asList(new DisabledSQLExecutionHookFixture(), new DisabledSQLExecutionHookFixture())));
+    }
+    
+    private void assertNoAllocation(final SPISQLExecutionHook spiSQLExecutionHook) {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled());
+        long threadId = Thread.currentThread().getId();
+        executeHook(spiSQLExecutionHook);
+        long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+        executeHook(spiSQLExecutionHook);
+        assertTrue(threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytes < ITERATIONS);
+    }
+    
+    private void executeHook(final SPISQLExecutionHook spiSQLExecutionHook) {
+        for (int i = 0; i < ITERATIONS; i++) {
+            Object context = spiSQLExecutionHook.start("ds", "SELECT 1", parameters, null, true, null);
+            if (0 == i % 2) {
+                spiSQLExecutionHook.finishSuccess(context);
+            } else {
+                spiSQLExecutionHook.finishFailure(context, null);
+            }
+        }
+    }
 }
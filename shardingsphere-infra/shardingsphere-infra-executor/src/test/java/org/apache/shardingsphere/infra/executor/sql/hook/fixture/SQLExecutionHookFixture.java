@@ -27,22 +27,29 @@ import java.util.Map;
 
 public final class SQLExecutionHookFixture implements SQLExecutionHook {
     
+    public static final Object CONTEXT = new Object();
+    
     private static final Collection<String> ACTIONS = new LinkedList<>();
     
     @Override
-    public void start(final String dataSourceName, final String sql, final List<Object> parameters, 
-                      final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+    public Object start(final String dataSourceName, final String sql, final List<Object> parameters, 
+                        final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
         ACTIONS.add("start");
+        return CONTEXT;
     }
     
     @Override
-    public void finishSuccess() {
-        ACTIONS.add("finishSuccess");
+    public void finishSuccess(final Object context) {
+        if (CONTEXT == context) {
+            ACTIONS.add("finishSuccess");
+        }
     }
     
     @Override
-    public void finishFailure(final Exception cause) {
-        ACTIONS.add("finishFailure");
+    public void finishFailure(final Object context, final Exception cause) {
+        if (CONTEXT == context) {
+            ACTIONS.add("finishFailure");
+        }
     }
     
     /**
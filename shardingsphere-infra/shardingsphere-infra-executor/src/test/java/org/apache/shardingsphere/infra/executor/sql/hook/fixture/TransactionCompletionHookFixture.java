@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.hook.fixture;
+
+import org.apache.shardingsphere.infra.executor.sql.hook.TransactionCompletionHook;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public final class TransactionCompletionHookFixture implements TransactionCompletionHook {
+    
+    private static final Collection<String> ACTIONS = new ConcurrentLinkedQueue<>();
+    
+    @Override
+    public void finishDataSource(final String dataSourceName, final boolean isCommit, final long elapsedNanos, final boolean isSuccess) {
+        ACTIONS.add(String.format("%s-%s-%s", dataSourceName, isCommit ? "commit" : "rollback", isSuccess ? "success" : "failure"));
+    }
+    
+    @Override
+    public void finishTransaction(final boolean isCommit, final int connectionCount, final long elapsedNanos, final boolean isSuccess) {
+        ACTIONS.add(String.format("%d-%s-%s", connectionCount, isCommit ? "commit" : "rollback", isSuccess ? "success" : "failure"));
+    }
+    
+    /**
+     * Contains action or not.
+     * 
+     * @param action action
+     * @return contains action or not
+     */
+    public static boolean containsAction(final String action) {
+        return ACTIONS.contains(action);
+    }
+    
+    /**
+     * Clear actions.
+     */
+    public static void clearActions() {
+        ACTIONS.clear();
+    }
+}
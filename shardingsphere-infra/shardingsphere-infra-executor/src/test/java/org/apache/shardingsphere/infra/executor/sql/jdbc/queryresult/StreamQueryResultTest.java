@@ -78,6 +78,27 @@ public final class StreamQueryResultTest {
         assertThat(new StreamQueryResult(resultSet).getValue(1, int.class), is(1));
     }
     
+    @Test
+    public void assertGetInt() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getInt(1)).thenReturn(1);
+        assertThat(new StreamQueryResult(resultSet).getInt(1), is(1));
+    }
+    
+    @Test
+    public void assertGetLong() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getLong(1)).thenReturn(1L);
+        assertThat(new StreamQueryResult(resultSet).getLong(1), is(1L));
+    }
+    
+    @Test
+    public void assertGetDouble() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getDouble(1)).thenReturn(1.0D);
+        assertThat(new StreamQueryResult(resultSet).getDouble(1), is(1.0D));
+    }
+    
     @Test
     public void assertGetValueByLong() throws SQLException {
         ResultSet resultSet = mock(ResultSet.class);
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.log;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class AsyncLogWriterTest {
+    
+    @Test
+    public void assertAppend() throws InterruptedException {
+        List<String> actual = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(2);
+        AsyncLogWriter<String> writer = new AsyncLogWriter<>("AsyncLogWriterTest", 10, each -> {
+            actual.add(each);
+            latch.countDown();
+        });
+        assertTrue(writer.append("foo"));
+        assertTrue(writer.append("bar"));
+        assertTrue(latch.await(5L, TimeUnit.SECONDS));
+        assertThat(actual.get(0), is("foo"));
+        assertThat(actual.get(1), is("bar"));
+        assertThat(writer.getDroppedCount(), is(0L));
+    }
+    
+    @Test
+    public void assertAppendAfterWriterIsIdle() throws InterruptedException {
+        CountDownLatch first = new CountDownLatch(1);
+        CountDownLatch second = new CountDownLatch(2);
+        AsyncLogWriter<String> writer = new AsyncLogWriter<>("AsyncLogWriterTest", 10, each -> {
+            first.countDown();
+            second.countDown();
+        });
+        assertTrue(writer.append("foo"));
+        assertTrue(first.await(5L, TimeUnit.SECONDS));
+        Thread.sleep(50L);
+        assertTrue(writer.append("bar"));
+        assertTrue(second.await(5L, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    public void assertAppendWhenBufferIsFull() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        AsyncLogWriter<String> writer = new AsyncLogWriter<>("AsyncLogWriterTest", 1, each -> {
+            blocked.countDown();
+            try {
+                released.await();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(writer.append("writing"));
+        assertTrue(blocked.await(5L, TimeUnit.SECONDS));
+        assertTrue(writer.append("buffered"));
+        assertFalse(writer.append("dropped"));
+        assertThat(writer.getDroppedCount(), is(1L));
+        released.countDown();
+    }
+}
@@ -40,6 +40,8 @@ import java.util.stream.Collectors;
 
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class SQLLoggerTest {
@@ -94,6 +96,23 @@ public final class SQLLoggerTest {
         inOrder.verify(logger).info("Actual SQL(simple): {} ::: {}", new Object[]{buildDataSourceNames(), executionUnits.size()});
     }
     
+    @Test
+    public void assertLogSQLAsync() {
+        SQLLogger.logSQLAsync(SQL, true, new ExecutionContext(null, executionUnits, mock(RouteContext.class)), 1);
+        verify(logger, timeout(1000L)).info("Logic SQL: {}", new Object[]{SQL});
+        verify(logger, timeout(1000L)).info("Actual SQL(simple): {} ::: {}", new Object[]{buildDataSourceNames(), executionUnits.size()});
+    }
+    
+    @Test
+    public void assertLogSQLAsyncWithParametersCleared() {
+        List<Object> parameters = executionUnits.iterator().next().getSqlUnit().getParameters();
+        parameters.add("parameter");
+        SQLLogger.logSQLAsync(SQL, false, new ExecutionContext(null, executionUnits, mock(RouteContext.class)), 1);
+        parameters.clear();
+        verify(logger, timeout(1000L)).info("Actual SQL: {} ::: {} ::: {}", "db1", SQL, Arrays.asList("parameter"));
+        verify(logger, timeout(1000L)).info("Actual SQL: {} ::: {}", new Object[]{"db2", SQL});
+    }
+    
     private Collection<String> buildDataSourceNames() {
         return executionUnits.stream().map(ExecutionUnit::getDataSourceName).collect(Collectors.toCollection(() -> new HashSet<>(executionUnits.size())));
     }
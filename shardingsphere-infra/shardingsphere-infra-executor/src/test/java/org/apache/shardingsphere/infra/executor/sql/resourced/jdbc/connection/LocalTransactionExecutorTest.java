@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.connection;
+
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.Multimap;
+import org.apache.shardingsphere.infra.executor.sql.hook.fixture.TransactionCompletionHookFixture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public final class LocalTransactionExecutorTest {
+    
+    private final ExecutorService executorService = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), new CallerRunsPolicy());
+    
+    private final LocalTransactionExecutor executor = new LocalTransactionExecutor(executorService);
+    
+    private final Multimap<String, Connection> cachedConnections = LinkedHashMultimap.create();
+    
+    @Before
+    public void setUp() {
+        TransactionCompletionHookFixture.clearActions();
+        for (int i = 0; i < 4; i++) {
+            cachedConnections.put("ds_" + i, mock(Connection.class));
+        }
+    }
+    
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    public void assertCommit() throws SQLException {
+        executor.commit(cachedConnections);
+        for (Connection each : cachedConnections.values()) {
+            verify(each).commit();
+        }
+        assertTrue(TransactionCompletionHookFixture.containsAction("ds_3-commit-success"));
+        assertTrue(TransactionCompletionHookFixture.containsAction("4-commit-success"));
+    }
+    
+    @Test
+    public void assertRollback() throws SQLException {
+        executor.rollback(cachedConnections);
+        for (Connection each : cachedConnections.values()) {
+            verify(each).rollback();
+        }
+        assertTrue(TransactionCompletionHookFixture.containsAction("ds_0-rollback-success"));
+        assertTrue(TransactionCompletionHookFixture.containsAction("4-rollback-success"));
+    }
+    
+    @Test
+    public void assertCommitWhenExecutorSaturated() throws SQLException {
+        CountDownLatch latch = new CountDownLatch(1);
+        executorService.submit(() -> {
+            latch.await();
+            return null;
+        });
+        try {
+            executor.commit(cachedConnections);
+        } finally {
+            latch.countDown();
+        }
+        for (Connection each : cachedConnections.values()) {
+            verify(each).commit();
+        }
+        assertTrue(TransactionCompletionHookFixture.containsAction("4-commit-success"));
+    }
+    
+    @Test
+    public void assertCommitWithoutConnections() throws SQLException {
+        executor.commit(LinkedHashMultimap.create());
+        assertFalse(TransactionCompletionHookFixture.containsAction("0-commit-success"));
+    }
+    
+    @Test
+    public void assertCommitFailure() throws SQLException {
+        SQLException firstException = new SQLException("first");
+        SQLException thirdException = new SQLException("third");
+        doThrow(firstException).when(cachedConnections.get("ds_0").iterator().next()).commit();
+        doThrow(thirdException).when(cachedConnections.get("ds_2").iterator().next()).commit();
+        try {
+            executor.commit(cachedConnections);
+            fail("Expected SQLException");
+        } catch (final SQLException ex) {
+            assertThat(ex.getNextException(), is(firstException));
+            assertThat(ex.getNextException().getNextException(), is(thirdException));
+            assertNull(thirdException.getNextException());
+        }
+        for (Connection each : cachedConnections.values()) {
+            verify(each).commit();
+        }
+        assertTrue(TransactionCompletionHookFixture.containsAction("ds_0-commit-failure"));
+        assertTrue(TransactionCompletionHookFixture.containsAction("ds_1-commit-success"));
+        assertTrue(TransactionCompletionHookFixture.containsAction("4-commit-failure"));
+    }
+}
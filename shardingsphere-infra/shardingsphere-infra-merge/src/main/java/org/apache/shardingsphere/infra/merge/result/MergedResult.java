@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.infra.merge.result;
 
+import org.apache.shardingsphere.infra.executor.sql.PrimitiveValueUtil;
+
 import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.Calendar;
@@ -44,6 +46,39 @@ public interface MergedResult {
      */
     Object getValue(int columnIndex, Class<?> type) throws SQLException;
     
+    /**
+     * Get int value.
+     *
+     * @param columnIndex column index
+     * @return int value, zero if value is SQL NULL
+     * @throws SQLException SQL Exception
+     */
+    default int getInt(int columnIndex) throws SQLException {
+        return PrimitiveValueUtil.toInt(getValue(columnIndex, int.class));
+    }
+    
+    /**
+     * Get long value.
+     *
+     * @param columnIndex column index
+     * @return long value, zero if value is SQL NULL
+     * @throws SQLException SQL Exception
+     */
+    default long getLong(int columnIndex) throws SQLException {
+        return PrimitiveValueUtil.toLong(getValue(columnIndex, long.class));
+    }
+    
+    /**
+     * Get double value.
+     *
+     * @param columnIndex column index
+     * @return double value, zero if value is SQL NULL
+     * @throws SQLException SQL Exception
+     */
+    default double getDouble(int columnIndex) throws SQLException {
+        return PrimitiveValueUtil.toDouble(getValue(columnIndex, double.class));
+    }
+    
     /**
      * Get calendar value.
      *
@@ -29,6 +29,7 @@ import java.util.Calendar;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -49,6 +50,16 @@ public final class StreamMergedResultTest {
         assertThat(streamMergedResult.getValue(1, Object.class).toString(), is("1"));
     }
     
+    @Test
+    public void assertGetInt() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getInt(1)).thenReturn(1);
+        when(queryResult.wasNull()).thenReturn(true);
+        streamMergedResult.setCurrentQueryResult(queryResult);
+        assertThat(streamMergedResult.getInt(1), is(1));
+        assertTrue(streamMergedResult.wasNull());
+    }
+    
     @Test
     public void assertGetCalendarValue() throws SQLException {
         QueryResult queryResult = mock(QueryResult.class);
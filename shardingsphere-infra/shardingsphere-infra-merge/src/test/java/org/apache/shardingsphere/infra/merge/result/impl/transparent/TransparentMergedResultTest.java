@@ -53,6 +53,14 @@ public final class TransparentMergedResultTest {
         assertThat(actual.getValue(1, Object.class).toString(), is("1"));
     }
     
+    @Test
+    public void assertGetLong() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getLong(1)).thenReturn(1L);
+        TransparentMergedResult actual = new TransparentMergedResult(queryResult);
+        assertThat(actual.getLong(1), is(1L));
+    }
+    
     @Test
     public void assertGetCalendarValue() throws SQLException {
         QueryResult queryResult = mock(QueryResult.class);
@@ -58,7 +58,7 @@ public final class DataNodeRouter {
         this.metaData = metaData;
         this.props = props;
         decorators = OrderedSPIRegistry.getRegisteredServices(rules, RouteDecorator.class);
-        routingHook = new SPIRoutingHook();
+        routingHook = SPIRoutingHook.getInstance();
     }
     
     /**
@@ -70,15 +70,15 @@ public final class DataNodeRouter {
      * @return route context
      */
     public RouteContext route(final SQLStatement sqlStatement, final String sql, final List<Object> parameters) {
-        routingHook.start(sql);
+        Object hookContext = routingHook.start(sql);
         try {
             RouteContext result = executeRoute(sqlStatement, parameters);
-            routingHook.finishSuccess(result, metaData.getRuleSchemaMetaData().getConfiguredSchemaMetaData());
+            routingHook.finishSuccess(hookContext, result, metaData.getRuleSchemaMetaData().getConfiguredSchemaMetaData());
             return result;
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
-            routingHook.finishFailure(ex);
+            routingHook.finishFailure(hookContext, ex);
             throw ex;
         }
     }
@@ -22,6 +22,8 @@ import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaDat
 
 /**
  * Routing hook.
+ * 
+ * <p>Hook is shared by all routings, state of one routing should be returned as context by start and is passed back to finish methods.</p>
  */
 public interface RoutingHook {
     
@@ -29,21 +31,24 @@ public interface RoutingHook {
      * Handle when routing started.
      *
      * @param sql SQL to be routing
+     * @return context of routing, null if no state need to be kept
      */
-    void start(String sql);
+    Object start(String sql);
     
     /**
      * Handle when routing finished success.
      *
+     * @param context context of routing returned by start
      * @param routeContext route context
      * @param schemaMetaData schema meta data
      */
-    void finishSuccess(RouteContext routeContext, SchemaMetaData schemaMetaData);
+    void finishSuccess(Object context, RouteContext routeContext, SchemaMetaData schemaMetaData);
     
     /**
      * Handle when routing finished failure.
      * 
+     * @param context context of routing returned by start
      * @param cause failure cause
      */
-    void finishFailure(Exception cause);
+    void finishFailure(Object context, Exception cause);
 }
@@ -25,33 +25,75 @@ import java.util.Collection;
 
 /**
  * Routing hook for SPI.
+ * 
+ * <p>Registered hooks are resolved once and shared by all routings, contexts of registered hooks are returned by start and passed back to finish methods.
+ * Nothing is allocated if no hook registered or all registered hooks return null context.</p>
  */
 public final class SPIRoutingHook implements RoutingHook {
     
-    private final Collection<RoutingHook> routingHooks = ShardingSphereServiceLoader.newServiceInstances(RoutingHook.class);
+    private static final SPIRoutingHook INSTANCE;
+    
+    private final RoutingHook[] routingHooks;
     
     static {
         ShardingSphereServiceLoader.register(RoutingHook.class);
+        INSTANCE = new SPIRoutingHook(ShardingSphereServiceLoader.newServiceInstances(RoutingHook.class));
+    }
+    
+    SPIRoutingHook(final Collection<RoutingHook> routingHooks) {
+        this.routingHooks = routingHooks.toArray(new RoutingHook[0]);
+    }
+    
+    /**
+     * Get instance of routing hook.
+     *
+     * @return routing hook
+     */
+    public static SPIRoutingHook getInstance() {
+        return INSTANCE;
     }
     
     @Override
-    public void start(final String sql) {
-        for (RoutingHook each : routingHooks) {
-            each.start(sql);
+    public Object start(final String sql) {
+        if (1 == routingHooks.length) {
+            return routingHooks[0].start(sql);
         }
+        Object[] result = null;
+        for (int i = 0; i < routingHooks.length; i++) {
+            Object context = routingHooks[i].start(sql);
+            if (null != context) {
+                if (null == result) {
+                    result = new Object[routingHooks.length];
+                }
+                result[i] = context;
+            }
+        }
+        return result;
     }
     
     @Override
-    public void finishSuccess(final RouteContext routeContext, final SchemaMetaData schemaMetaData) {
-        for (RoutingHook each : routingHooks) {
-            each.finishSuccess(routeContext, schemaMetaData);
+    public void finishSuccess(final Object context, final RouteContext routeContext, final SchemaMetaData schemaMetaData) {
+        if (1 == routingHooks.length) {
+            routingHooks[0].finishSuccess(context, routeContext, schemaMetaData);
+            return;
+        }
+        for (int i = 0; i < routingHooks.length; i++) {
+            routingHooks[i].finishSuccess(getContext(context, i), routeContext, schemaMetaData);
         }
     }
     
     @Override
-    public void finishFailure(final Exception cause) {
-        for (RoutingHook each : routingHooks) {
-            each.finishFailure(cause);
+    public void finishFailure(final Object context, final Exception cause) {
+        if (1 == routingHooks.length) {
+            routingHooks[0].finishFailure(context, cause);
+            return;
+        }
+        for (int i = 0; i < routingHooks.length; i++) {
+            routingHooks[i].finishFailure(getContext(context, i), cause);
         }
     }
+    
+    private Object getContext(final Object context, final int index) {
+        return null == context ? null : ((Object[]) context)[index];
+    }
 }
@@ -72,7 +72,7 @@ public final class DataNodeRouterTest {
         assertThat(routeUnit.getDataSourceMapper().getActualName(), is("ds_0"));
         assertTrue(routeUnit.getTableMappers().isEmpty());
         verify(routingHook).start("SELECT 1");
-        verify(routingHook).finishSuccess(actual, metaData.getRuleSchemaMetaData().getConfiguredSchemaMetaData());
+        verify(routingHook).finishSuccess(null, actual, metaData.getRuleSchemaMetaData().getConfiguredSchemaMetaData());
     }
     
     @Test(expected = UnsupportedOperationException.class)
@@ -83,7 +83,7 @@ public final class DataNodeRouterTest {
             router.route(mock(SQLStatement.class), "SELECT 1", Collections.emptyList());
         } catch (final UnsupportedOperationException ex) {
             verify(routingHook).start("SELECT 1");
-            verify(routingHook).finishFailure(ex);
+            verify(routingHook).finishFailure(null, ex);
             throw ex;
         }
     }
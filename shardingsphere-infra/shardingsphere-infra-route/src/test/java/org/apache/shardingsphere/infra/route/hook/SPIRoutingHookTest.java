@@ -27,16 +27,17 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.lang.reflect.Field;
-import java.util.Collection;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class SPIRoutingHookTest {
     
-    private final SPIRoutingHook spiRoutingHook = new SPIRoutingHook();
+    private final SPIRoutingHook spiRoutingHook = SPIRoutingHook.getInstance();
     
     @Mock
     private RouteContext routeContext;
@@ -50,7 +51,7 @@ public final class SPIRoutingHookTest {
     @Test
     public void assertStart() {
         String sql = "SELECT * FROM table";
-        spiRoutingHook.start(sql);
+        assertThat(spiRoutingHook.start(sql), is((Object) sql));
         RoutingHook routingHook = getFixtureHook();
         assertThat(routingHook, instanceOf(RoutingHookFixture.class));
         assertThat(((RoutingHookFixture) routingHook).getSql(), is(sql));
@@ -58,26 +59,32 @@ public final class SPIRoutingHookTest {
     
     @Test
     public void assertFinishSuccess() {
-        spiRoutingHook.finishSuccess(routeContext, schemaMetaData);
+        spiRoutingHook.finishSuccess("context", routeContext, schemaMetaData);
         RoutingHook routingHook = getFixtureHook();
         assertThat(routingHook, instanceOf(RoutingHookFixture.class));
+        assertThat(((RoutingHookFixture) routingHook).getContext(), is((Object) "context"));
         assertThat(((RoutingHookFixture) routingHook).getRouteContext(), is(routeContext));
         assertThat(((RoutingHookFixture) routingHook).getSchemaMetaData(), is(schemaMetaData));
     }
     
     @Test
     public void assertFinishFailure() {
-        spiRoutingHook.finishFailure(exception);
+        spiRoutingHook.finishFailure("context", exception);
         RoutingHook routingHook = getFixtureHook();
         assertThat(routingHook, instanceOf(RoutingHookFixture.class));
+        assertThat(((RoutingHookFixture) routingHook).getContext(), is((Object) "context"));
         assertThat(((RoutingHookFixture) routingHook).getCause(), is(exception));
     }
     
-    @SuppressWarnings("unchecked")
+    @Test
+    public void assertStartWithoutHooks() {
+        assertThat(new SPIRoutingHook(Collections.emptyList()).start("SELECT 1"), nullValue());
+    }
+    
     @SneakyThrows
     private RoutingHook getFixtureHook() {
         Field routingHooksField = SPIRoutingHook.class.getDeclaredField("routingHooks");
         routingHooksField.setAccessible(true);
-        return ((Collection<RoutingHook>) routingHooksField.get(spiRoutingHook)).iterator().next();
+        return ((RoutingHook[]) routingHooksField.get(spiRoutingHook))[0];
     }
 }
@@ -33,19 +33,24 @@ public final class RoutingHookFixture implements RoutingHook {
     
     private Exception cause;
     
+    private Object context;
+    
     @Override
-    public void start(final String sql) {
+    public Object start(final String sql) {
         this.sql = sql;
+        return sql;
     }
     
     @Override
-    public void finishSuccess(final RouteContext routeContext, final SchemaMetaData schemaMetaData) {
+    public void finishSuccess(final Object context, final RouteContext routeContext, final SchemaMetaData schemaMetaData) {
+        this.context = context;
         this.routeContext = routeContext;
         this.schemaMetaData = schemaMetaData;
     }
     
     @Override
-    public void finishFailure(final Exception cause) {
+    public void finishFailure(final Object context, final Exception cause) {
+        this.context = context;
         this.cause = cause;
     }
 }
@@ -25,11 +25,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 
 /**
  * Batch execution unit.
@@ -62,12 +63,13 @@ public final class BatchExecutionUnit {
      * @return parameter sets
      */
     public List<List<Object>> getParameterSets() {
-        List<List<Object>> result = new LinkedList<>();
-        if (executionUnit.getSqlUnit().getParameters().isEmpty() || 0 == actualCallAddBatchTimes) {
-            result.add(Collections.emptyList());
-        } else {
-            result.addAll(Lists.partition(executionUnit.getSqlUnit().getParameters(), executionUnit.getSqlUnit().getParameters().size() / actualCallAddBatchTimes));
+        List<Object> parameters = executionUnit.getSqlUnit().getParameters();
+        if (parameters.isEmpty() || 0 == actualCallAddBatchTimes) {
+            return Collections.singletonList(Collections.emptyList());
         }
+        List<Object> randomAccessParameters = parameters instanceof RandomAccess ? parameters : new ArrayList<>(parameters);
+        List<List<Object>> result = new ArrayList<>(actualCallAddBatchTimes);
+        result.addAll(Lists.partition(randomAccessParameters, parameters.size() / actualCallAddBatchTimes));
         return result;
     }
 }
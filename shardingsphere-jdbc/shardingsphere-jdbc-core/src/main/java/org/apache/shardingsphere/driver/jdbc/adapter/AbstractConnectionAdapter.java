@@ -26,6 +26,7 @@ import org.apache.shardingsphere.driver.jdbc.unsupported.AbstractUnsupportedOper
 import org.apache.shardingsphere.infra.context.SchemaContexts;
 import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.connection.JDBCExecutionConnection;
+import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.connection.LocalTransactionExecutor;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.group.StatementOption;
 import org.apache.shardingsphere.infra.hook.RootInvokeHook;
 import org.apache.shardingsphere.infra.hook.SPIRootInvokeHook;
@@ -64,7 +65,11 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     
     private final ForceExecuteTemplate<Entry<String, Connection>> forceExecuteTemplateForClose = new ForceExecuteTemplate<>();
     
-    private final RootInvokeHook rootInvokeHook = new SPIRootInvokeHook();
+    private final LocalTransactionExecutor localTransactionExecutor = new LocalTransactionExecutor();
+    
+    private final RootInvokeHook rootInvokeHook = SPIRootInvokeHook.getInstance();
+    
+    private final Object rootInvokeHookContext;
     
     private boolean autoCommit = true;
     
@@ -77,7 +82,7 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     protected AbstractConnectionAdapter(final Map<String, DataSource> dataSourceMap, final SchemaContexts schemaContexts) {
         this.dataSourceMap = dataSourceMap;
         this.schemaContexts = schemaContexts;
-        rootInvokeHook.start();
+        rootInvokeHookContext = rootInvokeHook.start();
     }
     
     /**
@@ -183,12 +188,12 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     
     @Override
     public void commit() throws SQLException {
-        forceExecuteTemplate.execute(cachedConnections.values(), Connection::commit);
+        localTransactionExecutor.commit(cachedConnections);
     }
     
     @Override
     public void rollback() throws SQLException {
-        forceExecuteTemplate.execute(cachedConnections.values(), Connection::rollback);
+        localTransactionExecutor.rollback(cachedConnections);
     }
     
     @Override
@@ -200,7 +205,7 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
             forceExecuteTemplateForClose.execute(cachedConnections.entries(), cachedConnections -> cachedConnections.getValue().close());
         } finally {
             cachedConnections.clear();
-            rootInvokeHook.finish(connectionSize);
+            rootInvokeHook.finish(rootInvokeHookContext, connectionSize);
         }
     }
     
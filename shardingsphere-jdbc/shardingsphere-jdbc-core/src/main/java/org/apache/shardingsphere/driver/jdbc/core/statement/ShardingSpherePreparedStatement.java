@@ -265,7 +265,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
                 schemaContexts.getProps(), schemaContext.getSchema().getRules());
         SQLRewriteResult sqlRewriteResult = sqlRewriteEntry.rewrite(sql, new ArrayList<>(getParameters()), routeContext);
         SQLStatementContext<?> sqlStatementContext = routeContext.getSqlStatementContext();
-        Collection<ExecutionUnit> executionUnits = ExecutionContextBuilder.build(schemaContext.getSchema().getMetaData(), sqlRewriteResult, sqlStatementContext);
+        Collection<ExecutionUnit> executionUnits = ExecutionContextBuilder.build(schemaContext.getSchema().getMetaData(), sqlRewriteResult, sqlStatementContext, schemaContexts.getProps());
         ExecutionContext result = new ExecutionContext(sqlStatementContext, executionUnits, routeContext);
         findGeneratedKey(result).ifPresent(generatedKey -> generatedValues.add(generatedKey.getGeneratedValues().getLast()));
         logSQL(result);
@@ -313,7 +313,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private void logSQL(final ExecutionContext executionContext) {
         if (schemaContexts.getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)) {
-            SQLLogger.logSQL(sql, schemaContexts.getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_SIMPLE), executionContext);
+            SQLLogger.logSQLAsync(sql, schemaContexts.getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_SIMPLE), executionContext,
+                    schemaContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.SQL_SHOW_SAMPLING_INTERVAL));
         }
     }
     
@@ -291,7 +291,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
                 schemaContexts.getProps(), schemaContext.getSchema().getRules());
         SQLRewriteResult sqlRewriteResult = sqlRewriteEntry.rewrite(sql, Collections.emptyList(), routeContext);
         SQLStatementContext<?> sqlStatementContext = routeContext.getSqlStatementContext();
-        Collection<ExecutionUnit> executionUnits = ExecutionContextBuilder.build(schemaContext.getSchema().getMetaData(), sqlRewriteResult, sqlStatementContext);
+        Collection<ExecutionUnit> executionUnits = ExecutionContextBuilder.build(schemaContext.getSchema().getMetaData(), sqlRewriteResult, sqlStatementContext, schemaContexts.getProps());
         ExecutionContext result = new ExecutionContext(sqlStatementContext, executionUnits, routeContext);
         logSQL(sql, schemaContexts.getProps(), result);
         return result;
@@ -306,7 +306,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     
     private void logSQL(final String sql, final ConfigurationProperties props, final ExecutionContext executionContext) {
         if (props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)) {
-            SQLLogger.logSQL(sql, props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SIMPLE), executionContext);
+            SQLLogger.logSQLAsync(sql, props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SIMPLE), executionContext, props.<Integer>getValue(ConfigurationPropertyKey.SQL_SHOW_SAMPLING_INTERVAL));
         }
     }
     
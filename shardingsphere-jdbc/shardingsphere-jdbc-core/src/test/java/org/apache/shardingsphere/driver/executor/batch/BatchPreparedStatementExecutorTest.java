@@ -38,8 +38,10 @@ import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -126,16 +128,37 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         verify(preparedStatement2).executeBatch();
     }
     
+    @Test
+    public void assertAddBatchForExecutionUnitsAcrossShards() {
+        int shardCount = 16;
+        int batchSize = 100000;
+        for (int i = 0; i < batchSize; i++) {
+            actual.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_" + i % shardCount, new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(i))))));
+        }
+        assertThat(actual.getBatchExecutionUnits().size(), is(shardCount));
+        int shardIndex = 0;
+        for (BatchExecutionUnit each : actual.getBatchExecutionUnits()) {
+            assertThat(each.getExecutionUnit().getDataSourceName(), is("ds_" + shardIndex));
+            List<List<Object>> parameterSets = each.getParameterSets();
+            assertThat(parameterSets.size(), is(batchSize / shardCount));
+            for (int i = 0; i < parameterSets.size(); i++) {
+                assertThat(parameterSets.get(i), is(Collections.<Object>singletonList(i * shardCount + shardIndex)));
+                assertThat(each.getJdbcAndActualAddBatchCallTimesMap().get(i * shardCount + shardIndex), is(i));
+            }
+            shardIndex++;
+        }
+    }
+    
     private void setExecuteGroups(final List<PreparedStatement> preparedStatements) {
         Collection<InputGroup<StatementExecuteUnit>> executeGroups = new LinkedList<>();
         List<StatementExecuteUnit> preparedStatementExecuteUnits = new LinkedList<>();
         executeGroups.add(new InputGroup<>(preparedStatementExecuteUnits));
-        Collection<BatchExecutionUnit> batchExecutionUnits = new LinkedList<>();
+        Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits = new LinkedHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))));
             batchExecutionUnit.mapAddBatchCount(0);
             batchExecutionUnit.mapAddBatchCount(1);
-            batchExecutionUnits.add(batchExecutionUnit);
+            batchExecutionUnits.put(batchExecutionUnit.getExecutionUnit(), batchExecutionUnit);
             preparedStatementExecuteUnits.add(new StatementExecuteUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))),
                     ConnectionMode.MEMORY_STRICTLY, each));
         }
@@ -143,7 +166,7 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setFields(final Collection<InputGroup<StatementExecuteUnit>> inputGroups, final Collection<BatchExecutionUnit> batchExecutionUnits) {
+    private void setFields(final Collection<InputGroup<StatementExecuteUnit>> inputGroups, final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits) {
         Field field = BatchPreparedStatementExecutor.class.getDeclaredField("inputGroups");
         field.setAccessible(true);
         field.set(actual, inputGroups);
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics;
+
+import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.apache.shardingsphere.metrics.metric.Counter;
+import org.apache.shardingsphere.metrics.metric.Gauge;
+import org.apache.shardingsphere.metrics.metric.LatencyHistogram;
+import org.apache.shardingsphere.metrics.metric.Metric;
+import org.apache.shardingsphere.metrics.metric.MetricFamily;
+import org.apache.shardingsphere.metrics.metric.MetricType;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Metrics registry.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MetricsRegistry {
+    
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+    
+    private static final String NO_LABEL_VALUE = "";
+    
+    private final Map<String, MetricFamily> metricFamilies = new ConcurrentHashMap<>();
+    
+    @Getter
+    @Setter
+    private volatile boolean enabled;
+    
+    /**
+     * Get instance.
+     * 
+     * @return instance of metrics registry
+     */
+    public static MetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get or create counter.
+     * 
+     * @param name metric name
+     * @param help metric help
+     * @return counter
+     */
+    public Counter getCounter(final String name, final String help) {
+        return getCounter(name, help, null, NO_LABEL_VALUE);
+    }
+    
+    /**
+     * Get or create counter with label.
+     * 
+     * @param name metric name
+     * @param help metric help
+     * @param labelName label name
+     * @param labelValue label value
+     * @return counter
+     */
+    public Counter getCounter(final String name, final String help, final String labelName, final String labelValue) {
+        return (Counter) getMetric(name, help, MetricType.COUNTER, labelName, labelValue);
+    }
+    
+    /**
+     * Get or create latency histogram.
+     * 
+     * @param name metric name
+     * @param help metric help
+     * @return latency histogram
+     */
+    public LatencyHistogram getLatencyHistogram(final String name, final String help) {
+        return getLatencyHistogram(name, help, null, NO_LABEL_VALUE);
+    }
+    
+    /**
+     * Get or create latency histogram with label.
+     * 
+     * @param name metric name
+     * @param help metric help
+     * @param labelName label name
+     * @param labelValue label value
+     * @return latency histogram
+     */
+    public LatencyHistogram getLatencyHistogram(final String name, final String help, final String labelName, final String labelValue) {
+        return (LatencyHistogram) getMetric(name, help, MetricType.HISTOGRAM, labelName, labelValue);
+    }
+    
+    /**
+     * Register gauge.
+     * 
+     * @param name metric name
+     * @param help metric help
+     * @param supplier value supplier
+     * @throws IllegalStateException metric with same name is registered already
+     */
+    public void registerGauge(final String name, final String help, final Supplier<Number> supplier) {
+        MetricFamily metricFamily = new MetricFamily(name, help, MetricType.GAUGE, null);
+        metricFamily.getMetrics().put(NO_LABEL_VALUE, new Gauge(supplier));
+        MetricFamily registeredMetricFamily = metricFamilies.putIfAbsent(name, metricFamily);
+        Preconditions.checkState(null == registeredMetricFamily, "Metric `%s` is registered already.", name);
+    }
+    
+    /**
+     * Get all metric families.
+     * 
+     * @return metric families
+     */
+    public Collection<MetricFamily> getMetricFamilies() {
+        return metricFamilies.values();
+    }
+    
+    /**
+     * Clear all metrics.
+     */
+    public void clear() {
+        metricFamilies.clear();
+    }
+    
+    private Metric getMetric(final String name, final String help, final MetricType type, final String labelName, final String labelValue) {
+        MetricFamily metricFamily = metricFamilies.get(name);
+        if (null == metricFamily) {
+            metricFamily = metricFamilies.computeIfAbsent(name, key -> new MetricFamily(name, help, type, labelName));
+        }
+        Preconditions.checkState(type == metricFamily.getType(), "Metric `%s` is registered as %s.", name, metricFamily.getType());
+        Metric result = metricFamily.getMetrics().get(labelValue);
+        return null == result ? metricFamily.getMetrics().computeIfAbsent(labelValue, key -> MetricType.COUNTER == type ? new Counter() : new LatencyHistogram()) : result;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.hook;
+
+import org.apache.shardingsphere.metrics.MetricsRegistry;
+import org.apache.shardingsphere.sql.parser.hook.ParsingHook;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+/**
+ * Metrics parsing hook.
+ * 
+ * <p>Parsing hooks are shared by all threads, so start time is kept in thread local.</p>
+ */
+public final class MetricsParsingHook implements ParsingHook {
+    
+    private static final String STAGE = "parse";
+    
+    private static final ThreadLocal<long[]> START_TIME = ThreadLocal.withInitial(() -> new long[1]);
+    
+    @Override
+    public void start(final String sql) {
+        if (MetricsRegistry.getInstance().isEnabled()) {
+            START_TIME.get()[0] = System.nanoTime();
+        }
+    }
+    
+    @Override
+    public void finishSuccess(final SQLStatement sqlStatement) {
+        long startTime = getAndResetStartTime();
+        if (0L != startTime) {
+            StageMetrics.recordSuccess(STAGE, System.nanoTime() - startTime);
+        }
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        long startTime = getAndResetStartTime();
+        if (0L != startTime) {
+            StageMetrics.recordFailure(STAGE, System.nanoTime() - startTime);
+        }
+    }
+    
+    private long getAndResetStartTime() {
+        long[] startTime = START_TIME.get();
+        long result = startTime[0];
+        startTime[0] = 0L;
+        return result;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.hook;
+
+import org.apache.shardingsphere.infra.hook.RootInvokeHook;
+import org.apache.shardingsphere.metrics.MetricsRegistry;
+
+/**
+ * Metrics root invoke hook.
+ * 
+ * <p>Start time is the context of root invoke, nothing is kept or allocated if metrics is disabled.</p>
+ */
+public final class MetricsRootInvokeHook implements RootInvokeHook {
+    
+    private static final String LATENCY_NAME = "shardingsphere_root_invoke_latency_seconds";
+    
+    private static final String LATENCY_HELP = "Latency of root invoke, which is a command for ShardingSphere-Proxy and a connection for ShardingSphere-JDBC.";
+    
+    @Override
+    public Object start() {
+        return MetricsRegistry.getInstance().isEnabled() ? System.nanoTime() : null;
+    }
+    
+    @Override
+    public void finish(final Object context, final int connectionCount) {
+        if (null != context) {
+            MetricsRegistry.getInstance().getLatencyHistogram(LATENCY_NAME, LATENCY_HELP).record(System.nanoTime() - (Long) context);
+        }
+    }
+}
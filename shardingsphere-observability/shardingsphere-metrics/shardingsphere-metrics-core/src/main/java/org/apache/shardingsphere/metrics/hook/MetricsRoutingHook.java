@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.hook;
+
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.hook.RoutingHook;
+import org.apache.shardingsphere.metrics.MetricsRegistry;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+
+/**
+ * Metrics routing hook.
+ * 
+ * <p>Start time is the context of routing, nothing is kept or allocated if metrics is disabled.</p>
+ */
+public final class MetricsRoutingHook implements RoutingHook {
+    
+    private static final String STAGE = "route";
+    
+    @Override
+    public Object start(final String sql) {
+        return MetricsRegistry.getInstance().isEnabled() ? System.nanoTime() : null;
+    }
+    
+    @Override
+    public void finishSuccess(final Object context, final RouteContext routeContext, final SchemaMetaData schemaMetaData) {
+        if (null != context) {
+            StageMetrics.recordSuccess(STAGE, System.nanoTime() - (Long) context);
+        }
+    }
+    
+    @Override
+    public void finishFailure(final Object context, final Exception cause) {
+        if (null != context) {
+            StageMetrics.recordFailure(STAGE, System.nanoTime() - (Long) context);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.hook;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.metrics.MetricsRegistry;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Metrics SQL execution hook.
+ * 
+ * <p>Nothing is kept or allocated if metrics is disabled.</p>
+ */
+public final class MetricsSQLExecutionHook implements SQLExecutionHook {
+    
+    private static final String STAGE = "execute";
+    
+    private static final String LATENCY_NAME = "shardingsphere_data_source_execute_latency_seconds";
+    
+    private static final String LATENCY_HELP = "Latency of SQL execution on data source.";
+    
+    private static final String ERRORS_NAME = "shardingsphere_data_source_execute_errors_total";
+    
+    private static final String ERRORS_HELP = "Failure count of SQL execution on data source.";
+    
+    private static final String LABEL_NAME = "data_source";
+    
+    @Override
+    public Object start(final String dataSourceName, final String sql, final List<Object> parameters, 
+                        final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+        return MetricsRegistry.getInstance().isEnabled() ? new Execution(dataSourceName, System.nanoTime()) : null;
+    }
+    
+    @Override
+    public void finishSuccess(final Object context) {
+        if (null != context) {
+            Execution execution = (Execution) context;
+            long elapsedNanos = System.nanoTime() - execution.startTime;
+            StageMetrics.recordSuccess(STAGE, elapsedNanos);
+            MetricsRegistry.getInstance().getLatencyHistogram(LATENCY_NAME, LATENCY_HELP, LABEL_NAME, execution.dataSourceName).record(elapsedNanos);
+        }
+    }
+    
+    @Override
+    public void finishFailure(final Object context, final Exception cause) {
+        if (null != context) {
+            Execution execution = (Execution) context;
+            long elapsedNanos = System.nanoTime() - execution.startTime;
+            StageMetrics.recordFailure(STAGE, elapsedNanos);
+            MetricsRegistry.getInstance().getLatencyHistogram(LATENCY_NAME, LATENCY_HELP, LABEL_NAME, execution.dataSourceName).record(elapsedNanos);
+            MetricsRegistry.getInstance().getCounter(ERRORS_NAME, ERRORS_HELP, LABEL_NAME, execution.dataSourceName).increment();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Execution {
+        
+        private final String dataSourceName;
+        
+        private final long startTime;
+    }
+}
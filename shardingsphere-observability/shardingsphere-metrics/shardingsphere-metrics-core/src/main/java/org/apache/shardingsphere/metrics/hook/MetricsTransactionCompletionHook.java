@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.hook;
+
+import org.apache.shardingsphere.infra.executor.sql.hook.TransactionCompletionHook;
+import org.apache.shardingsphere.metrics.MetricsRegistry;
+
+/**
+ * Metrics transaction completion hook.
+ */
+public final class MetricsTransactionCompletionHook implements TransactionCompletionHook {
+    
+    private static final String DATA_SOURCE_LATENCY_NAME = "shardingsphere_data_source_commit_latency_seconds";
+    
+    private static final String DATA_SOURCE_LATENCY_HELP = "Latency of local transaction commit on data source.";
+    
+    private static final String LATENCY_NAME = "shardingsphere_transaction_commit_latency_seconds";
+    
+    private static final String LATENCY_HELP = "Latency of local transaction commit on all data sources.";
+    
+    private static final String ROLLBACK_NAME = "shardingsphere_transaction_rollbacks_total";
+    
+    private static final String ROLLBACK_HELP = "Count of local transaction rollbacks.";
+    
+    private static final String ERRORS_NAME = "shardingsphere_transaction_errors_total";
+    
+    private static final String ERRORS_HELP = "Failure count of local transaction commit and rollback.";
+    
+    private static final String LABEL_NAME = "data_source";
+    
+    @Override
+    public void finishDataSource(final String dataSourceName, final boolean isCommit, final long elapsedNanos, final boolean isSuccess) {
+        if (isCommit && MetricsRegistry.getInstance().isEnabled()) {
+            MetricsRegistry.getInstance().getLatencyHistogram(DATA_SOURCE_LATENCY_NAME, DATA_SOURCE_LATENCY_HELP, LABEL_NAME, dataSourceName).record(elapsedNanos);
+        }
+    }
+    
+    @Override
+    public void finishTransaction(final boolean isCommit, final int connectionCount, final long elapsedNanos, final boolean isSuccess) {
+        if (!MetricsRegistry.getInstance().isEnabled()) {
+            return;
+        }
+        if (isCommit) {
+            MetricsRegistry.getInstance().getLatencyHistogram(LATENCY_NAME, LATENCY_HELP).record(elapsedNanos);
+        } else {
+            MetricsRegistry.getInstance().getCounter(ROLLBACK_NAME, ROLLBACK_HELP).increment();
+        }
+        if (!isSuccess) {
+            MetricsRegistry.getInstance().getCounter(ERRORS_NAME, ERRORS_HELP).increment();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.hook;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.metrics.MetricsRegistry;
+
+/**
+ * Metrics of SQL processing stages.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class StageMetrics {
+    
+    private static final String LATENCY_NAME = "shardingsphere_stage_latency_seconds";
+    
+    private static final String LATENCY_HELP = "Latency of SQL processing stage.";
+    
+    private static final String ERRORS_NAME = "shardingsphere_stage_errors_total";
+    
+    private static final String ERRORS_HELP = "Failure count of SQL processing stage.";
+    
+    private static final String LABEL_NAME = "stage";
+    
+    /**
+     * Record stage finished success.
+     * 
+     * @param stage stage name
+     * @param elapsedNanos elapsed nanoseconds
+     */
+    public static void recordSuccess(final String stage, final long elapsedNanos) {
+        MetricsRegistry.getInstance().getLatencyHistogram(LATENCY_NAME, LATENCY_HELP, LABEL_NAME, stage).record(elapsedNanos);
+    }
+    
+    /**
+     * Record stage finished failure.
+     * 
+     * @param stage stage name
+     * @param elapsedNanos elapsed nanoseconds
+     */
+    public static void recordFailure(final String stage, final long elapsedNanos) {
+        recordSuccess(stage, elapsedNanos);
+        MetricsRegistry.getInstance().getCounter(ERRORS_NAME, ERRORS_HELP, LABEL_NAME, stage).increment();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.metric;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram metric.
+ * 
+ * <p>Buckets are fixed and each of them is a striped counter, so recording is lock free and does not allocate.</p>
+ */
+public final class LatencyHistogram implements Metric {
+    
+    private static final long[] BUCKET_UPPER_BOUNDS = {
+        TimeUnit.MICROSECONDS.toNanos(100), TimeUnit.MICROSECONDS.toNanos(250), TimeUnit.MICROSECONDS.toNanos(500),
+        TimeUnit.MILLISECONDS.toNanos(1), TimeUnit.MICROSECONDS.toNanos(2500), TimeUnit.MILLISECONDS.toNanos(5),
+        TimeUnit.MILLISECONDS.toNanos(10), TimeUnit.MILLISECONDS.toNanos(25), TimeUnit.MILLISECONDS.toNanos(50),
+        TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.MILLISECONDS.toNanos(250), TimeUnit.MILLISECONDS.toNanos(500),
+        TimeUnit.SECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(2500), TimeUnit.SECONDS.toNanos(5), TimeUnit.SECONDS.toNanos(10),
+    };
+    
+    private final LongAdder[] bucketCounts = new LongAdder[BUCKET_UPPER_BOUNDS.length + 1];
+    
+    private final LongAdder sum = new LongAdder();
+    
+    public LatencyHistogram() {
+        for (int i = 0; i < bucketCounts.length; i++) {
+            bucketCounts[i] = new LongAdder();
+        }
+    }
+    
+    /**
+     * Record latency.
+     * 
+     * @param elapsedNanos elapsed nanoseconds
+     */
+    public void record(final long elapsedNanos) {
+        bucketCounts[getBucketIndex(elapsedNanos)].increment();
+        sum.add(elapsedNanos);
+    }
+    
+    private int getBucketIndex(final long elapsedNanos) {
+        int result = Arrays.binarySearch(BUCKET_UPPER_BOUNDS, elapsedNanos);
+        return result >= 0 ? result : -result - 1;
+    }
+    
+    /**
+     * Get upper bounds of buckets in nanoseconds, the last bucket without upper bound is not included.
+     * 
+     * @return upper bounds of buckets
+     */
+    public static long[] getBucketUpperBounds() {
+        return BUCKET_UPPER_BOUNDS.clone();
+    }
+    
+    /**
+     * Get cumulative count of each bucket, the last one is total count.
+     * 
+     * @return cumulative counts of buckets
+     */
+    public long[] getCumulativeBucketCounts() {
+        long[] result = new long[bucketCounts.length];
+        long count = 0L;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            count += bucketCounts[i].sum();
+            result[i] = count;
+        }
+        return result;
+    }
+    
+    /**
+     * Get sum of recorded latencies.
+     * 
+     * @return sum of recorded latencies in nanoseconds
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics;
+
+import org.apache.shardingsphere.metrics.metric.Gauge;
+import org.apache.shardingsphere.metrics.metric.MetricFamily;
+import org.apache.shardingsphere.metrics.metric.MetricType;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class MetricsRegistryTest {
+    
+    private final MetricsRegistry metricsRegistry = MetricsRegistry.getInstance();
+    
+    @After
+    public void tearDown() {
+        metricsRegistry.clear();
+    }
+    
+    @Test
+    public void assertGetCounter() {
+        metricsRegistry.getCounter("foo_total", "foo", "data_source", "ds_0").increment();
+        metricsRegistry.getCounter("foo_total", "foo", "data_source", "ds_0").increment();
+        metricsRegistry.getCounter("foo_total", "foo", "data_source", "ds_1").increment();
+        assertThat(metricsRegistry.getCounter("foo_total", "foo", "data_source", "ds_0").getValue(), is(2L));
+        assertThat(metricsRegistry.getCounter("foo_total", "foo", "data_source", "ds_1").getValue(), is(1L));
+        MetricFamily actual = metricsRegistry.getMetricFamilies().iterator().next();
+        assertThat(actual.getType(), is(MetricType.COUNTER));
+        assertThat(actual.getLabelName(), is("data_source"));
+        assertThat(actual.getMetrics().size(), is(2));
+    }
+    
+    @Test
+    public void assertGetLatencyHistogram() {
+        assertThat(metricsRegistry.getLatencyHistogram("foo_seconds", "foo"), sameInstance(metricsRegistry.getLatencyHistogram("foo_seconds", "foo")));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGetMetricWithDifferentType() {
+        metricsRegistry.getCounter("foo", "foo");
+        metricsRegistry.getLatencyHistogram("foo", "foo");
+    }
+    
+    @Test
+    public void assertRegisterGauge() {
+        metricsRegistry.registerGauge("foo_size", "foo", () -> 10);
+        MetricFamily actual = metricsRegistry.getMetricFamilies().iterator().next();
+        assertThat(actual.getType(), is(MetricType.GAUGE));
+        assertThat(((Gauge) actual.getMetrics().values().iterator().next()).getValue(), is(10D));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertRegisterGaugeWithSameName() {
+        metricsRegistry.registerGauge("foo_size", "foo", () -> 10);
+        metricsRegistry.registerGauge("foo_size", "foo", () -> 20);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.hook;
+
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.metrics.MetricsRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class MetricsSQLExecutionHookTest {
+    
+    private final MetricsRegistry metricsRegistry = MetricsRegistry.getInstance();
+    
+    @Before
+    public void setUp() {
+        metricsRegistry.setEnabled(true);
+    }
+    
+    @After
+    public void tearDown() {
+        metricsRegistry.setEnabled(false);
+        metricsRegistry.clear();
+    }
+    
+    @Test
+    public void assertFinishSuccess() {
+        MetricsSQLExecutionHook hook = new MetricsSQLExecutionHook();
+        Object context = hook.start("ds_0", "SELECT 1", Collections.emptyList(), mock(DataSourceMetaData.class), true, Collections.emptyMap());
+        hook.finishSuccess(context);
+        long[] actual = metricsRegistry.getLatencyHistogram("shardingsphere_data_source_execute_latency_seconds", "", "data_source", "ds_0").getCumulativeBucketCounts();
+        assertThat(actual[actual.length - 1], is(1L));
+        assertThat(metricsRegistry.getCounter("shardingsphere_data_source_execute_errors_total", "", "data_source", "ds_0").getValue(), is(0L));
+    }
+    
+    @Test
+    public void assertFinishFailure() {
+        MetricsSQLExecutionHook hook = new MetricsSQLExecutionHook();
+        Object context = hook.start("ds_0", "SELECT 1", Collections.emptyList(), mock(DataSourceMetaData.class), true, Collections.emptyMap());
+        hook.finishFailure(context, new SQLException("test"));
+        assertThat(metricsRegistry.getCounter("shardingsphere_data_source_execute_errors_total", "", "data_source", "ds_0").getValue(), is(1L));
+        assertThat(metricsRegistry.getCounter("shardingsphere_stage_errors_total", "", "stage", "execute").getValue(), is(1L));
+    }
+    
+    @Test
+    public void assertNotRecordWhenDisabled() {
+        metricsRegistry.setEnabled(false);
+        MetricsSQLExecutionHook hook = new MetricsSQLExecutionHook();
+        Object context = hook.start("ds_0", "SELECT 1", Collections.emptyList(), mock(DataSourceMetaData.class), true, Collections.emptyMap());
+        assertThat(context, nullValue());
+        hook.finishSuccess(context);
+        assertTrue(metricsRegistry.getMetricFamilies().isEmpty());
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.metric;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class LatencyHistogramTest {
+    
+    @Test
+    public void assertRecord() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(50));
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(100));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(3));
+        histogram.record(TimeUnit.SECONDS.toNanos(20));
+        long[] actual = histogram.getCumulativeBucketCounts();
+        assertThat(actual.length, is(LatencyHistogram.getBucketUpperBounds().length + 1));
+        assertThat(actual[0], is(2L));
+        assertThat(actual[4], is(2L));
+        assertThat(actual[5], is(3L));
+        assertThat(actual[actual.length - 2], is(3L));
+        assertThat(actual[actual.length - 1], is(4L));
+        assertThat(histogram.getSum(), is(TimeUnit.MICROSECONDS.toNanos(150) + TimeUnit.MILLISECONDS.toNanos(3) + TimeUnit.SECONDS.toNanos(20)));
+    }
+}
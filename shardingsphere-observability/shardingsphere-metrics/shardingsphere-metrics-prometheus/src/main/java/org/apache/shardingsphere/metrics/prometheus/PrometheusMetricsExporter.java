@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.prometheus;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.executor.kernel.impl.ShardingSphereThreadFactoryBuilder;
+import org.apache.shardingsphere.metrics.MetricsRegistry;
+import org.apache.shardingsphere.metrics.spi.MetricsExporter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Metrics exporter which serves Prometheus text format by an embedded HTTP server.
+ */
+@Slf4j
+@Getter
+@Setter
+public final class PrometheusMetricsExporter implements MetricsExporter {
+    
+    private static final String PORT_KEY = "port";
+    
+    private static final String DEFAULT_PORT = "9190";
+    
+    private static final String PATH = "/metrics";
+    
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    
+    private Properties props = new Properties();
+    
+    private HttpServer httpServer;
+    
+    private ExecutorService executorService;
+    
+    @Override
+    public void start(final MetricsRegistry metricsRegistry) {
+        int port = Integer.parseInt(props.getProperty(PORT_KEY, DEFAULT_PORT));
+        try {
+            httpServer = HttpServer.create(new InetSocketAddress(port), 0);
+        } catch (final IOException ex) {
+            throw new ShardingSphereException(String.format("Can not start Prometheus metrics exporter on port %d.", port), ex);
+        }
+        httpServer.createContext(PATH, exchange -> handle(exchange, metricsRegistry));
+        executorService = Executors.newSingleThreadExecutor(ShardingSphereThreadFactoryBuilder.build("Metrics-Exporter-%d"));
+        httpServer.setExecutor(executorService);
+        httpServer.start();
+        log.info("Prometheus metrics exporter is serving on http://0.0.0.0:{}{}", port, PATH);
+    }
+    
+    private void handle(final HttpExchange exchange, final MetricsRegistry metricsRegistry) throws IOException {
+        byte[] body = PrometheusTextWriter.write(metricsRegistry.getMetricFamilies()).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "PROMETHEUS";
+    }
+    
+    @Override
+    public void close() {
+        if (null != httpServer) {
+            httpServer.stop(0);
+        }
+        if (null != executorService) {
+            executorService.shutdown();
+        }
+    }
+}
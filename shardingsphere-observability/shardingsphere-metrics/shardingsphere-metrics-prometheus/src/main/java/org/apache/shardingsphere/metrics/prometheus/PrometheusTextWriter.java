@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.prometheus;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.metrics.metric.Counter;
+import org.apache.shardingsphere.metrics.metric.Gauge;
+import org.apache.shardingsphere.metrics.metric.LatencyHistogram;
+import org.apache.shardingsphere.metrics.metric.Metric;
+import org.apache.shardingsphere.metrics.metric.MetricFamily;
+
+import java.util.Collection;
+import java.util.Map.Entry;
+
+/**
+ * Writer of Prometheus text exposition format.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PrometheusTextWriter {
+    
+    private static final double NANOS_PER_SECOND = 1000000000D;
+    
+    private static final long[] BUCKET_UPPER_BOUNDS = LatencyHistogram.getBucketUpperBounds();
+    
+    /**
+     * Write metric families.
+     * 
+     * @param metricFamilies metric families
+     * @return metrics in Prometheus text format
+     */
+    public static String write(final Collection<MetricFamily> metricFamilies) {
+        StringBuilder result = new StringBuilder();
+        for (MetricFamily each : metricFamilies) {
+            write(each, result);
+        }
+        return result.toString();
+    }
+    
+    private static void write(final MetricFamily metricFamily, final StringBuilder builder) {
+        builder.append("# HELP ").append(metricFamily.getName()).append(' ').append(escapeHelp(metricFamily.getHelp())).append('\n');
+        builder.append("# TYPE ").append(metricFamily.getName()).append(' ').append(metricFamily.getType().name().toLowerCase()).append('\n');
+        for (Entry<String, Metric> entry : metricFamily.getMetrics().entrySet()) {
+            String label = null == metricFamily.getLabelName() ? "" : metricFamily.getLabelName() + "=\"" + escapeLabelValue(entry.getKey()) + "\"";
+            if (entry.getValue() instanceof LatencyHistogram) {
+                writeHistogram(metricFamily.getName(), label, (LatencyHistogram) entry.getValue(), builder);
+            } else if (entry.getValue() instanceof Counter) {
+                writeSample(metricFamily.getName(), label, String.valueOf(((Counter) entry.getValue()).getValue()), builder);
+            } else {
+                writeSample(metricFamily.getName(), label, String.valueOf(((Gauge) entry.getValue()).getValue()), builder);
+            }
+        }
+    }
+    
+    private static void writeHistogram(final String name, final String label, final LatencyHistogram histogram, final StringBuilder builder) {
+        long[] cumulativeCounts = histogram.getCumulativeBucketCounts();
+        String labelPrefix = label.isEmpty() ? "" : label + ",";
+        for (int i = 0; i < BUCKET_UPPER_BOUNDS.length; i++) {
+            writeSample(name + "_bucket", labelPrefix + "le=\"" + BUCKET_UPPER_BOUNDS[i] / NANOS_PER_SECOND + "\"", String.valueOf(cumulativeCounts[i]), builder);
+        }
+        long count = cumulativeCounts[cumulativeCounts.length - 1];
+        writeSample(name + "_bucket", labelPrefix + "le=\"+Inf\"", String.valueOf(count), builder);
+        writeSample(name + "_sum", label, String.valueOf(histogram.getSum() / NANOS_PER_SECOND), builder);
+        writeSample(name + "_count", label, String.valueOf(count), builder);
+    }
+    
+    private static void writeSample(final String name, final String label, final String value, final StringBuilder builder) {
+        builder.append(name);
+        if (!label.isEmpty()) {
+            builder.append('{').append(label).append('}');
+        }
+        builder.append(' ').append(value).append('\n');
+    }
+    
+    private static String escapeHelp(final String help) {
+        return help.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+    
+    private static String escapeLabelValue(final String labelValue) {
+        return escapeHelp(labelValue).replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.prometheus;
+
+import org.apache.shardingsphere.metrics.MetricsRegistry;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertTrue;
+
+public final class PrometheusTextWriterTest {
+    
+    private final MetricsRegistry metricsRegistry = MetricsRegistry.getInstance();
+    
+    @After
+    public void tearDown() {
+        metricsRegistry.clear();
+    }
+    
+    @Test
+    public void assertWriteCounter() {
+        metricsRegistry.getCounter("foo_total", "Foo \"help\".", "data_source", "ds_0").increment();
+        String actual = PrometheusTextWriter.write(metricsRegistry.getMetricFamilies());
+        assertTrue(actual.contains("# HELP foo_total Foo \"help\".\n"));
+        assertTrue(actual.contains("# TYPE foo_total counter\n"));
+        assertTrue(actual.contains("foo_total{data_source=\"ds_0\"} 1\n"));
+    }
+    
+    @Test
+    public void assertWriteGauge() {
+        metricsRegistry.registerGauge("foo_size", "Foo.", () -> 3);
+        String actual = PrometheusTextWriter.write(metricsRegistry.getMetricFamilies());
+        assertTrue(actual.contains("# TYPE foo_size gauge\n"));
+        assertTrue(actual.contains("foo_size 3.0\n"));
+    }
+    
+    @Test
+    public void assertWriteHistogram() {
+        metricsRegistry.getLatencyHistogram("foo_seconds", "Foo.").record(TimeUnit.MILLISECONDS.toNanos(2));
+        String actual = PrometheusTextWriter.write(metricsRegistry.getMetricFamilies());
+        assertTrue(actual.contains("# TYPE foo_seconds histogram\n"));
+        assertTrue(actual.contains("foo_seconds_bucket{le=\"0.001\"} 0\n"));
+        assertTrue(actual.contains("foo_seconds_bucket{le=\"0.0025\"} 1\n"));
+        assertTrue(actual.contains("foo_seconds_bucket{le=\"+Inf\"} 1\n"));
+        assertTrue(actual.contains("foo_seconds_sum 0.002\n"));
+        assertTrue(actual.contains("foo_seconds_count 1\n"));
+    }
+}
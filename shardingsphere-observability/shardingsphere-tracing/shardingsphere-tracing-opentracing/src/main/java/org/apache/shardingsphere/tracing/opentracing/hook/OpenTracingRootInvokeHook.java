@@ -33,16 +33,15 @@ public final class OpenTracingRootInvokeHook implements RootInvokeHook {
     
     private static final String OPERATION_NAME = "/" + ShardingTags.COMPONENT_NAME + "/rootInvoke/";
     
-    private ActiveSpan activeSpan;
-    
     @Override
-    public void start() {
-        activeSpan = OpenTracingTracer.get().buildSpan(OPERATION_NAME).withTag(Tags.COMPONENT.getKey(), ShardingTags.COMPONENT_NAME).startActive();
-        ExecutorDataMap.getValue().put(ACTIVE_SPAN_CONTINUATION, activeSpan.capture());
+    public Object start() {
+        ActiveSpan result = OpenTracingTracer.get().buildSpan(OPERATION_NAME).withTag(Tags.COMPONENT.getKey(), ShardingTags.COMPONENT_NAME).startActive();
+        ExecutorDataMap.getValue().put(ACTIVE_SPAN_CONTINUATION, result.capture());
+        return result;
     }
     
     @Override
-    public void finish(final int connectionCount) {
-        activeSpan.setTag(ShardingTags.CONNECTION_COUNT.getKey(), connectionCount).deactivate();
+    public void finish(final Object context, final int connectionCount) {
+        ((ActiveSpan) context).setTag(ShardingTags.CONNECTION_COUNT.getKey(), connectionCount).deactivate();
     }
 }
@@ -21,6 +21,7 @@ import com.google.common.base.Joiner;
 import io.opentracing.ActiveSpan;
 import io.opentracing.Span;
 import io.opentracing.tag.Tags;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
 import org.apache.shardingsphere.tracing.opentracing.OpenTracingTracer;
 import org.apache.shardingsphere.tracing.opentracing.constant.ShardingTags;
@@ -36,17 +37,11 @@ public final class OpenTracingSQLExecutionHook implements SQLExecutionHook {
     
     private static final String OPERATION_NAME = "/" + ShardingTags.COMPONENT_NAME + "/executeSQL/";
     
-    private ActiveSpan activeSpan;
-    
-    private Span span;
-    
     @Override
-    public void start(final String dataSourceName, final String sql, final List<Object> parameters, 
-                      final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
-        if (!isTrunkThread) {
-            activeSpan = ((ActiveSpan.Continuation) shardingExecuteDataMap.get(OpenTracingRootInvokeHook.ACTIVE_SPAN_CONTINUATION)).activate();
-        }
-        span = OpenTracingTracer.get().buildSpan(OPERATION_NAME)
+    public Object start(final String dataSourceName, final String sql, final List<Object> parameters, 
+                        final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+        ActiveSpan activeSpan = isTrunkThread ? null : ((ActiveSpan.Continuation) shardingExecuteDataMap.get(OpenTracingRootInvokeHook.ACTIVE_SPAN_CONTINUATION)).activate();
+        Span span = OpenTracingTracer.get().buildSpan(OPERATION_NAME)
                 .withTag(Tags.COMPONENT.getKey(), ShardingTags.COMPONENT_NAME)
                 .withTag(Tags.SPAN_KIND.getKey(), Tags.SPAN_KIND_CLIENT)
                 .withTag(Tags.PEER_HOSTNAME.getKey(), dataSourceMetaData.getHostName())
@@ -55,7 +50,7 @@ public final class OpenTracingSQLExecutionHook implements SQLExecutionHook {
                 .withTag(Tags.DB_INSTANCE.getKey(), dataSourceName)
                 .withTag(Tags.DB_STATEMENT.getKey(), sql)
                 .withTag(ShardingTags.DB_BIND_VARIABLES.getKey(), toString(parameters)).startManual();
-        
+        return new ExecutionSpan(activeSpan, span);
     }
     
     private String toString(final List<Object> parameterSets) {
@@ -66,19 +61,28 @@ public final class OpenTracingSQLExecutionHook implements SQLExecutionHook {
     }
     
     @Override
-    public void finishSuccess() {
-        span.finish();
-        if (null != activeSpan) {
-            activeSpan.deactivate();
-        }
+    public void finishSuccess(final Object context) {
+        ((ExecutionSpan) context).finish();
     }
     
     @Override
-    public void finishFailure(final Exception cause) {
-        ShardingErrorSpan.setError(span, cause);
-        span.finish();
-        if (null != activeSpan) {
-            activeSpan.deactivate();
+    public void finishFailure(final Object context, final Exception cause) {
+        ShardingErrorSpan.setError(((ExecutionSpan) context).span, cause);
+        ((ExecutionSpan) context).finish();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ExecutionSpan {
+        
+        private final ActiveSpan activeSpan;
+        
+        private final Span span;
+        
+        private void finish() {
+            span.finish();
+            if (null != activeSpan) {
+                activeSpan.deactivate();
+            }
         }
     }
 }
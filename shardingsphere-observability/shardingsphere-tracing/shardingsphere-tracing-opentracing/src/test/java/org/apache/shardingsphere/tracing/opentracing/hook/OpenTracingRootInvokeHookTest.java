@@ -28,7 +28,7 @@ import static org.junit.Assert.assertTrue;
 
 public final class OpenTracingRootInvokeHookTest extends BaseOpenTracingHookTest {
     
-    private final RootInvokeHook rootInvokeHook = new SPIRootInvokeHook();
+    private final RootInvokeHook rootInvokeHook = SPIRootInvokeHook.getInstance();
     
     @BeforeClass
     public static void registerSPI() {
@@ -37,8 +37,8 @@ public final class OpenTracingRootInvokeHookTest extends BaseOpenTracingHookTest
     
     @Test
     public void assertRootInvoke() {
-        rootInvokeHook.start();
+        Object context = rootInvokeHook.start();
         assertTrue(ExecutorDataMap.getValue().containsKey(OpenTracingRootInvokeHook.ACTIVE_SPAN_CONTINUATION));
-        rootInvokeHook.finish(1);
+        rootInvokeHook.finish(context, 1);
     }
 }
@@ -50,4 +50,9 @@ public interface DatabaseCommunicationEngine {
      * @throws SQLException SQL exception
      */
     QueryData getQueryData() throws SQLException;
+    
+    /**
+     * Close engine, called when the command finishes even if not all results were fetched.
+     */
+    void close();
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.backend.communication.jdbc;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.governance.core.event.persist.MetaDataPersistEvent;
 import org.apache.shardingsphere.governance.core.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.SchemaContext;
 import org.apache.shardingsphere.infra.executor.sql.QueryResult;
@@ -31,9 +32,12 @@ import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.refresh.MetaDataRefreshStrategy;
 import org.apache.shardingsphere.infra.metadata.refresh.MetaDataRefreshStrategyFactory;
 import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaDataLoader;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.rule.DataNodeRoutedRule;
 import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.PreparedStatementCache;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.execute.SQLExecuteEngine;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.TableModifyInTransactionException;
@@ -41,6 +45,9 @@ import org.apache.shardingsphere.proxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.proxy.backend.response.query.QueryData;
 import org.apache.shardingsphere.proxy.backend.response.query.QueryResponse;
 import org.apache.shardingsphere.proxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.proxy.backend.slowlog.QueryStage;
+import org.apache.shardingsphere.proxy.backend.slowlog.SlowQueryContextHolder;
+import org.apache.shardingsphere.proxy.backend.statistics.SQLStatisticsRegistry;
 import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.sql.parser.binder.type.TableAvailable;
@@ -50,8 +57,12 @@ import org.apache.shardingsphere.transaction.core.TransactionType;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Database access engine for JDBC.
@@ -71,6 +82,12 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     
     private MergedResult mergedResult;
     
+    private long statisticsStartTime;
+    
+    private int routeUnitCount;
+    
+    private long rowCount;
+    
     public JDBCDatabaseCommunicationEngine(final String sql, final BackendConnection backendConnection, final SQLExecuteEngine sqlExecuteEngine) {
         this.sql = sql;
         connection = backendConnection;
@@ -80,14 +97,32 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     
     @Override
     public BackendResponse execute() throws SQLException {
-        ExecutionContext executionContext = executeEngine.generateExecutionContext(sql);
-        logSQL(executionContext);
-        return doExecute(executionContext);
+        statisticsStartTime = ProxyContext.getInstance().getSchemaContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_SQL_STATISTICS_ENABLED) ? System.nanoTime() : 0L;
+        SlowQueryContextHolder.setSQL(sql);
+        BackendResponse result;
+        try {
+            ExecutionContext executionContext = executeEngine.generateExecutionContext(sql);
+            routeUnitCount = executionContext.getExecutionUnits().size();
+            logSQL(executionContext);
+            result = doExecute(executionContext);
+        } catch (final SQLException | RuntimeException ex) {
+            recordStatistics(false);
+            throw ex;
+        }
+        if (null == mergedResult) {
+            rowCount = result instanceof UpdateResponse ? ((UpdateResponse) result).getUpdateCount() : 0L;
+            SlowQueryContextHolder.setRowCount(rowCount);
+            recordStatistics(true);
+        } else if (0L != statisticsStartTime) {
+            connection.add(this);
+        }
+        return result;
     }
     
     private void logSQL(final ExecutionContext executionContext) {
-        if (ProxyContext.getInstance().getSchemaContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)) {
-            SQLLogger.logSQL(sql, ProxyContext.getInstance().getSchemaContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_SIMPLE), executionContext);
+        ConfigurationProperties props = ProxyContext.getInstance().getSchemaContexts().getProps();
+        if (props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)) {
+            SQLLogger.logSQLAsync(sql, props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SIMPLE), executionContext, props.<Integer>getValue(ConfigurationPropertyKey.SQL_SHOW_SAMPLING_INTERVAL));
         }
     }
     
@@ -100,10 +135,27 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
             throw new TableModifyInTransactionException(getTableName(sqlStatementContext));
         }
         response = executeEngine.execute(executionContext);
+        if (sqlStatementContext.getSqlStatement() instanceof DDLStatement) {
+            PreparedStatementCache.invalidate(getChangedTableNames(executionContext));
+        }
         refreshTableMetaData(executionContext.getSqlStatementContext());
         return merge(executionContext.getSqlStatementContext());
     }
     
+    private Collection<String> getChangedTableNames(final ExecutionContext executionContext) {
+        Collection<String> logicTableNames = getTableNames(executionContext.getSqlStatementContext());
+        if (logicTableNames.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Collection<String> result = new HashSet<>(logicTableNames);
+        if (null != executionContext.getRouteContext()) {
+            for (RouteUnit each : executionContext.getRouteContext().getRouteResult().getRouteUnits()) {
+                result.addAll(each.getTableMappers().stream().map(RouteMapper::getActualName).collect(Collectors.toList()));
+            }
+        }
+        return result;
+    }
+    
     private boolean isExecuteDDLInXATransaction(final SQLStatement sqlStatement) {
         return TransactionType.XA == connection.getTransactionType() && sqlStatement instanceof DDLStatement && connection.getStatusHandler().isInTransaction();
     }
@@ -124,8 +176,15 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
         if (refreshStrategy.isPresent()) {
             refreshStrategy.get().refreshMetaData(schema.getSchema().getMetaData(), ProxyContext.getInstance().getSchemaContexts().getDatabaseType(),
                     schema.getSchema().getDataSources(), sqlStatementContext, this::loadTableMetaData);
-            ShardingSphereEventBus.getInstance().post(new MetaDataPersistEvent(schema.getName(), schema.getSchema().getMetaData().getRuleSchemaMetaData()));
+            ShardingSphereEventBus.getInstance().post(new MetaDataPersistEvent(schema.getName(), schema.getSchema().getMetaData().getRuleSchemaMetaData(), getTableNames(sqlStatementContext)));
+        }
+    }
+    
+    private Collection<String> getTableNames(final SQLStatementContext<?> sqlStatementContext) {
+        if (sqlStatementContext instanceof TableAvailable) {
+            return ((TableAvailable) sqlStatementContext).getAllTables().stream().map(each -> each.getTableName().getIdentifier().getValue()).collect(Collectors.toSet());
         }
+        return Collections.emptyList();
     }
     
     private Optional<TableMetaData> loadTableMetaData(final String tableName) throws SQLException {
@@ -139,7 +198,9 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
             mergeUpdateCount(sqlStatementContext);
             return response;
         }
+        long mergeStartTime = SlowQueryContextHolder.startStage();
         mergedResult = mergeQuery(sqlStatementContext, ((QueryResponse) response).getQueryResults());
+        SlowQueryContextHolder.finishStage(QueryStage.MERGE, mergeStartTime);
         return response;
     }
     
@@ -162,7 +223,40 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     
     @Override
     public boolean next() throws SQLException {
-        return null != mergedResult && mergedResult.next();
+        if (null == mergedResult) {
+            return false;
+        }
+        long mergeStartTime = SlowQueryContextHolder.startStage();
+        boolean result;
+        try {
+            result = mergedResult.next();
+        } catch (final SQLException ex) {
+            recordStatistics(false);
+            throw ex;
+        }
+        SlowQueryContextHolder.finishStage(QueryStage.MERGE, mergeStartTime);
+        if (result) {
+            rowCount++;
+        } else {
+            SlowQueryContextHolder.setRowCount(rowCount);
+            recordStatistics(true);
+        }
+        return result;
+    }
+    
+    private void recordStatistics(final boolean isSuccess) {
+        if (0L == statisticsStartTime) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - statisticsStartTime;
+        statisticsStartTime = 0L;
+        SQLStatisticsRegistry.getInstance().record(sql, ProxyContext.getInstance().getSchemaContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_SQL_STATISTICS_CAPACITY),
+                elapsedNanos, rowCount, routeUnitCount, isSuccess);
+    }
+    
+    @Override
+    public void close() {
+        recordStatistics(true);
     }
     
     @Override
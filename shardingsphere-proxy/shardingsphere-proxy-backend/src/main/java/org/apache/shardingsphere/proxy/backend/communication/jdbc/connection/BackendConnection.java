@@ -24,6 +24,7 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.db.protocol.parameter.TypeUnspecifiedSQLParameter;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
@@ -32,8 +33,11 @@ import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.group.Stateme
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.infra.spi.type.TypedSPIRegistry;
 import org.apache.shardingsphere.masterslave.route.engine.impl.MasterVisitedManager;
+import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.StatementMemoryStrictlyFetchSizeSetter;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.slowlog.QueryStage;
+import org.apache.shardingsphere.proxy.backend.slowlog.SlowQueryContextHolder;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
 import java.sql.Connection;
@@ -44,9 +48,16 @@ import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
@@ -74,12 +85,24 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
     @Setter
     private String username;
     
+    private volatile long stickyIdleStartTime;
+    
+    private boolean connectionsAcquiredInTransaction;
+    
     private final Multimap<String, Connection> cachedConnections = LinkedHashMultimap.create();
     
     private final Collection<Statement> cachedStatements = new CopyOnWriteArrayList<>();
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
     
+    private final Collection<DatabaseCommunicationEngine> cachedDatabaseCommunicationEngines = new CopyOnWriteArrayList<>();
+    
+    private final Map<Connection, PreparedStatementCache> preparedStatementCaches = new HashMap<>();
+    
+    private final Set<Statement> borrowedStatements = Collections.newSetFromMap(new IdentityHashMap<>());
+    
+    private final Collection<Statement> evictedStatements = new LinkedList<>();
+    
     private final Collection<MethodInvocation> methodInvocations = new LinkedList<>();
     
     private final ResourceLock resourceLock = new ResourceLock();
@@ -119,6 +142,9 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
         if (isSwitchFailed()) {
             throw new ShardingSphereException("Failed to switch schema, please terminate current transaction.");
         }
+        if (!Objects.equals(this.schemaName, schemaName)) {
+            releaseIdleStickyConnections();
+        }
         this.schemaName = schemaName;
     }
     
@@ -134,11 +160,30 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
     
     @Override
     public List<Connection> getConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
-        return statusHandler.isInTransaction()
-                ? getConnectionsWithTransaction(dataSourceName, connectionSize, connectionMode) : getConnectionsWithoutTransaction(dataSourceName, connectionSize, connectionMode);
+        long startTime = SlowQueryContextHolder.startStage();
+        List<Connection> result;
+        if (statusHandler.isInTransaction()) {
+            connectionsAcquiredInTransaction = true;
+            result = getConnectionsWithCache(dataSourceName, connectionSize, connectionMode);
+        } else if (claimStickyConnections()) {
+            result = getConnectionsWithCache(dataSourceName, connectionSize, connectionMode);
+        } else {
+            result = getConnectionsWithoutTransaction(dataSourceName, connectionSize, connectionMode);
+        }
+        SlowQueryContextHolder.finishStage(QueryStage.CONNECTION_ACQUIRE, startTime);
+        return result;
+    }
+    
+    private synchronized boolean claimStickyConnections() {
+        stickyIdleStartTime = 0L;
+        return getStickyIdleTime() > 0L;
+    }
+    
+    private static long getStickyIdleTime() {
+        return ProxyContext.getInstance().getSchemaContexts().getProps().<Long>getValue(ConfigurationPropertyKey.PROXY_BACKEND_CONNECTION_STICKY_IDLE_MILLISECONDS);
     }
     
-    private List<Connection> getConnectionsWithTransaction(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
+    private List<Connection> getConnectionsWithCache(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
         Collection<Connection> connections;
         synchronized (cachedConnections) {
             connections = cachedConnections.get(dataSourceName);
@@ -193,8 +238,7 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
     @Override
     public PreparedStatement createStorageResource(final String sql, final List<Object> parameters, 
                                                    final Connection connection, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
-        PreparedStatement result = option.isReturnGeneratedKeys()
-                ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql);
+        PreparedStatement result = prepareStatement(sql, connection, connectionMode, option);
         for (int i = 0; i < parameters.size(); i++) {
             Object parameter = parameters.get(i);
             if (parameter instanceof TypeUnspecifiedSQLParameter) {
@@ -209,6 +253,52 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
         return result;
     }
     
+    private PreparedStatement prepareStatement(final String sql, final Connection connection, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
+        int cacheSize = ProxyContext.getInstance().getSchemaContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE);
+        if (cacheSize <= 0) {
+            return doPrepareStatement(sql, connection, option);
+        }
+        synchronized (preparedStatementCaches) {
+            PreparedStatementCache cache = preparedStatementCaches.computeIfAbsent(connection, key -> new PreparedStatementCache(cacheSize, evictedStatements::add));
+            Optional<PreparedStatement> cachedStatement = cache.get(sql, option.isReturnGeneratedKeys(), connectionMode);
+            if (cachedStatement.isPresent()) {
+                return borrowedStatements.add(cachedStatement.get()) ? cachedStatement.get() : doPrepareStatement(sql, connection, option);
+            }
+            PreparedStatement result = doPrepareStatement(sql, connection, option);
+            cache.put(sql, option.isReturnGeneratedKeys(), connectionMode, result);
+            borrowedStatements.add(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Evict invalid prepared statement from cache and prepare it again, e.g. result type of cached plan changed after schema changed.
+     *
+     * @param preparedStatement invalid prepared statement
+     * @param sql actual SQL
+     * @param parameters SQL parameters
+     * @param connectionMode connection mode
+     * @param returnGeneratedKeys whether return generated keys
+     * @return prepared statement prepared again, or empty if the invalid prepared statement is not cached
+     * @throws SQLException SQL exception
+     */
+    public Optional<PreparedStatement> reprepareStatement(final PreparedStatement preparedStatement, final String sql, final List<Object> parameters,
+                                                          final ConnectionMode connectionMode, final boolean returnGeneratedKeys) throws SQLException {
+        Connection connection = preparedStatement.getConnection();
+        synchronized (preparedStatementCaches) {
+            PreparedStatementCache cache = preparedStatementCaches.get(connection);
+            if (null == cache || !cache.evict(sql, returnGeneratedKeys, connectionMode, preparedStatement)) {
+                return Optional.empty();
+            }
+            borrowedStatements.remove(preparedStatement);
+        }
+        return Optional.of(createStorageResource(sql, parameters, connection, connectionMode, new StatementOption(returnGeneratedKeys)));
+    }
+    
+    private PreparedStatement doPrepareStatement(final String sql, final Connection connection, final StatementOption option) throws SQLException {
+        return option.isReturnGeneratedKeys() ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql);
+    }
+    
     private void setFetchSize(final Statement statement) throws SQLException {
         DatabaseType databaseType = ProxyContext.getInstance().getSchemaContexts().getDatabaseType();
         TypedSPIRegistry.getRegisteredService(StatementMemoryStrictlyFetchSizeSetter.class, databaseType.getName(), new Properties()).setFetchSize(statement);
@@ -250,6 +340,15 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Add database communication engine.
+     *
+     * @param databaseCommunicationEngine database communication engine to be closed when connection is closed
+     */
+    public void add(final DatabaseCommunicationEngine databaseCommunicationEngine) {
+        cachedDatabaseCommunicationEngines.add(databaseCommunicationEngine);
+    }
+    
     @Override
     public void close() throws SQLException {
         close(false);
@@ -264,15 +363,73 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
     public synchronized void close(final boolean forceClose) throws SQLException {
         Collection<SQLException> exceptions = new LinkedList<>();
         MasterVisitedManager.clear();
+        closeDatabaseCommunicationEngines();
         exceptions.addAll(closeResultSets());
         exceptions.addAll(closeStatements());
-        if (!statusHandler.isInTransaction() || forceClose || TransactionType.BASE == transactionType) {
+        if (forceClose || (!statusHandler.isInTransaction() || TransactionType.BASE == transactionType) && !keepStickyConnections()) {
             exceptions.addAll(releaseConnections(forceClose));
         }
         statusHandler.doNotifyIfNecessary();
         throwSQLExceptionIfNecessary(exceptions);
     }
     
+    private boolean keepStickyConnections() {
+        long stickyIdleTime = getStickyIdleTime();
+        if (stickyIdleTime <= 0L || statusHandler.isInTransaction() || connectionsAcquiredInTransaction || cachedConnections.isEmpty() || isConnectionInsufficient()) {
+            return false;
+        }
+        stickyIdleStartTime = System.currentTimeMillis();
+        StickyConnectionReleaser.getInstance().register(this, stickyIdleTime);
+        return true;
+    }
+    
+    private boolean isConnectionInsufficient() {
+        Collection<String> dataSourceNames;
+        synchronized (cachedConnections) {
+            dataSourceNames = new ArrayList<>(cachedConnections.keySet());
+        }
+        for (String each : dataSourceNames) {
+            if (ProxyContext.getInstance().getBackendDataSource().isConnectionInsufficient(schemaName, each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Release sticky connections if sticky idle time elapsed or some requests are waiting for connections.
+     *
+     * @param currentTimeMillis current time in milliseconds
+     */
+    synchronized void releaseStickyConnectionsIfNecessary(final long currentTimeMillis) {
+        if (0L == stickyIdleStartTime || statusHandler.isInTransaction()) {
+            StickyConnectionReleaser.getInstance().unregister(this);
+            return;
+        }
+        if (currentTimeMillis - stickyIdleStartTime >= getStickyIdleTime() || isConnectionInsufficient()) {
+            releaseStickyConnections();
+        }
+    }
+    
+    private synchronized void releaseIdleStickyConnections() {
+        if (0L != stickyIdleStartTime) {
+            releaseStickyConnections();
+        }
+    }
+    
+    private void releaseStickyConnections() {
+        for (SQLException each : releaseConnections(false)) {
+            log.warn("Release sticky connection failed.", each);
+        }
+    }
+    
+    private void closeDatabaseCommunicationEngines() {
+        for (DatabaseCommunicationEngine each : cachedDatabaseCommunicationEngines) {
+            each.close();
+        }
+        cachedDatabaseCommunicationEngines.clear();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -288,19 +445,51 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
     
     private Collection<SQLException> closeStatements() {
         Collection<SQLException> result = new LinkedList<>();
-        for (Statement each : cachedStatements) {
+        synchronized (preparedStatementCaches) {
+            for (Statement each : cachedStatements) {
+                try {
+                    if (borrowedStatements.contains(each)) {
+                        ((PreparedStatement) each).clearParameters();
+                    } else {
+                        each.close();
+                    }
+                } catch (final SQLException ex) {
+                    result.add(ex);
+                }
+            }
+            cachedStatements.clear();
+            borrowedStatements.clear();
+            result.addAll(closeEvictedStatements());
+        }
+        return result;
+    }
+    
+    private Collection<SQLException> closeEvictedStatements() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (Statement each : evictedStatements) {
             try {
                 each.close();
             } catch (final SQLException ex) {
                 result.add(ex);
             }
         }
-        cachedStatements.clear();
+        evictedStatements.clear();
         return result;
     }
     
-    Collection<SQLException> releaseConnections(final boolean forceRollback) {
-        Collection<SQLException> result = new LinkedList<>();
+    private Collection<SQLException> closePreparedStatementCaches() {
+        synchronized (preparedStatementCaches) {
+            for (PreparedStatementCache each : preparedStatementCaches.values()) {
+                each.evictAll();
+            }
+            preparedStatementCaches.clear();
+            borrowedStatements.clear();
+            return closeEvictedStatements();
+        }
+    }
+    
+    synchronized Collection<SQLException> releaseConnections(final boolean forceRollback) {
+        Collection<SQLException> result = new LinkedList<>(closePreparedStatementCaches());
         for (Connection each : cachedConnections.values()) {
             try {
                 if (forceRollback && statusHandler.isInTransaction()) {
@@ -309,10 +498,15 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
                 each.close();
             } catch (final SQLException ex) {
                 result.add(ex);
+            } finally {
+                ProxyContext.getInstance().getBackendDataSource().releaseReservation(each);
             }
         }
         cachedConnections.clear();
         methodInvocations.clear();
+        stickyIdleStartTime = 0L;
+        connectionsAcquiredInTransaction = false;
+        StickyConnectionReleaser.getInstance().unregister(this);
         return result;
     }
     
@@ -19,11 +19,10 @@ package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
 
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.connection.LocalTransactionExecutor;
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.Collection;
-import java.util.LinkedList;
 
 /**
  * Local transaction manager.
@@ -33,6 +32,8 @@ public final class LocalTransactionManager implements TransactionManager {
     
     private final BackendConnection connection;
     
+    private final LocalTransactionExecutor localTransactionExecutor = new LocalTransactionExecutor();
+    
     @Override
     public void begin() {
         recordMethodInvocation(Connection.class, "setAutoCommit", new Class[]{boolean.class}, new Object[]{false});
@@ -41,52 +42,15 @@ public final class LocalTransactionManager implements TransactionManager {
     @Override
     public void commit() throws SQLException {
         if (connection.getStatusHandler().isInTransaction()) {
-            Collection<SQLException> exceptions = new LinkedList<>(commitConnections());
-            throwSQLExceptionIfNecessary(exceptions);
+            localTransactionExecutor.commit(connection.getCachedConnections());
         }
     }
     
     @Override
     public void rollback() throws SQLException {
         if (connection.getStatusHandler().isInTransaction()) {
-            Collection<SQLException> exceptions = new LinkedList<>(rollbackConnections());
-            throwSQLExceptionIfNecessary(exceptions);
-        }
-    }
-    
-    private Collection<SQLException> commitConnections() {
-        Collection<SQLException> result = new LinkedList<>();
-        for (Connection each : connection.getCachedConnections().values()) {
-            try {
-                each.commit();
-            } catch (final SQLException ex) {
-                result.add(ex);
-            }
-        }
-        return result;
-    }
-    
-    private Collection<SQLException> rollbackConnections() {
-        Collection<SQLException> result = new LinkedList<>();
-        for (Connection each : connection.getCachedConnections().values()) {
-            try {
-                each.rollback();
-            } catch (final SQLException ex) {
-                result.add(ex);
-            }
-        }
-        return result;
-    }
-    
-    private void throwSQLExceptionIfNecessary(final Collection<SQLException> exceptions) throws SQLException {
-        if (exceptions.isEmpty()) {
-            return;
-        }
-        SQLException ex = new SQLException();
-        for (SQLException each : exceptions) {
-            ex.setNextException(each);
+            localTransactionExecutor.rollback(connection.getCachedConnections());
         }
-        throw ex;
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
@@ -0,0 +1,269 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Prepared statement cache of one physical backend connection.
+ * 
+ * <p>Prepared statements are keyed by actual SQL. The least recently used prepared statement is evicted if cache is full.
+ * After tables are changed by DDL of this instance or by governance meta data changed event, prepared statements of all caches
+ * whose actual SQL contains any name of the changed tables are evicted lazily when cache is accessed next time.</p>
+ */
+public final class PreparedStatementCache {
+    
+    private static final int MAX_PENDING_INVALIDATIONS = 64;
+    
+    private static final AtomicLong SCHEMA_VERSION = new AtomicLong();
+    
+    private static final Deque<Invalidation> INVALIDATIONS = new LinkedList<>();
+    
+    private static final LongAdder HIT_COUNT = new LongAdder();
+    
+    private static final LongAdder MISS_COUNT = new LongAdder();
+    
+    private final Map<CacheKey, PreparedStatement> preparedStatements;
+    
+    private final Consumer<PreparedStatement> evictionListener;
+    
+    private long schemaVersion;
+    
+    public PreparedStatementCache(final int capacity, final Consumer<PreparedStatement> evictionListener) {
+        preparedStatements = new LinkedHashMap<CacheKey, PreparedStatement>(capacity, 1, true) {
+            
+            private static final long serialVersionUID = 3245541258937426382L;
+            
+            @Override
+            protected boolean removeEldestEntry(final Entry<CacheKey, PreparedStatement> eldest) {
+                if (size() <= capacity) {
+                    return false;
+                }
+                evictionListener.accept(eldest.getValue());
+                return true;
+            }
+        };
+        this.evictionListener = evictionListener;
+        schemaVersion = SCHEMA_VERSION.get();
+    }
+    
+    /**
+     * Get cached prepared statement.
+     *
+     * @param sql actual SQL
+     * @param returnGeneratedKeys whether return generated keys
+     * @param connectionMode connection mode
+     * @return cached prepared statement
+     */
+    public Optional<PreparedStatement> get(final String sql, final boolean returnGeneratedKeys, final ConnectionMode connectionMode) {
+        evictIfSchemaChanged();
+        PreparedStatement result = preparedStatements.get(new CacheKey(sql, returnGeneratedKeys, connectionMode));
+        if (null == result) {
+            MISS_COUNT.increment();
+        } else {
+            HIT_COUNT.increment();
+        }
+        return Optional.ofNullable(result);
+    }
+    
+    /**
+     * Put prepared statement into cache.
+     *
+     * @param sql actual SQL
+     * @param returnGeneratedKeys whether return generated keys
+     * @param connectionMode connection mode
+     * @param preparedStatement prepared statement to be cached
+     */
+    public void put(final String sql, final boolean returnGeneratedKeys, final ConnectionMode connectionMode, final PreparedStatement preparedStatement) {
+        evictIfSchemaChanged();
+        PreparedStatement replaced = preparedStatements.put(new CacheKey(sql, returnGeneratedKeys, connectionMode), preparedStatement);
+        if (null != replaced && replaced != preparedStatement) {
+            evictionListener.accept(replaced);
+        }
+    }
+    
+    /**
+     * Evict cached prepared statement.
+     *
+     * @param sql actual SQL
+     * @param returnGeneratedKeys whether return generated keys
+     * @param connectionMode connection mode
+     * @param preparedStatement prepared statement to be evicted
+     * @return evicted or not cached
+     */
+    public boolean evict(final String sql, final boolean returnGeneratedKeys, final ConnectionMode connectionMode, final PreparedStatement preparedStatement) {
+        if (!preparedStatements.remove(new CacheKey(sql, returnGeneratedKeys, connectionMode), preparedStatement)) {
+            return false;
+        }
+        evictionListener.accept(preparedStatement);
+        return true;
+    }
+    
+    /**
+     * Evict all cached prepared statements.
+     */
+    public void evictAll() {
+        for (PreparedStatement each : preparedStatements.values()) {
+            evictionListener.accept(each);
+        }
+        preparedStatements.clear();
+    }
+    
+    private void evictIfSchemaChanged() {
+        long currentSchemaVersion = SCHEMA_VERSION.get();
+        if (currentSchemaVersion == schemaVersion) {
+            return;
+        }
+        Optional<Collection<String>> invalidatedTableNames = getInvalidatedTableNames(schemaVersion, currentSchemaVersion);
+        if (invalidatedTableNames.isPresent()) {
+            evict(invalidatedTableNames.get());
+        } else {
+            evictAll();
+        }
+        schemaVersion = currentSchemaVersion;
+    }
+    
+    private void evict(final Collection<String> tableNames) {
+        Iterator<Entry<CacheKey, PreparedStatement>> iterator = preparedStatements.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry<CacheKey, PreparedStatement> entry = iterator.next();
+            if (isReferenced(entry.getKey().sql, tableNames)) {
+                evictionListener.accept(entry.getValue());
+                iterator.remove();
+            }
+        }
+    }
+    
+    private boolean isReferenced(final String sql, final Collection<String> tableNames) {
+        String lowerCaseSQL = sql.toLowerCase();
+        for (String each : tableNames) {
+            if (lowerCaseSQL.contains(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Get size of cached prepared statements.
+     *
+     * @return size of cached prepared statements
+     */
+    public int size() {
+        return preparedStatements.size();
+    }
+    
+    /**
+     * Invalidate prepared statements of all caches, because schema is changed.
+     */
+    public static void invalidateAll() {
+        invalidate(Collections.emptyList());
+    }
+    
+    /**
+     * Invalidate prepared statements of all caches which reference the changed tables.
+     * 
+     * <p>Table names should contain both logic and actual table names, all prepared statements are invalidated if table names are empty.</p>
+     *
+     * @param tableNames names of changed tables
+     */
+    public static void invalidate(final Collection<String> tableNames) {
+        synchronized (INVALIDATIONS) {
+            long version = SCHEMA_VERSION.get() + 1;
+            INVALIDATIONS.addLast(new Invalidation(version, tableNames.stream().map(String::toLowerCase).collect(Collectors.toSet())));
+            if (INVALIDATIONS.size() > MAX_PENDING_INVALIDATIONS) {
+                INVALIDATIONS.removeFirst();
+            }
+            SCHEMA_VERSION.set(version);
+        }
+    }
+    
+    private static Optional<Collection<String>> getInvalidatedTableNames(final long fromVersion, final long toVersion) {
+        synchronized (INVALIDATIONS) {
+            if (INVALIDATIONS.isEmpty() || INVALIDATIONS.getFirst().version > fromVersion + 1) {
+                return Optional.empty();
+            }
+            Collection<String> result = new HashSet<>();
+            for (Invalidation each : INVALIDATIONS) {
+                if (each.version <= fromVersion || each.version > toVersion) {
+                    continue;
+                }
+                if (each.tableNames.isEmpty()) {
+                    return Optional.empty();
+                }
+                result.addAll(each.tableNames);
+            }
+            return Optional.of(result);
+        }
+    }
+    
+    /**
+     * Get hit count of all caches.
+     *
+     * @return hit count
+     */
+    public static long getHitCount() {
+        return HIT_COUNT.sum();
+    }
+    
+    /**
+     * Get miss count of all caches.
+     *
+     * @return miss count
+     */
+    public static long getMissCount() {
+        return MISS_COUNT.sum();
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class CacheKey {
+        
+        private final String sql;
+        
+        private final boolean returnGeneratedKeys;
+        
+        private final ConnectionMode connectionMode;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Invalidation {
+        
+        private final long version;
+        
+        private final Collection<String> tableNames;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.impl.ShardingSphereThreadFactoryBuilder;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Releaser of sticky backend connections.
+ * 
+ * <p>Checks backend connections which keep physical connections between statements periodically,
+ * and releases the physical connections after sticky idle time elapsed or if other requests are waiting for connections of the same data source.
+ * The check thread is started by the first registered backend connection and stopped once no backend connection is registered.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class StickyConnectionReleaser {
+    
+    private static final long MAX_CHECK_INTERVAL_MILLISECONDS = 100L;
+    
+    private static final StickyConnectionReleaser INSTANCE = new StickyConnectionReleaser();
+    
+    private final Set<BackendConnection> backendConnections = ConcurrentHashMap.newKeySet();
+    
+    private ScheduledExecutorService executor;
+    
+    /**
+     * Get instance of sticky connection releaser.
+     *
+     * @return instance of sticky connection releaser
+     */
+    public static StickyConnectionReleaser getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Register backend connection which keeps sticky physical connections.
+     *
+     * @param backendConnection backend connection
+     * @param stickyIdleMilliseconds sticky idle time in milliseconds
+     */
+    public void register(final BackendConnection backendConnection, final long stickyIdleMilliseconds) {
+        backendConnections.add(backendConnection);
+        startIfNecessary(stickyIdleMilliseconds);
+    }
+    
+    /**
+     * Unregister backend connection.
+     *
+     * @param backendConnection backend connection
+     */
+    public void unregister(final BackendConnection backendConnection) {
+        backendConnections.remove(backendConnection);
+    }
+    
+    private synchronized void startIfNecessary(final long stickyIdleMilliseconds) {
+        if (null != executor) {
+            return;
+        }
+        long checkInterval = Math.max(1L, Math.min(stickyIdleMilliseconds, MAX_CHECK_INTERVAL_MILLISECONDS));
+        executor = Executors.newSingleThreadScheduledExecutor(ShardingSphereThreadFactoryBuilder.build("StickyConnectionReleaser"));
+        executor.scheduleWithFixedDelay(this::releaseIfNecessary, checkInterval, checkInterval, TimeUnit.MILLISECONDS);
+    }
+    
+    private void releaseIfNecessary() {
+        long currentTimeMillis = System.currentTimeMillis();
+        for (BackendConnection each : backendConnections) {
+            each.releaseStickyConnectionsIfNecessary(currentTimeMillis);
+        }
+        stopIfNecessary();
+    }
+    
+    private synchronized void stopIfNecessary() {
+        if (null == executor || !backendConnections.isEmpty()) {
+            return;
+        }
+        executor.shutdown();
+        executor = null;
+    }
+    
+    /**
+     * Judge whether the check thread is running.
+     *
+     * @return the check thread is running or not
+     */
+    public synchronized boolean isRunning() {
+        return null != executor;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource;
+
+import java.sql.SQLException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Connection reservation of data source.
+ * 
+ * <p>
+ * Reserve permits for all connections of one query atomically before acquiring them from pool, and hold the permits until the connections are returned,
+ * so that the total connections held by queries never exceed pool size and queries on same data source can not dead lock each other.
+ * </p>
+ */
+public final class ConnectionReservation {
+    
+    private final int maxPermits;
+    
+    private final long timeoutMilliseconds;
+    
+    private final Semaphore permits;
+    
+    private final LongAdder reservedCount = new LongAdder();
+    
+    private final LongAdder timeoutCount = new LongAdder();
+    
+    private final LongAdder totalWaitNanos = new LongAdder();
+    
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Long::max, 0L);
+    
+    public ConnectionReservation(final int maxPermits, final long timeoutMilliseconds) {
+        this.maxPermits = maxPermits;
+        this.timeoutMilliseconds = timeoutMilliseconds;
+        permits = new Semaphore(maxPermits, true);
+    }
+    
+    /**
+     * Reserve permits for connections.
+     *
+     * @param connectionSize size of connections to be reserved
+     * @throws SQLException SQL exception
+     */
+    public void reserve(final int connectionSize) throws SQLException {
+        if (connectionSize > maxPermits) {
+            throw new SQLException(String.format("Couldn't get %d connections one time, max pool size is %d.", connectionSize, maxPermits));
+        }
+        long startTime = System.nanoTime();
+        boolean reserved;
+        try {
+            reserved = permits.tryAcquire(connectionSize, timeoutMilliseconds, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(String.format("Interrupted while reserving %d connections.", connectionSize), ex);
+        }
+        long waitNanos = System.nanoTime() - startTime;
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulate(waitNanos);
+        if (!reserved) {
+            timeoutCount.increment();
+            throw new SQLException(String.format("Couldn't reserve %d connections in %d milliseconds.", connectionSize, timeoutMilliseconds));
+        }
+        reservedCount.increment();
+    }
+    
+    /**
+     * Release permits for connections.
+     *
+     * @param connectionSize size of connections to be released
+     */
+    public void release(final int connectionSize) {
+        permits.release(connectionSize);
+    }
+    
+    /**
+     * Get available permits.
+     *
+     * @return available permits
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+    
+    /**
+     * Judge whether some threads are waiting to reserve permits.
+     *
+     * @return some threads are waiting to reserve permits or not
+     */
+    public boolean hasQueuedThreads() {
+        return permits.hasQueuedThreads();
+    }
+    
+    /**
+     * Get succeed reserved count.
+     *
+     * @return succeed reserved count
+     */
+    public long getReservedCount() {
+        return reservedCount.sum();
+    }
+    
+    /**
+     * Get timeout count.
+     *
+     * @return timeout count
+     */
+    public long getTimeoutCount() {
+        return timeoutCount.sum();
+    }
+    
+    /**
+     * Get total wait time in nanoseconds.
+     *
+     * @return total wait time in nanoseconds
+     */
+    public long getTotalWaitNanos() {
+        return totalWaitNanos.sum();
+    }
+    
+    /**
+     * Get max wait time in nanoseconds.
+     *
+     * @return max wait time in nanoseconds
+     */
+    public long getMaxWaitNanos() {
+        return maxWaitNanos.get();
+    }
+}
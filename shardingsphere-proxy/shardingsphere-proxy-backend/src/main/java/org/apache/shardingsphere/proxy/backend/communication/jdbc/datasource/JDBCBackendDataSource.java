@@ -18,6 +18,9 @@
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource;
 
 import com.google.common.base.Preconditions;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.apache.shardingsphere.infra.context.SchemaContext;
 import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
 import org.apache.shardingsphere.proxy.backend.communication.BackendDataSource;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -30,12 +33,22 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongBinaryOperator;
+import java.util.function.ToLongFunction;
 
 /**
  * Backend data source of JDBC.
  */
 public final class JDBCBackendDataSource implements BackendDataSource {
     
+    private final Map<DataSource, ConnectionReservation> connectionReservations = Collections.synchronizedMap(new WeakHashMap<>());
+    
+    private final Map<Connection, ConnectionReservation> reservedConnections = new ConcurrentHashMap<>();
+    
     /**
      * Get connection.
      *
@@ -84,8 +97,102 @@ public final class JDBCBackendDataSource implements BackendDataSource {
         if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
             return createConnections(schemaName, dataSourceName, dataSource, connectionSize, transactionType);
         }
-        synchronized (dataSource) {
-            return createConnections(schemaName, dataSourceName, dataSource, connectionSize, transactionType);
+        Optional<ConnectionReservation> connectionReservation = findConnectionReservation(dataSource);
+        if (!connectionReservation.isPresent()) {
+            synchronized (dataSource) {
+                return createConnections(schemaName, dataSourceName, dataSource, connectionSize, transactionType);
+            }
+        }
+        connectionReservation.get().reserve(connectionSize);
+        List<Connection> result;
+        try {
+            result = createConnections(schemaName, dataSourceName, dataSource, connectionSize, transactionType);
+        } catch (final SQLException | RuntimeException ex) {
+            connectionReservation.get().release(connectionSize);
+            throw ex;
+        }
+        for (Connection each : result) {
+            reservedConnections.put(each, connectionReservation.get());
+        }
+        return result;
+    }
+    
+    /**
+     * Release reservation of connection, should be called after connection is closed.
+     *
+     * @param connection closed connection
+     */
+    public void releaseReservation(final Connection connection) {
+        ConnectionReservation connectionReservation = reservedConnections.remove(connection);
+        if (null != connectionReservation) {
+            connectionReservation.release(1);
+        }
+    }
+    
+    /**
+     * Find connection reservation.
+     *
+     * @param dataSource data source
+     * @return connection reservation, empty if pool size of data source is unknown
+     */
+    public Optional<ConnectionReservation> findConnectionReservation(final DataSource dataSource) {
+        if (!(dataSource instanceof HikariDataSource)) {
+            return Optional.empty();
+        }
+        HikariDataSource hikariDataSource = (HikariDataSource) dataSource;
+        return Optional.of(connectionReservations.computeIfAbsent(dataSource, key -> new ConnectionReservation(hikariDataSource.getMaximumPoolSize(), hikariDataSource.getConnectionTimeout())));
+    }
+    
+    /**
+     * Judge whether some requests are waiting for connections of data source.
+     *
+     * @param schemaName scheme name
+     * @param dataSourceName data source name
+     * @return some requests are waiting for connections of data source or not
+     */
+    public boolean isConnectionInsufficient(final String schemaName, final String dataSourceName) {
+        SchemaContext schemaContext = ProxyContext.getInstance().getSchemaContexts().getSchemaContexts().get(schemaName);
+        DataSource dataSource = null == schemaContext ? null : schemaContext.getSchema().getDataSources().get(dataSourceName);
+        if (!(dataSource instanceof HikariDataSource)) {
+            return false;
+        }
+        HikariPoolMXBean pool = ((HikariDataSource) dataSource).getHikariPoolMXBean();
+        if (null != pool && pool.getThreadsAwaitingConnection() > 0) {
+            return true;
+        }
+        return findConnectionReservation(dataSource).map(ConnectionReservation::hasQueuedThreads).orElse(false);
+    }
+    
+    /**
+     * Get total wait time in nanoseconds of connection reservations of all data sources.
+     *
+     * @return total wait time in nanoseconds
+     */
+    public long getReservationTotalWaitNanos() {
+        return aggregateConnectionReservations(ConnectionReservation::getTotalWaitNanos, Long::sum);
+    }
+    
+    /**
+     * Get max wait time in nanoseconds of connection reservations of all data sources.
+     *
+     * @return max wait time in nanoseconds
+     */
+    public long getReservationMaxWaitNanos() {
+        return aggregateConnectionReservations(ConnectionReservation::getMaxWaitNanos, Math::max);
+    }
+    
+    /**
+     * Get timeout count of connection reservations of all data sources.
+     *
+     * @return timeout count
+     */
+    public long getReservationTimeoutCount() {
+        return aggregateConnectionReservations(ConnectionReservation::getTimeoutCount, Long::sum);
+    }
+    
+    private long aggregateConnectionReservations(final ToLongFunction<ConnectionReservation> valueExtractor, final LongBinaryOperator aggregator) {
+        synchronized (connectionReservations) {
+            return connectionReservations.values().stream().mapToLong(valueExtractor).reduce(0L, aggregator);
         }
     }
     
@@ -99,7 +206,7 @@ public final class JDBCBackendDataSource implements BackendDataSource {
                 for (Connection each : result) {
                     each.close();
                 }
-                throw new SQLException(String.format("Could't get %d connections one time, partition succeed connection(%d) have released!", connectionSize, result.size()), ex);
+                throw new SQLException(String.format("Couldn't get %d connections one time, partition succeed connection(%d) have released!", connectionSize, result.size()), ex);
             }
         }
         return result;
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.backend.communication.jdbc.execute.engin
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.query.ExecuteQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.query.QueryHeader;
@@ -31,22 +32,29 @@ import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.Bac
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.wrapper.JDBCExecutorWrapper;
 import org.apache.shardingsphere.proxy.backend.response.query.QueryHeaderBuilder;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.slowlog.SlowQueryContext;
+import org.apache.shardingsphere.proxy.backend.slowlog.SlowQueryContextHolder;
 import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.ProjectionsContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Statement;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * SQL executor callback for Proxy.
  */
 public final class ProxySQLExecutorCallback extends DefaultSQLExecutorCallback<ExecuteResult> {
     
+    private static final String FEATURE_NOT_SUPPORTED_SQL_STATE = "0A000";
+    
     private final SQLStatementContext<?> sqlStatementContext;
     
     private final BackendConnection backendConnection;
@@ -57,6 +65,8 @@ public final class ProxySQLExecutorCallback extends DefaultSQLExecutorCallback<E
     
     private final boolean fetchMetaData;
     
+    private final SlowQueryContext slowQueryContext = SlowQueryContextHolder.get();
+    
     private boolean hasMetaData;
 
     public ProxySQLExecutorCallback(final DatabaseType databaseType, final SQLStatementContext<?> sqlStatementContext, 
@@ -70,13 +80,54 @@ public final class ProxySQLExecutorCallback extends DefaultSQLExecutorCallback<E
         this.fetchMetaData = fetchMetaData;
     }
     
+    @Override
+    protected ExecuteResult executeSQL(final ExecutionUnit executionUnit, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
+        if (null == slowQueryContext) {
+            return executeSQL(executionUnit, statement, connectionMode, isWithMetaData());
+        }
+        long startTime = System.nanoTime();
+        boolean isSuccess = false;
+        try {
+            ExecuteResult result = executeSQL(executionUnit, statement, connectionMode, isWithMetaData());
+            isSuccess = true;
+            return result;
+        } finally {
+            slowQueryContext.addExecutionUnitElapsedTime(executionUnit.getDataSourceName(), executionUnit.getSqlUnit().getSql(), System.nanoTime() - startTime, isSuccess);
+        }
+    }
+    
     @Override
     public ExecuteResult executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
+        return executeSQL(statement, sql, connectionMode, isWithMetaData());
+    }
+    
+    private boolean isWithMetaData() {
         if (fetchMetaData && !hasMetaData) {
             hasMetaData = true;
-            return executeSQL(statement, sql, connectionMode, true);
+            return true;
         }
-        return executeSQL(statement, sql, connectionMode, false);
+        return false;
+    }
+    
+    private ExecuteResult executeSQL(final ExecutionUnit executionUnit, final Statement statement, final ConnectionMode connectionMode, final boolean withMetadata) throws SQLException {
+        String sql = executionUnit.getSqlUnit().getSql();
+        try {
+            return executeSQL(statement, sql, connectionMode, withMetadata);
+        } catch (final SQLException ex) {
+            if (!isFeatureNotSupported(ex) || !(statement instanceof PreparedStatement)) {
+                throw ex;
+            }
+            Optional<PreparedStatement> repreparedStatement = backendConnection.reprepareStatement(
+                    (PreparedStatement) statement, sql, executionUnit.getSqlUnit().getParameters(), connectionMode, isReturnGeneratedKeys);
+            if (!repreparedStatement.isPresent()) {
+                throw ex;
+            }
+            return executeSQL(repreparedStatement.get(), sql, connectionMode, withMetadata);
+        }
+    }
+    
+    private boolean isFeatureNotSupported(final SQLException ex) {
+        return ex instanceof SQLFeatureNotSupportedException || FEATURE_NOT_SUPPORTED_SQL_STATE.equals(ex.getSQLState());
     }
     
     private ExecuteResult executeSQL(final Statement statement, final String sql, final ConnectionMode connectionMode, final boolean withMetadata) throws SQLException {
@@ -34,6 +34,8 @@ import org.apache.shardingsphere.infra.route.context.RouteResult;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.slowlog.QueryStage;
+import org.apache.shardingsphere.proxy.backend.slowlog.SlowQueryContextHolder;
 import org.apache.shardingsphere.sql.parser.binder.statement.CommonSQLStatementContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -69,12 +71,16 @@ public final class PreparedStatementExecutorWrapper implements JDBCExecutorWrapp
                     new RouteContext(sqlStatementContext, parameters, new RouteResult()));
         }
         DataNodeRouter dataNodeRouter = new DataNodeRouter(schema.getSchema().getMetaData(), PROXY_SCHEMA_CONTEXTS.getSchemaContexts().getProps(), rules);
+        long routeStartTime = SlowQueryContextHolder.startStage();
         RouteContext routeContext = dataNodeRouter.route(sqlStatement, sql, parameters);
+        SlowQueryContextHolder.finishStage(QueryStage.ROUTE, routeStartTime);
+        long rewriteStartTime = SlowQueryContextHolder.startStage();
         SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(schema.getSchema().getMetaData().getRuleSchemaMetaData().getConfiguredSchemaMetaData(),
                 PROXY_SCHEMA_CONTEXTS.getSchemaContexts().getProps(), rules);
         SQLRewriteResult sqlRewriteResult = sqlRewriteEntry.rewrite(sql, new ArrayList<>(parameters), routeContext);
         SQLStatementContext<?> sqlStatementContext = routeContext.getSqlStatementContext();
-        Collection<ExecutionUnit> executionUnits = ExecutionContextBuilder.build(schema.getSchema().getMetaData(), sqlRewriteResult, sqlStatementContext);
+        Collection<ExecutionUnit> executionUnits = ExecutionContextBuilder.build(schema.getSchema().getMetaData(), sqlRewriteResult, sqlStatementContext, PROXY_SCHEMA_CONTEXTS.getSchemaContexts().getProps());
+        SlowQueryContextHolder.finishStage(QueryStage.REWRITE, rewriteStartTime);
         return new ExecutionContext(sqlStatementContext, executionUnits, routeContext);
     }
     
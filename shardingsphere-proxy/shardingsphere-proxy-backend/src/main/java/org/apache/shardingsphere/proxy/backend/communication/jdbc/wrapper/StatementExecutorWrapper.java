@@ -33,6 +33,8 @@ import org.apache.shardingsphere.infra.route.context.RouteResult;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.slowlog.QueryStage;
+import org.apache.shardingsphere.proxy.backend.slowlog.SlowQueryContextHolder;
 import org.apache.shardingsphere.sql.parser.binder.statement.CommonSQLStatementContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -61,11 +63,15 @@ public final class StatementExecutorWrapper implements JDBCExecutorWrapper {
             return createExecutionContext(sql);
         }
         DataNodeRouter router = new DataNodeRouter(schema.getSchema().getMetaData(), PROXY_SCHEMA_CONTEXTS.getSchemaContexts().getProps(), rules);
+        long routeStartTime = SlowQueryContextHolder.startStage();
         RouteContext routeContext = router.route(sqlStatement, sql, Collections.emptyList());
+        SlowQueryContextHolder.finishStage(QueryStage.ROUTE, routeStartTime);
+        long rewriteStartTime = SlowQueryContextHolder.startStage();
         SQLRewriteResult sqlRewriteResult = new SQLRewriteEntry(schema.getSchema().getMetaData().getRuleSchemaMetaData().getConfiguredSchemaMetaData(),
                 PROXY_SCHEMA_CONTEXTS.getSchemaContexts().getProps(), rules).rewrite(sql, Collections.emptyList(), routeContext);
         SQLStatementContext<?> sqlStatementContext = routeContext.getSqlStatementContext();
-        Collection<ExecutionUnit> executionUnits = ExecutionContextBuilder.build(schema.getSchema().getMetaData(), sqlRewriteResult, sqlStatementContext);
+        Collection<ExecutionUnit> executionUnits = ExecutionContextBuilder.build(schema.getSchema().getMetaData(), sqlRewriteResult, sqlStatementContext, PROXY_SCHEMA_CONTEXTS.getSchemaContexts().getProps());
+        SlowQueryContextHolder.finishStage(QueryStage.REWRITE, rewriteStartTime);
         return new ExecutionContext(sqlStatementContext, executionUnits, routeContext);
     }
     
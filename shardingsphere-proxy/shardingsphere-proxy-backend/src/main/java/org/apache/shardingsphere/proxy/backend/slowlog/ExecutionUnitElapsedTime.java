@@ -15,23 +15,23 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.scaling.core.execute.executor.record;
+package org.apache.shardingsphere.proxy.backend.slowlog;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 /**
- * Column.
+ * Elapsed time of execution unit.
  */
 @RequiredArgsConstructor
 @Getter
-public final class Column {
+public final class ExecutionUnitElapsedTime {
     
-    private final String name;
+    private final String dataSourceName;
     
-    private final Object value;
+    private final String sql;
     
-    private final boolean updated;
+    private final long elapsedNanos;
     
-    private final boolean primaryKey;
+    private final boolean success;
 }
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.slowlog;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Stage of query.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum QueryStage {
+    
+    PARSE("parse", false),
+    
+    ROUTE("route", false),
+    
+    REWRITE("rewrite", true),
+    
+    CONNECTION_ACQUIRE("connection_acquire", true),
+    
+    /**
+     * Merge stage, which includes fetching rows from backend databases for stream merge.
+     */
+    MERGE("merge_and_fetch", true);
+    
+    private final String label;
+    
+    /**
+     * Whether stage latency is recorded into metrics by stage timing, parse and route are recorded by parsing and routing hooks.
+     */
+    private final boolean metricsRecorded;
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.slowlog;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Slow query context.
+ * 
+ * <p>Stages are recorded by the command thread, execution units may be recorded by executor threads.</p>
+ */
+@RequiredArgsConstructor
+public final class SlowQueryContext {
+    
+    private final long startTime;
+    
+    private final long thresholdNanos;
+    
+    private final long[] stageElapsedNanos = new long[QueryStage.values().length];
+    
+    @Getter
+    private final Collection<ExecutionUnitElapsedTime> executionUnitElapsedTimes = new ConcurrentLinkedQueue<>();
+    
+    @Getter
+    @Setter
+    private String sql;
+    
+    @Getter
+    @Setter
+    private long rowCount;
+    
+    @Getter
+    private long elapsedNanos;
+    
+    /**
+     * Add elapsed time of stage.
+     *
+     * @param stage query stage
+     * @param elapsedNanos elapsed nanoseconds
+     */
+    public void addStageElapsedTime(final QueryStage stage, final long elapsedNanos) {
+        stageElapsedNanos[stage.ordinal()] += elapsedNanos;
+    }
+    
+    /**
+     * Get elapsed time of stage.
+     *
+     * @param stage query stage
+     * @return elapsed nanoseconds
+     */
+    public long getStageElapsedTime(final QueryStage stage) {
+        return stageElapsedNanos[stage.ordinal()];
+    }
+    
+    /**
+     * Add elapsed time of execution unit.
+     *
+     * @param dataSourceName data source name
+     * @param sql actual SQL
+     * @param elapsedNanos elapsed nanoseconds
+     * @param isSuccess whether execute success
+     */
+    public void addExecutionUnitElapsedTime(final String dataSourceName, final String sql, final long elapsedNanos, final boolean isSuccess) {
+        executionUnitElapsedTimes.add(new ExecutionUnitElapsedTime(dataSourceName, sql, elapsedNanos, isSuccess));
+    }
+    
+    /**
+     * Finish query.
+     *
+     * @return whether query is slow
+     */
+    public boolean finish() {
+        elapsedNanos = System.nanoTime() - startTime;
+        return null != sql && elapsedNanos >= thresholdNanos;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.slowlog;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.metrics.MetricsRegistry;
+import org.apache.shardingsphere.metrics.hook.StageMetrics;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Slow query context holder.
+ * 
+ * <p>Slow query context is bound to the command thread from the beginning to the end of one command,
+ * all methods do nothing if slow query log is disabled. Stage timing is also recorded into stage latency metrics if metrics is enabled.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SlowQueryContextHolder {
+    
+    private static final ThreadLocal<SlowQueryContext> CONTEXT = new ThreadLocal<>();
+    
+    /**
+     * Begin slow query context if slow query threshold is configured.
+     */
+    public static void begin() {
+        long thresholdMillis = ProxyContext.getInstance().getSchemaContexts().getProps().<Long>getValue(ConfigurationPropertyKey.PROXY_SLOW_QUERY_THRESHOLD_MILLISECONDS);
+        if (thresholdMillis > 0L) {
+            CONTEXT.set(new SlowQueryContext(System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(thresholdMillis)));
+        }
+    }
+    
+    /**
+     * Get slow query context of current thread.
+     *
+     * @return slow query context, null if slow query log is disabled
+     */
+    public static SlowQueryContext get() {
+        return CONTEXT.get();
+    }
+    
+    /**
+     * Start timing of stage.
+     *
+     * @return start time of stage, 0 if both slow query log and metrics are disabled
+     */
+    public static long startStage() {
+        return null == CONTEXT.get() && !MetricsRegistry.getInstance().isEnabled() ? 0L : System.nanoTime();
+    }
+    
+    /**
+     * Finish timing of stage.
+     *
+     * @param stage query stage
+     * @param startTime start time of stage
+     */
+    public static void finishStage(final QueryStage stage, final long startTime) {
+        if (0L == startTime) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+        SlowQueryContext context = CONTEXT.get();
+        if (null != context) {
+            context.addStageElapsedTime(stage, elapsedNanos);
+        }
+        if (stage.isMetricsRecorded() && MetricsRegistry.getInstance().isEnabled()) {
+            StageMetrics.recordSuccess(stage.getLabel(), elapsedNanos);
+        }
+    }
+    
+    /**
+     * Set logic SQL.
+     *
+     * @param sql logic SQL
+     */
+    public static void setSQL(final String sql) {
+        SlowQueryContext context = CONTEXT.get();
+        if (null != context) {
+            context.setSql(sql);
+        }
+    }
+    
+    /**
+     * Set count of returned or affected rows.
+     *
+     * @param rowCount count of returned or affected rows
+     */
+    public static void setRowCount(final long rowCount) {
+        SlowQueryContext context = CONTEXT.get();
+        if (null != context) {
+            context.setRowCount(rowCount);
+        }
+    }
+    
+    /**
+     * Finish slow query context and log it if query is slow.
+     */
+    public static void finish() {
+        SlowQueryContext context = CONTEXT.get();
+        if (null == context) {
+            return;
+        }
+        CONTEXT.remove();
+        if (context.finish()) {
+            SlowQueryLogger.log(context);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.slowlog;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.sql.log.AsyncLogWriter;
+
+import java.util.Locale;
+
+/**
+ * Slow query logger.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j(topic = "ShardingSphere-SlowQuery")
+public final class SlowQueryLogger {
+    
+    private static final int BUFFER_SIZE = 1024;
+    
+    private static final AsyncLogWriter<SlowQueryContext> WRITER = new AsyncLogWriter<>("SlowQueryLog", BUFFER_SIZE, SlowQueryLogger::write);
+    
+    /**
+     * Log slow query asynchronously, the log is dropped if the buffer is full.
+     *
+     * @param context slow query context
+     */
+    public static void log(final SlowQueryContext context) {
+        WRITER.append(context);
+    }
+    
+    /**
+     * Get count of dropped slow query logs.
+     *
+     * @return count of dropped slow query logs
+     */
+    public static long getDroppedCount() {
+        return WRITER.getDroppedCount();
+    }
+    
+    private static void write(final SlowQueryContext context) {
+        log.info(format(context));
+    }
+    
+    static String format(final SlowQueryContext context) {
+        StringBuilder result = new StringBuilder(256);
+        result.append("Slow query: ").append(toMillis(context.getElapsedNanos())).append(" ms, rows: ").append(context.getRowCount());
+        for (QueryStage each : QueryStage.values()) {
+            result.append(", ").append(each.getLabel()).append(": ").append(toMillis(context.getStageElapsedTime(each))).append(" ms");
+        }
+        result.append(", SQL: ").append(context.getSql());
+        for (ExecutionUnitElapsedTime each : context.getExecutionUnitElapsedTimes()) {
+            result.append(System.lineSeparator()).append("  Actual SQL: ").append(each.getDataSourceName()).append(" ::: ").append(toMillis(each.getElapsedNanos())).append(" ms");
+            if (!each.isSuccess()) {
+                result.append(" (failed)");
+            }
+            result.append(" ::: ").append(each.getSql());
+        }
+        return result.toString();
+    }
+    
+    private static String toMillis(final long nanos) {
+        return String.format(Locale.ENGLISH, "%.3f", nanos / 1000000D);
+    }
+}
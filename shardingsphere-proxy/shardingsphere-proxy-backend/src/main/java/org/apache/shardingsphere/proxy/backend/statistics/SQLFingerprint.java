@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.statistics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.regex.Pattern;
+
+/**
+ * SQL fingerprint.
+ * 
+ * <p>Literals are replaced with {@code ?}, comments are removed, whitespaces are collapsed and placeholder lists are folded,
+ * so that SQL which only differ in values share the same fingerprint.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLFingerprint {
+    
+    private static final Pattern PLACEHOLDER_LIST_PATTERN = Pattern.compile("\\?(\\s*,\\s*\\?)+");
+    
+    /**
+     * Normalize SQL to fingerprint.
+     *
+     * @param sql SQL
+     * @return fingerprint
+     */
+    public static String normalize(final String sql) {
+        StringBuilder result = new StringBuilder(sql.length());
+        int length = sql.length();
+        int index = 0;
+        boolean pendingWhitespace = false;
+        while (index < length) {
+            char current = sql.charAt(index);
+            if (Character.isWhitespace(current)) {
+                pendingWhitespace = 0 != result.length();
+                index++;
+                continue;
+            }
+            if ('-' == current && index + 1 < length && '-' == sql.charAt(index + 1)) {
+                index = skipLineComment(sql, index);
+                pendingWhitespace = 0 != result.length();
+                continue;
+            }
+            if ('/' == current && index + 1 < length && '*' == sql.charAt(index + 1)) {
+                index = skipBlockComment(sql, index);
+                pendingWhitespace = 0 != result.length();
+                continue;
+            }
+            if (pendingWhitespace) {
+                result.append(' ');
+                pendingWhitespace = false;
+            }
+            if ('\'' == current) {
+                index = skipQuoted(sql, index, '\'');
+                result.append('?');
+            } else if ('"' == current || '`' == current) {
+                int end = skipQuoted(sql, index, current);
+                result.append(sql, index, end);
+                index = end;
+            } else if (Character.isDigit(current) && !isIdentifierPart(result)) {
+                index = skipNumber(sql, index);
+                result.append('?');
+            } else {
+                result.append(current);
+                index++;
+            }
+        }
+        return PLACEHOLDER_LIST_PATTERN.matcher(result).replaceAll("?");
+    }
+    
+    private static int skipLineComment(final String sql, final int start) {
+        int result = start + 2;
+        while (result < sql.length() && '\n' != sql.charAt(result)) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static int skipBlockComment(final String sql, final int start) {
+        int end = sql.indexOf("*/", start + 2);
+        return -1 == end ? sql.length() : end + 2;
+    }
+    
+    private static int skipQuoted(final String sql, final int start, final char quote) {
+        int result = start + 1;
+        while (result < sql.length()) {
+            char current = sql.charAt(result);
+            if ('\\' == current) {
+                result += 2;
+                continue;
+            }
+            result++;
+            if (quote == current) {
+                if (result < sql.length() && quote == sql.charAt(result)) {
+                    result++;
+                    continue;
+                }
+                return result;
+            }
+        }
+        return sql.length();
+    }
+    
+    private static int skipNumber(final String sql, final int start) {
+        int result = start;
+        while (result < sql.length() && (Character.isLetterOrDigit(sql.charAt(result)) || '.' == sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static boolean isIdentifierPart(final StringBuilder normalized) {
+        if (0 == normalized.length()) {
+            return false;
+        }
+        char previous = normalized.charAt(normalized.length() - 1);
+        return Character.isLetterOrDigit(previous) || '_' == previous || '$' == previous;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.statistics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of SQL which share the same fingerprint.
+ */
+@RequiredArgsConstructor
+public final class SQLStatistics {
+    
+    @Getter
+    private final String fingerprint;
+    
+    @Getter
+    private final long inheritedCount;
+    
+    private final LongAdder count = new LongAdder();
+    
+    private final LongAdder totalLatency = new LongAdder();
+    
+    private final LongAccumulator maxLatency = new LongAccumulator(Long::max, 0L);
+    
+    private final LongAdder rows = new LongAdder();
+    
+    private final LongAdder routeUnits = new LongAdder();
+    
+    private final LongAdder errors = new LongAdder();
+    
+    /**
+     * Record one execution.
+     *
+     * @param elapsedNanos elapsed nanoseconds
+     * @param rowCount count of returned or affected rows
+     * @param routeUnitCount count of route units
+     * @param isSuccess whether execute success
+     */
+    public void record(final long elapsedNanos, final long rowCount, final int routeUnitCount, final boolean isSuccess) {
+        count.increment();
+        totalLatency.add(elapsedNanos);
+        maxLatency.accumulate(elapsedNanos);
+        rows.add(rowCount);
+        routeUnits.add(routeUnitCount);
+        if (!isSuccess) {
+            errors.increment();
+        }
+    }
+    
+    /**
+     * Get estimated execute count, including the count inherited from the evicted fingerprint.
+     *
+     * @return estimated execute count
+     */
+    public long getCount() {
+        return inheritedCount + count.sum();
+    }
+    
+    /**
+     * Get execute count recorded by this fingerprint itself.
+     *
+     * @return execute count recorded by this fingerprint itself
+     */
+    public long getExecutedCount() {
+        return count.sum();
+    }
+    
+    /**
+     * Get total latency in nanoseconds.
+     *
+     * @return total latency in nanoseconds
+     */
+    public long getTotalLatency() {
+        return totalLatency.sum();
+    }
+    
+    /**
+     * Get max latency in nanoseconds.
+     *
+     * @return max latency in nanoseconds
+     */
+    public long getMaxLatency() {
+        return maxLatency.get();
+    }
+    
+    /**
+     * Get count of returned or affected rows.
+     *
+     * @return count of returned or affected rows
+     */
+    public long getRows() {
+        return rows.sum();
+    }
+    
+    /**
+     * Get count of route units.
+     *
+     * @return count of route units
+     */
+    public long getRouteUnits() {
+        return routeUnits.sum();
+    }
+    
+    /**
+     * Get error count.
+     *
+     * @return error count
+     */
+    public long getErrors() {
+        return errors.sum();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.statistics;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Comparator;
+import java.util.function.ToLongFunction;
+
+/**
+ * Order type of SQL statistics.
+ */
+@RequiredArgsConstructor
+public enum SQLStatisticsOrderType {
+    
+    TOTAL_LATENCY(SQLStatistics::getTotalLatency),
+    
+    COUNT(SQLStatistics::getCount),
+    
+    MAX_LATENCY(SQLStatistics::getMaxLatency),
+    
+    ROWS(SQLStatistics::getRows),
+    
+    ROUTE_UNITS(SQLStatistics::getRouteUnits),
+    
+    ERRORS(SQLStatistics::getErrors);
+    
+    private final ToLongFunction<SQLStatistics> keyExtractor;
+    
+    /**
+     * Get comparator which sorts SQL statistics in descending order.
+     *
+     * @return comparator
+     */
+    public Comparator<SQLStatistics> getComparator() {
+        return Comparator.comparingLong(keyExtractor).reversed();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.statistics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * SQL statistics registry.
+ * 
+ * <p>Statistics are aggregated by SQL fingerprint. If the registry is full, the least executed one of a few sampled fingerprints is evicted
+ * and the new fingerprint inherits its count (space-saving), so a frequent SQL arriving late is not evicted immediately.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLStatisticsRegistry {
+    
+    private static final SQLStatisticsRegistry INSTANCE = new SQLStatisticsRegistry();
+    
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+    
+    private final ConcurrentMap<String, SQLStatistics> statistics = new ConcurrentHashMap<>();
+    
+    private SQLStatistics[] slots = new SQLStatistics[0];
+    
+    private int slotCount;
+    
+    /**
+     * Get instance of SQL statistics registry.
+     *
+     * @return instance of SQL statistics registry
+     */
+    public static SQLStatisticsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Record one execution of SQL.
+     *
+     * @param sql SQL
+     * @param capacity max count of fingerprints
+     * @param elapsedNanos elapsed nanoseconds
+     * @param rowCount count of returned or affected rows
+     * @param routeUnitCount count of route units
+     * @param isSuccess whether execute success
+     */
+    public void record(final String sql, final int capacity, final long elapsedNanos, final long rowCount, final int routeUnitCount, final boolean isSuccess) {
+        String fingerprint = SQLFingerprint.normalize(sql);
+        SQLStatistics sqlStatistics = statistics.get(fingerprint);
+        if (null == sqlStatistics) {
+            sqlStatistics = createSQLStatistics(fingerprint, Math.max(capacity, 1));
+        }
+        sqlStatistics.record(elapsedNanos, rowCount, routeUnitCount, isSuccess);
+    }
+    
+    private synchronized SQLStatistics createSQLStatistics(final String fingerprint, final int capacity) {
+        SQLStatistics result = statistics.get(fingerprint);
+        if (null != result) {
+            return result;
+        }
+        if (slots.length != capacity) {
+            resize(capacity);
+        }
+        if (slotCount < capacity) {
+            result = new SQLStatistics(fingerprint, 0L);
+            slots[slotCount++] = result;
+        } else {
+            int victimIndex = findVictimIndex();
+            SQLStatistics victim = slots[victimIndex];
+            statistics.remove(victim.getFingerprint());
+            result = new SQLStatistics(fingerprint, victim.getCount());
+            slots[victimIndex] = result;
+        }
+        statistics.put(fingerprint, result);
+        return result;
+    }
+    
+    private void resize(final int capacity) {
+        for (int i = capacity; i < slotCount; i++) {
+            statistics.remove(slots[i].getFingerprint());
+        }
+        slots = Arrays.copyOf(slots, capacity);
+        slotCount = Math.min(slotCount, capacity);
+    }
+    
+    private int findVictimIndex() {
+        int result = 0;
+        long minCount = Long.MAX_VALUE;
+        boolean sampled = slotCount > EVICTION_SAMPLE_SIZE;
+        for (int i = 0; i < Math.min(slotCount, EVICTION_SAMPLE_SIZE); i++) {
+            int index = sampled ? ThreadLocalRandom.current().nextInt(slotCount) : i;
+            long count = slots[index].getCount();
+            if (count < minCount) {
+                minCount = count;
+                result = index;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get top SQL statistics.
+     *
+     * @param orderType order type
+     * @param limit max count of SQL statistics to be returned
+     * @return top SQL statistics in descending order
+     */
+    public List<SQLStatistics> getTop(final SQLStatisticsOrderType orderType, final int limit) {
+        return statistics.values().stream().sorted(orderType.getComparator()).limit(limit).collect(Collectors.toList());
+    }
+    
+    /**
+     * Get count of fingerprints.
+     *
+     * @return count of fingerprints
+     */
+    public int size() {
+        return statistics.size();
+    }
+    
+    /**
+     * Reset all SQL statistics.
+     */
+    public synchronized void reset() {
+        statistics.clear();
+        Arrays.fill(slots, null);
+        slotCount = 0;
+    }
+}
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.Bac
 import org.apache.shardingsphere.proxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.proxy.backend.response.query.QueryData;
 import org.apache.shardingsphere.proxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.proxy.backend.statistics.SQLStatisticsRegistry;
 import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandler;
 import org.apache.shardingsphere.proxy.backend.text.sctl.exception.InvalidShardingCTLFormatException;
 import org.apache.shardingsphere.proxy.backend.text.sctl.exception.UnsupportedShardingCTLTypeException;
@@ -54,6 +55,8 @@ public final class ShardingCTLSetBackendHandler implements TextProtocolBackendHa
             } catch (final IllegalArgumentException ex) {
                 throw new UnsupportedShardingCTLTypeException(sql);
             }
+        } else if ("SQL_STATS".equals(shardingTCLStatement.get().getKey()) && "RESET".equals(shardingTCLStatement.get().getValue())) {
+            SQLStatisticsRegistry.getInstance().reset();
         } else {
             throw new UnsupportedShardingCTLTypeException(sql);
         }
@@ -23,6 +23,9 @@ import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.Bac
 import org.apache.shardingsphere.proxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.proxy.backend.response.query.QueryData;
 import org.apache.shardingsphere.proxy.backend.response.query.QueryResponse;
+import org.apache.shardingsphere.proxy.backend.statistics.SQLStatistics;
+import org.apache.shardingsphere.proxy.backend.statistics.SQLStatisticsOrderType;
+import org.apache.shardingsphere.proxy.backend.statistics.SQLStatisticsRegistry;
 import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandler;
 import org.apache.shardingsphere.proxy.backend.text.sctl.exception.InvalidShardingCTLFormatException;
 import org.apache.shardingsphere.proxy.backend.text.sctl.exception.UnsupportedShardingCTLTypeException;
@@ -30,21 +33,32 @@ import org.apache.shardingsphere.sharding.merge.dal.common.MultipleLocalDataMerg
 
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Sharding CTL show backend handler.
  */
 public final class ShardingCTLShowBackendHandler implements TextProtocolBackendHandler {
     
+    private static final List<String> SQL_STATISTICS_COLUMN_NAMES = Arrays.asList(
+            "FINGERPRINT", "COUNT", "TOTAL_LATENCY_MS", "AVG_LATENCY_MS", "MAX_LATENCY_MS", "ROWS", "ROUTE_UNITS", "ERRORS");
+    
+    private static final int DEFAULT_SQL_STATISTICS_LIMIT = 10;
+    
     private final String sql;
     
     private final BackendConnection backendConnection;
     
     private MergedResult mergedResult;
     
+    private int columnCount;
+    
     public ShardingCTLShowBackendHandler(final String sql, final BackendConnection backendConnection) {
         this.sql = sql.toUpperCase().trim();
         this.backendConnection = backendConnection;
@@ -61,14 +75,47 @@ public final class ShardingCTLShowBackendHandler implements TextProtocolBackendH
                 return createResponsePackets("TRANSACTION_TYPE", backendConnection.getTransactionType().name());
             case "CACHED_CONNECTIONS":
                 return createResponsePackets("CACHED_CONNECTIONS", backendConnection.getConnectionSize());
+            case "SQL_STATS":
+                return createSQLStatisticsResponsePackets(showStatement.get().getArguments());
             default:
                 throw new UnsupportedShardingCTLTypeException(sql);
         }
     }
     
     private BackendResponse createResponsePackets(final String columnName, final Object... values) {
-        mergedResult = new MultipleLocalDataMergedResult(Collections.singletonList(Arrays.asList(values)));
-        return new QueryResponse(Collections.singletonList(new QueryHeader("", "", columnName, columnName, 100, Types.VARCHAR, 0, false, false, false, false)));
+        return createResponsePackets(Collections.singletonList(columnName), Collections.singletonList(Arrays.asList(values)));
+    }
+    
+    private BackendResponse createSQLStatisticsResponsePackets(final List<String> arguments) {
+        SQLStatisticsOrderType orderType;
+        int limit;
+        try {
+            orderType = arguments.isEmpty() ? SQLStatisticsOrderType.TOTAL_LATENCY : SQLStatisticsOrderType.valueOf(arguments.get(0));
+            limit = arguments.size() > 1 ? Integer.parseInt(arguments.get(1)) : DEFAULT_SQL_STATISTICS_LIMIT;
+        } catch (final IllegalArgumentException ex) {
+            throw new InvalidShardingCTLFormatException(sql);
+        }
+        if (limit < 0) {
+            throw new InvalidShardingCTLFormatException(sql);
+        }
+        Collection<List<Object>> rows = new ArrayList<>();
+        for (SQLStatistics each : SQLStatisticsRegistry.getInstance().getTop(orderType, limit)) {
+            long executedCount = each.getExecutedCount();
+            rows.add(Arrays.asList(each.getFingerprint(), each.getCount(), TimeUnit.NANOSECONDS.toMillis(each.getTotalLatency()),
+                    0L == executedCount ? 0L : TimeUnit.NANOSECONDS.toMillis(each.getTotalLatency() / executedCount), TimeUnit.NANOSECONDS.toMillis(each.getMaxLatency()),
+                    each.getRows(), each.getRouteUnits(), each.getErrors()));
+        }
+        return createResponsePackets(SQL_STATISTICS_COLUMN_NAMES, rows);
+    }
+    
+    private BackendResponse createResponsePackets(final List<String> columnNames, final Collection<List<Object>> rows) {
+        columnCount = columnNames.size();
+        mergedResult = new MultipleLocalDataMergedResult(rows);
+        List<QueryHeader> queryHeaders = new ArrayList<>(columnCount);
+        for (String each : columnNames) {
+            queryHeaders.add(new QueryHeader("", "", each, each, 100, Types.VARCHAR, 0, false, false, false, false));
+        }
+        return new QueryResponse(queryHeaders);
     }
     
     @Override
@@ -78,6 +125,12 @@ public final class ShardingCTLShowBackendHandler implements TextProtocolBackendH
     
     @Override
     public QueryData getQueryData() throws SQLException {
-        return new QueryData(Collections.singletonList(Types.VARCHAR), Collections.singletonList(mergedResult.getValue(1, Object.class)));
+        List<Integer> columnTypes = new ArrayList<>(columnCount);
+        List<Object> row = new ArrayList<>(columnCount);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            columnTypes.add(Types.VARCHAR);
+            row.add(mergedResult.getValue(columnIndex, Object.class));
+        }
+        return new QueryData(columnTypes, row);
     }
 }
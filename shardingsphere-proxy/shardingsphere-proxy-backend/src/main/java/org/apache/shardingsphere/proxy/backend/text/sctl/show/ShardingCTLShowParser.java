@@ -20,6 +20,9 @@ package org.apache.shardingsphere.proxy.backend.text.sctl.show;
 import com.google.common.base.Preconditions;
 import org.apache.shardingsphere.proxy.backend.text.sctl.ShardingCTLParser;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -29,7 +32,7 @@ import java.util.regex.Pattern;
  */
 public final class ShardingCTLShowParser implements ShardingCTLParser<ShardingCTLShowStatement> {
     
-    private final String regex = "sctl:show\\s+(\\S*)";
+    private final String regex = "sctl:show\\s+(\\S*)\\s*(.*)";
     
     private final Matcher matcher;
     
@@ -42,8 +45,12 @@ public final class ShardingCTLShowParser implements ShardingCTLParser<ShardingCT
         if (matcher.find()) {
             String value = matcher.group(1);
             Preconditions.checkNotNull(value, "sctl show value cannot be null.");
-            return Optional.of(new ShardingCTLShowStatement(value));
+            return Optional.of(new ShardingCTLShowStatement(value, getArguments(matcher.group(2))));
         }
         return Optional.empty();
     }
+    
+    private List<String> getArguments(final String arguments) {
+        return null == arguments || arguments.trim().isEmpty() ? Collections.emptyList() : Arrays.asList(arguments.trim().split("\\s+"));
+    }
 }
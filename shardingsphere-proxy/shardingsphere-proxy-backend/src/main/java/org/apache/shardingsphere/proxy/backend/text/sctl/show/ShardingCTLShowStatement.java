@@ -21,6 +21,9 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.proxy.backend.text.sctl.ShardingCTLStatement;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Sharding CTL show statement.
  */
@@ -29,4 +32,10 @@ import org.apache.shardingsphere.proxy.backend.text.sctl.ShardingCTLStatement;
 public final class ShardingCTLShowStatement implements ShardingCTLStatement {
     
     private final String value;
+    
+    private final List<String> arguments;
+    
+    public ShardingCTLShowStatement(final String value) {
+        this(value, Collections.emptyList());
+    }
 }
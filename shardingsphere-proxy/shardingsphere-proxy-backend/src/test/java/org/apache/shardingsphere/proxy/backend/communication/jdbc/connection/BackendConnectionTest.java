@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.auth.Authentication;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.SchemaContext;
 import org.apache.shardingsphere.infra.context.impl.StandardSchemaContexts;
 import org.apache.shardingsphere.infra.context.runtime.RuntimeContext;
@@ -27,7 +28,9 @@ import org.apache.shardingsphere.infra.context.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.group.StatementOption;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource.JDBCBackendDataSource;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
 import org.apache.shardingsphere.transaction.context.TransactionContexts;
@@ -41,10 +44,12 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.lang.reflect.Field;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -53,6 +58,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -60,8 +66,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -78,18 +86,18 @@ public final class BackendConnectionTest {
     
     @Before
     public void setUp() {
-        setSchemaContexts();
+        setSchemaContexts(new Properties());
         setTransactionContexts();
         setBackendDataSource();
         backendConnection.setCurrentSchema(String.format(SCHEMA_PATTERN, 0));
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setSchemaContexts() {
+    private void setSchemaContexts(final Properties props) {
         Field field = ProxyContext.getInstance().getClass().getDeclaredField("schemaContexts");
         field.setAccessible(true);
         field.set(ProxyContext.getInstance(),
-                new StandardSchemaContexts(createSchemaContextMap(), new Authentication(), new ConfigurationProperties(new Properties()), new MySQLDatabaseType()));
+                new StandardSchemaContexts(createSchemaContextMap(), new Authentication(), new ConfigurationProperties(props), new MySQLDatabaseType()));
     }
     
     private Map<String, SchemaContext> createSchemaContextMap() {
@@ -273,6 +281,99 @@ public final class BackendConnectionTest {
         }
     }
     
+    @Test
+    public void assertCreateStorageResourceWithPreparedStatementCache() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE.getKey(), "8");
+        setSchemaContexts(props);
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(preparedStatement);
+        backendConnection.getStatusHandler().switchInTransactionStatus();
+        assertThat(backendConnection.createStorageResource("SELECT 1", Collections.emptyList(), connection, ConnectionMode.CONNECTION_STRICTLY, new StatementOption(false)), is(preparedStatement));
+        backendConnection.add(preparedStatement);
+        backendConnection.close();
+        verify(preparedStatement).clearParameters();
+        verify(preparedStatement, never()).close();
+        assertThat(backendConnection.createStorageResource("SELECT 1", Collections.emptyList(), connection, ConnectionMode.CONNECTION_STRICTLY, new StatementOption(false)), is(preparedStatement));
+        verify(connection).prepareStatement("SELECT 1");
+        backendConnection.close(true);
+        verify(preparedStatement).close();
+    }
+    
+    @Test
+    public void assertReprepareStatement() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE.getKey(), "8");
+        setSchemaContexts(props);
+        Connection connection = mock(Connection.class);
+        PreparedStatement invalidStatement = mock(PreparedStatement.class);
+        PreparedStatement repreparedStatement = mock(PreparedStatement.class);
+        when(invalidStatement.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(invalidStatement, repreparedStatement);
+        backendConnection.getStatusHandler().switchInTransactionStatus();
+        assertThat(backendConnection.createStorageResource("SELECT 1", Collections.emptyList(), connection, ConnectionMode.CONNECTION_STRICTLY, new StatementOption(false)), is(invalidStatement));
+        backendConnection.add(invalidStatement);
+        assertThat(backendConnection.reprepareStatement(invalidStatement, "SELECT 1", Collections.emptyList(), ConnectionMode.CONNECTION_STRICTLY, false).get(), is(repreparedStatement));
+        assertFalse(backendConnection.reprepareStatement(invalidStatement, "SELECT 1", Collections.emptyList(), ConnectionMode.CONNECTION_STRICTLY, false).isPresent());
+        backendConnection.add(repreparedStatement);
+        backendConnection.close();
+        verify(invalidStatement, atLeastOnce()).close();
+        verify(repreparedStatement, never()).close();
+        backendConnection.close(true);
+    }
+    
+    @Test
+    public void assertCloseDatabaseCommunicationEngines() throws SQLException {
+        DatabaseCommunicationEngine databaseCommunicationEngine = mock(DatabaseCommunicationEngine.class);
+        backendConnection.add(databaseCommunicationEngine);
+        backendConnection.close();
+        verify(databaseCommunicationEngine).close();
+        backendConnection.close();
+        verify(databaseCommunicationEngine).close();
+    }
+    
+    @Test
+    public void assertCloseWithStickyConnections() throws SQLException {
+        setStickyIdleTime();
+        when(backendDataSource.getConnections(anyString(), anyString(), eq(2), any())).thenReturn(MockConnectionUtil.mockNewConnections(2));
+        List<Connection> expectedConnections = backendConnection.getConnections("ds1", 2, ConnectionMode.MEMORY_STRICTLY);
+        backendConnection.close();
+        assertThat(backendConnection.getConnectionSize(), is(2));
+        assertThat(backendConnection.getConnections("ds1", 2, ConnectionMode.MEMORY_STRICTLY), is(expectedConnections));
+        verify(backendDataSource).getConnections(anyString(), anyString(), eq(2), any());
+        backendConnection.close();
+        backendConnection.releaseStickyConnectionsIfNecessary(System.currentTimeMillis() + 60000L);
+        assertThat(backendConnection.getConnectionSize(), is(0));
+    }
+    
+    @Test
+    public void assertCloseWithStickyConnectionsWhenConnectionInsufficient() throws SQLException {
+        setStickyIdleTime();
+        when(backendDataSource.getConnections(anyString(), anyString(), eq(2), any())).thenReturn(MockConnectionUtil.mockNewConnections(2));
+        when(backendDataSource.isConnectionInsufficient(anyString(), eq("ds1"))).thenReturn(true);
+        backendConnection.getConnections("ds1", 2, ConnectionMode.MEMORY_STRICTLY);
+        backendConnection.close();
+        assertThat(backendConnection.getConnectionSize(), is(0));
+    }
+    
+    @Test
+    public void assertCloseWithStickyConnectionsAcquiredInTransaction() throws SQLException {
+        setStickyIdleTime();
+        backendConnection.getStatusHandler().switchInTransactionStatus();
+        when(backendDataSource.getConnections(anyString(), anyString(), eq(2), any())).thenReturn(MockConnectionUtil.mockNewConnections(2));
+        backendConnection.getConnections("ds1", 2, ConnectionMode.MEMORY_STRICTLY);
+        backendConnection.getStatusHandler().switchReadyStatus();
+        backendConnection.close();
+        assertThat(backendConnection.getConnectionSize(), is(0));
+    }
+    
+    private void setStickyIdleTime() {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_CONNECTION_STICKY_IDLE_MILLISECONDS.getKey(), "60000");
+        setSchemaContexts(props);
+    }
+    
     @Test(expected = ShardingSphereException.class)
     public void assertFailedSwitchTransactionTypeWhileBegin() {
         BackendTransactionManager transactionManager = new BackendTransactionManager(backendConnection);
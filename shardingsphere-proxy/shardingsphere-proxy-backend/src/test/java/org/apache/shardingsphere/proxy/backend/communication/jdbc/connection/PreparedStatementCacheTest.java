@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
+import org.junit.Test;
+
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class PreparedStatementCacheTest {
+    
+    private final Collection<PreparedStatement> evictedStatements = new LinkedList<>();
+    
+    @Test
+    public void assertGet() {
+        PreparedStatementCache cache = new PreparedStatementCache(2, evictedStatements::add);
+        long missCount = PreparedStatementCache.getMissCount();
+        long hitCount = PreparedStatementCache.getHitCount();
+        assertFalse(cache.get("SELECT 1", false, ConnectionMode.MEMORY_STRICTLY).isPresent());
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        cache.put("SELECT 1", false, ConnectionMode.MEMORY_STRICTLY, preparedStatement);
+        assertThat(cache.get("SELECT 1", false, ConnectionMode.MEMORY_STRICTLY).get(), is(preparedStatement));
+        assertFalse(cache.get("SELECT 1", true, ConnectionMode.MEMORY_STRICTLY).isPresent());
+        assertFalse(cache.get("SELECT 1", false, ConnectionMode.CONNECTION_STRICTLY).isPresent());
+        assertThat(PreparedStatementCache.getMissCount() - missCount, is(3L));
+        assertThat(PreparedStatementCache.getHitCount() - hitCount, is(1L));
+    }
+    
+    @Test
+    public void assertEvictLeastRecentlyUsed() {
+        PreparedStatementCache cache = new PreparedStatementCache(2, evictedStatements::add);
+        PreparedStatement preparedStatement1 = mock(PreparedStatement.class);
+        PreparedStatement preparedStatement2 = mock(PreparedStatement.class);
+        PreparedStatement preparedStatement3 = mock(PreparedStatement.class);
+        cache.put("SELECT 1", false, ConnectionMode.MEMORY_STRICTLY, preparedStatement1);
+        cache.put("SELECT 2", false, ConnectionMode.MEMORY_STRICTLY, preparedStatement2);
+        cache.get("SELECT 1", false, ConnectionMode.MEMORY_STRICTLY);
+        cache.put("SELECT 3", false, ConnectionMode.MEMORY_STRICTLY, preparedStatement3);
+        assertThat(cache.size(), is(2));
+        assertThat(evictedStatements.size(), is(1));
+        assertThat(evictedStatements.iterator().next(), is(preparedStatement2));
+        assertFalse(cache.get("SELECT 2", false, ConnectionMode.MEMORY_STRICTLY).isPresent());
+    }
+    
+    @Test
+    public void assertEvictAllAfterInvalidated() {
+        PreparedStatementCache cache = new PreparedStatementCache(2, evictedStatements::add);
+        cache.put("SELECT 1", false, ConnectionMode.MEMORY_STRICTLY, mock(PreparedStatement.class));
+        PreparedStatementCache.invalidateAll();
+        assertFalse(cache.get("SELECT 1", false, ConnectionMode.MEMORY_STRICTLY).isPresent());
+        assertThat(cache.size(), is(0));
+        assertThat(evictedStatements.size(), is(1));
+    }
+    
+    @Test
+    public void assertEvictReferencedTablesAfterInvalidated() {
+        PreparedStatementCache cache = new PreparedStatementCache(3, evictedStatements::add);
+        PreparedStatement orderStatement = mock(PreparedStatement.class);
+        cache.put("SELECT * FROM t_order_0 WHERE order_id = ?", false, ConnectionMode.MEMORY_STRICTLY, orderStatement);
+        cache.put("SELECT * FROM T_ORDER_ITEM_1 WHERE order_id = ?", false, ConnectionMode.MEMORY_STRICTLY, mock(PreparedStatement.class));
+        cache.put("SELECT * FROM t_user WHERE user_id = ?", false, ConnectionMode.MEMORY_STRICTLY, mock(PreparedStatement.class));
+        PreparedStatementCache.invalidate(Arrays.asList("t_order", "t_order_0"));
+        PreparedStatementCache.invalidate(Collections.singletonList("T_ORDER_ITEM_1"));
+        assertTrue(cache.get("SELECT * FROM t_user WHERE user_id = ?", false, ConnectionMode.MEMORY_STRICTLY).isPresent());
+        assertThat(cache.size(), is(1));
+        assertThat(evictedStatements.size(), is(2));
+        assertThat(evictedStatements.iterator().next(), is(orderStatement));
+    }
+    
+    @Test
+    public void assertEvictAllAfterTooManyInvalidations() {
+        PreparedStatementCache cache = new PreparedStatementCache(2, evictedStatements::add);
+        cache.put("SELECT * FROM t_user WHERE user_id = ?", false, ConnectionMode.MEMORY_STRICTLY, mock(PreparedStatement.class));
+        for (int i = 0; i < 100; i++) {
+            PreparedStatementCache.invalidate(Collections.singletonList("t_order"));
+        }
+        assertFalse(cache.get("SELECT * FROM t_user WHERE user_id = ?", false, ConnectionMode.MEMORY_STRICTLY).isPresent());
+        assertThat(evictedStatements.size(), is(1));
+    }
+    
+    @Test
+    public void assertEvict() {
+        PreparedStatementCache cache = new PreparedStatementCache(2, evictedStatements::add);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        cache.put("SELECT 1", false, ConnectionMode.MEMORY_STRICTLY, preparedStatement);
+        assertFalse(cache.evict("SELECT 1", false, ConnectionMode.MEMORY_STRICTLY, mock(PreparedStatement.class)));
+        assertTrue(cache.evict("SELECT 1", false, ConnectionMode.MEMORY_STRICTLY, preparedStatement));
+        assertThat(cache.size(), is(0));
+        assertThat(evictedStatements.iterator().next(), is(preparedStatement));
+    }
+    
+    @Test
+    public void assertEvictAll() {
+        PreparedStatementCache cache = new PreparedStatementCache(2, evictedStatements::add);
+        cache.put("SELECT 1", false, ConnectionMode.MEMORY_STRICTLY, mock(PreparedStatement.class));
+        cache.put("SELECT 2", false, ConnectionMode.MEMORY_STRICTLY, mock(PreparedStatement.class));
+        cache.evictAll();
+        assertThat(cache.size(), is(0));
+        assertThat(evictedStatements.size(), is(2));
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ConnectionReservationTest {
+    
+    @Test
+    public void assertReserveAndRelease() throws SQLException {
+        ConnectionReservation reservation = new ConnectionReservation(5, 100L);
+        reservation.reserve(3);
+        assertThat(reservation.getAvailablePermits(), is(2));
+        reservation.reserve(2);
+        assertThat(reservation.getAvailablePermits(), is(0));
+        reservation.release(5);
+        assertThat(reservation.getAvailablePermits(), is(5));
+        assertThat(reservation.getReservedCount(), is(2L));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertReserveMoreThanMaxPermits() throws SQLException {
+        new ConnectionReservation(5, 100L).reserve(6);
+    }
+    
+    @Test
+    public void assertReserveTimeout() throws SQLException {
+        ConnectionReservation reservation = new ConnectionReservation(5, 10L);
+        reservation.reserve(4);
+        try {
+            reservation.reserve(2);
+        } catch (final SQLException ignored) {
+            assertThat(reservation.getTimeoutCount(), is(1L));
+            assertThat(reservation.getAvailablePermits(), is(1));
+            return;
+        }
+        throw new AssertionError("Reservation should be timeout.");
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource;
 
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.auth.Authentication;
@@ -38,6 +39,7 @@ import javax.sql.DataSource;
 import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -50,12 +52,14 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -66,23 +70,23 @@ public final class JDBCBackendDataSourceTest {
     
     @Before
     public void setUp() {
-        setSchemaContexts();
+        setSchemaContexts(mockDataSources(2));
         setTransactionContexts();
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setSchemaContexts() {
+    private void setSchemaContexts(final Map<String, DataSource> dataSources) {
         Field schemaContexts = ProxyContext.getInstance().getClass().getDeclaredField("schemaContexts");
         schemaContexts.setAccessible(true);
         schemaContexts.set(ProxyContext.getInstance(),
-                new StandardSchemaContexts(createSchemaContextMap(), new Authentication(), new ConfigurationProperties(new Properties()), new MySQLDatabaseType()));
+                new StandardSchemaContexts(createSchemaContextMap(dataSources), new Authentication(), new ConfigurationProperties(new Properties()), new MySQLDatabaseType()));
     }
     
-    private Map<String, SchemaContext> createSchemaContextMap() {
+    private Map<String, SchemaContext> createSchemaContextMap(final Map<String, DataSource> dataSources) {
         SchemaContext schemaContext = mock(SchemaContext.class);
         ShardingSphereSchema shardingSphereSchema = mock(ShardingSphereSchema.class);
         RuntimeContext runtimeContext = mock(RuntimeContext.class);
-        when(shardingSphereSchema.getDataSources()).thenReturn(mockDataSources(2));
+        when(shardingSphereSchema.getDataSources()).thenReturn(dataSources);
         when(schemaContext.getName()).thenReturn("schema");
         when(schemaContext.getSchema()).thenReturn(shardingSphereSchema);
         when(schemaContext.getRuntimeContext()).thenReturn(runtimeContext);
@@ -140,13 +144,81 @@ public final class JDBCBackendDataSourceTest {
             try {
                 actual.addAll(each.get());
             } catch (final InterruptedException | ExecutionException ex) {
-                assertThat(ex.getMessage(), containsString("Could't get 6 connections one time, partition succeed connection(5) have released!"));
+                assertThat(ex.getMessage(), containsString("Couldn't get 6 connections one time, partition succeed connection(5) have released!"));
             }
         }
         assertTrue(actual.isEmpty());
         executorService.shutdown();
     }
     
+    @Test
+    public void assertGetConnectionsConcurrentlyFromBoundedHikariPool() throws InterruptedException, ExecutionException {
+        try (HikariDataSource dataSource = createHikariDataSource("concurrent_reservation")) {
+            setSchemaContexts(Collections.singletonMap("ds_hikari", dataSource));
+            ExecutorService executorService = Executors.newFixedThreadPool(8);
+            Collection<Future<Integer>> futures = new LinkedList<>();
+            for (int i = 0; i < 40; i++) {
+                futures.add(executorService.submit(() -> executeAndRelease(3)));
+            }
+            for (Future<Integer> each : futures) {
+                assertThat(each.get(), is(3));
+            }
+            executorService.shutdown();
+            assertThat(ProxyContext.getInstance().getBackendDataSource().findConnectionReservation(dataSource).get().getAvailablePermits(), is(4));
+        }
+    }
+    
+    @Test
+    public void assertHoldReservationUntilConnectionsReleased() throws SQLException {
+        try (HikariDataSource dataSource = createHikariDataSource("held_reservation")) {
+            setSchemaContexts(Collections.singletonMap("ds_hikari", dataSource));
+            JDBCBackendDataSource backendDataSource = ProxyContext.getInstance().getBackendDataSource();
+            List<Connection> connections = backendDataSource.getConnections("schema", "ds_hikari", 3, ConnectionMode.MEMORY_STRICTLY);
+            ConnectionReservation connectionReservation = backendDataSource.findConnectionReservation(dataSource).get();
+            assertThat(connectionReservation.getAvailablePermits(), is(1));
+            try {
+                backendDataSource.getConnections("schema", "ds_hikari", 3, ConnectionMode.MEMORY_STRICTLY);
+                fail("Reservation should be timeout.");
+            } catch (final SQLException ex) {
+                assertThat(ex.getMessage(), containsString("Couldn't reserve 3 connections"));
+            }
+            assertTrue(backendDataSource.getReservationTimeoutCount() >= 1L);
+            assertTrue(backendDataSource.getReservationMaxWaitNanos() >= TimeUnit.MILLISECONDS.toNanos(1000L));
+            assertTrue(backendDataSource.getReservationTotalWaitNanos() >= backendDataSource.getReservationMaxWaitNanos());
+            release(connections);
+            assertThat(connectionReservation.getAvailablePermits(), is(4));
+        }
+    }
+    
+    private HikariDataSource createHikariDataSource(final String databaseName) {
+        HikariDataSource result = new HikariDataSource();
+        result.setJdbcUrl(String.format("jdbc:h2:mem:%s;DB_CLOSE_DELAY=-1", databaseName));
+        result.setMaximumPoolSize(4);
+        result.setConnectionTimeout(1000L);
+        return result;
+    }
+    
+    private int executeAndRelease(final int connectionSize) throws SQLException {
+        List<Connection> connections = ProxyContext.getInstance().getBackendDataSource().getConnections("schema", "ds_hikari", connectionSize, ConnectionMode.MEMORY_STRICTLY);
+        try {
+            for (Connection each : connections) {
+                try (Statement statement = each.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+            }
+            return connections.size();
+        } finally {
+            release(connections);
+        }
+    }
+    
+    private void release(final Collection<Connection> connections) throws SQLException {
+        for (Connection each : connections) {
+            each.close();
+            ProxyContext.getInstance().getBackendDataSource().releaseReservation(each);
+        }
+    }
+    
     @RequiredArgsConstructor
     private static class CallableTask implements Callable<List<Connection>> {
         
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.slowlog;
+
+import org.apache.shardingsphere.metrics.MetricsRegistry;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class SlowQueryContextHolderTest {
+    
+    private final MetricsRegistry metricsRegistry = MetricsRegistry.getInstance();
+    
+    @After
+    public void tearDown() {
+        metricsRegistry.setEnabled(false);
+        metricsRegistry.clear();
+    }
+    
+    @Test
+    public void assertBeginWhenSlowQueryLogDisabled() {
+        SlowQueryContextHolder.begin();
+        assertNull(SlowQueryContextHolder.get());
+        assertThat(SlowQueryContextHolder.startStage(), is(0L));
+        SlowQueryContextHolder.finish();
+    }
+    
+    @Test
+    public void assertFinishStageWhenMetricsEnabled() {
+        metricsRegistry.setEnabled(true);
+        long startTime = SlowQueryContextHolder.startStage();
+        assertThat(startTime, not(0L));
+        SlowQueryContextHolder.finishStage(QueryStage.REWRITE, startTime);
+        SlowQueryContextHolder.finishStage(QueryStage.CONNECTION_ACQUIRE, startTime);
+        SlowQueryContextHolder.finishStage(QueryStage.MERGE, startTime);
+        SlowQueryContextHolder.finishStage(QueryStage.PARSE, startTime);
+        assertRecordedCount("rewrite", 1L);
+        assertRecordedCount("connection_acquire", 1L);
+        assertRecordedCount("merge_and_fetch", 1L);
+        assertRecordedCount("parse", 0L);
+    }
+    
+    private void assertRecordedCount(final String stage, final long expectedCount) {
+        long[] actual = metricsRegistry.getLatencyHistogram("shardingsphere_stage_latency_seconds", "", "stage", stage).getCumulativeBucketCounts();
+        assertThat(actual[actual.length - 1], is(expectedCount));
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.slowlog;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class SlowQueryLoggerTest {
+    
+    @Test
+    public void assertFormat() {
+        SlowQueryContext context = new SlowQueryContext(System.nanoTime() - 2000000000L, 1000000000L);
+        context.setSql("SELECT * FROM t_order");
+        context.setRowCount(10L);
+        context.addStageElapsedTime(QueryStage.ROUTE, 1500000L);
+        context.addStageElapsedTime(QueryStage.MERGE, 500000L);
+        context.addExecutionUnitElapsedTime("ds_0", "SELECT * FROM t_order_0", 2000000L, true);
+        context.addExecutionUnitElapsedTime("ds_1", "SELECT * FROM t_order_1", 3000000L, false);
+        assertTrue(context.finish());
+        String actual = SlowQueryLogger.format(context);
+        assertTrue(actual.contains("rows: 10"));
+        assertTrue(actual.contains("route: 1.500 ms"));
+        assertTrue(actual.contains("merge_and_fetch: 0.500 ms"));
+        assertTrue(actual.contains("SQL: SELECT * FROM t_order"));
+        assertTrue(actual.contains("ds_0 ::: 2.000 ms ::: SELECT * FROM t_order_0"));
+        assertTrue(actual.contains("ds_1 ::: 3.000 ms (failed) ::: SELECT * FROM t_order_1"));
+    }
+    
+    @Test
+    public void assertNotSlowQuery() {
+        SlowQueryContext context = new SlowQueryContext(System.nanoTime(), 60000000000L);
+        context.setSql("SELECT * FROM t_order");
+        assertFalse(context.finish());
+    }
+    
+    @Test
+    public void assertNotLogWithoutSQL() {
+        assertFalse(new SlowQueryContext(System.nanoTime() - 2000000000L, 1000000000L).finish());
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.statistics;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SQLFingerprintTest {
+    
+    @Test
+    public void assertNormalizeLiterals() {
+        assertThat(SQLFingerprint.normalize("SELECT * FROM t_order_1 WHERE order_id = 10 AND status = 'it''s' AND price > 1.5e3"),
+                is("SELECT * FROM t_order_1 WHERE order_id = ? AND status = ? AND price > ?"));
+    }
+    
+    @Test
+    public void assertNormalizeWhitespacesAndComments() {
+        assertThat(SQLFingerprint.normalize("  SELECT /* hint */ *\n\tFROM t_order -- comment\n WHERE  order_id = ?  "), is("SELECT * FROM t_order WHERE order_id = ?"));
+    }
+    
+    @Test
+    public void assertNormalizeInList() {
+        assertThat(SQLFingerprint.normalize("SELECT * FROM t_order WHERE order_id IN (1, 2,3)"), is("SELECT * FROM t_order WHERE order_id IN (?)"));
+        assertThat(SQLFingerprint.normalize("INSERT INTO t_order VALUES (?, ?, ?)"), is("INSERT INTO t_order VALUES (?)"));
+    }
+    
+    @Test
+    public void assertNormalizeWithQuotedIdentifiers() {
+        assertThat(SQLFingerprint.normalize("SELECT `col 1` FROM \"t_order\" WHERE `id` = 1"), is("SELECT `col 1` FROM \"t_order\" WHERE `id` = ?"));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.statistics;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SQLStatisticsRegistryTest {
+    
+    @Before
+    @After
+    public void reset() {
+        SQLStatisticsRegistry.getInstance().reset();
+    }
+    
+    @Test
+    public void assertRecordWithSameFingerprint() {
+        SQLStatisticsRegistry.getInstance().record("SELECT * FROM t_order WHERE order_id = 1", 10, 10L, 1L, 2, true);
+        SQLStatisticsRegistry.getInstance().record("SELECT * FROM t_order WHERE order_id = 2", 10, 30L, 0L, 2, false);
+        assertThat(SQLStatisticsRegistry.getInstance().size(), is(1));
+        SQLStatistics actual = SQLStatisticsRegistry.getInstance().getTop(SQLStatisticsOrderType.COUNT, 1).get(0);
+        assertThat(actual.getFingerprint(), is("SELECT * FROM t_order WHERE order_id = ?"));
+        assertThat(actual.getCount(), is(2L));
+        assertThat(actual.getTotalLatency(), is(40L));
+        assertThat(actual.getMaxLatency(), is(30L));
+        assertThat(actual.getRows(), is(1L));
+        assertThat(actual.getRouteUnits(), is(4L));
+        assertThat(actual.getErrors(), is(1L));
+    }
+    
+    @Test
+    public void assertGetTop() {
+        SQLStatisticsRegistry.getInstance().record("SELECT * FROM t_order", 10, 10L, 0L, 1, true);
+        SQLStatisticsRegistry.getInstance().record("SELECT * FROM t_user", 10, 30L, 0L, 1, true);
+        SQLStatisticsRegistry.getInstance().record("SELECT * FROM t_order", 10, 10L, 0L, 1, true);
+        List<SQLStatistics> actual = SQLStatisticsRegistry.getInstance().getTop(SQLStatisticsOrderType.TOTAL_LATENCY, 10);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getFingerprint(), is("SELECT * FROM t_user"));
+        assertThat(SQLStatisticsRegistry.getInstance().getTop(SQLStatisticsOrderType.COUNT, 1).get(0).getFingerprint(), is("SELECT * FROM t_order"));
+    }
+    
+    @Test
+    public void assertEvictLeastExecutedWhenFull() {
+        SQLStatisticsRegistry.getInstance().record("SELECT * FROM t_order", 2, 10L, 0L, 1, true);
+        SQLStatisticsRegistry.getInstance().record("SELECT * FROM t_order", 2, 10L, 0L, 1, true);
+        SQLStatisticsRegistry.getInstance().record("SELECT * FROM t_order", 2, 10L, 0L, 1, true);
+        SQLStatisticsRegistry.getInstance().record("SELECT * FROM t_user", 2, 10L, 0L, 1, true);
+        SQLStatisticsRegistry.getInstance().record("SELECT * FROM t_item", 2, 10L, 0L, 1, true);
+        assertThat(SQLStatisticsRegistry.getInstance().size(), is(2));
+        List<SQLStatistics> actual = SQLStatisticsRegistry.getInstance().getTop(SQLStatisticsOrderType.COUNT, 10);
+        assertThat(actual.get(0).getFingerprint(), is("SELECT * FROM t_order"));
+        assertThat(actual.get(1).getFingerprint(), is("SELECT * FROM t_item"));
+    }
+    
+    @Test
+    public void assertInheritEvictedCountWhenFull() {
+        SQLStatisticsRegistry.getInstance().record("SELECT * FROM t_order", 1, 10L, 0L, 1, true);
+        SQLStatisticsRegistry.getInstance().record("SELECT * FROM t_order", 1, 10L, 0L, 1, true);
+        SQLStatisticsRegistry.getInstance().record("SELECT * FROM t_user", 1, 10L, 0L, 1, true);
+        assertThat(SQLStatisticsRegistry.getInstance().size(), is(1));
+        SQLStatistics actual = SQLStatisticsRegistry.getInstance().getTop(SQLStatisticsOrderType.COUNT, 1).get(0);
+        assertThat(actual.getFingerprint(), is("SELECT * FROM t_user"));
+        assertThat(actual.getInheritedCount(), is(2L));
+        assertThat(actual.getExecutedCount(), is(1L));
+        assertThat(actual.getCount(), is(3L));
+    }
+    
+    @Test
+    public void assertShrinkWhenCapacityDecreased() {
+        SQLStatisticsRegistry.getInstance().record("SELECT * FROM t_order", 3, 10L, 0L, 1, true);
+        SQLStatisticsRegistry.getInstance().record("SELECT * FROM t_user", 3, 10L, 0L, 1, true);
+        SQLStatisticsRegistry.getInstance().record("SELECT * FROM t_item", 3, 10L, 0L, 1, true);
+        SQLStatisticsRegistry.getInstance().record("SELECT * FROM t_order_item", 1, 10L, 0L, 1, true);
+        assertThat(SQLStatisticsRegistry.getInstance().size(), is(1));
+        assertThat(SQLStatisticsRegistry.getInstance().getTop(SQLStatisticsOrderType.COUNT, 1).get(0).getFingerprint(), is("SELECT * FROM t_order_item"));
+    }
+}
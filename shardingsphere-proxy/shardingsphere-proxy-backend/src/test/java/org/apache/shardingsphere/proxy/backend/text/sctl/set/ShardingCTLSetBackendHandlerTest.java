@@ -27,6 +27,7 @@ import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.Bac
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.proxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.proxy.backend.statistics.SQLStatisticsRegistry;
 import org.apache.shardingsphere.proxy.backend.text.sctl.exception.InvalidShardingCTLFormatException;
 import org.apache.shardingsphere.proxy.backend.text.sctl.exception.UnsupportedShardingCTLTypeException;
 import org.apache.shardingsphere.transaction.core.TransactionType;
@@ -108,4 +109,13 @@ public final class ShardingCTLSetBackendHandlerTest {
     public void assertFormatErrorSCTL() {
         new ShardingCTLSetBackendHandler("sctl:set yyyyy", backendConnection).execute();
     }
+    
+    @Test
+    public void assertResetSQLStatistics() {
+        SQLStatisticsRegistry.getInstance().record("SELECT * FROM t_order WHERE order_id = 1", 10, 1L, 1L, 1, true);
+        backendConnection.setCurrentSchema(String.format(SCHEMA_PATTERN, 0));
+        BackendResponse actual = new ShardingCTLSetBackendHandler("sctl:set sql_stats=reset", backendConnection).execute();
+        assertThat(actual, instanceOf(UpdateResponse.class));
+        assertThat(SQLStatisticsRegistry.getInstance().size(), is(0));
+    }
 }
@@ -21,16 +21,20 @@ import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.Bac
 import org.apache.shardingsphere.proxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.proxy.backend.response.query.QueryData;
 import org.apache.shardingsphere.proxy.backend.response.query.QueryResponse;
+import org.apache.shardingsphere.proxy.backend.statistics.SQLStatisticsRegistry;
 import org.apache.shardingsphere.proxy.backend.text.sctl.exception.InvalidShardingCTLFormatException;
 import org.apache.shardingsphere.proxy.backend.text.sctl.exception.UnsupportedShardingCTLTypeException;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class ShardingCTLShowBackendHandlerTest {
     
@@ -60,6 +64,35 @@ public final class ShardingCTLShowBackendHandlerTest {
         assertThat(queryData.getData().iterator().next(), is(0));
     }
     
+    @Test
+    public void assertShowSQLStatistics() throws SQLException {
+        SQLStatisticsRegistry.getInstance().reset();
+        SQLStatisticsRegistry.getInstance().record("SELECT * FROM t_order WHERE order_id = 1", 10, 1000000L, 1L, 2, true);
+        SQLStatisticsRegistry.getInstance().record("SELECT * FROM t_order WHERE order_id = 2", 10, 3000000L, 0L, 2, false);
+        SQLStatisticsRegistry.getInstance().record("SELECT * FROM t_user", 10, 1000000L, 5L, 1, true);
+        ShardingCTLShowBackendHandler backendHandler = new ShardingCTLShowBackendHandler("sctl:show sql_stats count 1", backendConnection);
+        BackendResponse actual = backendHandler.execute();
+        assertThat(actual, instanceOf(QueryResponse.class));
+        assertThat(((QueryResponse) actual).getQueryHeaders().size(), is(8));
+        assertTrue(backendHandler.next());
+        List<Object> row = backendHandler.getQueryData().getData();
+        assertThat(row.get(0), is("SELECT * FROM t_order WHERE order_id = ?"));
+        assertThat(row.get(1), is(2L));
+        assertThat(row.get(2), is(4L));
+        assertThat(row.get(3), is(2L));
+        assertThat(row.get(4), is(3L));
+        assertThat(row.get(5), is(1L));
+        assertThat(row.get(6), is(4L));
+        assertThat(row.get(7), is(1L));
+        assertFalse(backendHandler.next());
+        SQLStatisticsRegistry.getInstance().reset();
+    }
+    
+    @Test(expected = InvalidShardingCTLFormatException.class)
+    public void assertShowSQLStatisticsWithInvalidOrderType() {
+        new ShardingCTLShowBackendHandler("sctl:show sql_stats xx", backendConnection).execute();
+    }
+    
     @Test(expected = UnsupportedShardingCTLTypeException.class)
     public void assertShowCachedConnectionFailed() {
         backendConnection.setCurrentSchema("schema");
@@ -17,8 +17,10 @@
 
 package org.apache.shardingsphere.proxy.init.impl;
 
+import com.google.common.base.Strings;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLServerInfo;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.SchemaContext;
 import org.apache.shardingsphere.infra.context.SchemaContexts;
@@ -27,13 +29,22 @@ import org.apache.shardingsphere.infra.context.schema.DataSourceParameter;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypes;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
+import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.infra.spi.type.TypedSPIRegistry;
+import org.apache.shardingsphere.metrics.MetricsRegistry;
+import org.apache.shardingsphere.metrics.spi.MetricsExporter;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.PreparedStatementCache;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource.factory.JDBCRawBackendDataSourceFactory;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.recognizer.JDBCDriverURLRecognizerEngine;
+import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.slowlog.SlowQueryLogger;
 import org.apache.shardingsphere.proxy.config.ProxyConfiguration;
 import org.apache.shardingsphere.proxy.config.YamlProxyConfiguration;
 import org.apache.shardingsphere.proxy.db.DatabaseServerInfo;
 import org.apache.shardingsphere.proxy.frontend.ShardingSphereProxy;
+import org.apache.shardingsphere.proxy.frontend.executor.ChannelThreadExecutorGroup;
 import org.apache.shardingsphere.proxy.init.BootstrapInitializer;
 import org.apache.shardingsphere.tracing.opentracing.OpenTracingTracer;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
@@ -47,6 +58,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Properties;
 import java.util.stream.Collectors;
 
 /**
@@ -55,6 +67,10 @@ import java.util.stream.Collectors;
 @Slf4j
 public abstract class AbstractBootstrapInitializer implements BootstrapInitializer {
     
+    static {
+        ShardingSphereServiceLoader.register(MetricsExporter.class);
+    }
+    
     @Override
     public final void init(final YamlProxyConfiguration yamlConfig, final int port) throws SQLException {
         ProxyConfiguration proxyConfig = getProxyConfiguration(yamlConfig);
@@ -62,8 +78,14 @@ public abstract class AbstractBootstrapInitializer implements BootstrapInitializ
         TransactionContexts transactionContexts = decorateTransactionContexts(createTransactionContexts(schemaContexts));
         ProxyContext.getInstance().init(schemaContexts, transactionContexts);
         initOpenTracing();
-        setDatabaseServerInfo();
-        new ShardingSphereProxy().start(port);
+        Optional<MetricsExporter> metricsExporter = initMetrics();
+        try {
+            setDatabaseServerInfo();
+            warmUpSQLParser();
+            new ShardingSphereProxy().start(port);
+        } finally {
+            metricsExporter.ifPresent(MetricsExporter::close);
+        }
     }
     
     private SchemaContexts createSchemaContexts(final ProxyConfiguration proxyConfig) throws SQLException {
@@ -110,6 +132,40 @@ public abstract class AbstractBootstrapInitializer implements BootstrapInitializ
         }
     }
     
+    private Optional<MetricsExporter> initMetrics() {
+        ConfigurationProperties props = ProxyContext.getInstance().getSchemaContexts().getProps();
+        if (!props.<Boolean>getValue(ConfigurationPropertyKey.PROXY_METRICS_ENABLED)) {
+            return Optional.empty();
+        }
+        MetricsRegistry metricsRegistry = MetricsRegistry.getInstance();
+        metricsRegistry.registerGauge("shardingsphere_proxy_connections", "Count of active client connections of ShardingSphere-Proxy.",
+                () -> ChannelThreadExecutorGroup.getInstance().getChannelCount());
+        metricsRegistry.registerGauge("shardingsphere_executor_queue_size", "Count of SQL execution tasks waiting for executor threads.",
+                () -> BackendExecutorContext.getInstance().getExecutorKernel().getExecutorService().getQueueSize());
+        metricsRegistry.registerGauge("shardingsphere_connection_reservation_wait_nanos_total", "Total time in nanoseconds waiting to reserve backend connections.",
+                () -> ProxyContext.getInstance().getBackendDataSource().getReservationTotalWaitNanos());
+        metricsRegistry.registerGauge("shardingsphere_connection_reservation_wait_nanos_max", "Max time in nanoseconds waiting to reserve backend connections.",
+                () -> ProxyContext.getInstance().getBackendDataSource().getReservationMaxWaitNanos());
+        metricsRegistry.registerGauge("shardingsphere_connection_reservation_timeouts", "Count of backend connection reservations timed out.",
+                () -> ProxyContext.getInstance().getBackendDataSource().getReservationTimeoutCount());
+        if (props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)) {
+            metricsRegistry.registerGauge("shardingsphere_sql_logs_dropped", "Count of SQL logs dropped because the buffer is full.", SQLLogger::getDroppedCount);
+        }
+        if (props.<Long>getValue(ConfigurationPropertyKey.PROXY_SLOW_QUERY_THRESHOLD_MILLISECONDS) > 0L) {
+            metricsRegistry.registerGauge("shardingsphere_slow_query_logs_dropped", "Count of slow query logs dropped because the buffer is full.", SlowQueryLogger::getDroppedCount);
+        }
+        if (props.<Integer>getValue(ConfigurationPropertyKey.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE) > 0) {
+            metricsRegistry.registerGauge("shardingsphere_prepared_statement_cache_hits", "Count of prepared statements reused from backend connections.", PreparedStatementCache::getHitCount);
+            metricsRegistry.registerGauge("shardingsphere_prepared_statement_cache_misses", "Count of prepared statements prepared on backend connections.", PreparedStatementCache::getMissCount);
+        }
+        metricsRegistry.setEnabled(true);
+        Properties exporterProps = new Properties();
+        exporterProps.setProperty("port", String.valueOf(props.<Integer>getValue(ConfigurationPropertyKey.PROXY_METRICS_EXPORTER_PORT)));
+        MetricsExporter result = TypedSPIRegistry.getRegisteredService(MetricsExporter.class, props.getValue(ConfigurationPropertyKey.PROXY_METRICS_EXPORTER_TYPE), exporterProps);
+        result.start(metricsRegistry);
+        return Optional.of(result);
+    }
+    
     private void setDatabaseServerInfo() {
         Optional<DataSource> dataSourceSample = ProxyContext.getInstance().getDataSourceSample();
         if (dataSourceSample.isPresent()) {
@@ -119,6 +175,15 @@ public abstract class AbstractBootstrapInitializer implements BootstrapInitializ
         }
     }
     
+    private void warmUpSQLParser() {
+        String warmUpFile = ProxyContext.getInstance().getSchemaContexts().getProps().getValue(ConfigurationPropertyKey.PROXY_SQL_PARSER_WARMUP_FILE);
+        Optional<SchemaContext> schemaContext = ProxyContext.getInstance().getSchemaContexts().getSchemaContexts().values().stream().findFirst();
+        if (Strings.isNullOrEmpty(warmUpFile) || !schemaContext.isPresent()) {
+            return;
+        }
+        new SQLParserWarmUp(schemaContext.get().getRuntimeContext().getSqlParserEngine()).warmUp(warmUpFile);
+    }
+    
     protected abstract ProxyConfiguration getProxyConfiguration(YamlProxyConfiguration yamlConfig);
     
     protected abstract SchemaContexts decorateSchemaContexts(SchemaContexts schemaContexts);
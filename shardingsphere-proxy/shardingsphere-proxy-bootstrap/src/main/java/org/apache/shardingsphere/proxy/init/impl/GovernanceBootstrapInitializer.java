@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.init.impl;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.governance.context.schema.GovernanceSchemaContexts;
 import org.apache.shardingsphere.governance.context.transaction.GovernanceTransactionContexts;
+import org.apache.shardingsphere.governance.core.eventbus.ShardingSphereEventBus;
 import org.apache.shardingsphere.governance.core.facade.GovernanceFacade;
 import org.apache.shardingsphere.governance.core.yaml.swapper.GovernanceConfigurationYamlSwapper;
 import org.apache.shardingsphere.infra.auth.Authentication;
@@ -119,6 +120,7 @@ public final class GovernanceBootstrapInitializer extends AbstractBootstrapIniti
     
     @Override
     protected SchemaContexts decorateSchemaContexts(final SchemaContexts schemaContexts) {
+        ShardingSphereEventBus.getInstance().register(new PreparedStatementCacheInvalidator());
         return new GovernanceSchemaContexts(schemaContexts, governanceFacade);
     }
     
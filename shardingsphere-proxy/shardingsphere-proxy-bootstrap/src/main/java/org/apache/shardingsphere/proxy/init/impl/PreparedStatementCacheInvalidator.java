@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.init.impl;
+
+import com.google.common.eventbus.Subscribe;
+import org.apache.shardingsphere.governance.core.metadata.event.MetaDataChangedEvent;
+import org.apache.shardingsphere.governance.core.metadata.event.TableMetaDataChangedEvent;
+import org.apache.shardingsphere.infra.context.SchemaContext;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.rule.DataNodeRoutedRule;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.PreparedStatementCache;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.util.Collection;
+import java.util.HashSet;
+
+/**
+ * Prepared statement cache invalidator, which invalidates prepared statements of all backend connections after meta data is changed by other instances.
+ * 
+ * <p>Only prepared statements which reference the changed logic table or its actual tables are invalidated after table meta data is changed.</p>
+ */
+public final class PreparedStatementCacheInvalidator {
+    
+    /**
+     * Invalidate prepared statements after meta data of schema is changed.
+     *
+     * @param event meta data changed event
+     */
+    @Subscribe
+    public void invalidate(final MetaDataChangedEvent event) {
+        PreparedStatementCache.invalidateAll();
+    }
+    
+    /**
+     * Invalidate prepared statements after meta data of table is changed.
+     *
+     * @param event table meta data changed event
+     */
+    @Subscribe
+    public void invalidate(final TableMetaDataChangedEvent event) {
+        PreparedStatementCache.invalidate(getTableNames(event.getSchemaName(), event.getTableName()));
+    }
+    
+    private Collection<String> getTableNames(final String schemaName, final String logicTableName) {
+        Collection<String> result = new HashSet<>();
+        result.add(logicTableName);
+        SchemaContext schemaContext = ProxyContext.getInstance().getSchema(schemaName);
+        if (null == schemaContext) {
+            return result;
+        }
+        for (ShardingSphereRule each : schemaContext.getSchema().getRules()) {
+            if (each instanceof DataNodeRoutedRule) {
+                ((DataNodeRoutedRule) each).getAllDataNodes().getOrDefault(logicTableName, new HashSet<>()).stream().map(DataNode::getTableName).forEach(result::add);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.init.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.sql.parser.engine.SQLParserEngine;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * SQL parser warm-up, parse representative SQLs to fill the shared DFA cache of SQL parser before accepting connections.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class SQLParserWarmUp {
+    
+    private final SQLParserEngine sqlParserEngine;
+    
+    /**
+     * Warm up SQL parser.
+     * 
+     * <p>
+     * One SQL per line in warm-up file, blank lines and lines start with {@code --} are ignored.
+     * </p>
+     *
+     * @param warmUpFile warm-up file
+     * @return count of SQLs parsed successfully
+     */
+    public int warmUp(final String warmUpFile) {
+        List<String> sqls;
+        try {
+            sqls = Files.readAllLines(Paths.get(warmUpFile), StandardCharsets.UTF_8).stream().map(String::trim).filter(each -> !each.isEmpty() && !each.startsWith("--")).collect(Collectors.toList());
+        } catch (final IOException ex) {
+            log.warn("Read SQL parser warm-up file `{}` failed, warm-up is skipped.", warmUpFile, ex);
+            return 0;
+        }
+        long start = System.currentTimeMillis();
+        int result = 0;
+        for (String each : sqls) {
+            try {
+                sqlParserEngine.parse(each, false);
+                result++;
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                log.debug("Parse warm-up SQL `{}` failed.", each, ex);
+            }
+        }
+        log.info("Warm up SQL parser with {} SQLs finished, {} failed, cost {} milliseconds.", sqls.size(), sqls.size() - result, System.currentTimeMillis() - start);
+        return result;
+    }
+}
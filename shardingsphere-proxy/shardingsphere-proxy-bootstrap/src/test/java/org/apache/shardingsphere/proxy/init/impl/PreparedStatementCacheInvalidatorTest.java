@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.init.impl;
+
+import org.apache.shardingsphere.governance.core.metadata.event.MetaDataChangedEvent;
+import org.apache.shardingsphere.governance.core.metadata.event.TableMetaDataChangedEvent;
+import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
+import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaData;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.PreparedStatementCache;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.junit.Test;
+
+import java.sql.PreparedStatement;
+import java.util.Collections;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class PreparedStatementCacheInvalidatorTest {
+    
+    @Test
+    public void assertInvalidateWhenTableMetaDataChanged() {
+        PreparedStatementCache cache = createPreparedStatementCache();
+        cache.put("SELECT * FROM t_order_0 WHERE order_id = ?", false, ConnectionMode.MEMORY_STRICTLY, mock(PreparedStatement.class));
+        new PreparedStatementCacheInvalidator().invalidate(new TableMetaDataChangedEvent("sharding_db", null, "t_order", null));
+        assertFalse(cache.get("SELECT * FROM t_order_0 WHERE order_id = ?", false, ConnectionMode.MEMORY_STRICTLY).isPresent());
+        assertTrue(cache.get("SELECT 1", false, ConnectionMode.MEMORY_STRICTLY).isPresent());
+    }
+    
+    @Test
+    public void assertInvalidateWhenMetaDataChanged() {
+        PreparedStatementCache cache = createPreparedStatementCache();
+        new PreparedStatementCacheInvalidator().invalidate(new MetaDataChangedEvent(Collections.singletonList("sharding_db"), new RuleSchemaMetaData(new SchemaMetaData(), Collections.emptyMap())));
+        assertFalse(cache.get("SELECT 1", false, ConnectionMode.MEMORY_STRICTLY).isPresent());
+    }
+    
+    private PreparedStatementCache createPreparedStatementCache() {
+        PreparedStatementCache result = new PreparedStatementCache(2, each -> { });
+        result.put("SELECT 1", false, ConnectionMode.MEMORY_STRICTLY, mock(PreparedStatement.class));
+        return result;
+    }
+}
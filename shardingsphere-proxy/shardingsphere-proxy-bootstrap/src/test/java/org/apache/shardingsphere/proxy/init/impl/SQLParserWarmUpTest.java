@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.init.impl;
+
+import org.apache.shardingsphere.sql.parser.engine.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class SQLParserWarmUpTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void assertWarmUp() throws IOException {
+        Path warmUpFile = temporaryFolder.newFile("warmup.sql").toPath();
+        Files.write(warmUpFile, Arrays.asList("-- representative SQL", "SELECT * FROM t_order WHERE order_id = ?", "", "  UPDATE t_order SET status = ? WHERE order_id = ?  ", "UNSUPPORTED SQL"), StandardCharsets.UTF_8);
+        SQLParserEngine sqlParserEngine = mock(SQLParserEngine.class);
+        when(sqlParserEngine.parse("UNSUPPORTED SQL", false)).thenThrow(new SQLParsingException("Unsupported SQL"));
+        assertThat(new SQLParserWarmUp(sqlParserEngine).warmUp(warmUpFile.toString()), is(2));
+        verify(sqlParserEngine).parse("SELECT * FROM t_order WHERE order_id = ?", false);
+        verify(sqlParserEngine).parse("UPDATE t_order SET status = ? WHERE order_id = ?", false);
+        verify(sqlParserEngine, never()).parse("-- representative SQL", false);
+    }
+    
+    @Test
+    public void assertWarmUpWithAbsentFile() {
+        SQLParserEngine sqlParserEngine = mock(SQLParserEngine.class);
+        assertThat(new SQLParserWarmUp(sqlParserEngine).warmUp(temporaryFolder.getRoot().toPath().resolve("absent.sql").toString()), is(0));
+        verify(sqlParserEngine, never()).parse(anyString(), anyBoolean());
+    }
+}
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.infra.hook.RootInvokeHook;
 import org.apache.shardingsphere.infra.hook.SPIRootInvokeHook;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ConnectionStatusHandler;
+import org.apache.shardingsphere.proxy.backend.slowlog.SlowQueryContextHolder;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
@@ -60,8 +61,9 @@ public final class CommandExecutorTask implements Runnable {
      */
     @Override
     public void run() {
-        RootInvokeHook rootInvokeHook = new SPIRootInvokeHook();
-        rootInvokeHook.start();
+        RootInvokeHook rootInvokeHook = SPIRootInvokeHook.getInstance();
+        Object rootInvokeHookContext = rootInvokeHook.start();
+        SlowQueryContextHolder.begin();
         int connectionSize = 0;
         boolean isNeedFlush = false;
         try (BackendConnection backendConnection = this.backendConnection;
@@ -82,7 +84,8 @@ public final class CommandExecutorTask implements Runnable {
             if (isNeedFlush) {
                 context.flush();
             }
-            rootInvokeHook.finish(connectionSize);
+            rootInvokeHook.finish(rootInvokeHookContext, connectionSize);
+            SlowQueryContextHolder.finish();
         }
     }
     
@@ -69,6 +69,15 @@ public final class ChannelThreadExecutorGroup {
         return executorServices.get(channelId);
     }
     
+    /**
+     * Get count of registered channels.
+     *
+     * @return count of registered channels
+     */
+    public int getChannelCount() {
+        return executorServices.size();
+    }
+    
     /**
      * Unregister channel.
      *
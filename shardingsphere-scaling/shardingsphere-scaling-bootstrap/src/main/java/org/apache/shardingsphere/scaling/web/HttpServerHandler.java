@@ -33,6 +33,7 @@ import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.util.CharsetUtil;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.scaling.core.check.DataConsistencyCheckResult;
 import org.apache.shardingsphere.scaling.core.job.ShardingScalingJob;
 import org.apache.shardingsphere.scaling.core.config.ScalingConfiguration;
 import org.apache.shardingsphere.scaling.core.utils.SyncConfigurationUtil;
@@ -42,6 +43,7 @@ import org.apache.shardingsphere.scaling.core.exception.ScalingJobNotFoundExcept
 import org.apache.shardingsphere.scaling.utils.ResponseContentUtil;
 
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 /**
@@ -50,7 +52,7 @@ import java.util.regex.Pattern;
 @Slf4j
 public final class HttpServerHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
     
-    private static final Pattern URL_PATTERN = Pattern.compile("(^/scaling/job/(start|stop|list))|(^/scaling/job/progress/\\d+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern URL_PATTERN = Pattern.compile("(^/scaling/job/(start|stop|list))|(^/scaling/job/(progress|check)/\\d+)", Pattern.CASE_INSENSITIVE);
     
     private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().serializeNulls().create();
     
@@ -73,6 +75,10 @@ public final class HttpServerHandler extends SimpleChannelInboundHandler<FullHtt
             getJobProgress(context, requestPath);
             return;
         }
+        if (requestPath.contains("/scaling/job/check/") && method.equals(HttpMethod.GET)) {
+            checkJob(context, requestPath);
+            return;
+        }
         if ("/scaling/job/list".equalsIgnoreCase(requestPath) && method.equals(HttpMethod.GET)) {
             listAllJobs(context);
             return;
@@ -104,6 +110,16 @@ public final class HttpServerHandler extends SimpleChannelInboundHandler<FullHtt
         }
     }
     
+    private void checkJob(final ChannelHandlerContext context, final String requestPath) {
+        int jobId = Integer.parseInt(requestPath.split("/")[4]);
+        try {
+            Map<String, DataConsistencyCheckResult> checkResults = SCALING_JOB_CONTROLLER.check(jobId);
+            response(GSON.toJson(ResponseContentUtil.build(checkResults)), context, HttpResponseStatus.OK);
+        } catch (final ScalingJobNotFoundException ex) {
+            response(GSON.toJson(ResponseContentUtil.handleBadRequest(ex.getMessage())), context, HttpResponseStatus.BAD_REQUEST);
+        }
+    }
+    
     private void listAllJobs(final ChannelHandlerContext context) {
         List<ShardingScalingJob> shardingScalingJobs = SCALING_JOB_CONTROLLER.listShardingScalingJobs();
         response(GSON.toJson(ResponseContentUtil.build(shardingScalingJobs)), context, HttpResponseStatus.OK);
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.scaling.core;
 
+import org.apache.shardingsphere.scaling.core.check.DataConsistencyCheckResult;
+import org.apache.shardingsphere.scaling.core.check.DataConsistencyChecker;
 import org.apache.shardingsphere.scaling.core.job.ShardingScalingJob;
 import org.apache.shardingsphere.scaling.core.job.ScalingJobProgress;
 import org.apache.shardingsphere.scaling.core.job.SyncProgress;
@@ -27,6 +29,7 @@ import org.apache.shardingsphere.scaling.core.job.preparer.ShardingScalingJobPre
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -89,6 +92,19 @@ public final class ScalingJobController {
         return result;
     }
     
+    /**
+     * Check data consistency of sharding scaling job.
+     *
+     * @param shardingScalingJobId sharding scaling job id
+     * @return data consistency check results, key is logic table name
+     */
+    public Map<String, DataConsistencyCheckResult> check(final int shardingScalingJobId) {
+        if (!scalingJobMap.containsKey(shardingScalingJobId)) {
+            throw new ScalingJobNotFoundException(String.format("Can't find scaling job id %s", shardingScalingJobId));
+        }
+        return new DataConsistencyChecker().check(scalingJobMap.get(shardingScalingJobId));
+    }
+    
     /**
      * List all sharding scaling jobs.
      *
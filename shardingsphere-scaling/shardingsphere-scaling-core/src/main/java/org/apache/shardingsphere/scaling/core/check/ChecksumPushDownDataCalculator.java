@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.check;
+
+import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * Data calculator which pushes checksum down to MySQL as {@code SUM(CRC32(...))}.
+ */
+public final class ChecksumPushDownDataCalculator implements DataCalculator {
+    
+    @Override
+    public DataCalculateResult calculate(final DataSource dataSource, final String tableName, final Collection<String> columnNames,
+                                         final String primaryKey, final PrimaryKeyPosition range) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(buildSQL(tableName, columnNames, primaryKey, range))) {
+            if (null != range) {
+                preparedStatement.setLong(1, range.getBeginValue());
+                preparedStatement.setLong(2, range.getEndValue());
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() ? new DataCalculateResult(resultSet.getLong(1), resultSet.getLong(2)) : new DataCalculateResult(0L, 0L);
+            }
+        }
+    }
+    
+    private String buildSQL(final String tableName, final Collection<String> columnNames, final String primaryKey, final PrimaryKeyPosition range) {
+        String columns = columnNames.stream().map(each -> String.format("`%s`,ISNULL(`%s`)", each, each)).collect(Collectors.joining(","));
+        String result = String.format("SELECT COUNT(1),SUM(CRC32(CONCAT_WS('#',%s))) FROM `%s`", columns, tableName);
+        return null == range ? result : String.format("%s WHERE `%s` BETWEEN ? AND ?", result, primaryKey);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.check;
+
+import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Collection;
+
+/**
+ * Data calculator of data consistency check.
+ */
+public interface DataCalculator {
+    
+    /**
+     * Calculate record count and checksum of data range.
+     *
+     * @param dataSource data source
+     * @param tableName table name
+     * @param columnNames column names
+     * @param primaryKey primary key, null means check whole table
+     * @param range primary key range, null means check whole table
+     * @return calculate result
+     * @throws SQLException SQL exception
+     */
+    DataCalculateResult calculate(DataSource dataSource, String tableName, Collection<String> columnNames, String primaryKey, PrimaryKeyPosition range) throws SQLException;
+}
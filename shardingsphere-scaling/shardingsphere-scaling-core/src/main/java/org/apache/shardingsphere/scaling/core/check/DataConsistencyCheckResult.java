@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.check;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Data consistency check result of one logic table.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class DataConsistencyCheckResult {
+    
+    private final String tableName;
+    
+    private long sourceRecordCount;
+    
+    private long targetRecordCount;
+    
+    private int checkedRangeCount;
+    
+    private boolean matched = true;
+    
+    private final List<DataConsistencyRangeResult> mismatchedRanges = new LinkedList<>();
+    
+    /**
+     * Add checked range result.
+     *
+     * @param rangeResult range result
+     */
+    public void addRangeResult(final DataConsistencyRangeResult rangeResult) {
+        sourceRecordCount += rangeResult.getSource().getRecordCount();
+        targetRecordCount += rangeResult.getTarget().getRecordCount();
+        checkedRangeCount++;
+        if (!rangeResult.isMatched()) {
+            matched = false;
+            mismatchedRanges.add(rangeResult);
+        }
+    }
+}
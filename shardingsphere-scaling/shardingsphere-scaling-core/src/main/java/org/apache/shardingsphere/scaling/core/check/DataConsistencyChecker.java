@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.check;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.impl.ShardingSphereThreadFactoryBuilder;
+import org.apache.shardingsphere.scaling.core.config.DataSourceConfiguration;
+import org.apache.shardingsphere.scaling.core.config.JDBCDataSourceConfiguration;
+import org.apache.shardingsphere.scaling.core.config.ScalingContext;
+import org.apache.shardingsphere.scaling.core.config.SyncConfiguration;
+import org.apache.shardingsphere.scaling.core.datasource.DataSourceManager;
+import org.apache.shardingsphere.scaling.core.exception.DataCheckFailedException;
+import org.apache.shardingsphere.scaling.core.job.ShardingScalingJob;
+import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
+import org.apache.shardingsphere.scaling.core.metadata.MetaDataManager;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Data consistency checker of sharding scaling job.
+ *
+ * <p>
+ * Every logic table is split into primary key ranges by keyset pagination on the target logic table, each range holds at most chunk size target records.
+ * Record count and order independent checksum of each range are calculated on all source actual tables and on the target logic table in parallel,
+ * at most concurrency ranges are in flight, and only mismatched ranges are reported.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class DataConsistencyChecker {
+    
+    private final int concurrency;
+    
+    private final long chunkSize;
+    
+    public DataConsistencyChecker() {
+        this(ScalingContext.getInstance().getServerConfiguration().getDataConsistencyCheckConcurrency(),
+                ScalingContext.getInstance().getServerConfiguration().getDataConsistencyCheckChunkSize());
+    }
+    
+    /**
+     * Check data consistency of sharding scaling job.
+     *
+     * @param shardingScalingJob sharding scaling job
+     * @return data consistency check results, key is logic table name
+     */
+    public Map<String, DataConsistencyCheckResult> check(final ShardingScalingJob shardingScalingJob) {
+        List<SyncConfiguration> syncConfigurations = shardingScalingJob.getSyncConfigurations();
+        if (syncConfigurations.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(concurrency, ShardingSphereThreadFactoryBuilder.build("ShardingScaling-check-%d"));
+        try (DataSourceManager dataSourceManager = new DataSourceManager(syncConfigurations)) {
+            DataSource targetDataSource = dataSourceManager.getDataSource(syncConfigurations.get(0).getImporterConfiguration().getDataSourceConfiguration());
+            DataCalculator dataCalculator = createDataCalculator(syncConfigurations.get(0).getDumperConfiguration().getDataSourceConfiguration());
+            Map<String, DataConsistencyCheckResult> result = new LinkedHashMap<>();
+            for (Entry<String, Collection<ActualTable>> entry : getActualTables(syncConfigurations, dataSourceManager).entrySet()) {
+                result.put(entry.getKey(), checkTable(entry.getKey(), entry.getValue(), targetDataSource, dataCalculator, executorService));
+            }
+            return result;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+    
+    private DataCalculator createDataCalculator(final DataSourceConfiguration dataSourceConfiguration) {
+        if (dataSourceConfiguration instanceof JDBCDataSourceConfiguration && "MySQL".equals(((JDBCDataSourceConfiguration) dataSourceConfiguration).getDatabaseType().getName())) {
+            return new ChecksumPushDownDataCalculator();
+        }
+        return new StreamingDataCalculator();
+    }
+    
+    private Map<String, Collection<ActualTable>> getActualTables(final List<SyncConfiguration> syncConfigurations, final DataSourceManager dataSourceManager) {
+        Map<String, Collection<ActualTable>> result = new LinkedHashMap<>();
+        for (SyncConfiguration each : syncConfigurations) {
+            DataSource dataSource = dataSourceManager.getDataSource(each.getDumperConfiguration().getDataSourceConfiguration());
+            for (Entry<String, String> entry : each.getDumperConfiguration().getTableNameMap().entrySet()) {
+                result.computeIfAbsent(entry.getValue(), key -> new LinkedList<>()).add(new ActualTable(dataSource, entry.getKey()));
+            }
+        }
+        return result;
+    }
+    
+    private DataConsistencyCheckResult checkTable(final String logicTableName, final Collection<ActualTable> actualTables, final DataSource targetDataSource,
+                                                  final DataCalculator dataCalculator, final ExecutorService executorService) {
+        ActualTable firstActualTable = actualTables.iterator().next();
+        TableMetaData tableMetaData = new MetaDataManager(firstActualTable.getDataSource()).getTableMetaData(firstActualTable.getTableName());
+        if (null == tableMetaData) {
+            throw new DataCheckFailedException(String.format("Can not get meta data of table %s", firstActualTable.getTableName()));
+        }
+        Collection<String> columnNames = tableMetaData.getColumns().keySet();
+        String primaryKey = isIntegerPrimaryKey(tableMetaData) ? tableMetaData.getPrimaryKeyColumns().get(0) : null;
+        DataConsistencyCheckResult result = new DataConsistencyCheckResult(logicTableName);
+        Queue<RangeCalculation> calculations = new LinkedList<>();
+        try {
+            PrimaryKeyPosition boundary = null == primaryKey ? null : getBoundary(logicTableName, actualTables, targetDataSource, primaryKey);
+            if (null == boundary) {
+                calculations.add(submit(executorService, actualTables, targetDataSource, logicTableName, columnNames, primaryKey, null, dataCalculator));
+            } else {
+                long begin = boundary.getBeginValue();
+                while (true) {
+                    long end = findRangeEnd(targetDataSource, logicTableName, primaryKey, begin).filter(each -> each < boundary.getEndValue()).orElse(boundary.getEndValue());
+                    calculations.add(submit(executorService, actualTables, targetDataSource, logicTableName, columnNames, primaryKey, new PrimaryKeyPosition(begin, end), dataCalculator));
+                    if (calculations.size() >= concurrency) {
+                        result.addRangeResult(calculations.poll().getRangeResult());
+                    }
+                    if (end == boundary.getEndValue()) {
+                        break;
+                    }
+                    begin = end + 1;
+                }
+            }
+            while (!calculations.isEmpty()) {
+                result.addRangeResult(calculations.poll().getRangeResult());
+            }
+            return result;
+        } catch (final SQLException | ExecutionException ex) {
+            throw new DataCheckFailedException(String.format("Check data consistency of table %s failed", logicTableName), ex);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new DataCheckFailedException(String.format("Check data consistency of table %s interrupted", logicTableName), ex);
+        } finally {
+            for (RangeCalculation each : calculations) {
+                each.cancel();
+            }
+        }
+    }
+    
+    private RangeCalculation submit(final ExecutorService executorService, final Collection<ActualTable> actualTables, final DataSource targetDataSource, final String logicTableName,
+                                    final Collection<String> columnNames, final String primaryKey, final PrimaryKeyPosition range, final DataCalculator dataCalculator) {
+        return new RangeCalculation(range, executorService.submit(() -> calculateSource(actualTables, columnNames, primaryKey, range, dataCalculator)),
+                executorService.submit(() -> dataCalculator.calculate(targetDataSource, logicTableName, columnNames, primaryKey, range)));
+    }
+    
+    private boolean isIntegerPrimaryKey(final TableMetaData tableMetaData) {
+        if (1 != tableMetaData.getPrimaryKeyColumns().size()) {
+            return false;
+        }
+        int dataType = tableMetaData.getColumnMetaData(tableMetaData.findColumnIndex(tableMetaData.getPrimaryKeyColumns().get(0))).getDataType();
+        return Types.INTEGER == dataType || Types.BIGINT == dataType || Types.SMALLINT == dataType || Types.TINYINT == dataType;
+    }
+    
+    private PrimaryKeyPosition getBoundary(final String logicTableName, final Collection<ActualTable> actualTables,
+                                           final DataSource targetDataSource, final String primaryKey) throws SQLException {
+        PrimaryKeyPosition result = getBoundary(targetDataSource, logicTableName, primaryKey, null);
+        for (ActualTable each : actualTables) {
+            result = getBoundary(each.getDataSource(), each.getTableName(), primaryKey, result);
+        }
+        return result;
+    }
+    
+    private Optional<Long> findRangeEnd(final DataSource dataSource, final String tableName, final String primaryKey, final long begin) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            String quotedPrimaryKey = quote(connection, primaryKey);
+            String sql = String.format("SELECT MAX(%s) FROM (SELECT %s FROM %s WHERE %s >= ? ORDER BY %s LIMIT ?) range_keys",
+                    quotedPrimaryKey, quotedPrimaryKey, quote(connection, tableName), quotedPrimaryKey, quotedPrimaryKey);
+            try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                preparedStatement.setLong(1, begin);
+                preparedStatement.setLong(2, chunkSize);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    if (!resultSet.next()) {
+                        return Optional.empty();
+                    }
+                    long result = resultSet.getLong(1);
+                    return resultSet.wasNull() ? Optional.empty() : Optional.of(result);
+                }
+            }
+        }
+    }
+    
+    private PrimaryKeyPosition getBoundary(final DataSource dataSource, final String tableName, final String primaryKey, final PrimaryKeyPosition boundary) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            String quotedPrimaryKey = quote(connection, primaryKey);
+            try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("SELECT MIN(%s),MAX(%s) FROM %s", quotedPrimaryKey, quotedPrimaryKey, quote(connection, tableName)));
+                 ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return boundary;
+                }
+                long min = resultSet.getLong(1);
+                if (resultSet.wasNull()) {
+                    return boundary;
+                }
+                long max = resultSet.getLong(2);
+                return null == boundary ? new PrimaryKeyPosition(min, max) : new PrimaryKeyPosition(Math.min(min, boundary.getBeginValue()), Math.max(max, boundary.getEndValue()));
+            }
+        }
+    }
+    
+    private String quote(final Connection connection, final String identifier) throws SQLException {
+        String quoteString = connection.getMetaData().getIdentifierQuoteString().trim();
+        return quoteString + identifier + quoteString;
+    }
+    
+    private DataCalculateResult calculateSource(final Collection<ActualTable> actualTables, final Collection<String> columnNames, final String primaryKey,
+                                                final PrimaryKeyPosition range, final DataCalculator dataCalculator) throws SQLException {
+        DataCalculateResult result = new DataCalculateResult(0L, 0L);
+        for (ActualTable each : actualTables) {
+            result = result.merge(dataCalculator.calculate(each.getDataSource(), each.getTableName(), columnNames, primaryKey, range));
+        }
+        return result;
+    }
+    
+    private DataConsistencyRangeResult createRangeResult(final PrimaryKeyPosition range, final DataCalculateResult source, final DataCalculateResult target) {
+        return null == range ? new DataConsistencyRangeResult(null, null, source, target) : new DataConsistencyRangeResult(range.getBeginValue(), range.getEndValue(), source, target);
+    }
+    
+    @RequiredArgsConstructor
+    private final class RangeCalculation {
+        
+        private final PrimaryKeyPosition range;
+        
+        private final Future<DataCalculateResult> sourceFuture;
+        
+        private final Future<DataCalculateResult> targetFuture;
+        
+        private DataConsistencyRangeResult getRangeResult() throws InterruptedException, ExecutionException {
+            return createRangeResult(range, sourceFuture.get(), targetFuture.get());
+        }
+        
+        private void cancel() {
+            sourceFuture.cancel(true);
+            targetFuture.cancel(true);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class ActualTable {
+        
+        private final DataSource dataSource;
+        
+        private final String tableName;
+    }
+}
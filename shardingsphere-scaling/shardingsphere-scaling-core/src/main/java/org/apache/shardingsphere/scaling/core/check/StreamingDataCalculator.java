@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.check;
+
+import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+/**
+ * Data calculator which streams the data range and calculates checksum in memory, for dialects without checksum push down.
+ */
+public final class StreamingDataCalculator implements DataCalculator {
+    
+    private static final int FETCH_SIZE = 1000;
+    
+    @Override
+    public DataCalculateResult calculate(final DataSource dataSource, final String tableName, final Collection<String> columnNames,
+                                         final String primaryKey, final PrimaryKeyPosition range) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(buildSQL(connection.getMetaData().getIdentifierQuoteString().trim(), tableName, columnNames, primaryKey, range))) {
+            preparedStatement.setFetchSize(FETCH_SIZE);
+            if (null != range) {
+                preparedStatement.setLong(1, range.getBeginValue());
+                preparedStatement.setLong(2, range.getEndValue());
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return calculate(resultSet, columnNames.size());
+            }
+        }
+    }
+    
+    private String buildSQL(final String quoteString, final String tableName, final Collection<String> columnNames, final String primaryKey, final PrimaryKeyPosition range) {
+        String columns = columnNames.stream().map(each -> quoteString + each + quoteString).collect(Collectors.joining(","));
+        String result = String.format("SELECT %s FROM %s%s%s", columns, quoteString, tableName, quoteString);
+        return null == range ? result : String.format("%s WHERE %s%s%s BETWEEN ? AND ?", result, quoteString, primaryKey, quoteString);
+    }
+    
+    private DataCalculateResult calculate(final ResultSet resultSet, final int columnCount) throws SQLException {
+        long recordCount = 0L;
+        long checksum = 0L;
+        CRC32 crc32 = new CRC32();
+        while (resultSet.next()) {
+            crc32.reset();
+            for (int i = 1; i <= columnCount; i++) {
+                String value = resultSet.getString(i);
+                if (null == value) {
+                    crc32.update(0);
+                } else {
+                    crc32.update(value.getBytes(StandardCharsets.UTF_8));
+                }
+                crc32.update('#');
+            }
+            recordCount++;
+            checksum += crc32.getValue();
+        }
+        return new DataCalculateResult(recordCount, checksum);
+    }
+}
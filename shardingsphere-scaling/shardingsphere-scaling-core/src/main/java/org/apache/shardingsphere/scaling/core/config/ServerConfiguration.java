@@ -37,5 +37,23 @@ public final class ServerConfiguration implements YamlConfiguration {
     
     private int workerThread = 30;
     
+    private int dataSourceConcurrency = 1;
+    
+    private int dataSourceRowsPerSecond;
+    
+    private int jobConcurrency;
+    
+    private int jobRowsPerSecond;
+    
+    private int dataConsistencyCheckConcurrency = 8;
+    
+    private long dataConsistencyCheckChunkSize = 100000L;
+    
+    private String diskChannelPath;
+    
+    private int diskChannelSegmentSize = 64 * 1024 * 1024;
+    
+    private int diskChannelFlushInterval = 1000;
+    
     private YamlGovernanceConfiguration resumeBreakPoint;
 }
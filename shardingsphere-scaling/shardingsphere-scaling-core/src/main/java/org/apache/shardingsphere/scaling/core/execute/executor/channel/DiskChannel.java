@@ -0,0 +1,473 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.execute.executor.channel;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.scaling.core.config.ScalingContext;
+import org.apache.shardingsphere.scaling.core.config.ServerConfiguration;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.FinishedRecord;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.PlaceholderRecord;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.Record;
+import org.apache.shardingsphere.scaling.core.job.position.NopPosition;
+import org.apache.shardingsphere.scaling.core.job.position.Position;
+import org.apache.shardingsphere.scaling.core.utils.ThreadUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.zip.CRC32;
+
+/**
+ * Disk channel.
+ *
+ * <p>
+ * Records are appended to memory-mapped segment files under the channel directory and forced to disk periodically,
+ * so the dumper is not blocked by a slow importer. Every consumer reads the log at its own offset and picks records by the same
+ * hash as {@code DistributionChannel}, segments are removed once all consumers acknowledged them,
+ * and the acknowledged offset is persisted so that a restarted channel replays the unacknowledged records.
+ * Mapped segments are unmapped when they are deleted or the channel is closed.
+ * </p>
+ */
+@Slf4j
+public final class DiskChannel implements Channel {
+    
+    private static final String SEGMENT_FILE_SUFFIX = ".log";
+    
+    private static final String OFFSET_FILE_NAME = "offset";
+    
+    private static final int FRAME_HEADER_LENGTH = 9;
+    
+    private static final int END_OF_SEGMENT = -1;
+    
+    private static final int BROADCAST = -1;
+    
+    private static final int NO_CONSUMER = -2;
+    
+    private final File directory;
+    
+    private final int segmentSize;
+    
+    private final int flushInterval;
+    
+    private final RecordSerializer recordSerializer;
+    
+    private final AckCallback ackCallback;
+    
+    private final List<ConsumerOffset> consumers;
+    
+    /**
+     * key = thread id, value = consumer.
+     */
+    private final Map<Long, ConsumerOffset> consumerAssignment = new ConcurrentHashMap<>();
+    
+    /**
+     * key = base offset, value = segment.
+     */
+    private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    
+    private Segment activeSegment;
+    
+    private volatile long writeOffset;
+    
+    private long lastFrameOffset = -1L;
+    
+    private long ackedOffset;
+    
+    private long lastForceMillis = System.currentTimeMillis();
+    
+    private boolean closed;
+    
+    public DiskChannel(final File directory, final int consumerCount, final RecordSerializer recordSerializer, final AckCallback ackCallback) {
+        ServerConfiguration serverConfiguration = ScalingContext.getInstance().getServerConfiguration();
+        this.directory = directory;
+        segmentSize = serverConfiguration.getDiskChannelSegmentSize();
+        flushInterval = serverConfiguration.getDiskChannelFlushInterval();
+        this.recordSerializer = recordSerializer;
+        this.ackCallback = ackCallback;
+        recover();
+        consumers = new ArrayList<>(consumerCount);
+        for (int i = 0; i < consumerCount; i++) {
+            consumers.add(new ConsumerOffset(i, ackedOffset));
+        }
+    }
+    
+    @SneakyThrows(IOException.class)
+    private void recover() {
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException(String.format("Can not create disk channel directory %s", directory));
+        }
+        ackedOffset = loadAckedOffset();
+        File[] segmentFiles = directory.listFiles((dir, name) -> name.endsWith(SEGMENT_FILE_SUFFIX));
+        for (File each : null == segmentFiles ? new File[0] : segmentFiles) {
+            long baseOffset = Long.parseLong(each.getName().substring(0, each.getName().length() - SEGMENT_FILE_SUFFIX.length()));
+            if (baseOffset + each.length() <= ackedOffset) {
+                deleteFile(each);
+            } else {
+                segments.put(baseOffset, new Segment(each, baseOffset, map(each, each.length())));
+            }
+        }
+        if (segments.isEmpty()) {
+            activeSegment = createSegment(ackedOffset, segmentSize);
+            writeOffset = ackedOffset;
+            return;
+        }
+        activeSegment = segments.lastEntry().getValue();
+        writeOffset = activeSegment.getBaseOffset() + recoverWritePosition(activeSegment);
+    }
+    
+    private long loadAckedOffset() throws IOException {
+        File offsetFile = new File(directory, OFFSET_FILE_NAME);
+        if (!offsetFile.exists()) {
+            return 0L;
+        }
+        return Long.parseLong(new String(Files.readAllBytes(offsetFile.toPath()), StandardCharsets.UTF_8).trim());
+    }
+    
+    private int recoverWritePosition(final Segment segment) {
+        int result = 0;
+        while (segment.getCapacity() - result >= FRAME_HEADER_LENGTH) {
+            int length = segment.getBuffer().getInt(result);
+            if (length <= 0 || result + FRAME_HEADER_LENGTH + length > segment.getCapacity() || segment.getBuffer().getInt(result + 4) != crc(readPayload(segment, result, length))) {
+                break;
+            }
+            lastFrameOffset = segment.getBaseOffset() + result;
+            result += FRAME_HEADER_LENGTH + length;
+        }
+        return result;
+    }
+    
+    /**
+     * Get position of the last record which was persisted but not acknowledged yet.
+     *
+     * <p>
+     * A restarted dumper can continue from this position instead of re-reading the records kept in the channel.
+     * </p>
+     *
+     * @return position
+     */
+    public Optional<Position> getLastPersistedPosition() {
+        if (-1L == lastFrameOffset || lastFrameOffset < ackedOffset) {
+            return Optional.empty();
+        }
+        Position result = readRecord(lastFrameOffset).getPosition();
+        return result instanceof NopPosition ? Optional.empty() : Optional.of(result);
+    }
+    
+    @Override
+    public void pushRecord(final Record record) {
+        int partition = getPartition(record);
+        byte[] payload = recordSerializer.serialize(record);
+        int frameLength = FRAME_HEADER_LENGTH + payload.length;
+        if (writeOffset + frameLength > activeSegment.getEndOffset()) {
+            rollSegment(frameLength);
+        }
+        int position = (int) (writeOffset - activeSegment.getBaseOffset());
+        MappedByteBuffer buffer = activeSegment.getBuffer();
+        buffer.putInt(position + 4, crc(payload));
+        buffer.put(position + 8, (byte) partition);
+        ByteBuffer payloadBuffer = buffer.duplicate();
+        payloadBuffer.position(position + FRAME_HEADER_LENGTH);
+        payloadBuffer.put(payload);
+        buffer.putInt(position, payload.length);
+        lastFrameOffset = writeOffset;
+        writeOffset += frameLength;
+        forceIfNecessary();
+    }
+    
+    private int getPartition(final Record record) {
+        if (FinishedRecord.class.equals(record.getClass())) {
+            return BROADCAST;
+        }
+        if (DataRecord.class.equals(record.getClass())) {
+            // hash by table name and primary key value
+            return Math.abs(record.hashCode()) % consumers.size();
+        }
+        if (PlaceholderRecord.class.equals(record.getClass())) {
+            return NO_CONSUMER;
+        }
+        throw new RuntimeException("Not Support Record Type");
+    }
+    
+    private void rollSegment(final int frameLength) {
+        int position = (int) (writeOffset - activeSegment.getBaseOffset());
+        if (activeSegment.getCapacity() - position >= 4) {
+            activeSegment.getBuffer().putInt(position, END_OF_SEGMENT);
+        }
+        activeSegment.getBuffer().force();
+        lastForceMillis = System.currentTimeMillis();
+        long baseOffset = activeSegment.getEndOffset();
+        activeSegment = createSegment(baseOffset, Math.max(segmentSize, frameLength));
+        writeOffset = baseOffset;
+    }
+    
+    private void forceIfNecessary() {
+        long now = System.currentTimeMillis();
+        if (now - lastForceMillis >= flushInterval) {
+            activeSegment.getBuffer().force();
+            lastForceMillis = now;
+        }
+    }
+    
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final int timeout) {
+        ConsumerOffset consumer = findConsumer();
+        List<Record> result = new ArrayList<>(batchSize);
+        long start = System.currentTimeMillis();
+        while (true) {
+            readRecords(consumer, batchSize, result);
+            if (batchSize <= result.size() || timeout * 1000L <= System.currentTimeMillis() - start) {
+                break;
+            }
+            ThreadUtil.sleep(100L);
+        }
+        return result;
+    }
+    
+    private void readRecords(final ConsumerOffset consumer, final int batchSize, final List<Record> records) {
+        while (batchSize > records.size() && consumer.getReadOffset() < writeOffset) {
+            Segment segment = segments.floorEntry(consumer.getReadOffset()).getValue();
+            int position = (int) (consumer.getReadOffset() - segment.getBaseOffset());
+            if (segment.getCapacity() - position < FRAME_HEADER_LENGTH || END_OF_SEGMENT == segment.getBuffer().getInt(position)) {
+                consumer.setReadOffset(segment.getEndOffset());
+                continue;
+            }
+            int length = segment.getBuffer().getInt(position);
+            int partition = segment.getBuffer().get(position + 8);
+            consumer.setLastReadFrameOffset(consumer.getReadOffset());
+            consumer.setReadOffset(consumer.getReadOffset() + FRAME_HEADER_LENGTH + length);
+            if (BROADCAST == partition || consumer.getIndex() == partition) {
+                records.add(recordSerializer.deserialize(readPayload(segment, position, length)));
+            }
+        }
+    }
+    
+    @Override
+    public synchronized void ack() {
+        ConsumerOffset consumer = findConsumer();
+        consumer.setAckedOffset(consumer.getReadOffset());
+        consumer.setLastAckedFrameOffset(consumer.getLastReadFrameOffset());
+        ConsumerOffset slowest = Collections.min(consumers, (o1, o2) -> Long.compare(o1.getAckedOffset(), o2.getAckedOffset()));
+        if (slowest.getAckedOffset() <= ackedOffset) {
+            return;
+        }
+        long previousAckedOffset = ackedOffset;
+        ackedOffset = slowest.getAckedOffset();
+        Record lastAckedRecord = slowest.getLastAckedFrameOffset() >= previousAckedOffset ? readRecord(slowest.getLastAckedFrameOffset()) : null;
+        persistAckedOffset();
+        deleteAckedSegments();
+        if (null != lastAckedRecord) {
+            ackCallback.onAck(Collections.singletonList(lastAckedRecord));
+        }
+    }
+    
+    @SneakyThrows(IOException.class)
+    private void persistAckedOffset() {
+        File tempFile = new File(directory, OFFSET_FILE_NAME + ".tmp");
+        Files.write(tempFile.toPath(), Long.toString(ackedOffset).getBytes(StandardCharsets.UTF_8));
+        Files.move(tempFile.toPath(), new File(directory, OFFSET_FILE_NAME).toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    
+    private void deleteAckedSegments() {
+        Iterator<Segment> iterator = segments.headMap(ackedOffset, true).values().iterator();
+        while (iterator.hasNext()) {
+            Segment each = iterator.next();
+            if (each.getEndOffset() <= ackedOffset && each != activeSegment) {
+                iterator.remove();
+                unmap(each.getBuffer());
+                deleteFile(each.getFile());
+            }
+        }
+    }
+    
+    private void deleteFile(final File file) {
+        if (!file.delete()) {
+            log.warn("delete disk channel file {} failed", file);
+        }
+    }
+    
+    private Record readRecord(final long frameOffset) {
+        Segment segment = segments.floorEntry(frameOffset).getValue();
+        int position = (int) (frameOffset - segment.getBaseOffset());
+        return recordSerializer.deserialize(readPayload(segment, position, segment.getBuffer().getInt(position)));
+    }
+    
+    private byte[] readPayload(final Segment segment, final int position, final int length) {
+        byte[] result = new byte[length];
+        ByteBuffer buffer = segment.getBuffer().duplicate();
+        buffer.position(position + FRAME_HEADER_LENGTH);
+        buffer.get(result);
+        return result;
+    }
+    
+    private int crc(final byte[] payload) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(payload);
+        return (int) crc32.getValue();
+    }
+    
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        activeSegment.getBuffer().force();
+        for (Segment each : segments.values()) {
+            unmap(each.getBuffer());
+        }
+    }
+    
+    /**
+     * Close channel and delete its directory with all segments and the acknowledged offset.
+     *
+     * <p>
+     * Called when the task completes or stops, so the records are not replayed by a later job.
+     * </p>
+     */
+    public synchronized void destroy() {
+        close();
+        File[] files = directory.listFiles();
+        for (File each : null == files ? new File[0] : files) {
+            deleteFile(each);
+        }
+        deleteFile(directory);
+        segments.clear();
+    }
+    
+    private void unmap(final MappedByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafeField = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafeField.setAccessible(true);
+            unsafeClass.getMethod("invokeCleaner", ByteBuffer.class).invoke(theUnsafeField.get(null), buffer);
+        } catch (final NoSuchMethodException ignored) {
+            unmapBeforeJava9(buffer);
+        } catch (final ReflectiveOperationException ex) {
+            log.warn("unmap disk channel segment failed", ex);
+        }
+    }
+    
+    private void unmapBeforeJava9(final MappedByteBuffer buffer) {
+        try {
+            Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            Object cleaner = cleanerMethod.invoke(buffer);
+            if (null != cleaner) {
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+        } catch (final ReflectiveOperationException ex) {
+            log.warn("unmap disk channel segment failed", ex);
+        }
+    }
+    
+    private ConsumerOffset findConsumer() {
+        ConsumerOffset result = consumerAssignment.get(Thread.currentThread().getId());
+        return null == result ? assignConsumer(Thread.currentThread().getId()) : result;
+    }
+    
+    private ConsumerOffset assignConsumer(final long threadId) {
+        synchronized (consumerAssignment) {
+            if (consumerAssignment.containsKey(threadId)) {
+                return consumerAssignment.get(threadId);
+            }
+            for (ConsumerOffset each : consumers) {
+                if (!consumerAssignment.containsValue(each)) {
+                    consumerAssignment.put(threadId, each);
+                    return each;
+                }
+            }
+        }
+        throw new RuntimeException(String.format("No disk channel consumer left for thread %d", threadId));
+    }
+    
+    private Segment createSegment(final long baseOffset, final int capacity) {
+        File segmentFile = new File(directory, String.format("%020d%s", baseOffset, SEGMENT_FILE_SUFFIX));
+        Segment result = new Segment(segmentFile, baseOffset, map(segmentFile, capacity));
+        segments.put(baseOffset, result);
+        return result;
+    }
+    
+    @SneakyThrows(IOException.class)
+    private MappedByteBuffer map(final File segmentFile, final long capacity) {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(segmentFile, "rw")) {
+            return randomAccessFile.getChannel().map(MapMode.READ_WRITE, 0, capacity);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class Segment {
+        
+        private final File file;
+        
+        private final long baseOffset;
+        
+        private final MappedByteBuffer buffer;
+        
+        int getCapacity() {
+            return buffer.capacity();
+        }
+        
+        long getEndOffset() {
+            return baseOffset + buffer.capacity();
+        }
+    }
+    
+    @Getter
+    @Setter
+    private static final class ConsumerOffset {
+        
+        private final int index;
+        
+        private volatile long readOffset;
+        
+        private long lastReadFrameOffset = -1L;
+        
+        private long ackedOffset;
+        
+        private long lastAckedFrameOffset = -1L;
+        
+        ConsumerOffset(final int index, final long offset) {
+            this.index = index;
+            readOffset = offset;
+            ackedOffset = offset;
+        }
+    }
+}
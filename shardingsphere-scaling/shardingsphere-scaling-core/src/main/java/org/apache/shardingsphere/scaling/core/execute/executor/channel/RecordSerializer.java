@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.execute.executor.channel;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.FinishedRecord;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.PlaceholderRecord;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.Record;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.RecordSchema;
+import org.apache.shardingsphere.scaling.core.job.position.NopPosition;
+import org.apache.shardingsphere.scaling.core.job.position.Position;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Record serializer, used to persist records into disk channel.
+ *
+ * <p>
+ * Positions are written as their json form and read back by the position deserializer, finished records always come back with {@code NopPosition}.
+ * Record schema of data record is written before the updated column bitmap and column values, and schemas read back are shared by equal records.
+ * Column values of common JDBC types are written in a compact binary form, others fall back to java serialization.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class RecordSerializer {
+    
+    private static final byte DATA_RECORD = 1;
+    
+    private static final byte PLACEHOLDER_RECORD = 2;
+    
+    private static final byte FINISHED_RECORD = 3;
+    
+    private static final byte NULL_VALUE = 0;
+    
+    private static final byte STRING_VALUE = 1;
+    
+    private static final byte INTEGER_VALUE = 2;
+    
+    private static final byte LONG_VALUE = 3;
+    
+    private static final byte DOUBLE_VALUE = 4;
+    
+    private static final byte BOOLEAN_VALUE = 5;
+    
+    private static final byte BIG_DECIMAL_VALUE = 6;
+    
+    private static final byte BYTES_VALUE = 7;
+    
+    private static final byte SERIALIZED_VALUE = 8;
+    
+    private final Function<String, Position> positionDeserializer;
+    
+    private final ConcurrentMap<RecordSchema, RecordSchema> recordSchemas = new ConcurrentHashMap<>();
+    
+    /**
+     * Serialize record.
+     *
+     * @param record record
+     * @return serialized bytes
+     */
+    @SneakyThrows(IOException.class)
+    public byte[] serialize(final Record record) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream(256);
+        DataOutputStream output = new DataOutputStream(result);
+        if (DataRecord.class.equals(record.getClass())) {
+            output.writeByte(DATA_RECORD);
+            writeRecordHeader(output, record);
+            writeDataRecord(output, (DataRecord) record);
+        } else if (PlaceholderRecord.class.equals(record.getClass())) {
+            output.writeByte(PLACEHOLDER_RECORD);
+            writeRecordHeader(output, record);
+        } else if (FinishedRecord.class.equals(record.getClass())) {
+            output.writeByte(FINISHED_RECORD);
+            output.writeLong(record.getCommitTime());
+        } else {
+            throw new RuntimeException("Not Support Record Type");
+        }
+        output.flush();
+        return result.toByteArray();
+    }
+    
+    private void writeRecordHeader(final DataOutputStream output, final Record record) throws IOException {
+        writeString(output, record.getPosition().toJson().toString());
+        output.writeLong(record.getCommitTime());
+    }
+    
+    private void writeDataRecord(final DataOutputStream output, final DataRecord dataRecord) throws IOException {
+        writeString(output, dataRecord.getType());
+        writeRecordSchema(output, dataRecord.getSchema());
+        writeBytes(output, dataRecord.getUpdatedColumns().toByteArray());
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            writeValue(output, dataRecord.getValue(i));
+        }
+    }
+    
+    private void writeRecordSchema(final DataOutputStream output, final RecordSchema schema) throws IOException {
+        writeString(output, schema.getTableName());
+        output.writeInt(schema.getColumnCount());
+        for (int i = 0; i < schema.getColumnCount(); i++) {
+            writeString(output, schema.getColumnName(i));
+            output.writeBoolean(schema.isPrimaryKey(i));
+        }
+    }
+    
+    private void writeValue(final DataOutputStream output, final Object value) throws IOException {
+        if (null == value) {
+            output.writeByte(NULL_VALUE);
+        } else if (value instanceof String) {
+            output.writeByte(STRING_VALUE);
+            writeString(output, (String) value);
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER_VALUE);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG_VALUE);
+            output.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE_VALUE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN_VALUE);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof BigDecimal) {
+            output.writeByte(BIG_DECIMAL_VALUE);
+            writeString(output, value.toString());
+        } else if (value instanceof byte[]) {
+            output.writeByte(BYTES_VALUE);
+            writeBytes(output, (byte[]) value);
+        } else {
+            output.writeByte(SERIALIZED_VALUE);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream objectOutput = new ObjectOutputStream(bytes)) {
+                objectOutput.writeObject(value);
+            }
+            writeBytes(output, bytes.toByteArray());
+        }
+    }
+    
+    private void writeString(final DataOutputStream output, final String value) throws IOException {
+        if (null == value) {
+            output.writeInt(-1);
+            return;
+        }
+        writeBytes(output, value.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private void writeBytes(final DataOutputStream output, final byte[] value) throws IOException {
+        output.writeInt(value.length);
+        output.write(value);
+    }
+    
+    /**
+     * Deserialize record.
+     *
+     * @param bytes serialized bytes
+     * @return record
+     */
+    @SneakyThrows(IOException.class)
+    public Record deserialize(final byte[] bytes) {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+        byte recordType = input.readByte();
+        switch (recordType) {
+            case DATA_RECORD:
+                return readDataRecord(input);
+            case PLACEHOLDER_RECORD:
+                PlaceholderRecord placeholderRecord = new PlaceholderRecord(positionDeserializer.apply(readString(input)));
+                placeholderRecord.setCommitTime(input.readLong());
+                return placeholderRecord;
+            case FINISHED_RECORD:
+                FinishedRecord finishedRecord = new FinishedRecord(new NopPosition());
+                finishedRecord.setCommitTime(input.readLong());
+                return finishedRecord;
+            default:
+                throw new RuntimeException(String.format("Not Support Record Type %d", recordType));
+        }
+    }
+    
+    private DataRecord readDataRecord(final DataInputStream input) throws IOException {
+        Position position = positionDeserializer.apply(readString(input));
+        long commitTime = input.readLong();
+        String type = readString(input);
+        RecordSchema schema = readRecordSchema(input);
+        BitSet updatedColumns = BitSet.valueOf(readBytes(input));
+        DataRecord result = new DataRecord(position, schema);
+        result.setCommitTime(commitTime);
+        result.setType(type);
+        for (int i = 0; i < schema.getColumnCount(); i++) {
+            result.setValue(i, readValue(input), updatedColumns.get(i));
+        }
+        return result;
+    }
+    
+    private RecordSchema readRecordSchema(final DataInputStream input) throws IOException {
+        String tableName = readString(input);
+        int columnCount = input.readInt();
+        List<String> columnNames = new ArrayList<>(columnCount);
+        BitSet primaryKeyColumns = new BitSet(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            columnNames.add(readString(input));
+            primaryKeyColumns.set(i, input.readBoolean());
+        }
+        RecordSchema result = new RecordSchema(tableName, columnNames, primaryKeyColumns);
+        RecordSchema existed = recordSchemas.putIfAbsent(result, result);
+        return null == existed ? result : existed;
+    }
+    
+    private Object readValue(final DataInputStream input) throws IOException {
+        byte valueType = input.readByte();
+        switch (valueType) {
+            case NULL_VALUE:
+                return null;
+            case STRING_VALUE:
+                return readString(input);
+            case INTEGER_VALUE:
+                return input.readInt();
+            case LONG_VALUE:
+                return input.readLong();
+            case DOUBLE_VALUE:
+                return input.readDouble();
+            case BOOLEAN_VALUE:
+                return input.readBoolean();
+            case BIG_DECIMAL_VALUE:
+                return new BigDecimal(readString(input));
+            case BYTES_VALUE:
+                return readBytes(input);
+            case SERIALIZED_VALUE:
+                return readSerializedValue(readBytes(input));
+            default:
+                throw new RuntimeException(String.format("Not Support Value Type %d", valueType));
+        }
+    }
+    
+    @SneakyThrows(ClassNotFoundException.class)
+    private Object readSerializedValue(final byte[] bytes) throws IOException {
+        try (ObjectInputStream objectInput = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return objectInput.readObject();
+        }
+    }
+    
+    private String readString(final DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (-1 == length) {
+            return null;
+        }
+        byte[] result = new byte[length];
+        input.readFully(result);
+        return new String(result, StandardCharsets.UTF_8);
+    }
+    
+    private byte[] readBytes(final DataInputStream input) throws IOException {
+        byte[] result = new byte[input.readInt()];
+        input.readFully(result);
+        return result;
+    }
+}
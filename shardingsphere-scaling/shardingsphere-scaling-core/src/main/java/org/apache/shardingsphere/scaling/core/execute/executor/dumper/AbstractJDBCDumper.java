@@ -28,10 +28,10 @@ import org.apache.shardingsphere.scaling.core.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.exception.SyncTaskExecuteException;
 import org.apache.shardingsphere.scaling.core.execute.executor.AbstractShardingScalingExecutor;
 import org.apache.shardingsphere.scaling.core.execute.executor.channel.Channel;
-import org.apache.shardingsphere.scaling.core.execute.executor.record.Column;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.FinishedRecord;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.Record;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.RecordSchema;
 import org.apache.shardingsphere.scaling.core.job.position.FinishedInventoryPosition;
 import org.apache.shardingsphere.scaling.core.job.position.InventoryPosition;
 import org.apache.shardingsphere.scaling.core.job.position.NopPosition;
@@ -46,6 +46,9 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 
 /**
  * Abstract JDBC dumper implement.
@@ -89,12 +92,12 @@ public abstract class AbstractJDBCDumper extends AbstractShardingScalingExecutor
             PreparedStatement ps = createPreparedStatement(conn, sql);
             ResultSet rs = ps.executeQuery();
             ResultSetMetaData metaData = rs.getMetaData();
+            RecordSchema schema = createRecordSchema(metaData);
             while (isRunning() && rs.next()) {
-                DataRecord record = new DataRecord(newInventoryPosition(rs), metaData.getColumnCount());
+                DataRecord record = new DataRecord(newInventoryPosition(rs), schema);
                 record.setType(ScalingConstant.INSERT);
-                record.setTableName(inventoryDumperConfiguration.getTableNameMap().get(inventoryDumperConfiguration.getTableName()));
-                for (int i = 1; i <= metaData.getColumnCount(); i++) {
-                    record.addColumn(new Column(metaData.getColumnName(i), readValue(rs, i), true, tableMetaData.isPrimaryKey(i)));
+                for (int i = 1; i <= schema.getColumnCount(); i++) {
+                    record.setValue(i - 1, readValue(rs, i), true);
                 }
                 pushRecord(record);
             }
@@ -108,6 +111,18 @@ public abstract class AbstractJDBCDumper extends AbstractShardingScalingExecutor
         }
     }
     
+    private RecordSchema createRecordSchema(final ResultSetMetaData metaData) throws SQLException {
+        List<String> columnNames = new ArrayList<>(metaData.getColumnCount());
+        BitSet primaryKeyColumns = new BitSet(metaData.getColumnCount());
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            columnNames.add(metaData.getColumnName(i));
+            if (tableMetaData.isPrimaryKey(i - 1)) {
+                primaryKeyColumns.set(i - 1);
+            }
+        }
+        return new RecordSchema(inventoryDumperConfiguration.getTableNameMap().get(inventoryDumperConfiguration.getTableName()), columnNames, primaryKeyColumns);
+    }
+    
     private InventoryPosition newInventoryPosition(final ResultSet rs) throws SQLException {
         if (null == inventoryDumperConfiguration.getPrimaryKey()) {
             return new PlaceholderInventoryPosition();
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.scaling.core.execute.executor.importer;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.scaling.core.config.ImporterConfiguration;
@@ -25,7 +27,6 @@ import org.apache.shardingsphere.scaling.core.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.exception.SyncTaskExecuteException;
 import org.apache.shardingsphere.scaling.core.execute.executor.AbstractShardingScalingExecutor;
 import org.apache.shardingsphere.scaling.core.execute.executor.channel.Channel;
-import org.apache.shardingsphere.scaling.core.execute.executor.record.Column;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.FinishedRecord;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.Record;
@@ -37,9 +38,12 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.SQLIntegrityConstraintViolationException;
-import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Abstract JDBC importer implementation.
@@ -108,9 +112,21 @@ public abstract class AbstractJDBCImporter extends AbstractShardingScalingExecut
     
     private List<Record> doFlush(final DataSource dataSource, final List<Record> buffer) {
         int i = 0;
+        Map<String, PreparedStatement> preparedStatements = new HashMap<>();
         try (Connection connection = dataSource.getConnection()) {
-            for (; i < buffer.size(); i++) {
-                execute(connection, buffer.get(i));
+            try {
+                RecordShape recordShape = null;
+                for (; i < buffer.size(); i++) {
+                    if (DataRecord.class.equals(buffer.get(i).getClass())) {
+                        DataRecord dataRecord = (DataRecord) buffer.get(i);
+                        if (null == recordShape || !recordShape.matches(dataRecord)) {
+                            recordShape = createRecordShape(connection, preparedStatements, dataRecord);
+                        }
+                        execute(recordShape, dataRecord);
+                    }
+                }
+            } finally {
+                closePreparedStatements(preparedStatements.values());
             }
         } catch (final SQLException ex) {
             log.error("flush failed: {}", buffer.get(i), ex);
@@ -119,58 +135,111 @@ public abstract class AbstractJDBCImporter extends AbstractShardingScalingExecut
         return Collections.emptyList();
     }
     
-    private void execute(final Connection connection, final Record record) throws SQLException {
-        if (DataRecord.class.equals(record.getClass())) {
-            DataRecord dataRecord = (DataRecord) record;
-            switch (dataRecord.getType()) {
-                case ScalingConstant.INSERT:
-                    executeInsert(connection, dataRecord);
-                    break;
-                case ScalingConstant.UPDATE:
-                    executeUpdate(connection, dataRecord);
-                    break;
-                case ScalingConstant.DELETE:
-                    executeDelete(connection, dataRecord);
-                    break;
-                default:
-                    break;
+    private void closePreparedStatements(final Collection<PreparedStatement> preparedStatements) {
+        for (PreparedStatement each : preparedStatements) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                log.warn("close prepared statement failed", ex);
             }
         }
     }
     
-    private void executeInsert(final Connection connection, final DataRecord record) throws SQLException {
-        String insertSql = sqlBuilder.buildInsertSQL(record);
-        PreparedStatement ps = connection.prepareStatement(insertSql);
-        ps.setQueryTimeout(30);
+    private RecordShape createRecordShape(final Connection connection, final Map<String, PreparedStatement> preparedStatements, final DataRecord dataRecord) throws SQLException {
+        BitSet conditionColumns = RecordUtil.extractConditionColumns(dataRecord, importerConfiguration.getShardingColumnsMap().get(dataRecord.getTableName()));
+        String sql;
+        switch (dataRecord.getType()) {
+            case ScalingConstant.INSERT:
+                sql = sqlBuilder.buildInsertSQL(dataRecord);
+                break;
+            case ScalingConstant.UPDATE:
+                sql = sqlBuilder.buildUpdateSQL(dataRecord, conditionColumns);
+                break;
+            case ScalingConstant.DELETE:
+                sql = sqlBuilder.buildDeleteSQL(dataRecord, conditionColumns);
+                break;
+            default:
+                return new RecordShape(dataRecord, null, new int[0]);
+        }
+        return new RecordShape(dataRecord, getPreparedStatement(connection, preparedStatements, sql), conditionColumns.stream().toArray());
+    }
+    
+    private PreparedStatement getPreparedStatement(final Connection connection, final Map<String, PreparedStatement> preparedStatements, final String sql) throws SQLException {
+        PreparedStatement result = preparedStatements.get(sql);
+        if (null == result) {
+            result = connection.prepareStatement(sql);
+            result.setQueryTimeout(30);
+            preparedStatements.put(sql, result);
+        }
+        return result;
+    }
+    
+    private void execute(final RecordShape recordShape, final DataRecord record) throws SQLException {
+        switch (record.getType()) {
+            case ScalingConstant.INSERT:
+                executeInsert(recordShape.getPreparedStatement(), record);
+                break;
+            case ScalingConstant.UPDATE:
+                executeUpdate(recordShape.getPreparedStatement(), recordShape.getConditionColumnIndexes(), record);
+                break;
+            case ScalingConstant.DELETE:
+                executeDelete(recordShape.getPreparedStatement(), recordShape.getConditionColumnIndexes(), record);
+                break;
+            default:
+                break;
+        }
+    }
+    
+    private void executeInsert(final PreparedStatement ps, final DataRecord record) throws SQLException {
         try {
             for (int i = 0; i < record.getColumnCount(); i++) {
-                ps.setObject(i + 1, record.getColumn(i).getValue());
+                ps.setObject(i + 1, record.getValue(i));
             }
             ps.execute();
         } catch (final SQLIntegrityConstraintViolationException ignored) {
         }
     }
     
-    private void executeUpdate(final Connection connection, final DataRecord record) throws SQLException {
-        List<Column> conditionColumns = RecordUtil.extractConditionColumns(record, importerConfiguration.getShardingColumnsMap().get(record.getTableName()));
-        List<Column> values = new ArrayList<>();
-        values.addAll(RecordUtil.extractUpdatedColumns(record));
-        values.addAll(conditionColumns);
-        String updateSql = sqlBuilder.buildUpdateSQL(record, conditionColumns);
-        PreparedStatement ps = connection.prepareStatement(updateSql);
-        for (int i = 0; i < values.size(); i++) {
-            ps.setObject(i + 1, values.get(i).getValue());
+    private void executeUpdate(final PreparedStatement ps, final int[] conditionColumnIndexes, final DataRecord record) throws SQLException {
+        int parameterIndex = 1;
+        BitSet updatedColumns = record.getUpdatedColumns();
+        for (int i = updatedColumns.nextSetBit(0); i >= 0; i = updatedColumns.nextSetBit(i + 1)) {
+            ps.setObject(parameterIndex++, record.getValue(i));
+        }
+        for (int each : conditionColumnIndexes) {
+            ps.setObject(parameterIndex++, record.getValue(each));
         }
         ps.execute();
     }
     
-    private void executeDelete(final Connection connection, final DataRecord record) throws SQLException {
-        List<Column> conditionColumns = RecordUtil.extractConditionColumns(record, importerConfiguration.getShardingColumnsMap().get(record.getTableName()));
-        String deleteSql = sqlBuilder.buildDeleteSQL(record, conditionColumns);
-        PreparedStatement ps = connection.prepareStatement(deleteSql);
-        for (int i = 0; i < conditionColumns.size(); i++) {
-            ps.setObject(i + 1, conditionColumns.get(i).getValue());
+    private void executeDelete(final PreparedStatement ps, final int[] conditionColumnIndexes, final DataRecord record) throws SQLException {
+        for (int i = 0; i < conditionColumnIndexes.length; i++) {
+            ps.setObject(i + 1, record.getValue(conditionColumnIndexes[i]));
         }
         ps.execute();
     }
+    
+    /**
+     * Shape of data records which share the same SQL.
+     *
+     * <p>
+     * Consecutive records of the same type, record schema and updated columns reuse the prepared statement
+     * and condition column indexes of the first record, so the SQL cache key is only built when the shape changes.
+     * </p>
+     */
+    @RequiredArgsConstructor
+    @Getter
+    private static final class RecordShape {
+        
+        private final DataRecord template;
+        
+        private final PreparedStatement preparedStatement;
+        
+        private final int[] conditionColumnIndexes;
+        
+        boolean matches(final DataRecord dataRecord) {
+            return template.getType().equals(dataRecord.getType()) && (template.getSchema() == dataRecord.getSchema() || template.getSchema().equals(dataRecord.getSchema()))
+                    && (!ScalingConstant.UPDATE.equals(dataRecord.getType()) || template.getUpdatedColumns().equals(dataRecord.getUpdatedColumns()));
+        }
+    }
 }
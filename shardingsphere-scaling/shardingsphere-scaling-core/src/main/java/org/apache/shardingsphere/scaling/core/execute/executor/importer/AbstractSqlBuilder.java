@@ -17,27 +17,29 @@
 
 package org.apache.shardingsphere.scaling.core.execute.executor.importer;
 
-import com.google.common.collect.Collections2;
-import org.apache.shardingsphere.scaling.core.execute.executor.record.Column;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.scaling.core.constant.ScalingConstant;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.RecordSchema;
 
-import java.util.Collection;
-import java.util.List;
+import java.util.BitSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 /**
  * Abstract SQL builder.
+ *
+ * <p>
+ * SQL is cached by operation type, record schema and the indexes of set and condition columns, so records of the same shape reuse the same SQL string.
+ * </p>
  */
 public abstract class AbstractSqlBuilder {
     
-    private static final String INSERT_SQL_CACHE_KEY_PREFIX = "INSERT_";
-    
-    private static final String UPDATE_SQL_CACHE_KEY_PREFIX = "UPDATE_";
-    
-    private static final String DELETE_SQL_CACHE_KEY_PREFIX = "DELETE_";
+    private static final BitSet EMPTY_COLUMNS = new BitSet();
     
-    private final ConcurrentMap<String, String> sqlCacheMap = new ConcurrentHashMap<>();
+    private final ConcurrentMap<SqlCacheKey, String> sqlCacheMap = new ConcurrentHashMap<>();
     
     /**
      * Get left identifier quote string.
@@ -60,78 +62,87 @@ public abstract class AbstractSqlBuilder {
      * @return insert SQL
      */
     public String buildInsertSQL(final DataRecord dataRecord) {
-        String sqlCacheKey = INSERT_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName();
-        if (!sqlCacheMap.containsKey(sqlCacheKey)) {
-            sqlCacheMap.put(sqlCacheKey, buildInsertSQLInternal(dataRecord.getTableName(), dataRecord.getColumns()));
-        }
-        return sqlCacheMap.get(sqlCacheKey);
+        BitSet insertedColumns = new BitSet(dataRecord.getColumnCount());
+        insertedColumns.set(0, dataRecord.getColumnCount());
+        return sqlCacheMap.computeIfAbsent(new SqlCacheKey(ScalingConstant.INSERT, dataRecord.getSchema(), insertedColumns, EMPTY_COLUMNS), key -> buildInsertSQLInternal(dataRecord));
     }
     
-    private String buildInsertSQLInternal(final String tableName, final List<Column> columns) {
+    /**
+     * Build insert SQL without cache.
+     *
+     * @param dataRecord data record
+     * @return insert SQL
+     */
+    protected String buildInsertSQLInternal(final DataRecord dataRecord) {
         StringBuilder columnsLiteral = new StringBuilder();
         StringBuilder holder = new StringBuilder();
-        for (Column each : columns) {
-            columnsLiteral.append(String.format("%s%s%s,", getLeftIdentifierQuoteString(), each.getName(), getRightIdentifierQuoteString()));
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            columnsLiteral.append(String.format("%s%s%s,", getLeftIdentifierQuoteString(), dataRecord.getSchema().getColumnName(i), getRightIdentifierQuoteString()));
             holder.append("?,");
         }
         columnsLiteral.setLength(columnsLiteral.length() - 1);
         holder.setLength(holder.length() - 1);
-        return String.format("INSERT INTO %s%s%s(%s) VALUES(%s)", getLeftIdentifierQuoteString(), tableName, getRightIdentifierQuoteString(), columnsLiteral, holder);
+        return String.format("INSERT INTO %s%s%s(%s) VALUES(%s)", getLeftIdentifierQuoteString(), dataRecord.getTableName(), getRightIdentifierQuoteString(), columnsLiteral, holder);
     }
     
     /**
      * Build update SQL.
      *
      * @param dataRecord data record
-     * @param conditionColumns condition columns
+     * @param conditionColumns indexes of condition columns
      * @return update SQL
      */
-    public String buildUpdateSQL(final DataRecord dataRecord, final Collection<Column> conditionColumns) {
-        String sqlCacheKey = UPDATE_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName();
-        if (!sqlCacheMap.containsKey(sqlCacheKey)) {
-            sqlCacheMap.put(sqlCacheKey, buildUpdateSQLInternal(dataRecord.getTableName(), conditionColumns));
-        }
+    public String buildUpdateSQL(final DataRecord dataRecord, final BitSet conditionColumns) {
+        return sqlCacheMap.computeIfAbsent(new SqlCacheKey(ScalingConstant.UPDATE, dataRecord.getSchema(), (BitSet) dataRecord.getUpdatedColumns().clone(), conditionColumns),
+                key -> buildUpdateSQLInternal(dataRecord.getSchema(), key.getSetColumns(), key.getConditionColumns()));
+    }
+    
+    private String buildUpdateSQLInternal(final RecordSchema schema, final BitSet updatedColumns, final BitSet conditionColumns) {
         StringBuilder updatedColumnString = new StringBuilder();
-        for (Column each : extractUpdatedColumns(dataRecord.getColumns())) {
-            updatedColumnString.append(String.format("%s%s%s = ?,", getLeftIdentifierQuoteString(), each.getName(), getRightIdentifierQuoteString()));
+        for (int i = updatedColumns.nextSetBit(0); i >= 0; i = updatedColumns.nextSetBit(i + 1)) {
+            updatedColumnString.append(String.format("%s%s%s = ?,", getLeftIdentifierQuoteString(), schema.getColumnName(i), getRightIdentifierQuoteString()));
         }
         updatedColumnString.setLength(updatedColumnString.length() - 1);
-        return String.format(sqlCacheMap.get(sqlCacheKey), updatedColumnString);
-    }
-    
-    private String buildUpdateSQLInternal(final String tableName, final Collection<Column> conditionColumns) {
-        return String.format("UPDATE %s%s%s SET %%s WHERE %s", getLeftIdentifierQuoteString(), tableName, getRightIdentifierQuoteString(), buildWhereSQL(conditionColumns));
-    }
-    
-    private Collection<Column> extractUpdatedColumns(final Collection<Column> columns) {
-        return Collections2.filter(columns, Column::isUpdated);
+        return String.format("UPDATE %s%s%s SET %s WHERE %s",
+                getLeftIdentifierQuoteString(), schema.getTableName(), getRightIdentifierQuoteString(), updatedColumnString, buildWhereSQL(schema, conditionColumns));
     }
     
     /**
      * Build delete SQL.
      *
      * @param dataRecord data record
-     * @param conditionColumns condition columns
+     * @param conditionColumns indexes of condition columns
      * @return delete SQL
      */
-    public String buildDeleteSQL(final DataRecord dataRecord, final Collection<Column> conditionColumns) {
-        String sqlCacheKey = DELETE_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName();
-        if (!sqlCacheMap.containsKey(sqlCacheKey)) {
-            sqlCacheMap.put(sqlCacheKey, buildDeleteSQLInternal(dataRecord.getTableName(), conditionColumns));
-        }
-        return sqlCacheMap.get(sqlCacheKey);
+    public String buildDeleteSQL(final DataRecord dataRecord, final BitSet conditionColumns) {
+        return sqlCacheMap.computeIfAbsent(new SqlCacheKey(ScalingConstant.DELETE, dataRecord.getSchema(), EMPTY_COLUMNS, conditionColumns),
+                key -> buildDeleteSQLInternal(dataRecord.getSchema(), key.getConditionColumns()));
     }
     
-    private String buildDeleteSQLInternal(final String tableName, final Collection<Column> conditionColumns) {
-        return String.format("DELETE FROM %s%s%s WHERE %s", getLeftIdentifierQuoteString(), tableName, getRightIdentifierQuoteString(), buildWhereSQL(conditionColumns));
+    private String buildDeleteSQLInternal(final RecordSchema schema, final BitSet conditionColumns) {
+        return String.format("DELETE FROM %s%s%s WHERE %s", getLeftIdentifierQuoteString(), schema.getTableName(), getRightIdentifierQuoteString(), buildWhereSQL(schema, conditionColumns));
     }
     
-    private String buildWhereSQL(final Collection<Column> conditionColumns) {
+    private String buildWhereSQL(final RecordSchema schema, final BitSet conditionColumns) {
         StringBuilder where = new StringBuilder();
-        for (Column each : conditionColumns) {
-            where.append(String.format("%s%s%s = ? and ", getLeftIdentifierQuoteString(), each.getName(), getRightIdentifierQuoteString()));
+        for (int i = conditionColumns.nextSetBit(0); i >= 0; i = conditionColumns.nextSetBit(i + 1)) {
+            where.append(String.format("%s%s%s = ? and ", getLeftIdentifierQuoteString(), schema.getColumnName(i), getRightIdentifierQuoteString()));
         }
         where.setLength(where.length() - 5);
         return where.toString();
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    @EqualsAndHashCode
+    private static final class SqlCacheKey {
+        
+        private final String type;
+        
+        private final RecordSchema schema;
+        
+        private final BitSet setColumns;
+        
+        private final BitSet conditionColumns;
+    }
 }
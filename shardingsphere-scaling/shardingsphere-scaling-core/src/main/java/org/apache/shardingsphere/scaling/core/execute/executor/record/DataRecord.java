@@ -17,65 +17,120 @@
 
 package org.apache.shardingsphere.scaling.core.execute.executor.record;
 
-import org.apache.shardingsphere.scaling.core.job.position.Position;
-
-import lombok.EqualsAndHashCode;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.scaling.core.job.position.Position;
 
-import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.BitSet;
+import java.util.Objects;
 
 /**
  * Data record.
+ *
+ * <p>
+ * Column names and primary key flags are kept by the record schema shared by records of the same table,
+ * a record only keeps the values of columns in one array and the indexes of updated columns in one bitmap.
+ * </p>
  */
-@Setter
 @Getter
-@EqualsAndHashCode(of = {"tableName", "primaryKeyValue"}, callSuper = false)
 public final class DataRecord extends Record {
     
-    private final List<Column> columns;
+    private final RecordSchema schema;
     
-    private final List<Object> primaryKeyValue = new LinkedList<>();
+    @Getter(AccessLevel.NONE)
+    private final Object[] values;
     
-    private String type;
+    private final BitSet updatedColumns;
     
-    private String tableName;
+    @Setter
+    private String type;
     
-    public DataRecord(final Position position, final int columnCount) {
+    public DataRecord(final Position position, final RecordSchema schema) {
         super(position);
-        columns = new ArrayList<>(columnCount);
+        this.schema = schema;
+        values = new Object[schema.getColumnCount()];
+        updatedColumns = new BitSet(schema.getColumnCount());
     }
     
     /**
-     * Add a column to record.
+     * Set value of column.
      *
-     * @param data column
+     * @param index index of column
+     * @param value value of column
+     * @param updated column is updated or not
      */
-    public void addColumn(final Column data) {
-        columns.add(data);
-        if (data.isPrimaryKey()) {
-            primaryKeyValue.add(data.getValue());
-        }
+    public void setValue(final int index, final Object value, final boolean updated) {
+        values[index] = value;
+        updatedColumns.set(index, updated);
     }
     
     /**
-     * Return column count.
+     * Get value of column.
      *
-     * @return count
+     * @param index index of column
+     * @return value of column
      */
-    public int getColumnCount() {
-        return columns.size();
+    public Object getValue(final int index) {
+        return values[index];
+    }
+    
+    /**
+     * Judge whether column is updated.
+     *
+     * @param index index of column
+     * @return column is updated or not
+     */
+    public boolean isUpdated(final int index) {
+        return updatedColumns.get(index);
+    }
+    
+    /**
+     * Get table name.
+     *
+     * @return table name
+     */
+    public String getTableName() {
+        return schema.getTableName();
     }
     
     /**
-     * Get column by index.
+     * Return column count.
      *
-     * @param index of column
-     * @return column
+     * @return count
      */
-    public Column getColumn(final int index) {
-        return columns.get(index);
+    public int getColumnCount() {
+        return values.length;
+    }
+    
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof DataRecord)) {
+            return false;
+        }
+        DataRecord dataRecord = (DataRecord) obj;
+        if (!Objects.equals(getTableName(), dataRecord.getTableName()) || values.length != dataRecord.values.length) {
+            return false;
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (schema.isPrimaryKey(i) != dataRecord.schema.isPrimaryKey(i) || schema.isPrimaryKey(i) && !Objects.equals(values[i], dataRecord.values[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(getTableName());
+        for (int i = 0; i < values.length; i++) {
+            if (schema.isPrimaryKey(i)) {
+                result = 31 * result + Objects.hashCode(values[i]);
+            }
+        }
+        return result;
     }
 }
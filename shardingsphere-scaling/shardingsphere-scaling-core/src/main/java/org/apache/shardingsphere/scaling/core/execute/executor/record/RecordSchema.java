@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.execute.executor.record;
+
+import lombok.Getter;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Record schema.
+ *
+ * <p>
+ * Schema is created once for each table by dumpers and shared by all data records of the table,
+ * so column names and primary key flags are not copied into every record.
+ * Hash code is computed once because schemas are used as SQL cache keys by importers.
+ * </p>
+ */
+public final class RecordSchema {
+    
+    @Getter
+    private final String tableName;
+    
+    private final String[] columnNames;
+    
+    private final BitSet primaryKeyColumns;
+    
+    private final int hashCode;
+    
+    public RecordSchema(final String tableName, final List<String> columnNames, final BitSet primaryKeyColumns) {
+        this.tableName = tableName;
+        this.columnNames = columnNames.toArray(new String[0]);
+        this.primaryKeyColumns = (BitSet) primaryKeyColumns.clone();
+        hashCode = Objects.hash(tableName, Arrays.hashCode(this.columnNames), this.primaryKeyColumns);
+    }
+    
+    public RecordSchema(final String tableName, final TableMetaData tableMetaData, final int columnCount) {
+        this.tableName = tableName;
+        columnNames = new String[columnCount];
+        primaryKeyColumns = new BitSet(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            columnNames[i] = tableMetaData.getColumnMetaData(i).getName();
+            if (tableMetaData.isPrimaryKey(i)) {
+                primaryKeyColumns.set(i);
+            }
+        }
+        hashCode = Objects.hash(tableName, Arrays.hashCode(columnNames), primaryKeyColumns);
+    }
+    
+    /**
+     * Get column count.
+     *
+     * @return column count
+     */
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+    
+    /**
+     * Get column name.
+     *
+     * @param index index of column
+     * @return column name
+     */
+    public String getColumnName(final int index) {
+        return columnNames[index];
+    }
+    
+    /**
+     * Judge whether column is primary key.
+     *
+     * @param index index of column
+     * @return column is primary key or not
+     */
+    public boolean isPrimaryKey(final int index) {
+        return primaryKeyColumns.get(index);
+    }
+    
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof RecordSchema)) {
+            return false;
+        }
+        RecordSchema recordSchema = (RecordSchema) obj;
+        return hashCode == recordSchema.hashCode && Objects.equals(tableName, recordSchema.tableName)
+                && Arrays.equals(columnNames, recordSchema.columnNames) && primaryKeyColumns.equals(recordSchema.primaryKeyColumns);
+    }
+    
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
@@ -20,8 +20,7 @@ package org.apache.shardingsphere.scaling.core.execute.executor.record;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.BitSet;
 import java.util.Set;
 
 /**
@@ -31,51 +30,45 @@ import java.util.Set;
 public final class RecordUtil {
     
     /**
-     * Extract primary columns from data record.
+     * Extract indexes of primary columns from data record.
      *
      * @param dataRecord data record
-     * @return primary columns
+     * @return indexes of primary columns
      */
-    public static List<Column> extractPrimaryColumns(final DataRecord dataRecord) {
-        List<Column> result = new ArrayList<>(dataRecord.getColumns().size());
-        for (Column each : dataRecord.getColumns()) {
-            if (each.isPrimaryKey()) {
-                result.add(each);
+    public static BitSet extractPrimaryColumns(final DataRecord dataRecord) {
+        BitSet result = new BitSet(dataRecord.getColumnCount());
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            if (dataRecord.getSchema().isPrimaryKey(i)) {
+                result.set(i);
             }
         }
         return result;
     }
     
     /**
-     * Extract condition columns(include primary and sharding columns) from data record.
+     * Extract indexes of condition columns(include primary and sharding columns) from data record.
      *
      * @param dataRecord data record
      * @param shardingColumns sharding columns
-     * @return condition columns
+     * @return indexes of condition columns
      */
-    public static List<Column> extractConditionColumns(final DataRecord dataRecord, final Set<String> shardingColumns) {
-        List<Column> result = new ArrayList<>(dataRecord.getColumns().size());
-        for (Column each : dataRecord.getColumns()) {
-            if (each.isPrimaryKey() || shardingColumns.contains(each.getName())) {
-                result.add(each);
+    public static BitSet extractConditionColumns(final DataRecord dataRecord, final Set<String> shardingColumns) {
+        BitSet result = new BitSet(dataRecord.getColumnCount());
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            if (dataRecord.getSchema().isPrimaryKey(i) || shardingColumns.contains(dataRecord.getSchema().getColumnName(i))) {
+                result.set(i);
             }
         }
         return result;
     }
     
     /**
-     * Extract updated columns from data record.
+     * Extract indexes of updated columns from data record.
      *
      * @param dataRecord data record
-     * @return updated columns
+     * @return indexes of updated columns
      */
-    public static List<Column> extractUpdatedColumns(final DataRecord dataRecord) {
-        List<Column> result = new ArrayList<>(dataRecord.getColumns().size());
-        for (Column each : dataRecord.getColumns()) {
-            if (each.isUpdated()) {
-                result.add(each);
-            }
-        }
-        return result;
+    public static BitSet extractUpdatedColumns(final DataRecord dataRecord) {
+        return (BitSet) dataRecord.getUpdatedColumns().clone();
     }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.scaling.core.job.task;
 import org.apache.shardingsphere.scaling.core.config.DumperConfiguration;
 import org.apache.shardingsphere.scaling.core.config.ImporterConfiguration;
 import org.apache.shardingsphere.scaling.core.config.InventoryDumperConfiguration;
+import org.apache.shardingsphere.scaling.core.job.ShardingScalingJob;
 import org.apache.shardingsphere.scaling.core.job.position.InventoryPosition;
 import org.apache.shardingsphere.scaling.core.job.task.incremental.IncrementalDataScalingTask;
 import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryDataScalingTask;
@@ -52,10 +53,11 @@ public interface SyncTaskFactory {
     /**
      * Create incremental data sync task.
      *
+     * @param shardingScalingJob sharding scaling job
      * @param concurrency concurrency
      * @param dumperConfiguration   dumper configuration
      * @param importerConfiguration importer configuration
      * @return incremental data sync task
      */
-    IncrementalDataScalingTask createIncrementalDataSyncTask(int concurrency, DumperConfiguration dumperConfiguration, ImporterConfiguration importerConfiguration);
+    IncrementalDataScalingTask createIncrementalDataSyncTask(ShardingScalingJob shardingScalingJob, int concurrency, DumperConfiguration dumperConfiguration, ImporterConfiguration importerConfiguration);
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.scaling.core.job.task.incremental;
 
+import com.google.common.base.Strings;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.scaling.core.config.DumperConfiguration;
 import org.apache.shardingsphere.scaling.core.config.ImporterConfiguration;
@@ -25,19 +26,28 @@ import org.apache.shardingsphere.scaling.core.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.exception.SyncTaskExecuteException;
 import org.apache.shardingsphere.scaling.core.execute.engine.ExecuteCallback;
 import org.apache.shardingsphere.scaling.core.execute.executor.AbstractShardingScalingExecutor;
+import org.apache.shardingsphere.scaling.core.execute.executor.channel.AckCallback;
+import org.apache.shardingsphere.scaling.core.execute.executor.channel.Channel;
+import org.apache.shardingsphere.scaling.core.execute.executor.channel.DiskChannel;
 import org.apache.shardingsphere.scaling.core.execute.executor.channel.DistributionChannel;
+import org.apache.shardingsphere.scaling.core.execute.executor.channel.RecordSerializer;
 import org.apache.shardingsphere.scaling.core.execute.executor.dumper.Dumper;
 import org.apache.shardingsphere.scaling.core.execute.executor.dumper.DumperFactory;
 import org.apache.shardingsphere.scaling.core.execute.executor.importer.Importer;
 import org.apache.shardingsphere.scaling.core.execute.executor.importer.ImporterFactory;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.Record;
+import org.apache.shardingsphere.scaling.core.job.ShardingScalingJob;
 import org.apache.shardingsphere.scaling.core.job.SyncProgress;
 import org.apache.shardingsphere.scaling.core.job.position.IncrementalPosition;
+import org.apache.shardingsphere.scaling.core.job.position.Position;
+import org.apache.shardingsphere.scaling.core.job.position.PositionManagerFactory;
 import org.apache.shardingsphere.scaling.core.job.task.ScalingTask;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
@@ -47,6 +57,8 @@ import java.util.concurrent.Future;
 @Slf4j
 public final class IncrementalDataScalingTask extends AbstractShardingScalingExecutor<IncrementalPosition> implements ScalingTask<IncrementalPosition> {
     
+    private final ShardingScalingJob shardingScalingJob;
+    
     private final int concurrency;
     
     private final DumperConfiguration dumperConfiguration;
@@ -60,7 +72,8 @@ public final class IncrementalDataScalingTask extends AbstractShardingScalingExe
     private long delayMillisecond;
     
     @SuppressWarnings("unchecked")
-    public IncrementalDataScalingTask(final int concurrency, final DumperConfiguration dumperConfiguration, final ImporterConfiguration importerConfiguration) {
+    public IncrementalDataScalingTask(final ShardingScalingJob shardingScalingJob, final int concurrency, final DumperConfiguration dumperConfiguration, final ImporterConfiguration importerConfiguration) {
+        this.shardingScalingJob = shardingScalingJob;
         this.concurrency = concurrency;
         this.dumperConfiguration = dumperConfiguration;
         this.importerConfiguration = importerConfiguration;
@@ -71,9 +84,13 @@ public final class IncrementalDataScalingTask extends AbstractShardingScalingExe
     
     @Override
     public void start() {
-        dumper = DumperFactory.newInstanceLogDumper(dumperConfiguration, getPositionManager().getPosition());
         Collection<Importer> importers = instanceImporters();
-        instanceChannel(importers);
+        Channel channel = instanceChannel(importers.size());
+        dumper = DumperFactory.newInstanceLogDumper(dumperConfiguration, getStartPosition(channel));
+        dumper.setChannel(channel);
+        for (Importer each : importers) {
+            each.setChannel(channel);
+        }
         Future<?> future = ScalingContext.getInstance().getTaskExecuteEngine().submitAll(importers, new ExecuteCallback() {
             
             @Override
@@ -87,8 +104,15 @@ public final class IncrementalDataScalingTask extends AbstractShardingScalingExe
             }
         });
         dumper.start();
-        waitForResult(future);
-        dataSourceManager.close();
+        try {
+            waitForResult(future);
+        } finally {
+            channel.close();
+            dataSourceManager.close();
+        }
+        if (channel instanceof DiskChannel) {
+            destroyDiskChannel((DiskChannel) channel);
+        }
     }
     
     private List<Importer> instanceImporters() {
@@ -99,18 +123,46 @@ public final class IncrementalDataScalingTask extends AbstractShardingScalingExe
         return result;
     }
     
-    private void instanceChannel(final Collection<Importer> importers) {
-        DistributionChannel channel = new DistributionChannel(importers.size(), records -> {
+    private Channel instanceChannel(final int channelNumber) {
+        AckCallback ackCallback = records -> {
             Record lastHandledRecord = records.get(records.size() - 1);
             if (lastHandledRecord.getPosition() instanceof IncrementalPosition) {
                 getPositionManager().setPosition((IncrementalPosition) lastHandledRecord.getPosition());
             }
             delayMillisecond = System.currentTimeMillis() - lastHandledRecord.getCommitTime();
-        });
-        dumper.setChannel(channel);
-        for (Importer each : importers) {
-            each.setChannel(channel);
+        };
+        String diskChannelPath = ScalingContext.getInstance().getServerConfiguration().getDiskChannelPath();
+        if (Strings.isNullOrEmpty(diskChannelPath)) {
+            return new DistributionChannel(channelNumber, ackCallback);
+        }
+        String databaseType = dumperConfiguration.getDataSourceConfiguration().getDatabaseType().getName();
+        File directory = new File(getDiskChannelJobDirectory(), getTaskId());
+        return new DiskChannel(directory, channelNumber, new RecordSerializer(position -> PositionManagerFactory.newInstance(databaseType, position).getPosition()), ackCallback);
+    }
+    
+    private File getDiskChannelJobDirectory() {
+        return new File(ScalingContext.getInstance().getServerConfiguration().getDiskChannelPath(),
+                String.format("%s_%d", shardingScalingJob.getJobName(), shardingScalingJob.getShardingItem()));
+    }
+    
+    private void destroyDiskChannel(final DiskChannel diskChannel) {
+        diskChannel.destroy();
+        File jobDirectory = getDiskChannelJobDirectory();
+        String[] remainingFiles = jobDirectory.list();
+        if (null != remainingFiles && 0 == remainingFiles.length && !jobDirectory.delete()) {
+            log.warn("delete disk channel directory {} failed", jobDirectory);
+        }
+    }
+    
+    private Position getStartPosition(final Channel channel) {
+        if (channel instanceof DiskChannel) {
+            Optional<Position> lastPersistedPosition = ((DiskChannel) channel).getLastPersistedPosition();
+            if (lastPersistedPosition.isPresent()) {
+                log.info("Incremental task {} continues from the position persisted in disk channel: {}", getTaskId(), lastPersistedPosition.get().toJson());
+                return lastPersistedPosition.get();
+            }
         }
+        return getPositionManager().getPosition();
     }
     
     private void waitForResult(final Future<?> future) {
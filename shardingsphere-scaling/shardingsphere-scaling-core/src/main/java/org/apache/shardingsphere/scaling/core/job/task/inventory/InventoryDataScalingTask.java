@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.scaling.core.job.task.inventory;
 
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.scaling.core.config.ImporterConfiguration;
 import org.apache.shardingsphere.scaling.core.config.InventoryDumperConfiguration;
@@ -36,12 +38,16 @@ import org.apache.shardingsphere.scaling.core.execute.executor.record.Record;
 import org.apache.shardingsphere.scaling.core.job.SyncProgress;
 import org.apache.shardingsphere.scaling.core.job.position.InventoryPosition;
 import org.apache.shardingsphere.scaling.core.job.task.ScalingTask;
+import org.apache.shardingsphere.scaling.core.schedule.ResourceQuota;
 import org.apache.shardingsphere.scaling.core.utils.RdbmsConfigurationUtil;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicLong;
@@ -52,16 +58,24 @@ import java.util.concurrent.atomic.AtomicLong;
 @Slf4j
 public final class InventoryDataScalingTask extends AbstractShardingScalingExecutor<InventoryPosition> implements ScalingTask<InventoryPosition> {
     
+    @Getter
     private final InventoryDumperConfiguration inventoryDumperConfiguration;
     
     private final ImporterConfiguration importerConfiguration;
     
     private final DataSourceManager dataSourceManager;
     
-    private long estimatedRows;
+    private volatile long estimatedRows = -1L;
     
     private final AtomicLong syncedRows = new AtomicLong();
     
+    @Setter
+    private Collection<ResourceQuota> resourceQuotas = Collections.emptyList();
+    
+    private volatile long startTimeMillis;
+    
+    private volatile long finishTimeMillis;
+    
     private Dumper dumper;
     
     public InventoryDataScalingTask(final InventoryDumperConfiguration inventoryDumperConfiguration, final ImporterConfiguration importerConfiguration) {
@@ -85,6 +99,7 @@ public final class InventoryDataScalingTask extends AbstractShardingScalingExecu
     @Override
     public void start() {
         getEstimatedRows();
+        startTimeMillis = System.currentTimeMillis();
         instanceDumper();
         Importer importer = ImporterFactory.newInstance(importerConfiguration, dataSourceManager);
         instanceChannel(importer);
@@ -102,18 +117,34 @@ public final class InventoryDataScalingTask extends AbstractShardingScalingExecu
         });
         dumper.start();
         waitForResult(future);
+        finishTimeMillis = System.currentTimeMillis();
         dataSourceManager.close();
     }
     
-    private void getEstimatedRows() {
+    /**
+     * Get estimated rows, which are counted from source table at the first call.
+     * 
+     * <p>
+     * Rows are counted when the task starts rather than when it is scheduled, so counting never delays dispatching of other tasks.
+     * </p>
+     *
+     * @return estimated rows
+     */
+    public long getEstimatedRows() {
+        if (estimatedRows < 0L) {
+            estimatedRows = countEstimatedRows();
+        }
+        return estimatedRows;
+    }
+    
+    private long countEstimatedRows() {
         DataSource dataSource = dataSourceManager.getDataSource(inventoryDumperConfiguration.getDataSourceConfiguration());
-        try (Connection connection = dataSource.getConnection()) {
-            ResultSet resultSet = connection.prepareStatement(String.format("SELECT COUNT(*) FROM %s %s",
-                    inventoryDumperConfiguration.getTableName(),
-                    RdbmsConfigurationUtil.getWhereCondition(inventoryDumperConfiguration)))
-                    .executeQuery();
+        String sql = String.format("SELECT COUNT(*) FROM %s %s", inventoryDumperConfiguration.getTableName(), RdbmsConfigurationUtil.getWhereCondition(inventoryDumperConfiguration));
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
             resultSet.next();
-            estimatedRows = resultSet.getInt(1);
+            return resultSet.getLong(1);
         } catch (final SQLException ex) {
             throw new SyncTaskExecuteException("get estimated rows error.", ex);
         }
@@ -134,6 +165,9 @@ public final class InventoryDataScalingTask extends AbstractShardingScalingExecu
                 }
             }
             syncedRows.addAndGet(count);
+            for (ResourceQuota each : resourceQuotas) {
+                each.acquireRows(count);
+            }
         });
         dumper.setChannel(channel);
         importer.setChannel(channel);
@@ -158,6 +192,14 @@ public final class InventoryDataScalingTask extends AbstractShardingScalingExecu
     
     @Override
     public SyncProgress getProgress() {
-        return new InventoryDataSyncTaskProgress(getTaskId(), estimatedRows, syncedRows.get());
+        return new InventoryDataSyncTaskProgress(getTaskId(), Math.max(estimatedRows, 0L), syncedRows.get(), getThroughput());
+    }
+    
+    private long getThroughput() {
+        if (0L == startTimeMillis) {
+            return 0L;
+        }
+        long elapsedMillis = (0L == finishTimeMillis ? System.currentTimeMillis() : finishTimeMillis) - startTimeMillis;
+        return elapsedMillis > 0L ? syncedRows.get() * 1000L / elapsedMillis : 0L;
     }
 }
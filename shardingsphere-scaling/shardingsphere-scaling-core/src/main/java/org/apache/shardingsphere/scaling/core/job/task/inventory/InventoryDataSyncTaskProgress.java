@@ -33,4 +33,6 @@ public final class InventoryDataSyncTaskProgress implements SyncProgress {
     private final long estimatedRows;
     
     private final long syncedRows;
+    
+    private final long throughput;
 }
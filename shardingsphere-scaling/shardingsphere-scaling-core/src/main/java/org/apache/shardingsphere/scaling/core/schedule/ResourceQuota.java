@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.schedule;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Resource quota, limits concurrent inventory tasks and migrated rows per second.
+ */
+public final class ResourceQuota {
+    
+    private final Semaphore concurrency;
+    
+    private final RateLimiter rateLimiter;
+    
+    /**
+     * Create resource quota.
+     *
+     * @param maxConcurrency max concurrent tasks, no limit if not positive
+     * @param maxRowsPerSecond max migrated rows per second, no limit if not positive
+     */
+    public ResourceQuota(final int maxConcurrency, final int maxRowsPerSecond) {
+        concurrency = new Semaphore(maxConcurrency > 0 ? maxConcurrency : Integer.MAX_VALUE);
+        rateLimiter = maxRowsPerSecond > 0 ? RateLimiter.create(maxRowsPerSecond) : null;
+    }
+    
+    /**
+     * Try to take a task slot.
+     *
+     * @return taken or not
+     */
+    public boolean tryAcquireTask() {
+        return concurrency.tryAcquire();
+    }
+    
+    /**
+     * Give back a task slot.
+     */
+    public void releaseTask() {
+        concurrency.release();
+    }
+    
+    /**
+     * Wait until rows are allowed to be migrated.
+     *
+     * @param rows rows
+     */
+    public void acquireRows(final int rows) {
+        if (null != rateLimiter && rows > 0) {
+            rateLimiter.acquire(rows);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.schedule;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.scaling.core.config.DataSourceConfiguration;
+import org.apache.shardingsphere.scaling.core.config.ScalingContext;
+import org.apache.shardingsphere.scaling.core.config.ServerConfiguration;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resource quota manager.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ResourceQuotaManager {
+    
+    private static final ResourceQuotaManager INSTANCE = new ResourceQuotaManager();
+    
+    private final Map<DataSourceConfiguration, ResourceQuota> dataSourceQuotas = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance of resource quota manager.
+     *
+     * @return instance of resource quota manager
+     */
+    public static ResourceQuotaManager getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get resource quota of source data source, which is shared by all jobs.
+     *
+     * @param dataSourceConfiguration data source configuration
+     * @return resource quota
+     */
+    public ResourceQuota getDataSourceQuota(final DataSourceConfiguration dataSourceConfiguration) {
+        return dataSourceQuotas.computeIfAbsent(dataSourceConfiguration, key -> {
+            ServerConfiguration serverConfiguration = ScalingContext.getInstance().getServerConfiguration();
+            return new ResourceQuota(serverConfiguration.getDataSourceConcurrency(), serverConfiguration.getDataSourceRowsPerSecond());
+        });
+    }
+    
+    /**
+     * Create resource quota for a job.
+     *
+     * @return resource quota
+     */
+    public ResourceQuota createJobQuota() {
+        ServerConfiguration serverConfiguration = ScalingContext.getInstance().getServerConfiguration();
+        return new ResourceQuota(serverConfiguration.getJobConcurrency(), serverConfiguration.getJobRowsPerSecond());
+    }
+}
@@ -25,23 +25,42 @@ import org.apache.shardingsphere.scaling.core.job.SyncProgress;
 import org.apache.shardingsphere.scaling.core.job.position.FinishedInventoryPosition;
 import org.apache.shardingsphere.scaling.core.job.position.IncrementalPosition;
 import org.apache.shardingsphere.scaling.core.job.position.InventoryPosition;
+import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
 import org.apache.shardingsphere.scaling.core.job.task.ScalingTask;
 import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryDataScalingTask;
 import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryDataScalingTaskGroup;
+import org.apache.shardingsphere.scaling.core.utils.ThreadUtil;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
  * Sharding scaling task scheduler.
+ *
+ * <p>
+ * Inventory tasks are dispatched one split at a time, smaller primary key ranges first and splits without primary key range last,
+ * within the concurrency and rows per second quotas of the job and of each source data source.
+ * Rows are not counted before dispatching, each task counts its own rows when it starts.
+ * </p>
  */
 @RequiredArgsConstructor
 public final class ScalingTaskScheduler implements Runnable {
     
+    private static final long DISPATCH_INTERVAL_MILLIS = 1000L;
+    
     private final ShardingScalingJob shardingScalingJob;
     
+    private ResourceQuota jobQuota;
+    
+    private final AtomicBoolean incrementalDataTaskStarted = new AtomicBoolean();
+    
     /**
      * Start execute scaling task.
      */
@@ -67,13 +86,54 @@ public final class ScalingTaskScheduler implements Runnable {
     @Override
     public void run() {
         shardingScalingJob.setStatus(SyncTaskControlStatus.MIGRATE_INVENTORY_DATA.name());
-        ExecuteCallback inventoryDataTaskCallback = createInventoryDataTaskCallback();
         if (isFinished(shardingScalingJob.getInventoryDataTasks())) {
             executeIncrementalDataSyncTask();
             return;
         }
-        for (ScalingTask<InventoryPosition> each : shardingScalingJob.getInventoryDataTasks()) {
-            ScalingContext.getInstance().getTaskExecuteEngine().submit(each, inventoryDataTaskCallback);
+        jobQuota = ResourceQuotaManager.getInstance().createJobQuota();
+        List<InventoryDataScalingTask> pendingTasks = getPendingInventoryDataTasks();
+        while (!pendingTasks.isEmpty() && SyncTaskControlStatus.MIGRATE_INVENTORY_DATA.name().equals(shardingScalingJob.getStatus())) {
+            dispatchInventoryDataTasks(pendingTasks);
+            if (!pendingTasks.isEmpty()) {
+                ThreadUtil.sleep(DISPATCH_INTERVAL_MILLIS);
+            }
+        }
+    }
+    
+    private List<InventoryDataScalingTask> getPendingInventoryDataTasks() {
+        List<InventoryDataScalingTask> result = new LinkedList<>();
+        for (ScalingTask<InventoryPosition> eachGroup : shardingScalingJob.getInventoryDataTasks()) {
+            for (ScalingTask<InventoryPosition> each : ((InventoryDataScalingTaskGroup) eachGroup).getScalingTasks()) {
+                if (!getFinishPredicate().test(each)) {
+                    result.add((InventoryDataScalingTask) each);
+                }
+            }
+        }
+        result.sort(Comparator.comparingLong(this::getPrimaryKeyRangeSize));
+        return result;
+    }
+    
+    private long getPrimaryKeyRangeSize(final InventoryDataScalingTask inventoryDataScalingTask) {
+        InventoryPosition position = inventoryDataScalingTask.getPositionManager().getPosition();
+        if (!(position instanceof PrimaryKeyPosition)) {
+            return Long.MAX_VALUE;
+        }
+        long result = ((PrimaryKeyPosition) position).getEndValue() - ((PrimaryKeyPosition) position).getBeginValue();
+        return result < 0L ? Long.MAX_VALUE : result;
+    }
+    
+    private void dispatchInventoryDataTasks(final List<InventoryDataScalingTask> pendingTasks) {
+        Iterator<InventoryDataScalingTask> iterator = pendingTasks.iterator();
+        while (iterator.hasNext() && jobQuota.tryAcquireTask()) {
+            InventoryDataScalingTask each = iterator.next();
+            ResourceQuota dataSourceQuota = ResourceQuotaManager.getInstance().getDataSourceQuota(each.getInventoryDumperConfiguration().getDataSourceConfiguration());
+            if (!dataSourceQuota.tryAcquireTask()) {
+                jobQuota.releaseTask();
+                continue;
+            }
+            iterator.remove();
+            each.setResourceQuotas(Arrays.asList(jobQuota, dataSourceQuota));
+            ScalingContext.getInstance().getTaskExecuteEngine().submit(each, createInventoryDataTaskCallback(dataSourceQuota));
         }
     }
     
@@ -85,11 +145,12 @@ public final class ScalingTaskScheduler implements Runnable {
         return each -> ((InventoryDataScalingTask) each).getPositionManager().getPosition() instanceof FinishedInventoryPosition;
     }
     
-    private ExecuteCallback createInventoryDataTaskCallback() {
+    private ExecuteCallback createInventoryDataTaskCallback(final ResourceQuota dataSourceQuota) {
         return new ExecuteCallback() {
             
             @Override
             public void onSuccess() {
+                releaseTask(dataSourceQuota);
                 if (isFinished(shardingScalingJob.getInventoryDataTasks())) {
                     executeIncrementalDataSyncTask();
                 }
@@ -97,13 +158,22 @@ public final class ScalingTaskScheduler implements Runnable {
             
             @Override
             public void onFailure(final Throwable throwable) {
+                releaseTask(dataSourceQuota);
                 stop();
                 shardingScalingJob.setStatus(SyncTaskControlStatus.MIGRATE_INVENTORY_DATA_FAILURE.name());
             }
         };
     }
     
+    private void releaseTask(final ResourceQuota dataSourceQuota) {
+        dataSourceQuota.releaseTask();
+        jobQuota.releaseTask();
+    }
+    
     private void executeIncrementalDataSyncTask() {
+        if (!incrementalDataTaskStarted.compareAndSet(false, true)) {
+            return;
+        }
         if (!SyncTaskControlStatus.MIGRATE_INVENTORY_DATA.name().equals(shardingScalingJob.getStatus())) {
             shardingScalingJob.setStatus(SyncTaskControlStatus.STOPPED.name());
             return;
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.check;
+
+import org.apache.shardingsphere.scaling.core.config.DumperConfiguration;
+import org.apache.shardingsphere.scaling.core.config.ImporterConfiguration;
+import org.apache.shardingsphere.scaling.core.config.JDBCDataSourceConfiguration;
+import org.apache.shardingsphere.scaling.core.config.SyncConfiguration;
+import org.apache.shardingsphere.scaling.core.datasource.DataSourceManager;
+import org.apache.shardingsphere.scaling.core.job.ShardingScalingJob;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DataConsistencyCheckerTest {
+    
+    private static final String SOURCE_URL = "jdbc:h2:mem:check_source;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL";
+    
+    private static final String TARGET_URL = "jdbc:h2:mem:check_target;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL";
+    
+    private static final String USERNAME = "root";
+    
+    private static final String PASSWORD = "password";
+    
+    private final DataSourceManager dataSourceManager = new DataSourceManager();
+    
+    private ShardingScalingJob shardingScalingJob;
+    
+    @Before
+    public void setUp() throws SQLException {
+        shardingScalingJob = new ShardingScalingJob("ScalingJob", 0);
+        shardingScalingJob.getSyncConfigurations().add(new SyncConfiguration(3, mockDumperConfiguration(), mockImporterConfiguration()));
+        execute(SOURCE_URL, "DROP TABLE IF EXISTS t_order_0", "DROP TABLE IF EXISTS t_order_1",
+                "CREATE TABLE t_order_0 (order_id INT PRIMARY KEY, user_id INT, status VARCHAR(12))",
+                "CREATE TABLE t_order_1 (order_id INT PRIMARY KEY, user_id INT, status VARCHAR(12))");
+        execute(TARGET_URL, "DROP TABLE IF EXISTS t_order", "CREATE TABLE t_order (order_id INT PRIMARY KEY, user_id INT, status VARCHAR(12))");
+        for (int i = 1; i <= 100; i++) {
+            String insertSQL = String.format("INSERT INTO %%s (order_id, user_id, status) VALUES (%d, %d, %s)", i, i % 7, 0 == i % 10 ? "NULL" : "'OK'");
+            execute(SOURCE_URL, String.format(insertSQL, 0 == i % 2 ? "t_order_0" : "t_order_1"));
+            execute(TARGET_URL, String.format(insertSQL, "t_order"));
+        }
+    }
+    
+    @After
+    public void tearDown() {
+        dataSourceManager.close();
+    }
+    
+    @Test
+    public void assertCheckMatched() {
+        Map<String, DataConsistencyCheckResult> actual = new DataConsistencyChecker(4, 10L).check(shardingScalingJob);
+        assertThat(actual.size(), is(1));
+        DataConsistencyCheckResult result = actual.get("t_order");
+        assertTrue(result.isMatched());
+        assertThat(result.getSourceRecordCount(), is(100L));
+        assertThat(result.getTargetRecordCount(), is(100L));
+        assertThat(result.getCheckedRangeCount(), is(10));
+        assertTrue(result.getMismatchedRanges().isEmpty());
+    }
+    
+    @Test
+    public void assertCheckMismatched() throws SQLException {
+        execute(TARGET_URL, "UPDATE t_order SET status = 'CHANGED' WHERE order_id = 35", "DELETE FROM t_order WHERE order_id = 100");
+        DataConsistencyCheckResult actual = new DataConsistencyChecker(4, 10L).check(shardingScalingJob).get("t_order");
+        assertFalse(actual.isMatched());
+        assertThat(actual.getTargetRecordCount(), is(99L));
+        assertThat(actual.getMismatchedRanges().size(), is(2));
+        assertThat(actual.getMismatchedRanges().get(0).getBeginValue(), is(31L));
+        assertThat(actual.getMismatchedRanges().get(0).getSource().getRecordCount(), is(actual.getMismatchedRanges().get(0).getTarget().getRecordCount()));
+        assertThat(actual.getMismatchedRanges().get(1).getEndValue(), is(100L));
+    }
+    
+    @Test
+    public void assertCheckWithSparsePrimaryKeys() throws SQLException {
+        execute(SOURCE_URL, "DROP TABLE t_order_0", "DROP TABLE t_order_1",
+                "CREATE TABLE t_order_0 (order_id BIGINT PRIMARY KEY, user_id INT, status VARCHAR(12))",
+                "CREATE TABLE t_order_1 (order_id BIGINT PRIMARY KEY, user_id INT, status VARCHAR(12))");
+        execute(TARGET_URL, "DROP TABLE t_order", "CREATE TABLE t_order (order_id BIGINT PRIMARY KEY, user_id INT, status VARCHAR(12))");
+        long[] orderIds = {Long.MIN_VALUE + 1, -1L, 1L, 1L << 40, 1L << 52, 1L << 62, Long.MAX_VALUE - 1, Long.MAX_VALUE};
+        for (int i = 0; i < orderIds.length; i++) {
+            String insertSQL = String.format("INSERT INTO %%s (order_id, user_id, status) VALUES (%d, %d, 'OK')", orderIds[i], i);
+            execute(SOURCE_URL, String.format(insertSQL, 0 == i % 2 ? "t_order_0" : "t_order_1"));
+            execute(TARGET_URL, String.format(insertSQL, "t_order"));
+        }
+        DataConsistencyCheckResult actual = new DataConsistencyChecker(2, 3L).check(shardingScalingJob).get("t_order");
+        assertTrue(actual.isMatched());
+        assertThat(actual.getSourceRecordCount(), is(8L));
+        assertThat(actual.getCheckedRangeCount(), is(3));
+    }
+    
+    private void execute(final String url, final String... sqls) throws SQLException {
+        try (Connection connection = dataSourceManager.getDataSource(new JDBCDataSourceConfiguration(url, USERNAME, PASSWORD)).getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String each : sqls) {
+                statement.execute(each);
+            }
+        }
+    }
+    
+    private DumperConfiguration mockDumperConfiguration() {
+        DumperConfiguration result = new DumperConfiguration();
+        result.setDataSourceConfiguration(new JDBCDataSourceConfiguration(SOURCE_URL, USERNAME, PASSWORD));
+        Map<String, String> tableNameMap = new HashMap<>(2, 1);
+        tableNameMap.put("t_order_0", "t_order");
+        tableNameMap.put("t_order_1", "t_order");
+        result.setTableNameMap(tableNameMap);
+        return result;
+    }
+    
+    private ImporterConfiguration mockImporterConfiguration() {
+        ImporterConfiguration result = new ImporterConfiguration();
+        result.setDataSourceConfiguration(new JDBCDataSourceConfiguration(TARGET_URL, USERNAME, PASSWORD));
+        return result;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.execute.executor.channel;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.scaling.core.config.ScalingContext;
+import org.apache.shardingsphere.scaling.core.config.ServerConfiguration;
+import org.apache.shardingsphere.scaling.core.constant.ScalingConstant;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.Record;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.RecordSchema;
+import org.apache.shardingsphere.scaling.core.job.position.Position;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DiskChannelTest {
+    
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    private final List<Record> ackedRecords = new LinkedList<>();
+    
+    private File directory;
+    
+    @Before
+    public void setUp() throws IOException {
+        ServerConfiguration serverConfiguration = new ServerConfiguration();
+        serverConfiguration.setDiskChannelSegmentSize(1024);
+        ScalingContext.getInstance().init(serverConfiguration);
+        directory = temporaryFolder.newFolder("channel");
+    }
+    
+    @Test
+    public void assertFetchAndAckAcrossSegments() {
+        DiskChannel diskChannel = createDiskChannel();
+        for (int i = 0; i < 100; i++) {
+            diskChannel.pushRecord(mockDataRecord(i));
+        }
+        assertTrue(directory.listFiles((dir, name) -> name.endsWith(".log")).length > 1);
+        List<Record> actual = diskChannel.fetchRecords(100, 0);
+        assertThat(actual.size(), is(100));
+        for (int i = 0; i < 100; i++) {
+            DataRecord each = (DataRecord) actual.get(i);
+            assertThat(((IntPosition) each.getPosition()).getId(), is(i));
+            assertThat(each.getTableName(), is("t_order"));
+            assertThat(each.getType(), is(ScalingConstant.INSERT));
+            assertThat(each.getCommitTime(), is(1000L + i));
+            assertThat(each.getSchema(), sameInstance(((DataRecord) actual.get(0)).getSchema()));
+            assertThat(each.getSchema().getColumnName(1), is("status"));
+            assertThat(each.getValue(0), is((Object) (long) i));
+            assertThat(each.getSchema().isPrimaryKey(0), is(true));
+            assertThat(each.isUpdated(0), is(true));
+            assertThat(each.getValue(1), is((Object) ("status_" + i)));
+            assertThat(each.isUpdated(1), is(false));
+            assertThat(each.getValue(2), is((Object) new BigDecimal("10.50")));
+            assertThat(each.getValue(3), nullValue());
+        }
+        diskChannel.ack();
+        assertThat(ackedRecords.size(), is(1));
+        assertThat(((IntPosition) ackedRecords.get(0).getPosition()).getId(), is(99));
+        assertThat(directory.listFiles((dir, name) -> name.endsWith(".log")).length, is(1));
+        assertFalse(diskChannel.getLastPersistedPosition().isPresent());
+        diskChannel.close();
+    }
+    
+    @Test
+    public void assertRecoverUnacknowledgedRecords() {
+        DiskChannel diskChannel = createDiskChannel();
+        for (int i = 0; i < 10; i++) {
+            diskChannel.pushRecord(mockDataRecord(i));
+        }
+        assertThat(diskChannel.fetchRecords(4, 0).size(), is(4));
+        diskChannel.ack();
+        diskChannel.close();
+        DiskChannel recoveredDiskChannel = createDiskChannel();
+        assertThat(((IntPosition) recoveredDiskChannel.getLastPersistedPosition().get()).getId(), is(9));
+        List<Record> actual = recoveredDiskChannel.fetchRecords(10, 0);
+        assertThat(actual.size(), is(6));
+        assertThat(((IntPosition) actual.get(0).getPosition()).getId(), is(4));
+        recoveredDiskChannel.pushRecord(mockDataRecord(10));
+        assertThat(((IntPosition) recoveredDiskChannel.fetchRecords(10, 0).get(0).getPosition()).getId(), is(10));
+        recoveredDiskChannel.close();
+    }
+    
+    @Test
+    public void assertDestroy() {
+        DiskChannel diskChannel = createDiskChannel();
+        for (int i = 0; i < 100; i++) {
+            diskChannel.pushRecord(mockDataRecord(i));
+        }
+        assertThat(diskChannel.fetchRecords(10, 0).size(), is(10));
+        diskChannel.ack();
+        diskChannel.destroy();
+        assertFalse(directory.exists());
+        diskChannel.close();
+    }
+    
+    private DiskChannel createDiskChannel() {
+        return new DiskChannel(directory, 1, new RecordSerializer(position -> new IntPosition(Integer.parseInt(position))), ackedRecords::addAll);
+    }
+    
+    private DataRecord mockDataRecord(final int id) {
+        BitSet primaryKeyColumns = new BitSet();
+        primaryKeyColumns.set(0);
+        DataRecord result = new DataRecord(new IntPosition(id), new RecordSchema("t_order", Arrays.asList("order_id", "status", "amount", "remark"), primaryKeyColumns));
+        result.setType(ScalingConstant.INSERT);
+        result.setCommitTime(1000L + id);
+        result.setValue(0, (long) id, true);
+        result.setValue(1, "status_" + id, false);
+        result.setValue(2, new BigDecimal("10.50"), true);
+        result.setValue(3, null, true);
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class IntPosition implements Position {
+        
+        private final int id;
+        
+        @Override
+        public int compareTo(final Position position) {
+            return Integer.compare(id, ((IntPosition) position).id);
+        }
+        
+        @Override
+        public JsonElement toJson() {
+            return new JsonPrimitive(id);
+        }
+    }
+}
@@ -24,10 +24,10 @@ import org.apache.shardingsphere.scaling.core.config.DataSourceConfiguration;
 import org.apache.shardingsphere.scaling.core.config.ImporterConfiguration;
 import org.apache.shardingsphere.scaling.core.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.execute.executor.channel.Channel;
-import org.apache.shardingsphere.scaling.core.execute.executor.record.Column;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.FinishedRecord;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.Record;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.RecordSchema;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.RecordUtil;
 import org.apache.shardingsphere.scaling.core.job.position.NopPosition;
 import org.junit.Before;
@@ -40,12 +40,15 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.util.Collection;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -137,7 +140,21 @@ public final class AbstractJDBCImporterTest {
         verify(preparedStatement).execute();
     }
     
-    private Collection<Column> mockConditionColumns(final DataRecord dataRecord) {
+    @Test
+    public void assertUpdateDataRecordsWithSameShapeBuildSQLOnce() throws SQLException {
+        DataRecord updateRecord = getDataRecord("UPDATE");
+        when(sqlBuilder.buildUpdateSQL(updateRecord, mockConditionColumns(updateRecord))).thenReturn(UPDATE_SQL);
+        when(connection.prepareStatement(UPDATE_SQL)).thenReturn(preparedStatement);
+        List<Record> records = mockRecords(updateRecord);
+        records.add(1, getDataRecord("UPDATE"));
+        when(channel.fetchRecords(100, 3)).thenReturn(records);
+        jdbcImporter.run();
+        verify(sqlBuilder).buildUpdateSQL(any(DataRecord.class), any(BitSet.class));
+        verify(connection).prepareStatement(UPDATE_SQL);
+        verify(preparedStatement, times(2)).execute();
+    }
+    
+    private BitSet mockConditionColumns(final DataRecord dataRecord) {
         return RecordUtil.extractConditionColumns(dataRecord, Sets.newHashSet("user"));
     }
     
@@ -149,12 +166,13 @@ public final class AbstractJDBCImporterTest {
     }
     
     private DataRecord getDataRecord(final String recordType) {
-        DataRecord result = new DataRecord(new NopPosition(), 3);
-        result.setTableName(TABLE_NAME);
+        BitSet primaryKeyColumns = new BitSet();
+        primaryKeyColumns.set(0);
+        DataRecord result = new DataRecord(new NopPosition(), new RecordSchema(TABLE_NAME, Arrays.asList("id", "user", "status"), primaryKeyColumns));
         result.setType(recordType);
-        result.addColumn(new Column("id", 1, false, true));
-        result.addColumn(new Column("user", 10, true, false));
-        result.addColumn(new Column("status", recordType, true, false));
+        result.setValue(0, 1, false);
+        result.setValue(1, 10, true);
+        result.setValue(2, recordType, true);
         return result;
     }
     
@@ -19,14 +19,15 @@ package org.apache.shardingsphere.scaling.core.execute.executor.importer;
 
 import com.google.common.collect.Sets;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.RecordSchema;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.RecordUtil;
 import org.apache.shardingsphere.scaling.core.job.position.NopPosition;
-import org.apache.shardingsphere.scaling.core.execute.executor.record.Column;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord;
 import org.junit.Before;
 import org.junit.Test;
 
-import java.util.Collection;
+import java.util.Arrays;
+import java.util.BitSet;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -84,18 +85,44 @@ public class AbstractSqlBuilderTest {
         assertThat(actual, is("DELETE FROM `t3` WHERE `id` = ? and `sc` = ?"));
     }
     
-    private Collection<Column> mockConditionColumns(final DataRecord dataRecord) {
+    @Test
+    public void assertBuildUpdateSqlWithDifferentUpdatedColumns() {
+        sqlBuilder.buildUpdateSQL(mockDataRecord("t2"), RecordUtil.extractPrimaryColumns(mockDataRecord("t2")));
+        DataRecord dataRecord = new DataRecord(new NopPosition(), mockRecordSchema("t2"));
+        dataRecord.setValue(0, "", false);
+        dataRecord.setValue(1, "", false);
+        dataRecord.setValue(2, "", false);
+        dataRecord.setValue(3, "", true);
+        dataRecord.setValue(4, "", false);
+        String actual = sqlBuilder.buildUpdateSQL(dataRecord, RecordUtil.extractPrimaryColumns(dataRecord));
+        assertThat(actual, is("UPDATE `t2` SET `c2` = ? WHERE `id` = ?"));
+    }
+    
+    @Test
+    public void assertBuildDeleteSqlWithDifferentConditionColumns() {
+        DataRecord dataRecord = mockDataRecord("t3");
+        sqlBuilder.buildDeleteSQL(dataRecord, RecordUtil.extractPrimaryColumns(dataRecord));
+        String actual = sqlBuilder.buildDeleteSQL(dataRecord, mockConditionColumns(dataRecord));
+        assertThat(actual, is("DELETE FROM `t3` WHERE `id` = ? and `sc` = ?"));
+    }
+    
+    private BitSet mockConditionColumns(final DataRecord dataRecord) {
         return RecordUtil.extractConditionColumns(dataRecord, Sets.newHashSet("sc"));
     }
     
     private DataRecord mockDataRecord(final String tableName) {
-        DataRecord result = new DataRecord(new NopPosition(), 4);
-        result.setTableName(tableName);
-        result.addColumn(new Column("id", "", false, true));
-        result.addColumn(new Column("sc", "", false, false));
-        result.addColumn(new Column("c1", "", true, false));
-        result.addColumn(new Column("c2", "", true, false));
-        result.addColumn(new Column("c3", "", true, false));
+        DataRecord result = new DataRecord(new NopPosition(), mockRecordSchema(tableName));
+        result.setValue(0, "", false);
+        result.setValue(1, "", false);
+        result.setValue(2, "", true);
+        result.setValue(3, "", true);
+        result.setValue(4, "", true);
         return result;
     }
+    
+    private RecordSchema mockRecordSchema(final String tableName) {
+        BitSet primaryKeyColumns = new BitSet();
+        primaryKeyColumns.set(0);
+        return new RecordSchema(tableName, Arrays.asList("id", "sc", "c1", "c2", "c3"), primaryKeyColumns);
+    }
 }
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.scaling.core.config.JDBCDataSourceConfiguration
 import org.apache.shardingsphere.scaling.core.config.ScalingContext;
 import org.apache.shardingsphere.scaling.core.config.ServerConfiguration;
 import org.apache.shardingsphere.scaling.core.fixture.FixtureNopManager;
+import org.apache.shardingsphere.scaling.core.job.ShardingScalingJob;
 import org.apache.shardingsphere.scaling.core.job.SyncProgress;
 import org.apache.shardingsphere.scaling.core.job.position.IncrementalPosition;
 import org.apache.shardingsphere.scaling.core.job.task.DefaultSyncTaskFactory;
@@ -51,7 +52,7 @@ public final class IncrementalDataScalingTaskTest {
     @Before
     public void setUp() {
         ScalingContext.getInstance().init(new ServerConfiguration());
-        incrementalDataSyncTask = new DefaultSyncTaskFactory().createIncrementalDataSyncTask(3, mockDumperConfig(), mockImporterConfiguration());
+        incrementalDataSyncTask = new DefaultSyncTaskFactory().createIncrementalDataSyncTask(new ShardingScalingJob("scalingTest", 0), 3, mockDumperConfig(), mockImporterConfiguration());
     }
     
     @Test
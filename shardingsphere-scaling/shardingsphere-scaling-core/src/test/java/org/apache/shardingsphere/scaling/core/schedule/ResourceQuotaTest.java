@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.schedule;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class ResourceQuotaTest {
+    
+    @Test
+    public void assertTryAcquireTaskWithConcurrencyLimit() {
+        ResourceQuota resourceQuota = new ResourceQuota(2, 0);
+        assertTrue(resourceQuota.tryAcquireTask());
+        assertTrue(resourceQuota.tryAcquireTask());
+        assertFalse(resourceQuota.tryAcquireTask());
+        resourceQuota.releaseTask();
+        assertTrue(resourceQuota.tryAcquireTask());
+    }
+    
+    @Test
+    public void assertTryAcquireTaskWithoutConcurrencyLimit() {
+        ResourceQuota resourceQuota = new ResourceQuota(0, 0);
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(resourceQuota.tryAcquireTask());
+        }
+    }
+    
+    @Test
+    public void assertAcquireRowsWithRateLimit() {
+        ResourceQuota resourceQuota = new ResourceQuota(0, 1000);
+        long start = System.currentTimeMillis();
+        resourceQuota.acquireRows(1000);
+        resourceQuota.acquireRows(500);
+        assertTrue(System.currentTimeMillis() - start >= 800L);
+    }
+}
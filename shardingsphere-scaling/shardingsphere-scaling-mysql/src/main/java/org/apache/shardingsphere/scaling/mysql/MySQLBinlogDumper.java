@@ -26,11 +26,11 @@ import org.apache.shardingsphere.scaling.core.datasource.DataSourceFactory;
 import org.apache.shardingsphere.scaling.core.execute.executor.AbstractShardingScalingExecutor;
 import org.apache.shardingsphere.scaling.core.execute.executor.channel.Channel;
 import org.apache.shardingsphere.scaling.core.execute.executor.dumper.LogDumper;
-import org.apache.shardingsphere.scaling.core.execute.executor.record.Column;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.FinishedRecord;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.PlaceholderRecord;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.Record;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.RecordSchema;
 import org.apache.shardingsphere.scaling.core.job.position.NopPosition;
 import org.apache.shardingsphere.scaling.core.job.position.Position;
 import org.apache.shardingsphere.scaling.core.metadata.JdbcUri;
@@ -48,6 +48,8 @@ import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
 
 import java.io.Serializable;
 import java.security.SecureRandom;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
 
@@ -63,6 +65,8 @@ public final class MySQLBinlogDumper extends AbstractShardingScalingExecutor<Bin
     
     private final MetaDataManager metaDataManager;
     
+    private final Map<String, RecordSchema> recordSchemas = new HashMap<>();
+    
     private final Random random = new SecureRandom();
     
     @Setter
@@ -117,19 +121,17 @@ public final class MySQLBinlogDumper extends AbstractShardingScalingExecutor<Bin
     }
     
     private void handleWriteRowsEvent(final WriteRowsEvent event) {
-        TableMetaData tableMetaData = metaDataManager.getTableMetaData(event.getTableName());
         for (Serializable[] each : event.getAfterRows()) {
             DataRecord record = createDataRecord(event, each.length);
             record.setType(ScalingConstant.INSERT);
             for (int i = 0; i < each.length; i++) {
-                record.addColumn(new Column(tableMetaData.getColumnMetaData(i).getName(), each[i], true, tableMetaData.isPrimaryKey(i)));
+                record.setValue(i, each[i], true);
             }
             pushRecord(record);
         }
     }
     
     private void handleUpdateRowsEvent(final UpdateRowsEvent event) {
-        TableMetaData tableMetaData = metaDataManager.getTableMetaData(event.getTableName());
         for (int i = 0; i < event.getBeforeRows().size(); i++) {
             Serializable[] beforeValues = event.getBeforeRows().get(i);
             Serializable[] afterValues = event.getAfterRows().get(i);
@@ -138,31 +140,39 @@ public final class MySQLBinlogDumper extends AbstractShardingScalingExecutor<Bin
             for (int j = 0; j < beforeValues.length; j++) {
                 Object oldValue = beforeValues[j];
                 Object newValue = afterValues[j];
-                record.addColumn(new Column(tableMetaData.getColumnMetaData(j).getName(), newValue, !Objects.equals(newValue, oldValue), tableMetaData.isPrimaryKey(j)));
+                record.setValue(j, newValue, !Objects.equals(newValue, oldValue));
             }
             pushRecord(record);
         }
     }
     
     private void handleDeleteRowsEvent(final DeleteRowsEvent event) {
-        TableMetaData tableMetaData = metaDataManager.getTableMetaData(event.getTableName());
         for (Serializable[] each : event.getBeforeRows()) {
             DataRecord record = createDataRecord(event, each.length);
             record.setType(ScalingConstant.DELETE);
             for (int i = 0; i < each.length; i++) {
-                record.addColumn(new Column(tableMetaData.getColumnMetaData(i).getName(), each[i], true, tableMetaData.isPrimaryKey(i)));
+                record.setValue(i, each[i], true);
             }
             pushRecord(record);
         }
     }
     
     private DataRecord createDataRecord(final AbstractRowsEvent rowsEvent, final int columnCount) {
-        DataRecord result = new DataRecord(new BinlogPosition(rowsEvent.getFileName(), rowsEvent.getPosition(), rowsEvent.getServerId()), columnCount);
-        result.setTableName(dumperConfiguration.getTableNameMap().get(rowsEvent.getTableName()));
+        DataRecord result = new DataRecord(new BinlogPosition(rowsEvent.getFileName(), rowsEvent.getPosition(), rowsEvent.getServerId()), getRecordSchema(rowsEvent.getTableName(), columnCount));
         result.setCommitTime(rowsEvent.getTimestamp() * 1000);
         return result;
     }
     
+    private RecordSchema getRecordSchema(final String tableName, final int columnCount) {
+        RecordSchema result = recordSchemas.get(tableName);
+        if (null == result || result.getColumnCount() != columnCount) {
+            TableMetaData tableMetaData = metaDataManager.getTableMetaData(tableName);
+            result = new RecordSchema(dumperConfiguration.getTableNameMap().get(tableName), tableMetaData, columnCount);
+            recordSchemas.put(tableName, result);
+        }
+        return result;
+    }
+    
     private void createPlaceholderRecord(final AbstractBinlogEvent event) {
         PlaceholderRecord record = new PlaceholderRecord(new BinlogPosition(event.getFileName(), event.getPosition(), event.getServerId()));
         record.setCommitTime(event.getTimestamp() * 1000);
@@ -19,14 +19,17 @@ package org.apache.shardingsphere.scaling.mysql;
 
 import org.apache.shardingsphere.scaling.core.config.ImporterConfiguration;
 import org.apache.shardingsphere.scaling.core.datasource.DataSourceManager;
-import org.apache.shardingsphere.scaling.core.execute.executor.record.Column;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.RecordSchema;
 import org.apache.shardingsphere.scaling.mysql.binlog.BinlogPosition;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.Arrays;
+import java.util.BitSet;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -47,10 +50,11 @@ public class MySQLImporterTest {
     }
     
     private DataRecord mockDataRecord() {
-        DataRecord result = new DataRecord(new BinlogPosition("binlog-000001", 4), 2);
-        result.setTableName("t_order");
-        result.addColumn(new Column("id", 1, true, true));
-        result.addColumn(new Column("name", "", true, false));
+        BitSet primaryKeyColumns = new BitSet();
+        primaryKeyColumns.set(0);
+        DataRecord result = new DataRecord(new BinlogPosition("binlog-000001", 4), new RecordSchema("t_order", Arrays.asList("id", "name"), primaryKeyColumns));
+        result.setValue(0, 1, true);
+        result.setValue(1, "", true);
         return result;
     }
 }
@@ -38,6 +38,10 @@ public final class PostgreSQLPositionManager extends BasePositionManager<WalPosi
     
     public static final String DECODE_PLUGIN = "test_decoding";
     
+    public static final String PGOUTPUT_PLUGIN = "pgoutput";
+    
+    public static final String PUBLICATION_NAME = "sharding_scaling";
+    
     public static final String DUPLICATE_OBJECT_ERROR_CODE = "42710";
     
     private DataSource dataSource;
@@ -71,7 +75,7 @@ public final class PostgreSQLPositionManager extends BasePositionManager<WalPosi
     }
     
     private void createIfNotExists(final Connection connection) throws SQLException {
-        try (PreparedStatement ps = connection.prepareStatement(String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", SLOT_NAME, DECODE_PLUGIN))) {
+        try (PreparedStatement ps = connection.prepareStatement(String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", SLOT_NAME, getDecodePlugin(connection)))) {
             ps.execute();
         } catch (final PSQLException ex) {
             if (!DUPLICATE_OBJECT_ERROR_CODE.equals(ex.getSQLState())) {
@@ -80,6 +84,16 @@ public final class PostgreSQLPositionManager extends BasePositionManager<WalPosi
         }
     }
     
+    private String getDecodePlugin(final Connection connection) throws SQLException {
+        if (10 > connection.getMetaData().getDatabaseMajorVersion()) {
+            return DECODE_PLUGIN;
+        }
+        try (PreparedStatement ps = connection.prepareStatement(String.format("SELECT 1 FROM pg_publication WHERE pubname = '%s'", PUBLICATION_NAME));
+             ResultSet rs = ps.executeQuery()) {
+            return rs.next() ? PGOUTPUT_PLUGIN : DECODE_PLUGIN;
+        }
+    }
+    
     private WalPosition getWalPosition(final Connection connection) throws SQLException {
         try (PreparedStatement ps = connection.prepareStatement(getSql(connection));
              ResultSet rs = ps.executeQuery()) {
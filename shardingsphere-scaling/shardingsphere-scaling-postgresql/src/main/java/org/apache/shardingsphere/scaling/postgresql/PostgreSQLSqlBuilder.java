@@ -17,9 +17,7 @@
 
 package org.apache.shardingsphere.scaling.postgresql;
 
-import org.apache.shardingsphere.scaling.core.execute.executor.record.Column;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord;
-import org.apache.shardingsphere.scaling.core.execute.executor.record.RecordUtil;
 import org.apache.shardingsphere.scaling.core.execute.executor.importer.AbstractSqlBuilder;
 
 /**
@@ -38,14 +36,16 @@ public final class PostgreSQLSqlBuilder extends AbstractSqlBuilder {
     }
     
     @Override
-    public String buildInsertSQL(final DataRecord dataRecord) {
-        return super.buildInsertSQL(dataRecord) + buildConflictSQL(dataRecord);
+    protected String buildInsertSQLInternal(final DataRecord dataRecord) {
+        return super.buildInsertSQLInternal(dataRecord) + buildConflictSQL(dataRecord);
     }
     
     private String buildConflictSQL(final DataRecord dataRecord) {
         StringBuilder result = new StringBuilder(" ON CONFLICT (");
-        for (Column each : RecordUtil.extractPrimaryColumns(dataRecord)) {
-            result.append(each.getName()).append(",");
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            if (dataRecord.getSchema().isPrimaryKey(i)) {
+                result.append(dataRecord.getSchema().getColumnName(i)).append(",");
+            }
         }
         result.setLength(result.length() - 1);
         result.append(") DO NOTHING");
@@ -26,14 +26,15 @@ import org.apache.shardingsphere.scaling.core.execute.executor.channel.Channel;
 import org.apache.shardingsphere.scaling.core.execute.executor.dumper.LogDumper;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.Record;
 import org.apache.shardingsphere.scaling.core.job.position.Position;
-import org.apache.shardingsphere.scaling.core.utils.ThreadUtil;
 import org.apache.shardingsphere.scaling.postgresql.wal.LogicalReplication;
 import org.apache.shardingsphere.scaling.postgresql.wal.WalEventConverter;
 import org.apache.shardingsphere.scaling.postgresql.wal.WalPosition;
 import org.apache.shardingsphere.scaling.postgresql.wal.decode.DecodingPlugin;
+import org.apache.shardingsphere.scaling.postgresql.wal.decode.PgOutputDecodingPlugin;
 import org.apache.shardingsphere.scaling.postgresql.wal.decode.TestDecodingPlugin;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractWalEvent;
 import org.postgresql.jdbc.PgConnection;
+import org.postgresql.jdbc.TimestampUtils;
 import org.postgresql.replication.PGReplicationStream;
 
 import java.nio.ByteBuffer;
@@ -56,6 +57,8 @@ public final class PostgreSQLWalDumper extends AbstractShardingScalingExecutor<W
     @Setter
     private Channel channel;
     
+    private volatile PGReplicationStream stream;
+    
     public PostgreSQLWalDumper(final DumperConfiguration dumperConfiguration, final Position position) {
         walPosition = (WalPosition) position;
         if (!JDBCDataSourceConfiguration.class.equals(dumperConfiguration.getDataSourceConfiguration().getClass())) {
@@ -74,20 +77,41 @@ public final class PostgreSQLWalDumper extends AbstractShardingScalingExecutor<W
     private void dump() {
         try {
             Connection pgConnection = logicalReplication.createPgConnection((JDBCDataSourceConfiguration) dumperConfiguration.getDataSourceConfiguration());
-            DecodingPlugin decodingPlugin = new TestDecodingPlugin(pgConnection.unwrap(PgConnection.class).getTimestampUtils());
-            PGReplicationStream stream = logicalReplication.createReplicationStream(pgConnection,
-                    PostgreSQLPositionManager.SLOT_NAME, walPosition.getLogSequenceNumber());
+            TimestampUtils timestampUtils = pgConnection.unwrap(PgConnection.class).getTimestampUtils();
+            DecodingPlugin decodingPlugin;
+            if (isPgOutputSlot(pgConnection)) {
+                decodingPlugin = new PgOutputDecodingPlugin(timestampUtils);
+                stream = logicalReplication.createPgOutputReplicationStream(pgConnection,
+                        PostgreSQLPositionManager.SLOT_NAME, PostgreSQLPositionManager.PUBLICATION_NAME, walPosition.getLogSequenceNumber());
+            } else {
+                decodingPlugin = new TestDecodingPlugin(timestampUtils);
+                stream = logicalReplication.createReplicationStream(pgConnection, PostgreSQLPositionManager.SLOT_NAME, walPosition.getLogSequenceNumber());
+            }
             while (isRunning()) {
-                ByteBuffer msg = stream.readPending();
-                if (msg == null) {
-                    ThreadUtil.sleep(10L);
-                    continue;
-                }
-                AbstractWalEvent event = decodingPlugin.decode(msg, stream.getLastReceiveLSN());
+                ByteBuffer message = stream.read();
+                AbstractWalEvent event = decodingPlugin.decode(message, stream.getLastReceiveLSN());
                 pushRecord(walEventConverter.convert(event));
             }
         } catch (final SQLException ex) {
-            throw new SyncTaskExecuteException(ex);
+            if (isRunning()) {
+                throw new SyncTaskExecuteException(ex);
+            }
+        }
+    }
+    
+    private boolean isPgOutputSlot(final Connection pgConnection) throws SQLException {
+        return logicalReplication.getSlotPlugin(pgConnection, PostgreSQLPositionManager.SLOT_NAME).filter(PostgreSQLPositionManager.PGOUTPUT_PLUGIN::equals).isPresent();
+    }
+    
+    @Override
+    public void stop() {
+        super.stop();
+        if (null == stream) {
+            return;
+        }
+        try {
+            stream.close();
+        } catch (final SQLException ignored) {
         }
     }
     
@@ -25,7 +25,10 @@ import org.postgresql.replication.PGReplicationStream;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -73,4 +76,43 @@ public final class LogicalReplication {
                 .withSlotOption("skip-empty-xacts", true)
                 .start();
     }
+    
+    /**
+     * Create PostgreSQL replication stream for pgoutput plugin.
+     *
+     * @param pgConnection PostgreSQL connection
+     * @param slotName slot name
+     * @param publicationName publication name
+     * @param startPosition start position
+     * @return replication stream
+     * @throws SQLException sql exception
+     */
+    public PGReplicationStream createPgOutputReplicationStream(final Connection pgConnection, final String slotName, final String publicationName,
+                                                               final LogSequenceNumber startPosition) throws SQLException {
+        return pgConnection.unwrap(PGConnection.class).getReplicationAPI()
+                .replicationStream()
+                .logical()
+                .withStartPosition(startPosition)
+                .withSlotName(slotName)
+                .withSlotOption("proto_version", 1)
+                .withSlotOption("publication_names", publicationName)
+                .start();
+    }
+    
+    /**
+     * Get output plugin of replication slot.
+     *
+     * @param pgConnection PostgreSQL connection
+     * @param slotName slot name
+     * @return output plugin name
+     * @throws SQLException sql exception
+     */
+    public Optional<String> getSlotPlugin(final Connection pgConnection, final String slotName) throws SQLException {
+        try (PreparedStatement preparedStatement = pgConnection.prepareStatement("SELECT plugin FROM pg_replication_slots WHERE slot_name = ?")) {
+            preparedStatement.setString(1, slotName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() ? Optional.ofNullable(resultSet.getString(1)) : Optional.empty();
+            }
+        }
+    }
 }
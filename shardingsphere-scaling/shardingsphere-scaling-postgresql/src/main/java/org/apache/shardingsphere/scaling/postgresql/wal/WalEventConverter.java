@@ -21,10 +21,11 @@ import org.apache.shardingsphere.scaling.core.config.DumperConfiguration;
 import org.apache.shardingsphere.scaling.core.config.JDBCDataSourceConfiguration;
 import org.apache.shardingsphere.scaling.core.constant.ScalingConstant;
 import org.apache.shardingsphere.scaling.core.datasource.DataSourceFactory;
-import org.apache.shardingsphere.scaling.core.execute.executor.record.Column;
+import org.apache.shardingsphere.scaling.core.exception.SyncTaskExecuteException;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.PlaceholderRecord;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.Record;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.RecordSchema;
 import org.apache.shardingsphere.scaling.core.metadata.JdbcUri;
 import org.apache.shardingsphere.scaling.core.metadata.MetaDataManager;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractRowEvent;
@@ -33,9 +34,11 @@ import org.apache.shardingsphere.scaling.postgresql.wal.event.DeleteRowEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.PlaceholderEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.UpdateRowEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.WriteRowEvent;
-import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
 
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Convert wal event to {@code Record}.
@@ -46,6 +49,10 @@ public final class WalEventConverter {
     
     private final MetaDataManager metaDataManager;
     
+    private final Map<String, RecordSchema> recordSchemas = new HashMap<>();
+    
+    private final Map<String, RecordSchema> primaryKeyRecordSchemas = new HashMap<>();
+    
     public WalEventConverter(final DumperConfiguration dumperConfiguration) {
         this.dumperConfiguration = dumperConfiguration;
         metaDataManager = new MetaDataManager(new DataSourceFactory().newInstance(dumperConfiguration.getDataSourceConfiguration()));
@@ -92,39 +99,61 @@ public final class WalEventConverter {
     }
     
     private DataRecord handleWriteRowsEvent(final WriteRowEvent writeRowEvent) {
-        DataRecord result = createDataRecord(writeRowEvent, writeRowEvent.getAfterRow().size());
+        DataRecord result = createDataRecord(writeRowEvent, getRecordSchema(writeRowEvent.getTableName(), writeRowEvent.getAfterRow().size()));
         result.setType(ScalingConstant.INSERT);
-        putColumnsIntoDataRecord(result, metaDataManager.getTableMetaData(writeRowEvent.getTableName()), writeRowEvent.getAfterRow());
+        putValuesIntoDataRecord(result, writeRowEvent.getAfterRow());
         return result;
     }
     
     private DataRecord handleUpdateRowsEvent(final UpdateRowEvent updateRowEvent) {
-        DataRecord result = createDataRecord(updateRowEvent, updateRowEvent.getAfterRow().size());
+        DataRecord result = createDataRecord(updateRowEvent, getRecordSchema(updateRowEvent.getTableName(), updateRowEvent.getAfterRow().size()));
         result.setType(ScalingConstant.UPDATE);
-        putColumnsIntoDataRecord(result, metaDataManager.getTableMetaData(updateRowEvent.getTableName()), updateRowEvent.getAfterRow());
+        putValuesIntoDataRecord(result, updateRowEvent.getAfterRow());
         return result;
     }
     
     private DataRecord handleDeleteRowsEvent(final DeleteRowEvent event) {
-        //TODO completion columns
-        DataRecord result = createDataRecord(event, event.getPrimaryKeys().size());
+        DataRecord result = createDataRecord(event, getPrimaryKeyRecordSchema(event.getTableName()));
         result.setType(ScalingConstant.DELETE);
-        List<String> primaryKeyColumns = metaDataManager.getTableMetaData(event.getTableName()).getPrimaryKeyColumns();
-        for (int i = 0; i < event.getPrimaryKeys().size(); i++) {
-            result.addColumn(new Column(primaryKeyColumns.get(i), event.getPrimaryKeys().get(i), true, true));
+        for (int i = 0; i < result.getColumnCount(); i++) {
+            String columnName = result.getSchema().getColumnName(i);
+            if (!event.getKeyColumnValues().containsKey(columnName)) {
+                throw new SyncTaskExecuteException(String.format("Primary key column %s of deleted row of %s is not replicated, please set REPLICA IDENTITY DEFAULT or FULL on the table",
+                        columnName, event.getTableName()));
+            }
+            result.setValue(i, event.getKeyColumnValues().get(columnName), true);
         }
         return result;
     }
     
-    private DataRecord createDataRecord(final AbstractRowEvent rowsEvent, final int columnCount) {
-        DataRecord result = new DataRecord(new WalPosition(rowsEvent.getLogSequenceNumber()), columnCount);
-        result.setTableName(dumperConfiguration.getTableNameMap().get(rowsEvent.getTableName()));
+    private RecordSchema getRecordSchema(final String tableName, final int columnCount) {
+        RecordSchema result = recordSchemas.get(tableName);
+        if (null == result || result.getColumnCount() != columnCount) {
+            result = new RecordSchema(dumperConfiguration.getTableNameMap().get(tableName), metaDataManager.getTableMetaData(tableName), columnCount);
+            recordSchemas.put(tableName, result);
+        }
         return result;
     }
     
-    private void putColumnsIntoDataRecord(final DataRecord dataRecord, final TableMetaData tableMetaData, final List<Object> values) {
+    private RecordSchema getPrimaryKeyRecordSchema(final String tableName) {
+        RecordSchema result = primaryKeyRecordSchemas.get(tableName);
+        if (null == result) {
+            List<String> primaryKeyColumns = metaDataManager.getTableMetaData(tableName).getPrimaryKeyColumns();
+            BitSet primaryKeyIndexes = new BitSet(primaryKeyColumns.size());
+            primaryKeyIndexes.set(0, primaryKeyColumns.size());
+            result = new RecordSchema(dumperConfiguration.getTableNameMap().get(tableName), primaryKeyColumns, primaryKeyIndexes);
+            primaryKeyRecordSchemas.put(tableName, result);
+        }
+        return result;
+    }
+    
+    private DataRecord createDataRecord(final AbstractRowEvent rowsEvent, final RecordSchema schema) {
+        return new DataRecord(new WalPosition(rowsEvent.getLogSequenceNumber()), schema);
+    }
+    
+    private void putValuesIntoDataRecord(final DataRecord dataRecord, final List<Object> values) {
         for (int i = 0; i < values.size(); i++) {
-            dataRecord.addColumn(new Column(tableMetaData.getColumnMetaData(i).getName(), values.get(i), true, tableMetaData.isPrimaryKey(i)));
+            dataRecord.setValue(i, values.get(i), true);
         }
     }
 }
@@ -0,0 +1,306 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.postgresql.wal.decode;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.scaling.core.exception.SyncTaskExecuteException;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractRowEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractWalEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.WriteRowEvent;
+import org.postgresql.jdbc.TimestampUtils;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decoding plugin for the pgoutput logical replication protocol.
+ *
+ * <p>
+ * Relation messages are cached by relation oid, column values are decoded straight from the replication buffer.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class PgOutputDecodingPlugin implements DecodingPlugin {
+    
+    private static final int BOOL_OID = 16;
+    
+    private static final int BYTEA_OID = 17;
+    
+    private static final int INT8_OID = 20;
+    
+    private static final int INT2_OID = 21;
+    
+    private static final int INT4_OID = 23;
+    
+    private static final int FLOAT4_OID = 700;
+    
+    private static final int FLOAT8_OID = 701;
+    
+    private static final int DATE_OID = 1082;
+    
+    private static final int TIME_OID = 1083;
+    
+    private static final int TIMESTAMP_OID = 1114;
+    
+    private static final int NUMERIC_OID = 1700;
+    
+    private static final Object UNCHANGED_TOASTED_VALUE = new Object();
+    
+    private final Map<Integer, PgOutputRelation> relations = new HashMap<>();
+    
+    private final TimestampUtils timestampUtils;
+    
+    @Override
+    public AbstractWalEvent decode(final ByteBuffer data, final LogSequenceNumber logSequenceNumber) {
+        AbstractWalEvent result;
+        byte messageType = data.get();
+        switch (messageType) {
+            case 'R':
+                readRelation(data);
+                result = new PlaceholderEvent();
+                break;
+            case 'I':
+                result = readWriteRowEvent(data);
+                break;
+            case 'U':
+                result = readUpdateRowEvent(data);
+                break;
+            case 'D':
+                result = readDeleteRowEvent(data);
+                break;
+            default:
+                result = new PlaceholderEvent();
+        }
+        result.setLogSequenceNumber(logSequenceNumber);
+        return result;
+    }
+    
+    private void readRelation(final ByteBuffer data) {
+        int relationOid = data.getInt();
+        String schemaName = readCString(data);
+        String tableName = readCString(data);
+        data.get();
+        int columnCount = data.getShort();
+        String[] columnNames = new String[columnCount];
+        int[] columnTypes = new int[columnCount];
+        boolean[] keyColumns = new boolean[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            keyColumns[i] = 1 == (data.get() & 1);
+            columnNames[i] = readCString(data);
+            columnTypes[i] = data.getInt();
+            data.getInt();
+        }
+        relations.put(relationOid, new PgOutputRelation(schemaName, tableName, columnNames, columnTypes, keyColumns));
+    }
+    
+    private AbstractRowEvent readWriteRowEvent(final ByteBuffer data) {
+        WriteRowEvent result = new WriteRowEvent();
+        PgOutputRelation relation = getRelation(data.getInt());
+        data.get();
+        result.setAfterRow(readTupleData(data, relation));
+        setTableName(result, relation);
+        return result;
+    }
+    
+    private AbstractRowEvent readUpdateRowEvent(final ByteBuffer data) {
+        UpdateRowEvent result = new UpdateRowEvent();
+        PgOutputRelation relation = getRelation(data.getInt());
+        List<Object> beforeRow = null;
+        byte tupleType = data.get();
+        if ('K' == tupleType || 'O' == tupleType) {
+            beforeRow = readTupleData(data, relation);
+            data.get();
+        }
+        List<Object> afterRow = readTupleData(data, relation);
+        for (int i = 0; i < afterRow.size(); i++) {
+            if (UNCHANGED_TOASTED_VALUE == afterRow.get(i)) {
+                afterRow.set(i, getUnchangedToastedValue(relation, beforeRow, i));
+            }
+        }
+        result.setAfterRow(afterRow);
+        setTableName(result, relation);
+        return result;
+    }
+    
+    private Object getUnchangedToastedValue(final PgOutputRelation relation, final List<Object> beforeRow, final int columnIndex) {
+        if (null == beforeRow || UNCHANGED_TOASTED_VALUE == beforeRow.get(columnIndex)) {
+            throw new SyncTaskExecuteException(String.format("Unchanged toasted value of %s.%s is not replicated, please set REPLICA IDENTITY FULL on the table",
+                    relation.getSchemaName(), relation.getTableName()));
+        }
+        return beforeRow.get(columnIndex);
+    }
+    
+    private AbstractRowEvent readDeleteRowEvent(final ByteBuffer data) {
+        DeleteRowEvent result = new DeleteRowEvent();
+        PgOutputRelation relation = getRelation(data.getInt());
+        data.get();
+        List<Object> beforeRow = readTupleData(data, relation);
+        Map<String, Object> keyColumnValues = new LinkedHashMap<>(beforeRow.size(), 1);
+        for (int i = 0; i < beforeRow.size(); i++) {
+            if (relation.getKeyColumns()[i]) {
+                keyColumnValues.put(relation.getColumnNames()[i], beforeRow.get(i));
+            }
+        }
+        result.setKeyColumnValues(keyColumnValues);
+        setTableName(result, relation);
+        return result;
+    }
+    
+    private PgOutputRelation getRelation(final int relationOid) {
+        PgOutputRelation result = relations.get(relationOid);
+        if (null == result) {
+            throw new SyncTaskExecuteException(String.format("Can not find relation message of relation oid %d", relationOid));
+        }
+        return result;
+    }
+    
+    private void setTableName(final AbstractRowEvent rowEvent, final PgOutputRelation relation) {
+        rowEvent.setSchemaName(relation.getSchemaName());
+        rowEvent.setTableName(relation.getTableName());
+    }
+    
+    private List<Object> readTupleData(final ByteBuffer data, final PgOutputRelation relation) {
+        int columnCount = data.getShort();
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            result.add(readColumn(data, relation.getColumnTypes()[i]));
+        }
+        return result;
+    }
+    
+    private Object readColumn(final ByteBuffer data, final int columnType) {
+        byte columnDataType = data.get();
+        switch (columnDataType) {
+            case 'n':
+                return null;
+            case 'u':
+                return UNCHANGED_TOASTED_VALUE;
+            case 't':
+                return readColumnData(data, data.getInt(), columnType);
+            default:
+                throw new SyncTaskExecuteException(String.format("Unsupported pgoutput column data type %s", (char) columnDataType));
+        }
+    }
+    
+    private Object readColumnData(final ByteBuffer data, final int length, final int columnType) {
+        switch (columnType) {
+            case INT2_OID:
+                return (short) readLong(data, length);
+            case INT4_OID:
+                return (int) readLong(data, length);
+            case INT8_OID:
+                return readLong(data, length);
+            case FLOAT4_OID:
+                return Float.parseFloat(readString(data, length));
+            case FLOAT8_OID:
+                return Double.parseDouble(readString(data, length));
+            case NUMERIC_OID:
+                return new BigDecimal(readString(data, length));
+            case BOOL_OID:
+                return readBoolean(data, length);
+            case DATE_OID:
+                return Date.valueOf(readString(data, length));
+            case TIME_OID:
+                try {
+                    return timestampUtils.toTime(null, readString(data, length));
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case TIMESTAMP_OID:
+                try {
+                    return timestampUtils.toTimestamp(null, readString(data, length));
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case BYTEA_OID:
+                return readHex(data, length);
+            default:
+                return readString(data, length);
+        }
+    }
+    
+    private long readLong(final ByteBuffer data, final int length) {
+        int end = data.position() + length;
+        boolean negative = '-' == data.get(data.position());
+        if (negative) {
+            data.get();
+        }
+        long result = 0;
+        while (data.position() < end) {
+            result = result * 10 + (data.get() - '0');
+        }
+        return negative ? -result : result;
+    }
+    
+    private boolean readBoolean(final ByteBuffer data, final int length) {
+        boolean result = 't' == data.get(data.position());
+        data.position(data.position() + length);
+        return result;
+    }
+    
+    private byte[] readHex(final ByteBuffer data, final int length) {
+        if (length < 2 || 0 != (length & 1)) {
+            throw new IllegalArgumentException(String.format("Illegal bytea data length %d", length));
+        }
+        data.position(data.position() + 2);
+        byte[] result = new byte[(length - 2) >>> 1];
+        for (int i = 0; i < result.length; i++) {
+            int firstHexChar = Character.digit(data.get(), 16);
+            int secondHexChar = Character.digit(data.get(), 16);
+            if (-1 == firstHexChar || -1 == secondHexChar) {
+                throw new IllegalArgumentException(String.format("Illegal hex byte in index %d", i));
+            }
+            result[i] = (byte) ((firstHexChar << 4) + secondHexChar);
+        }
+        return result;
+    }
+    
+    private String readCString(final ByteBuffer data) {
+        int start = data.position();
+        int end = start;
+        while (0 != data.get(end)) {
+            end++;
+        }
+        String result = readString(data, end - start);
+        data.get();
+        return result;
+    }
+    
+    private String readString(final ByteBuffer data, final int length) {
+        if (data.hasArray()) {
+            String result = new String(data.array(), data.arrayOffset() + data.position(), length, StandardCharsets.UTF_8);
+            data.position(data.position() + length);
+            return result;
+        }
+        byte[] result = new byte[length];
+        data.get(result);
+        return new String(result, StandardCharsets.UTF_8);
+    }
+}
@@ -33,8 +33,10 @@ import java.math.BigDecimal;
 import java.nio.ByteBuffer;
 import java.sql.Date;
 import java.sql.SQLException;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Test decoding plugin.
@@ -108,12 +110,12 @@ public final class TestDecodingPlugin implements DecodingPlugin {
     
     private AbstractRowEvent readDeleteRowEvent(final ByteBuffer data) {
         DeleteRowEvent result = new DeleteRowEvent();
-        List<Object> afterColumns = new LinkedList<>();
-        
+        Map<String, Object> keyColumnValues = new LinkedHashMap<>();
         while (data.hasRemaining()) {
-            afterColumns.add(readColumn(data));
+            String columnName = readColumnName(data);
+            keyColumnValues.put(columnName, readColumnValue(data));
         }
-        result.setPrimaryKeys(afterColumns);
+        result.setKeyColumnValues(keyColumnValues);
         return result;
     }
     
@@ -127,7 +129,11 @@ public final class TestDecodingPlugin implements DecodingPlugin {
     }
     
     private Object readColumn(final ByteBuffer data) {
-        String columnName = readColumnName(data);
+        readColumnName(data);
+        return readColumnValue(data);
+    }
+    
+    private Object readColumnValue(final ByteBuffer data) {
         String columnType = readColumnType(data);
         data.get();
         return readColumnData(data, columnType);
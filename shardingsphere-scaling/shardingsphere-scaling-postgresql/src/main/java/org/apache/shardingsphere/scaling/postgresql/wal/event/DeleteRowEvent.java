@@ -20,7 +20,7 @@ package org.apache.shardingsphere.scaling.postgresql.wal.event;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.util.List;
+import java.util.Map;
 
 /**
  * Delete row event.
@@ -29,5 +29,8 @@ import java.util.List;
 @Getter
 public final class DeleteRowEvent extends AbstractRowEvent {
     
-    private List<Object> primaryKeys;
+    /**
+     * Replica identity column values of deleted row, key is column name.
+     */
+    private Map<String, Object> keyColumnValues;
 }
@@ -19,8 +19,8 @@ package org.apache.shardingsphere.scaling.postgresql;
 
 import org.apache.shardingsphere.scaling.core.config.ImporterConfiguration;
 import org.apache.shardingsphere.scaling.core.datasource.DataSourceManager;
-import org.apache.shardingsphere.scaling.core.execute.executor.record.Column;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.RecordSchema;
 import org.apache.shardingsphere.scaling.postgresql.wal.WalPosition;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -28,6 +28,9 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.postgresql.replication.LogSequenceNumber;
 
+import java.util.Arrays;
+import java.util.BitSet;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -48,10 +51,11 @@ public final class PostgreSQLImporterTest {
     }
     
     private DataRecord mockDataRecord() {
-        DataRecord result = new DataRecord(new WalPosition(LogSequenceNumber.valueOf(100L)), 2);
-        result.setTableName("t_order");
-        result.addColumn(new Column("id", 1, true, true));
-        result.addColumn(new Column("name", "", true, false));
+        BitSet primaryKeyColumns = new BitSet();
+        primaryKeyColumns.set(0);
+        DataRecord result = new DataRecord(new WalPosition(LogSequenceNumber.valueOf(100L)), new RecordSchema("t_order", Arrays.asList("id", "name"), primaryKeyColumns));
+        result.setValue(0, 1, true);
+        result.setValue(1, "", true);
         return result;
     }
 }
@@ -36,6 +36,7 @@ import java.sql.SQLException;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -62,6 +63,7 @@ public final class PostgreSQLPositionManagerTest {
         PreparedStatement postgreSQL96LsnPs = mockPostgreSQL96Lsn();
         when(connection.prepareStatement("SELECT * FROM pg_create_logical_replication_slot('sharding_scaling', 'test_decoding')"))
                 .thenReturn(mock(PreparedStatement.class));
+        when(connection.prepareStatement("SELECT 1 FROM pg_publication WHERE pubname = 'sharding_scaling'")).thenReturn(mockPublication(false));
         when(connection.prepareStatement("SELECT PG_CURRENT_XLOG_LOCATION()")).thenReturn(postgreSQL96LsnPs);
         PreparedStatement postgreSQL10LsnPs = mockPostgreSQL10Lsn();
         when(connection.prepareStatement("SELECT PG_CURRENT_WAL_LSN()")).thenReturn(postgreSQL10LsnPs);
@@ -93,6 +95,20 @@ public final class PostgreSQLPositionManagerTest {
         assertThat(actual.getLogSequenceNumber(), is(LogSequenceNumber.valueOf(POSTGRESQL_10_LSN)));
     }
     
+    @Test
+    @SneakyThrows(SQLException.class)
+    public void assertCreatePgOutputSlotWhenPublicationExists() {
+        PostgreSQLPositionManager postgreSQLPositionManager = new PostgreSQLPositionManager(dataSource);
+        when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(10);
+        PreparedStatement publicationPs = mockPublication(true);
+        when(connection.prepareStatement("SELECT 1 FROM pg_publication WHERE pubname = 'sharding_scaling'")).thenReturn(publicationPs);
+        PreparedStatement createSlotPs = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT * FROM pg_create_logical_replication_slot('sharding_scaling', 'pgoutput')")).thenReturn(createSlotPs);
+        WalPosition actual = postgreSQLPositionManager.getPosition();
+        assertThat(actual.getLogSequenceNumber(), is(LogSequenceNumber.valueOf(POSTGRESQL_10_LSN)));
+        verify(createSlotPs).execute();
+    }
+    
     @Test(expected = RuntimeException.class)
     @SneakyThrows(SQLException.class)
     public void assertGetCurrentPositionThrowException() {
@@ -110,6 +126,15 @@ public final class PostgreSQLPositionManagerTest {
         assertThat(postgreSQLPositionManager.getPosition(), is(expected));
     }
     
+    @SneakyThrows(SQLException.class)
+    private PreparedStatement mockPublication(final boolean exists) {
+        PreparedStatement result = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(result.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(exists);
+        return result;
+    }
+    
     @SneakyThrows(SQLException.class)
     private PreparedStatement mockPostgreSQL96Lsn() {
         PreparedStatement result = mock(PreparedStatement.class);
@@ -39,6 +39,8 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -97,6 +99,23 @@ public final class WalEventConverterTest {
         assertThat(((DataRecord) record).getType(), is(ScalingConstant.DELETE));
     }
     
+    @Test
+    public void assertConvertDeleteRowEventWithReplicaIdentityFull() {
+        DeleteRowEvent event = new DeleteRowEvent();
+        event.setSchemaName("");
+        event.setTableName("t_order");
+        Map<String, Object> keyColumnValues = new LinkedHashMap<>(2, 1);
+        keyColumnValues.put("user_id", "xxx");
+        keyColumnValues.put("id", 1);
+        event.setKeyColumnValues(keyColumnValues);
+        DataRecord actual = (DataRecord) walEventConverter.convert(event);
+        assertThat(actual.getType(), is(ScalingConstant.DELETE));
+        assertThat(actual.getColumnCount(), is(1));
+        assertThat(actual.getSchema().getColumnName(0), is("id"));
+        assertThat(actual.getSchema().isPrimaryKey(0), is(true));
+        assertThat(actual.getValue(0), is(1));
+    }
+    
     @Test
     public void assertConvertPlaceholderEvent() {
         Record record = walEventConverter.convert(new PlaceholderEvent());
@@ -134,7 +153,7 @@ public final class WalEventConverterTest {
         DeleteRowEvent result = new DeleteRowEvent();
         result.setSchemaName("");
         result.setTableName("t_order");
-        result.setPrimaryKeys(Lists.newArrayList("id"));
+        result.setKeyColumnValues(Collections.singletonMap("id", 1));
         return result;
     }
     
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.postgresql.wal.decode;
+
+import org.apache.shardingsphere.scaling.core.exception.SyncTaskExecuteException;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractWalEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.WriteRowEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class PgOutputDecodingPluginTest {
+    
+    private static final int RELATION_OID = 16384;
+    
+    private final LogSequenceNumber logSequenceNumber = LogSequenceNumber.valueOf("0/14EFDB8");
+    
+    private PgOutputDecodingPlugin decodingPlugin;
+    
+    @Before
+    public void setUp() {
+        decodingPlugin = new PgOutputDecodingPlugin(null);
+        ByteBuffer relation = ByteBuffer.allocate(256);
+        relation.put((byte) 'R').putInt(RELATION_OID);
+        putCString(relation, "public");
+        putCString(relation, "t_order");
+        relation.put((byte) 'd').putShort((short) 4);
+        putColumn(relation, true, "order_id", 20);
+        putColumn(relation, false, "user_id", 23);
+        putColumn(relation, false, "amount", 1700);
+        putColumn(relation, false, "status", 1043);
+        relation.flip();
+        AbstractWalEvent actual = decodingPlugin.decode(relation, logSequenceNumber);
+        assertTrue(actual instanceof PlaceholderEvent);
+    }
+    
+    @Test
+    public void assertDecodeWriteRowEvent() {
+        ByteBuffer data = ByteBuffer.allocate(256);
+        data.put((byte) 'I').putInt(RELATION_OID).put((byte) 'N');
+        putTuple(data, "-10000000000", "7", "12.50", "paid");
+        data.flip();
+        WriteRowEvent actual = (WriteRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getLogSequenceNumber(), is(logSequenceNumber));
+        assertThat(actual.getSchemaName(), is("public"));
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow(), is(Arrays.<Object>asList(-10000000000L, 7, new BigDecimal("12.50"), "paid")));
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEventWithUnchangedToastedValue() {
+        ByteBuffer data = ByteBuffer.allocate(256);
+        data.put((byte) 'U').putInt(RELATION_OID).put((byte) 'O');
+        putTuple(data, "1", "7", "12.50", "old");
+        data.put((byte) 'N');
+        putTuple(data, "1", "8", null, "u");
+        data.flip();
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow().get(1), is(8));
+        assertThat(actual.getAfterRow().get(2), nullValue());
+        assertThat(actual.getAfterRow().get(3), is("old"));
+    }
+    
+    @Test(expected = SyncTaskExecuteException.class)
+    public void assertDecodeUpdateRowEventWithoutOldTuple() {
+        ByteBuffer data = ByteBuffer.allocate(256);
+        data.put((byte) 'U').putInt(RELATION_OID).put((byte) 'N');
+        putTuple(data, "1", "8", null, "u");
+        data.flip();
+        decodingPlugin.decode(data, logSequenceNumber);
+    }
+    
+    @Test
+    public void assertDecodeDeleteRowEvent() {
+        ByteBuffer data = ByteBuffer.allocate(256);
+        data.put((byte) 'D').putInt(RELATION_OID).put((byte) 'K');
+        putTuple(data, "1", null, null, null);
+        data.flip();
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getKeyColumnValues(), is(Collections.<String, Object>singletonMap("order_id", 1L)));
+    }
+    
+    @Test
+    public void assertDecodeDeleteRowEventWithReplicaIdentityFull() {
+        ByteBuffer relation = ByteBuffer.allocate(256);
+        relation.put((byte) 'R').putInt(RELATION_OID + 1);
+        putCString(relation, "public");
+        putCString(relation, "t_order_item");
+        relation.put((byte) 'f').putShort((short) 3);
+        putColumn(relation, true, "item_id", 20);
+        putColumn(relation, true, "order_id", 20);
+        putColumn(relation, true, "status", 1043);
+        relation.flip();
+        decodingPlugin.decode(relation, logSequenceNumber);
+        ByteBuffer data = ByteBuffer.allocate(256);
+        data.put((byte) 'D').putInt(RELATION_OID + 1).put((byte) 'O');
+        putTuple(data, "2", "1", "paid");
+        data.flip();
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order_item"));
+        assertThat(actual.getKeyColumnValues().size(), is(3));
+        assertThat(actual.getKeyColumnValues().get("item_id"), is(2L));
+        assertThat(actual.getKeyColumnValues().get("status"), is("paid"));
+    }
+    
+    @Test
+    public void assertDecodeCommit() {
+        ByteBuffer data = ByteBuffer.allocate(32);
+        data.put((byte) 'C').put((byte) 0).putLong(1L).putLong(2L).putLong(3L);
+        data.flip();
+        AbstractWalEvent actual = decodingPlugin.decode(data, logSequenceNumber);
+        assertTrue(actual instanceof PlaceholderEvent);
+        assertThat(actual.getLogSequenceNumber(), is(logSequenceNumber));
+    }
+    
+    @Test(expected = SyncTaskExecuteException.class)
+    public void assertDecodeUnknownRelation() {
+        ByteBuffer data = ByteBuffer.allocate(16);
+        data.put((byte) 'I').putInt(RELATION_OID + 1).put((byte) 'N').putShort((short) 0);
+        data.flip();
+        decodingPlugin.decode(data, logSequenceNumber);
+    }
+    
+    private void putColumn(final ByteBuffer buffer, final boolean key, final String name, final int typeOid) {
+        buffer.put((byte) (key ? 1 : 0));
+        putCString(buffer, name);
+        buffer.putInt(typeOid).putInt(-1);
+    }
+    
+    private void putTuple(final ByteBuffer buffer, final String... values) {
+        buffer.putShort((short) values.length);
+        for (String each : values) {
+            if (null == each) {
+                buffer.put((byte) 'n');
+            } else if ("u".equals(each)) {
+                buffer.put((byte) 'u');
+            } else {
+                byte[] bytes = each.getBytes(StandardCharsets.UTF_8);
+                buffer.put((byte) 't').putInt(bytes.length).put(bytes);
+            }
+        }
+    }
+    
+    private void putCString(final ByteBuffer buffer, final String value) {
+        buffer.put(value.getBytes(StandardCharsets.UTF_8)).put((byte) 0);
+    }
+}
@@ -66,7 +66,7 @@ public final class TestDecodingPluginTest {
         DeleteRowEvent actual = (DeleteRowEvent) new TestDecodingPlugin(null).decode(data, logSequenceNumber);
         assertThat(actual.getLogSequenceNumber(), is(logSequenceNumber));
         assertThat(actual.getTableName(), is("test"));
-        assertThat(actual.getPrimaryKeys().get(0), is(1));
+        assertThat(actual.getKeyColumnValues().get("data"), is(1));
     }
     
     @Test
@@ -28,7 +28,10 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -55,6 +58,27 @@ public final class TableMetaDataLoader {
         }
     }
     
+    /**
+     * Load table meta data in bulk with same connection.
+     *
+     * @param dataSource data source
+     * @param tableNames table names
+     * @param databaseType database type
+     * @return table meta data map, key is table name, tables not existed are absent
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, TableMetaData> load(final DataSource dataSource, final Collection<String> tableNames, final String databaseType) throws SQLException {
+        Map<String, TableMetaData> result = new LinkedHashMap<>(tableNames.size(), 1);
+        try (MetaDataConnection connection = new MetaDataConnection(dataSource.getConnection())) {
+            for (String each : tableNames) {
+                if (isTableExist(connection, each, databaseType)) {
+                    result.put(each, new TableMetaData(ColumnMetaDataLoader.load(connection, each, databaseType), IndexMetaDataLoader.load(connection, each, databaseType)));
+                }
+            }
+        }
+        return result;
+    }
+    
     /**
      * Load table without column and index meta data, this is for unconfigured table.
      *
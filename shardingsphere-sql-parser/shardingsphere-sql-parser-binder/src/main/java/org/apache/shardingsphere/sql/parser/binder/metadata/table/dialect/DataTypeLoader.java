@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.binder.metadata.table.dialect;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Data type loader.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class DataTypeLoader {
+    
+    private static final String TYPE_NAME = "TYPE_NAME";
+    
+    private static final String DATA_TYPE = "DATA_TYPE";
+    
+    /**
+     * Load data types.
+     *
+     * @param databaseMetaData database meta data
+     * @return data type map, key is type name and value is SQL type of {@code java.sql.Types}
+     * @throws SQLException SQL exception
+     */
+    static Map<String, Integer> load(final DatabaseMetaData databaseMetaData) throws SQLException {
+        Map<String, Integer> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        try (ResultSet resultSet = databaseMetaData.getTypeInfo()) {
+            while (resultSet.next()) {
+                result.putIfAbsent(resultSet.getString(TYPE_NAME), resultSet.getInt(DATA_TYPE));
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get SQL type, use SQL type of the base type name if type name with modifier (eg: {@code INT UNSIGNED}) is absent.
+     * 
+     * @param dataTypes data type map
+     * @param typeName type name
+     * @return SQL type of {@code java.sql.Types}
+     */
+    static int getDataType(final Map<String, Integer> dataTypes, final String typeName) {
+        if (dataTypes.containsKey(typeName)) {
+            return dataTypes.get(typeName);
+        }
+        int modifierIndex = typeName.indexOf(' ');
+        return modifierIndex > 0 ? dataTypes.getOrDefault(typeName.substring(0, modifierIndex), Types.OTHER) : Types.OTHER;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.binder.metadata.table.dialect;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.Lists;
+import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.index.IndexMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Table meta data loader for MySQL, load from {@code information_schema} in bulk.
+ */
+public final class MySQLTableMetaDataLoader implements DialectTableMetaDataLoader {
+    
+    private static final String COLUMN_META_DATA_SQL = "SELECT TABLE_NAME, COLUMN_NAME, DATA_TYPE, COLUMN_TYPE, COLUMN_KEY, COLLATION_NAME FROM information_schema.columns "
+            + "WHERE TABLE_SCHEMA = ? AND TABLE_NAME IN (%s) ORDER BY TABLE_NAME, ORDINAL_POSITION";
+    
+    private static final String INDEX_META_DATA_SQL = "SELECT TABLE_NAME, INDEX_NAME FROM information_schema.statistics WHERE TABLE_SCHEMA = ? AND TABLE_NAME IN (%s)";
+    
+    private static final String UNSIGNED = "unsigned";
+    
+    private static final String PRIMARY_KEY = "PRI";
+    
+    private static final String CASE_INSENSITIVE_COLLATION_SUFFIX = "_ci";
+    
+    private static final int BATCH_SIZE = 1000;
+    
+    @Override
+    public Map<String, TableMetaData> load(final DataSource dataSource, final Collection<String> tableNames) throws SQLException {
+        Map<String, TableMetaData> result = new HashMap<>(tableNames.size(), 1);
+        try (Connection connection = dataSource.getConnection()) {
+            Map<String, Integer> dataTypes = DataTypeLoader.load(connection.getMetaData());
+            for (List<String> each : Lists.partition(new ArrayList<>(tableNames), BATCH_SIZE)) {
+                Map<String, Collection<IndexMetaData>> indexMetaDataMap = loadIndexMetaDataMap(connection, each);
+                for (Entry<String, Collection<ColumnMetaData>> entry : loadColumnMetaDataMap(connection, each, dataTypes).entrySet()) {
+                    result.put(entry.getKey(), new TableMetaData(entry.getValue(), indexMetaDataMap.getOrDefault(entry.getKey(), Collections.emptyList())));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Collection<ColumnMetaData>> loadColumnMetaDataMap(final Connection connection, final List<String> tableNames, 
+                                                                          final Map<String, Integer> dataTypes) throws SQLException {
+        Map<String, Collection<ColumnMetaData>> result = new HashMap<>(tableNames.size(), 1);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(getSQL(COLUMN_META_DATA_SQL, tableNames.size()))) {
+            setParameters(preparedStatement, connection.getCatalog(), tableNames);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    String tableName = resultSet.getString("TABLE_NAME");
+                    result.computeIfAbsent(tableName, key -> new LinkedList<>()).add(loadColumnMetaData(resultSet, dataTypes));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private ColumnMetaData loadColumnMetaData(final ResultSet resultSet, final Map<String, Integer> dataTypes) throws SQLException {
+        String columnName = resultSet.getString("COLUMN_NAME");
+        String typeName = resultSet.getString("DATA_TYPE").toUpperCase();
+        if (resultSet.getString("COLUMN_TYPE").toLowerCase().contains(UNSIGNED)) {
+            typeName = typeName + " " + UNSIGNED.toUpperCase();
+        }
+        int dataType = DataTypeLoader.getDataType(dataTypes, typeName);
+        boolean primaryKey = PRIMARY_KEY.equals(resultSet.getString("COLUMN_KEY"));
+        String collationName = resultSet.getString("COLLATION_NAME");
+        boolean caseSensitive = null != collationName && !collationName.endsWith(CASE_INSENSITIVE_COLLATION_SUFFIX);
+        return new ColumnMetaData(columnName, dataType, typeName, primaryKey, false, caseSensitive);
+    }
+    
+    private Map<String, Collection<IndexMetaData>> loadIndexMetaDataMap(final Connection connection, final List<String> tableNames) throws SQLException {
+        Map<String, Collection<IndexMetaData>> result = new HashMap<>(tableNames.size(), 1);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(getSQL(INDEX_META_DATA_SQL, tableNames.size()))) {
+            setParameters(preparedStatement, connection.getCatalog(), tableNames);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    String tableName = resultSet.getString("TABLE_NAME");
+                    result.computeIfAbsent(tableName, key -> new HashSet<>()).add(new IndexMetaData(resultSet.getString("INDEX_NAME")));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private String getSQL(final String sql, final int tableSize) {
+        return String.format(sql, Joiner.on(",").join(Collections.nCopies(tableSize, "?")));
+    }
+    
+    private void setParameters(final PreparedStatement preparedStatement, final String schema, final List<String> tableNames) throws SQLException {
+        preparedStatement.setString(1, schema);
+        for (int i = 0; i < tableNames.size(); i++) {
+            preparedStatement.setString(i + 2, tableNames.get(i));
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
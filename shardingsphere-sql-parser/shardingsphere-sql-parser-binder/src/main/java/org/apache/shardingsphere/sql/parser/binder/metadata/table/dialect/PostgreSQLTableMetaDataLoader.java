@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.binder.metadata.table.dialect;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.Lists;
+import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.index.IndexMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Table meta data loader for PostgreSQL, load from {@code information_schema} and {@code pg_catalog} in bulk.
+ */
+public final class PostgreSQLTableMetaDataLoader implements DialectTableMetaDataLoader {
+    
+    private static final String COLUMN_META_DATA_SQL = "SELECT table_name, column_name, udt_name FROM information_schema.columns "
+            + "WHERE table_schema = ? AND table_name IN (%s) ORDER BY table_name, ordinal_position";
+    
+    private static final String PRIMARY_KEY_META_DATA_SQL = "SELECT tc.table_name, kc.column_name FROM information_schema.table_constraints tc "
+            + "JOIN information_schema.key_column_usage kc ON kc.table_schema = tc.table_schema AND kc.table_name = tc.table_name AND kc.constraint_name = tc.constraint_name "
+            + "WHERE tc.constraint_type = 'PRIMARY KEY' AND tc.table_schema = ? AND tc.table_name IN (%s)";
+    
+    private static final String INDEX_META_DATA_SQL = "SELECT tablename, indexname FROM pg_indexes WHERE schemaname = ? AND tablename IN (%s)";
+    
+    private static final Collection<Integer> CASE_INSENSITIVE_DATA_TYPES = new HashSet<>(Arrays.asList(
+            Types.BIT, Types.BOOLEAN, Types.SMALLINT, Types.INTEGER, Types.BIGINT, Types.REAL, Types.FLOAT, Types.DOUBLE, Types.NUMERIC, Types.DECIMAL, 
+            Types.DATE, Types.TIME, Types.TIMESTAMP));
+    
+    private static final int BATCH_SIZE = 1000;
+    
+    @Override
+    public Map<String, TableMetaData> load(final DataSource dataSource, final Collection<String> tableNames) throws SQLException {
+        Map<String, TableMetaData> result = new HashMap<>(tableNames.size(), 1);
+        try (Connection connection = dataSource.getConnection()) {
+            Map<String, Integer> dataTypes = DataTypeLoader.load(connection.getMetaData());
+            for (List<String> each : Lists.partition(new ArrayList<>(tableNames), BATCH_SIZE)) {
+                Map<String, Collection<String>> primaryKeys = loadPrimaryKeys(connection, each);
+                Map<String, Collection<IndexMetaData>> indexMetaDataMap = loadIndexMetaDataMap(connection, each);
+                for (Entry<String, Collection<ColumnMetaData>> entry : loadColumnMetaDataMap(connection, each, dataTypes, primaryKeys).entrySet()) {
+                    result.put(entry.getKey(), new TableMetaData(entry.getValue(), indexMetaDataMap.getOrDefault(entry.getKey(), Collections.emptyList())));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Collection<ColumnMetaData>> loadColumnMetaDataMap(final Connection connection, final List<String> tableNames, 
+                                                                          final Map<String, Integer> dataTypes, final Map<String, Collection<String>> primaryKeys) throws SQLException {
+        Map<String, Collection<ColumnMetaData>> result = new HashMap<>(tableNames.size(), 1);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(getSQL(COLUMN_META_DATA_SQL, tableNames.size()))) {
+            setParameters(preparedStatement, connection.getSchema(), tableNames);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    String tableName = resultSet.getString("table_name");
+                    String columnName = resultSet.getString("column_name");
+                    String typeName = resultSet.getString("udt_name");
+                    int dataType = DataTypeLoader.getDataType(dataTypes, typeName);
+                    boolean primaryKey = primaryKeys.getOrDefault(tableName, Collections.emptyList()).contains(columnName);
+                    result.computeIfAbsent(tableName, key -> new LinkedList<>()).add(
+                            new ColumnMetaData(columnName, dataType, typeName, primaryKey, false, !CASE_INSENSITIVE_DATA_TYPES.contains(dataType)));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Collection<String>> loadPrimaryKeys(final Connection connection, final List<String> tableNames) throws SQLException {
+        Map<String, Collection<String>> result = new HashMap<>(tableNames.size(), 1);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(getSQL(PRIMARY_KEY_META_DATA_SQL, tableNames.size()))) {
+            setParameters(preparedStatement, connection.getSchema(), tableNames);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    String tableName = resultSet.getString("table_name");
+                    result.computeIfAbsent(tableName, key -> new HashSet<>()).add(resultSet.getString("column_name"));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Collection<IndexMetaData>> loadIndexMetaDataMap(final Connection connection, final List<String> tableNames) throws SQLException {
+        Map<String, Collection<IndexMetaData>> result = new HashMap<>(tableNames.size(), 1);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(getSQL(INDEX_META_DATA_SQL, tableNames.size()))) {
+            setParameters(preparedStatement, connection.getSchema(), tableNames);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    String tableName = resultSet.getString("tablename");
+                    result.computeIfAbsent(tableName, key -> new HashSet<>()).add(new IndexMetaData(resultSet.getString("indexname")));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private String getSQL(final String sql, final int tableSize) {
+        return String.format(sql, Joiner.on(",").join(Collections.nCopies(tableSize, "?")));
+    }
+    
+    private void setParameters(final PreparedStatement preparedStatement, final String schema, final List<String> tableNames) throws SQLException {
+        preparedStatement.setString(1, schema);
+        for (int i = 0; i < tableNames.size(); i++) {
+            preparedStatement.setString(i + 2, tableNames.get(i));
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
@@ -33,6 +33,7 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 
@@ -123,6 +124,14 @@ public final class TableMetaDataLoaderTest {
         assertTrue(indexMetaDataMap.containsKey("my_index"));
     }
     
+    @Test
+    public void assertLoadInBulk() throws SQLException {
+        Map<String, TableMetaData> actual = TableMetaDataLoader.load(dataSource, Collections.singletonList(TEST_TABLE), "");
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(TEST_TABLE).getColumns().size(), is(2));
+        assertTrue(actual.get(TEST_TABLE).getIndexes().containsKey("my_index"));
+    }
+    
     @Test
     public void assertLoadWithoutColumnMetaData() throws SQLException {
         Optional<TableMetaData> actual = TableMetaDataLoader.loadWithoutColumnMetaData(dataSource, TEST_TABLE, "");
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.binder.metadata.table.dialect;
+
+import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MySQLTableMetaDataLoaderTest {
+    
+    @Mock
+    private DataSource dataSource;
+    
+    @Mock
+    private Connection connection;
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getCatalog()).thenReturn("sharding_db");
+        DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+        when(connection.getMetaData()).thenReturn(databaseMetaData);
+        ResultSet typeInfoResultSet = mockTypeInfoResultSet();
+        when(databaseMetaData.getTypeInfo()).thenReturn(typeInfoResultSet);
+        PreparedStatement columnPreparedStatement = mock(PreparedStatement.class);
+        ResultSet columnResultSet = mockColumnResultSet();
+        when(columnPreparedStatement.executeQuery()).thenReturn(columnResultSet);
+        when(connection.prepareStatement(startsWith("SELECT TABLE_NAME, COLUMN_NAME"))).thenReturn(columnPreparedStatement);
+        PreparedStatement indexPreparedStatement = mock(PreparedStatement.class);
+        ResultSet indexResultSet = mockIndexResultSet();
+        when(indexPreparedStatement.executeQuery()).thenReturn(indexResultSet);
+        when(connection.prepareStatement(startsWith("SELECT TABLE_NAME, INDEX_NAME"))).thenReturn(indexPreparedStatement);
+    }
+    
+    private ResultSet mockTypeInfoResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, true, true, false);
+        when(result.getString("TYPE_NAME")).thenReturn("BIGINT", "INT", "VARCHAR");
+        when(result.getInt("DATA_TYPE")).thenReturn(Types.BIGINT, Types.INTEGER, Types.VARCHAR);
+        return result;
+    }
+    
+    private ResultSet mockColumnResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, true, true, false);
+        when(result.getString("TABLE_NAME")).thenReturn("t_order_0", "t_order_0", "t_order_item_0");
+        when(result.getString("COLUMN_NAME")).thenReturn("order_id", "status", "item_id");
+        when(result.getString("DATA_TYPE")).thenReturn("bigint", "varchar", "int");
+        when(result.getString("COLUMN_TYPE")).thenReturn("bigint(20)", "varchar(50)", "int(10) unsigned");
+        when(result.getString("COLUMN_KEY")).thenReturn("PRI", "", "PRI");
+        when(result.getString("COLLATION_NAME")).thenReturn(null, "utf8mb4_bin", null);
+        return result;
+    }
+    
+    private ResultSet mockIndexResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, true, false);
+        when(result.getString("TABLE_NAME")).thenReturn("t_order_0", "t_order_item_0");
+        when(result.getString("INDEX_NAME")).thenReturn("PRIMARY", "PRIMARY");
+        return result;
+    }
+    
+    @Test
+    public void assertLoad() throws SQLException {
+        Map<String, TableMetaData> actual = new MySQLTableMetaDataLoader().load(dataSource, Arrays.asList("t_order_0", "t_order_item_0"));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("t_order_0").getColumns().size(), is(2));
+        assertColumnMetaData(actual.get("t_order_0").getColumns().get("order_id"), Types.BIGINT, "BIGINT", true, false);
+        assertColumnMetaData(actual.get("t_order_0").getColumns().get("status"), Types.VARCHAR, "VARCHAR", false, true);
+        assertColumnMetaData(actual.get("t_order_item_0").getColumns().get("item_id"), Types.INTEGER, "INT UNSIGNED", true, false);
+        assertTrue(actual.get("t_order_item_0").getIndexes().containsKey("primary"));
+        verify(connection).close();
+    }
+    
+    private void assertColumnMetaData(final ColumnMetaData actual, final int dataType, final String typeName, final boolean primaryKey, final boolean caseSensitive) {
+        assertThat(actual.getDataType(), is(dataType));
+        assertThat(actual.getDataTypeName(), is(typeName));
+        assertThat(actual.isPrimaryKey(), is(primaryKey));
+        assertThat(actual.isCaseSensitive(), is(caseSensitive));
+        assertFalse(actual.isGenerated());
+    }
+}
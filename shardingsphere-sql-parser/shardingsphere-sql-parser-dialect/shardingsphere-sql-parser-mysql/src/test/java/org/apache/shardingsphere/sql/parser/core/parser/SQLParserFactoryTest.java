@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.parser;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Parser;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class SQLParserFactoryTest {
+    
+    @Test
+    public void assertNewInstanceWithReusedParser() {
+        SQLParser expected = SQLParserFactory.newInstance("MySQL", "SELECT id FROM t_order");
+        assertThat(SQLParserFactory.newInstance("MySQL", "SELECT name FROM t_user"), sameInstance(expected));
+        assertThat(((Parser) expected).getInputStream().getTokenSource().getInputStream().toString(), is("SELECT name FROM t_user"));
+    }
+    
+    @Test
+    public void assertParseWithReusedParser() {
+        ParseASTNode first = new SQLParserExecutor("MySQL", "SELECT id FROM t_order").execute();
+        ParseASTNode second = new SQLParserExecutor("MySQL", "SELECT name FROM t_user WHERE id = ?").execute();
+        assertThat(first.getRootNode().getText(), is("SELECTidFROMt_order"));
+        assertThat(second.getRootNode().getText(), is("SELECTnameFROMt_userWHEREid=?"));
+    }
+    
+    @Test
+    public void assertRelease() {
+        SQLParser actual = SQLParserFactory.newInstance("MySQL", "SELECT id FROM t_order");
+        ((Parser) actual).getInputStream().LT(1);
+        SQLParserFactory.release("MySQL");
+        CommonTokenStream tokenStream = (CommonTokenStream) ((Parser) actual).getInputStream();
+        assertThat(tokenStream.size(), is(0));
+        assertThat(tokenStream.getTokenSource().getInputStream().size(), is(0));
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.fastpath;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lexer of point DML.
+ * 
+ * <p>Only recognizes words, back quoted identifiers, plain numbers, single quoted strings without escapes, parameter markers and a few symbols.
+ * Comments, escapes and anything else make the SQL unsupported.</p>
+ */
+@RequiredArgsConstructor
+final class PointDMLLexer {
+    
+    private static final String[] SYMBOLS = {"<=", ">=", "<>", "!=", "=", "<", ">", "(", ")", ",", "*", ";"};
+    
+    private final String sql;
+    
+    private int offset;
+    
+    /**
+     * Tokenize SQL.
+     *
+     * @return tokens end with EOF token, or empty if SQL contains unsupported characters
+     */
+    Optional<List<PointDMLToken>> tokenize() {
+        List<PointDMLToken> result = new ArrayList<>();
+        skipWhitespaces();
+        while (offset < sql.length()) {
+            Optional<PointDMLToken> token = nextToken();
+            if (!token.isPresent()) {
+                return Optional.empty();
+            }
+            result.add(token.get());
+            skipWhitespaces();
+        }
+        result.add(new PointDMLToken(PointDMLTokenType.EOF, "", sql.length(), sql.length()));
+        return Optional.of(result);
+    }
+    
+    private void skipWhitespaces() {
+        while (offset < sql.length() && isWhitespace(sql.charAt(offset))) {
+            offset++;
+        }
+    }
+    
+    private Optional<PointDMLToken> nextToken() {
+        char current = sql.charAt(offset);
+        if (isIdentifierStart(current)) {
+            return Optional.of(scanWord());
+        }
+        if (isDigit(current)) {
+            return scanNumber();
+        }
+        if ('`' == current) {
+            return scanQuoted(PointDMLTokenType.QUOTED_IDENTIFIER, '`');
+        }
+        if ('\'' == current) {
+            return scanQuoted(PointDMLTokenType.STRING, '\'');
+        }
+        if ('?' == current) {
+            return Optional.of(createToken(PointDMLTokenType.PARAMETER_MARKER, offset + 1));
+        }
+        return scanSymbol();
+    }
+    
+    private PointDMLToken scanWord() {
+        int end = offset + 1;
+        while (end < sql.length() && isIdentifierPart(sql.charAt(end))) {
+            end++;
+        }
+        return createToken(PointDMLTokenType.WORD, end);
+    }
+    
+    private Optional<PointDMLToken> scanNumber() {
+        int end = skipDigits(offset);
+        if (end < sql.length() && '.' == sql.charAt(end)) {
+            int fractionEnd = skipDigits(end + 1);
+            if (fractionEnd == end + 1) {
+                return Optional.empty();
+            }
+            end = fractionEnd;
+        }
+        if (end < sql.length() && (isIdentifierPart(sql.charAt(end)) || '.' == sql.charAt(end))) {
+            return Optional.empty();
+        }
+        return Optional.of(createToken(PointDMLTokenType.NUMBER, end));
+    }
+    
+    private int skipDigits(final int start) {
+        int result = start;
+        while (result < sql.length() && isDigit(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private Optional<PointDMLToken> scanQuoted(final PointDMLTokenType type, final char quote) {
+        int end = offset + 1;
+        while (end < sql.length() && quote != sql.charAt(end)) {
+            char current = sql.charAt(end);
+            if ('\\' == current || Character.isSurrogate(current)) {
+                return Optional.empty();
+            }
+            end++;
+        }
+        boolean unclosed = end >= sql.length();
+        boolean escaped = end + 1 < sql.length() && quote == sql.charAt(end + 1);
+        boolean emptyIdentifier = PointDMLTokenType.QUOTED_IDENTIFIER == type && end == offset + 1;
+        return unclosed || escaped || emptyIdentifier ? Optional.empty() : Optional.of(createToken(type, end + 1));
+    }
+    
+    private Optional<PointDMLToken> scanSymbol() {
+        for (String each : SYMBOLS) {
+            if (sql.startsWith(each, offset)) {
+                return Optional.of(createToken(PointDMLTokenType.SYMBOL, offset + each.length()));
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private PointDMLToken createToken(final PointDMLTokenType type, final int end) {
+        PointDMLToken result = new PointDMLToken(type, sql.substring(offset, end), offset, end - 1);
+        offset = end;
+        return result;
+    }
+    
+    private boolean isWhitespace(final char ch) {
+        return ' ' == ch || '\t' == ch || '\r' == ch || '\n' == ch;
+    }
+    
+    private boolean isIdentifierStart(final char ch) {
+        return ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z' || '_' == ch || '$' == ch;
+    }
+    
+    private boolean isIdentifierPart(final char ch) {
+        return isIdentifierStart(ch) || isDigit(ch);
+    }
+    
+    private boolean isDigit(final char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+}
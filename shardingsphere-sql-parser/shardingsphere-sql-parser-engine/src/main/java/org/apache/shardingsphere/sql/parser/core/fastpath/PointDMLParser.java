@@ -0,0 +1,385 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.fastpath;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.TableFactorSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.TableReferenceSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.SetAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ShorthandProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.value.PredicateCompareRightValue;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.AbstractSQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.StringLiteralValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Point DML parser.
+ * 
+ * <p>Parses the most common single table DML without ANTLR, and produces the same SQL statement as MySQL DML visitor does:</p>
+ * <ul>
+ *     <li>{@code SELECT * | column, ... FROM table [WHERE predicate AND ...]}</li>
+ *     <li>{@code INSERT INTO table [(column, ...)] VALUES (value, ...), ...}</li>
+ *     <li>{@code UPDATE table SET column = value, ... [WHERE predicate AND ...]}</li>
+ *     <li>{@code DELETE FROM table [WHERE predicate AND ...]}</li>
+ * </ul>
+ * 
+ * <p>Predicate is a column compared with a value, value is a parameter marker, a number or a string.
+ * Any other SQL is unsupported and should be parsed by the full parser.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PointDMLParser {
+    
+    private static final String DATABASE_TYPE_NAME = "MySQL";
+    
+    private static final Collection<String> COMPARISON_OPERATORS = new HashSet<>(Arrays.asList("=", "<", ">", "<=", ">=", "<>", "!="));
+    
+    private static final Collection<String> RESERVED_WORDS = new HashSet<>(Arrays.asList(
+            "ACCESSIBLE", "ADD", "ALL", "ALTER", "ANALYZE", "AND", "ARRAY", "AS", "ASC", "ASENSITIVE", "BEFORE", "BETWEEN", "BIGINT", "BINARY", "BLOB", "BOTH", "BY",
+            "CALL", "CASCADE", "CASE", "CHANGE", "CHAR", "CHARACTER", "CHECK", "COLLATE", "COLUMN", "COLUMN_NAME", "CONDITION", "CONSTRAINT", "CONTINUE", "CONVERT",
+            "CREATE", "CROSS", "CUBE", "CUME_DIST", "CURRENT_DATE", "CURRENT_TIME", "CURRENT_TIMESTAMP", "CURRENT_USER", "CURSOR", "DATABASE", "DATABASES", "DAY_HOUR",
+            "DAY_MICROSECOND", "DAY_MINUTE", "DAY_SECOND", "DEC", "DECIMAL", "DECLARE", "DEFAULT", "DELAYED", "DELETE", "DENSE_RANK", "DESC", "DESCRIBE", "DETERMINISTIC",
+            "DISTINCT", "DISTINCTROW", "DIV", "DOUBLE", "DROP", "DUAL", "EACH", "ELSE", "ELSEIF", "EMPTY", "ENCLOSED", "END", "ESCAPED", "EXCEPT", "EXISTS", "EXIT",
+            "EXPLAIN", "FALSE", "FETCH", "FIRST_VALUE", "FLOAT", "FLOAT4", "FLOAT8", "FOR", "FORCE", "FOREIGN", "FOUND", "FROM", "FULLTEXT", "FUNCTION", "GENERATED",
+            "GET", "GRANT", "GROUP", "GROUPING", "GROUPS", "HAVING", "HIGH_PRIORITY", "HOUR_MICROSECOND", "HOUR_MINUTE", "HOUR_SECOND", "IF", "IGNORE", "IN", "INDEX",
+            "INFILE", "INNER", "INOUT", "INSENSITIVE", "INSERT", "INT", "INT1", "INT2", "INT3", "INT4", "INT8", "INTEGER", "INTERVAL", "INTO", "IO_AFTER_GTIDS",
+            "IO_BEFORE_GTIDS", "IS", "ITERATE", "JOIN", "JSON_TABLE", "KEY", "KEYS", "KILL", "LAG", "LAST_VALUE", "LATERAL", "LEAD", "LEADING", "LEAVE", "LEFT", "LIKE",
+            "LIMIT", "LINEAR", "LINES", "LOAD", "LOCALTIME", "LOCALTIMESTAMP", "LOCK", "LONG", "LONGBLOB", "LONGTEXT", "LOOP", "LOW_PRIORITY", "MASTER_BIND",
+            "MASTER_SSL_VERIFY_SERVER_CERT", "MATCH", "MAXVALUE", "MEDIUMBLOB", "MEDIUMINT", "MEDIUMTEXT", "MEMBER", "MIDDLEINT", "MINUTE_MICROSECOND", "MINUTE_SECOND",
+            "MOD", "MODIFIES", "MYSQL_MAIN", "NATURAL", "NOT", "NO_WRITE_TO_BINLOG", "NTH_VALUE", "NTILE", "NULL", "NUMERIC", "OF", "OFFSET", "ON", "OPTIMIZE",
+            "OPTIMIZER_COSTS", "OPTION", "OPTIONALLY", "OR", "ORDER", "ORGANIZATION", "OUT", "OUTER", "OUTFILE", "OVER", "PARTITION", "PARTITIONS", "PERCENT_RANK",
+            "PRECISION", "PRIMARY", "PROCEDURE", "PURGE", "QUICK", "RANGE", "RANK", "READ", "READS", "READ_WRITE", "REAL", "RECURSIVE", "REFERENCES", "REGEXP", "RELEASE",
+            "RENAME", "REPEAT", "REPLACE", "REQUIRE", "RESIGNAL", "RESTRICT", "RETURN", "REVOKE", "RIGHT", "RLIKE", "ROW", "ROWS", "ROW_NUMBER", "SCHEMA", "SCHEMAS",
+            "SECOND_MICROSECOND", "SELECT", "SENSITIVE", "SEPARATOR", "SET", "SHOW", "SIGNAL", "SMALLINT", "SPATIAL", "SPECIFIC", "SQL", "SQLEXCEPTION", "SQLSTATE",
+            "SQLWARNING", "SQL_BIG_RESULT", "SQL_CALC_FOUND_ROWS", "SQL_SMALL_RESULT", "SSL", "STARTING", "STORED", "STRAIGHT_JOIN", "SYSTEM", "TABLE", "TERMINATED",
+            "THEN", "TINYBLOB", "TINYINT", "TINYTEXT", "TO", "TRAILING", "TRIGGER", "TRUE", "UNDO", "UNION", "UNIQUE", "UNLOCK", "UNSIGNED", "UPDATE", "USAGE", "USE",
+            "USING", "UTC_DATE", "UTC_TIME", "UTC_TIMESTAMP", "VALUE", "VALUES", "VARBINARY", "VARCHAR", "VARCHARACTER", "VARYING", "VIRTUAL", "WHEN", "WHERE", "WHILE",
+            "WINDOW", "WITH", "WRITE", "XOR", "YEAR_MONTH", "ZEROFILL"));
+    
+    private final List<PointDMLToken> tokens;
+    
+    private int position;
+    
+    private int parameterIndex;
+    
+    /**
+     * Judge whether point DML parser is supported for database type.
+     *
+     * @param databaseTypeName database type name
+     * @return is supported or not
+     */
+    public static boolean isSupported(final String databaseTypeName) {
+        return DATABASE_TYPE_NAME.equals(databaseTypeName);
+    }
+    
+    /**
+     * Parse SQL.
+     *
+     * @param sql SQL to be parsed
+     * @return SQL statement, or empty if SQL is not point DML
+     */
+    public static Optional<SQLStatement> parse(final String sql) {
+        Optional<List<PointDMLToken>> tokens = new PointDMLLexer(sql).tokenize();
+        if (!tokens.isPresent()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new PointDMLParser(tokens.get()).parseStatement());
+        } catch (final UnsupportedSQLException ex) {
+            return Optional.empty();
+        }
+    }
+    
+    private SQLStatement parseStatement() {
+        AbstractSQLStatement result;
+        PointDMLToken first = next();
+        if (first.isKeyword("SELECT")) {
+            result = parseSelect();
+        } else if (first.isKeyword("INSERT")) {
+            result = parseInsert();
+        } else if (first.isKeyword("UPDATE")) {
+            result = parseUpdate();
+        } else if (first.isKeyword("DELETE")) {
+            result = parseDelete();
+        } else {
+            throw UnsupportedSQLException.INSTANCE;
+        }
+        acceptSymbol(";");
+        if (PointDMLTokenType.EOF != next().getType()) {
+            throw UnsupportedSQLException.INSTANCE;
+        }
+        result.setParameterCount(parameterIndex);
+        return result;
+    }
+    
+    private SelectStatement parseSelect() {
+        SelectStatement result = new SelectStatement();
+        result.setProjections(parseProjections());
+        expectKeyword("FROM");
+        TableFactorSegment tableFactor = new TableFactorSegment();
+        tableFactor.setTable(parseTable());
+        TableReferenceSegment tableReference = new TableReferenceSegment();
+        tableReference.setTableFactor(tableFactor);
+        result.getTableReferences().add(tableReference);
+        parseWhere().ifPresent(result::setWhere);
+        return result;
+    }
+    
+    private ProjectionsSegment parseProjections() {
+        if (peek().isSymbol("*")) {
+            PointDMLToken shorthand = next();
+            ProjectionsSegment result = new ProjectionsSegment(shorthand.getStartIndex(), shorthand.getStopIndex());
+            result.getProjections().add(new ShorthandProjectionSegment(shorthand.getStartIndex(), shorthand.getStopIndex()));
+            return result;
+        }
+        LinkedList<ColumnSegment> columns = parseColumns();
+        ProjectionsSegment result = new ProjectionsSegment(columns.getFirst().getStartIndex(), columns.getLast().getStopIndex());
+        for (ColumnSegment each : columns) {
+            result.getProjections().add(new ColumnProjectionSegment(each));
+        }
+        return result;
+    }
+    
+    private MySQLInsertStatement parseInsert() {
+        expectKeyword("INTO");
+        SimpleTableSegment table = parseTable();
+        MySQLInsertStatement result = new MySQLInsertStatement();
+        result.setInsertColumns(parseInsertColumns());
+        if (!acceptKeyword("VALUES") && !acceptKeyword("VALUE")) {
+            throw UnsupportedSQLException.INSTANCE;
+        }
+        result.getValues().add(parseInsertValues());
+        while (acceptSymbol(",")) {
+            result.getValues().add(parseInsertValues());
+        }
+        result.setTable(table);
+        return result;
+    }
+    
+    private InsertColumnsSegment parseInsertColumns() {
+        if (!peek().isSymbol("(")) {
+            int valuesStartIndex = peek().getStartIndex();
+            return new InsertColumnsSegment(valuesStartIndex - 1, valuesStartIndex - 1, Collections.emptyList());
+        }
+        int startIndex = next().getStartIndex();
+        List<ColumnSegment> columns = parseColumns();
+        expectSymbol(")");
+        return new InsertColumnsSegment(startIndex, previousStopIndex(), columns);
+    }
+    
+    private InsertValuesSegment parseInsertValues() {
+        int startIndex = expectSymbol("(").getStartIndex();
+        List<ExpressionSegment> values = new LinkedList<>();
+        values.add(parseValue());
+        while (acceptSymbol(",")) {
+            values.add(parseValue());
+        }
+        expectSymbol(")");
+        return new InsertValuesSegment(startIndex, previousStopIndex(), values);
+    }
+    
+    private UpdateStatement parseUpdate() {
+        UpdateStatement result = new UpdateStatement();
+        result.getTables().add(parseTable());
+        result.setSetAssignment(parseSetAssignment());
+        parseWhere().ifPresent(result::setWhere);
+        return result;
+    }
+    
+    private SetAssignmentSegment parseSetAssignment() {
+        int startIndex = expectKeyword("SET").getStartIndex();
+        Collection<AssignmentSegment> assignments = new LinkedList<>();
+        assignments.add(parseAssignment());
+        while (acceptSymbol(",")) {
+            assignments.add(parseAssignment());
+        }
+        return new SetAssignmentSegment(startIndex, previousStopIndex(), assignments);
+    }
+    
+    private AssignmentSegment parseAssignment() {
+        ColumnSegment column = parseColumn();
+        expectSymbol("=");
+        ExpressionSegment value = parseValue();
+        return new AssignmentSegment(column.getStartIndex(), value.getStopIndex(), column, value);
+    }
+    
+    private DeleteStatement parseDelete() {
+        expectKeyword("FROM");
+        DeleteStatement result = new DeleteStatement();
+        result.getTables().add(parseTable());
+        parseWhere().ifPresent(result::setWhere);
+        return result;
+    }
+    
+    private Optional<WhereSegment> parseWhere() {
+        if (!peek().isKeyword("WHERE")) {
+            return Optional.empty();
+        }
+        int startIndex = next().getStartIndex();
+        AndPredicate andPredicate = new AndPredicate();
+        andPredicate.getPredicates().add(parsePredicate());
+        while (acceptKeyword("AND")) {
+            andPredicate.getPredicates().add(parsePredicate());
+        }
+        WhereSegment result = new WhereSegment(startIndex, previousStopIndex());
+        result.getAndPredicates().add(andPredicate);
+        return Optional.of(result);
+    }
+    
+    private PredicateSegment parsePredicate() {
+        ColumnSegment column = parseColumn();
+        PointDMLToken operator = next();
+        if (PointDMLTokenType.SYMBOL != operator.getType() || !COMPARISON_OPERATORS.contains(operator.getText())) {
+            throw UnsupportedSQLException.INSTANCE;
+        }
+        ExpressionSegment value = parseValue();
+        return new PredicateSegment(column.getStartIndex(), value.getStopIndex(), column, new PredicateCompareRightValue(value.getStartIndex(), value.getStopIndex(), operator.getText(), value));
+    }
+    
+    private ExpressionSegment parseValue() {
+        PointDMLToken token = next();
+        switch (token.getType()) {
+            case PARAMETER_MARKER:
+                return new ParameterMarkerExpressionSegment(token.getStartIndex(), token.getStopIndex(), parameterIndex++);
+            case NUMBER:
+                return new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), new NumberLiteralValue(token.getText()).getValue());
+            case STRING:
+                return new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), new StringLiteralValue(token.getText()).getValue());
+            default:
+                throw UnsupportedSQLException.INSTANCE;
+        }
+    }
+    
+    private SimpleTableSegment parseTable() {
+        PointDMLToken identifier = nextIdentifier();
+        return new SimpleTableSegment(new TableNameSegment(identifier.getStartIndex(), identifier.getStopIndex(), new IdentifierValue(identifier.getText())));
+    }
+    
+    private LinkedList<ColumnSegment> parseColumns() {
+        LinkedList<ColumnSegment> result = new LinkedList<>();
+        result.add(parseColumn());
+        while (acceptSymbol(",")) {
+            result.add(parseColumn());
+        }
+        return result;
+    }
+    
+    private ColumnSegment parseColumn() {
+        PointDMLToken identifier = nextIdentifier();
+        return new ColumnSegment(identifier.getStartIndex(), identifier.getStopIndex(), new IdentifierValue(identifier.getText()));
+    }
+    
+    private PointDMLToken nextIdentifier() {
+        PointDMLToken result = next();
+        boolean isUnreservedWord = PointDMLTokenType.WORD == result.getType() && !RESERVED_WORDS.contains(result.getText().toUpperCase());
+        if (!isUnreservedWord && PointDMLTokenType.QUOTED_IDENTIFIER != result.getType()) {
+            throw UnsupportedSQLException.INSTANCE;
+        }
+        return result;
+    }
+    
+    private PointDMLToken expectKeyword(final String keyword) {
+        PointDMLToken result = next();
+        if (!result.isKeyword(keyword)) {
+            throw UnsupportedSQLException.INSTANCE;
+        }
+        return result;
+    }
+    
+    private PointDMLToken expectSymbol(final String symbol) {
+        PointDMLToken result = next();
+        if (!result.isSymbol(symbol)) {
+            throw UnsupportedSQLException.INSTANCE;
+        }
+        return result;
+    }
+    
+    private boolean acceptKeyword(final String keyword) {
+        if (peek().isKeyword(keyword)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+    
+    private boolean acceptSymbol(final String symbol) {
+        if (peek().isSymbol(symbol)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+    
+    private PointDMLToken peek() {
+        return tokens.get(position);
+    }
+    
+    private PointDMLToken next() {
+        PointDMLToken result = tokens.get(position);
+        if (PointDMLTokenType.EOF != result.getType()) {
+            position++;
+        }
+        return result;
+    }
+    
+    private int previousStopIndex() {
+        return tokens.get(position - 1).getStopIndex();
+    }
+    
+    /**
+     * Thrown when SQL is out of point DML, it is shared and carries no stack trace since it only directs to the full parser.
+     */
+    private static final class UnsupportedSQLException extends RuntimeException {
+        
+        private static final long serialVersionUID = -3458342613637329471L;
+        
+        private static final UnsupportedSQLException INSTANCE = new UnsupportedSQLException();
+        
+        private UnsupportedSQLException() {
+            super(null, null, false, false);
+        }
+    }
+}
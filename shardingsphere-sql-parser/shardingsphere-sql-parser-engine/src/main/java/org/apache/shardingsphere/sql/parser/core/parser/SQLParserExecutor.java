@@ -61,6 +61,8 @@ public final class SQLParserExecutor {
             ((Parser) sqlParser).setErrorHandler(new BailErrorStrategy());
             ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.LL);
             return (ParseASTNode) sqlParser.parse();
+        } finally {
+            SQLParserFactory.release(databaseTypeName);
         }
     }
 }
@@ -19,41 +19,110 @@ package org.apache.shardingsphere.sql.parser.core.parser;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CodePointBuffer;
 import org.antlr.v4.runtime.CodePointCharStream;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.TokenStream;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 import org.apache.shardingsphere.sql.parser.core.SQLParserConfigurationRegistry;
 import org.apache.shardingsphere.sql.parser.spi.SQLParserConfiguration;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.nio.CharBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * SQL parser factory.
+ * 
+ * <p>
+ * Lexer, token stream and parser are reused per thread and database type, they are reset with new SQL for every parsing
+ * and reset with empty input when released, so that SQL and tokens of last parsing are not retained by the thread.
+ * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SQLParserFactory {
     
+    private static final Map<Class<?>, MethodHandle> CONSTRUCTORS = new ConcurrentHashMap<>();
+    
+    private static final ThreadLocal<Map<String, ReusableSQLParser>> PARSERS = ThreadLocal.withInitial(HashMap::new);
+    
     /** 
      * New instance of SQL parser.
      * 
+     * <p>
+     * The returned SQL parser is only available before next invocation in the same thread.
+     * </p>
+     * 
      * @param databaseTypeName name of database type
      * @param sql SQL
      * @return SQL parser
      */
     public static SQLParser newInstance(final String databaseTypeName, final String sql) {
-        return createSQLParser(sql, SQLParserConfigurationRegistry.getInstance().getSQLParserConfiguration(databaseTypeName));
+        CodePointCharStream charStream = CodePointCharStream.fromBuffer(CodePointBuffer.withChars(CharBuffer.wrap(sql)));
+        return PARSERS.get().computeIfAbsent(databaseTypeName, SQLParserFactory::createReusableSQLParser).reset(charStream);
+    }
+    
+    /**
+     * Release SQL parser of current thread.
+     * 
+     * <p>
+     * Parse tree created by the SQL parser is still available after released.
+     * </p>
+     * 
+     * @param databaseTypeName name of database type
+     */
+    public static void release(final String databaseTypeName) {
+        ReusableSQLParser parser = PARSERS.get().get(databaseTypeName);
+        if (null != parser) {
+            parser.reset(createEmptyCharStream());
+        }
+    }
+    
+    private static CodePointCharStream createEmptyCharStream() {
+        return CodePointCharStream.fromBuffer(CodePointBuffer.withChars(CharBuffer.wrap("")));
+    }
+    
+    private static ReusableSQLParser createReusableSQLParser(final String databaseTypeName) {
+        SQLParserConfiguration configuration = SQLParserConfigurationRegistry.getInstance().getSQLParserConfiguration(databaseTypeName);
+        Lexer lexer = (Lexer) newInstance(configuration.getLexerClass(), CharStream.class, createEmptyCharStream());
+        CommonTokenStream tokenStream = new CommonTokenStream(lexer);
+        SQLParser parser = (SQLParser) newInstance(configuration.getParserClass(), TokenStream.class, tokenStream);
+        return new ReusableSQLParser(lexer, tokenStream, parser);
+    }
+    
+    @SneakyThrows(Throwable.class)
+    private static Object newInstance(final Class<?> clazz, final Class<?> parameterType, final Object parameter) {
+        return CONSTRUCTORS.computeIfAbsent(clazz, key -> findConstructor(key, parameterType)).invoke(parameter);
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private static SQLParser createSQLParser(final String sql, final SQLParserConfiguration configuration) {
-        CodePointBuffer buffer = CodePointBuffer.withChars(CharBuffer.wrap(sql.toCharArray()));
-        CodePointCharStream codePointCharStream = CodePointCharStream.fromBuffer(buffer);
-        Lexer lexer = (Lexer) configuration.getLexerClass().getConstructor(CharStream.class).newInstance(codePointCharStream);
-        return configuration.getParserClass().getConstructor(TokenStream.class).newInstance(new CommonTokenStream(lexer));
+    private static MethodHandle findConstructor(final Class<?> clazz, final Class<?> parameterType) {
+        return MethodHandles.publicLookup().findConstructor(clazz, MethodType.methodType(void.class, parameterType));
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ReusableSQLParser {
+        
+        private final Lexer lexer;
+        
+        private final CommonTokenStream tokenStream;
+        
+        private final SQLParser parser;
+        
+        private SQLParser reset(final CharStream charStream) {
+            lexer.setInputStream(charStream);
+            tokenStream.setTokenSource(lexer);
+            ((Parser) parser).setTokenStream(tokenStream);
+            return parser;
+        }
     }
 }
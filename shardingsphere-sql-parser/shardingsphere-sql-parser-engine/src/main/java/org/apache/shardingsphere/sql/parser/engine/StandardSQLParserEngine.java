@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sql.parser.engine;
 import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.shardingsphere.sql.parser.cache.SQLParseResultCache;
+import org.apache.shardingsphere.sql.parser.core.fastpath.PointDMLParser;
 import org.apache.shardingsphere.sql.parser.core.parser.SQLParserExecutor;
 import org.apache.shardingsphere.sql.parser.core.visitor.ParseTreeVisitorFactory;
 import org.apache.shardingsphere.sql.parser.core.visitor.VisitorRule;
@@ -69,11 +70,21 @@ public final class StandardSQLParserEngine implements SQLParserEngine {
                 return cachedSQLStatement.get();
             }
         }
-        ParseTree parseTree = new SQLParserExecutor(databaseTypeName, sql).execute().getRootNode();
-        SQLStatement result = (SQLStatement) ParseTreeVisitorFactory.newInstance(databaseTypeName, VisitorRule.valueOf(parseTree.getClass())).visit(parseTree);
+        SQLStatement result = parseSQLStatement(sql);
         if (useCache) {
             cache.put(sql, result);
         }
         return result;
     }
+    
+    private SQLStatement parseSQLStatement(final String sql) {
+        if (PointDMLParser.isSupported(databaseTypeName)) {
+            Optional<SQLStatement> pointDMLStatement = PointDMLParser.parse(sql);
+            if (pointDMLStatement.isPresent()) {
+                return pointDMLStatement.get();
+            }
+        }
+        ParseTree parseTree = new SQLParserExecutor(databaseTypeName, sql).execute().getRootNode();
+        return (SQLStatement) ParseTreeVisitorFactory.newInstance(databaseTypeName, VisitorRule.valueOf(parseTree.getClass())).visit(parseTree);
+    }
 }
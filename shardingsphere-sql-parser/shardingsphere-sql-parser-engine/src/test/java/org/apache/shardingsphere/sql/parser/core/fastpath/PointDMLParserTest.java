@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.fastpath;
+
+import org.apache.shardingsphere.sql.parser.sql.common.constant.QuoteCharacter;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.value.PredicateCompareRightValue;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class PointDMLParserTest {
+    
+    @Test
+    public void assertIsSupported() {
+        assertTrue(PointDMLParser.isSupported("MySQL"));
+        assertFalse(PointDMLParser.isSupported("PostgreSQL"));
+    }
+    
+    @Test
+    public void assertParseSelect() {
+        Optional<SQLStatement> actual = PointDMLParser.parse("SELECT id, name FROM t_order WHERE order_id = ? AND user_id = 10");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(SelectStatement.class));
+        SelectStatement selectStatement = (SelectStatement) actual.get();
+        assertThat(selectStatement.getParameterCount(), is(1));
+        assertThat(selectStatement.getProjections().getStartIndex(), is(7));
+        assertThat(selectStatement.getProjections().getStopIndex(), is(14));
+        assertThat(selectStatement.getProjections().getProjections().size(), is(2));
+        assertThat(selectStatement.getTableReferences().iterator().next().getSimpleTableSegments().iterator().next().getTableName().getIdentifier().getValue(), is("t_order"));
+        assertTrue(selectStatement.getWhere().isPresent());
+        WhereSegment where = selectStatement.getWhere().get();
+        assertThat(where.getStartIndex(), is(29));
+        assertThat(where.getStopIndex(), is(63));
+        assertThat(where.getAndPredicates().size(), is(1));
+        Iterator<PredicateSegment> predicates = where.getAndPredicates().iterator().next().getPredicates().iterator();
+        assertThat(predicates.next().getColumn().getIdentifier().getValue(), is("order_id"));
+        PredicateSegment userIdPredicate = predicates.next();
+        assertThat(((PredicateCompareRightValue) userIdPredicate.getRightValue()).getOperator(), is("="));
+        assertThat(((LiteralExpressionSegment) ((PredicateCompareRightValue) userIdPredicate.getRightValue()).getExpression()).getLiterals(), is((Object) 10));
+    }
+    
+    @Test
+    public void assertParseInsert() {
+        Optional<SQLStatement> actual = PointDMLParser.parse("INSERT INTO t_order (order_id, user_id) VALUES (?, ?), (?, 'init')");
+        assertTrue(actual.isPresent());
+        MySQLInsertStatement insertStatement = (MySQLInsertStatement) actual.get();
+        assertThat(insertStatement.getParameterCount(), is(3));
+        assertThat(insertStatement.getTable().getTableName().getIdentifier().getValue(), is("t_order"));
+        assertThat(insertStatement.getColumnNames().size(), is(2));
+        assertThat(insertStatement.getValues().size(), is(2));
+        assertThat(((LiteralExpressionSegment) insertStatement.getAllValueExpressions().get(1).get(1)).getLiterals(), is((Object) "init"));
+    }
+    
+    @Test
+    public void assertParseInsertWithoutColumns() {
+        Optional<SQLStatement> actual = PointDMLParser.parse("INSERT INTO t_order VALUES (?)");
+        assertTrue(actual.isPresent());
+        MySQLInsertStatement insertStatement = (MySQLInsertStatement) actual.get();
+        assertTrue(insertStatement.getInsertColumns().isPresent());
+        InsertColumnsSegment insertColumns = insertStatement.getInsertColumns().get();
+        assertThat(insertColumns.getStartIndex(), is(19));
+        assertTrue(insertColumns.getColumns().isEmpty());
+    }
+    
+    @Test
+    public void assertParseUpdate() {
+        Optional<SQLStatement> actual = PointDMLParser.parse("UPDATE t_order SET status = ? WHERE order_id = ?");
+        assertTrue(actual.isPresent());
+        UpdateStatement updateStatement = (UpdateStatement) actual.get();
+        assertThat(updateStatement.getParameterCount(), is(2));
+        assertThat(updateStatement.getSetAssignment().getAssignments().size(), is(1));
+        assertTrue(updateStatement.getWhere().isPresent());
+    }
+    
+    @Test
+    public void assertParseDelete() {
+        Optional<SQLStatement> actual = PointDMLParser.parse("delete from `t_order` where order_id = ?;");
+        assertTrue(actual.isPresent());
+        SimpleTableSegment table = ((DeleteStatement) actual.get()).getTables().iterator().next();
+        assertThat(table.getTableName().getIdentifier().getValue(), is("t_order"));
+        assertThat(table.getTableName().getIdentifier().getQuoteCharacter(), is(QuoteCharacter.BACK_QUOTE));
+    }
+    
+    @Test
+    public void assertParseUnsupportedSQL() {
+        assertFalse(PointDMLParser.parse("SELECT o.id FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id").isPresent());
+        assertFalse(PointDMLParser.parse("SELECT id FROM t_order WHERE order_id = ? OR user_id = ?").isPresent());
+        assertFalse(PointDMLParser.parse("SELECT id FROM t_order WHERE order_id IN (?, ?)").isPresent());
+        assertFalse(PointDMLParser.parse("SELECT id AS order_id FROM t_order").isPresent());
+        assertFalse(PointDMLParser.parse("SELECT id FROM t_order WHERE order_id = ? FOR UPDATE").isPresent());
+        assertFalse(PointDMLParser.parse("SELECT id FROM order WHERE order_id = ?").isPresent());
+        assertFalse(PointDMLParser.parse("SELECT id FROM t_order WHERE status = 'it\\'s'").isPresent());
+        assertFalse(PointDMLParser.parse("SELECT id FROM t_order WHERE order_id = 1e5").isPresent());
+        assertFalse(PointDMLParser.parse("/* comment */ SELECT id FROM t_order").isPresent());
+        assertFalse(PointDMLParser.parse("INSERT IGNORE INTO t_order VALUES (?)").isPresent());
+        assertFalse(PointDMLParser.parse("SHOW TABLES").isPresent());
+    }
+    
+    @Test
+    public void assertParseReservedWordAsIdentifier() throws IOException {
+        Collection<String> reservedWords = loadReservedWords();
+        assertFalse(reservedWords.isEmpty());
+        for (String each : reservedWords) {
+            assertFalse(each, PointDMLParser.parse("SELECT id FROM " + each + " WHERE order_id = ?").isPresent());
+            assertFalse(each, PointDMLParser.parse("SELECT " + each + " FROM t_order WHERE order_id = ?").isPresent());
+            assertFalse(each, PointDMLParser.parse("SELECT id FROM t_order WHERE " + each + " = ?").isPresent());
+            assertFalse(each, PointDMLParser.parse("UPDATE " + each.toLowerCase() + " SET status = ? WHERE order_id = ?").isPresent());
+            assertFalse(each, PointDMLParser.parse("DELETE FROM t_order WHERE " + each.toLowerCase() + " = ?").isPresent());
+        }
+    }
+    
+    @Test
+    public void assertParseQuotedReservedWordAsIdentifier() {
+        Optional<SQLStatement> actual = PointDMLParser.parse("SELECT id FROM `table` WHERE `key` = ?");
+        assertTrue(actual.isPresent());
+        assertThat(((SelectStatement) actual.get()).getTableReferences().iterator().next().getSimpleTableSegments().iterator().next().getTableName().getIdentifier().getValue(), is("table"));
+    }
+    
+    private Collection<String> loadReservedWords() throws IOException {
+        InputStream inputStream = PointDMLParserTest.class.getClassLoader().getResourceAsStream("fastpath/mysql-reserved-words.txt");
+        assertNotNull(inputStream);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            return reader.lines().map(String::trim).filter(each -> !each.isEmpty() && !each.startsWith("#")).collect(Collectors.toList());
+        }
+    }
+}
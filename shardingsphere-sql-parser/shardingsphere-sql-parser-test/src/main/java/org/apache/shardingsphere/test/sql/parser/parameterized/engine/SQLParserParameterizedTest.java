@@ -18,6 +18,11 @@
 package org.apache.shardingsphere.test.sql.parser.parameterized.engine;
 
 import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.apache.shardingsphere.sql.parser.core.fastpath.PointDMLParser;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.core.visitor.ParseTreeVisitorFactory;
+import org.apache.shardingsphere.sql.parser.core.visitor.VisitorRule;
 import org.apache.shardingsphere.sql.parser.engine.SQLParserEngineFactory;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.test.sql.parser.parameterized.asserts.SQLCaseAssertContext;
@@ -81,4 +86,16 @@ public abstract class SQLParserParameterizedTest {
         SQLStatement actual = SQLParserEngineFactory.getSQLParserEngine(databaseType).parse(sql, false);
         SQLStatementAssert.assertIs(new SQLCaseAssertContext(sqlCaseId, sqlCaseType), actual, expected);
     }
+    
+    @Test
+    public final void assertSupportedSQLWithFullParserForPointDML() {
+        String databaseType = "H2".equals(this.databaseType) ? "MySQL" : this.databaseType;
+        String sql = SQL_CASES_LOADER.getSQL(sqlCaseId, sqlCaseType, SQL_PARSER_TEST_CASES_REGISTRY.get(sqlCaseId).getParameters());
+        if (!PointDMLParser.isSupported(databaseType) || !PointDMLParser.parse(sql).isPresent()) {
+            return;
+        }
+        ParseTree parseTree = new SQLParserExecutor(databaseType, sql).execute().getRootNode();
+        SQLStatement actual = (SQLStatement) ParseTreeVisitorFactory.newInstance(databaseType, VisitorRule.valueOf(parseTree.getClass())).visit(parseTree);
+        SQLStatementAssert.assertIs(new SQLCaseAssertContext(sqlCaseId, sqlCaseType), actual, SQL_PARSER_TEST_CASES_REGISTRY.get(sqlCaseId));
+    }
 }
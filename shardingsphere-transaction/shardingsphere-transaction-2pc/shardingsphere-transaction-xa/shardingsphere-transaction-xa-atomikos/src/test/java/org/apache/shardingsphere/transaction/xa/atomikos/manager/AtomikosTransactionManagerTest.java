@@ -29,9 +29,15 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import javax.sql.XADataSource;
 import javax.transaction.Transaction;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -89,6 +95,19 @@ public final class AtomikosTransactionManagerTest {
         assertThat(atomikosTransactionManager.getTransactionManager(), is(userTransactionManager));
     }
     
+    @Test
+    public void assertTwoPhaseCommitIsThreaded() throws IOException {
+        Enumeration<URL> resources = AtomikosTransactionManagerTest.class.getClassLoader().getResources("transactions.properties");
+        assertTrue(resources.hasMoreElements());
+        while (resources.hasMoreElements()) {
+            Properties properties = new Properties();
+            try (InputStream inputStream = resources.nextElement().openStream()) {
+                properties.load(inputStream);
+            }
+            assertThat(properties.getProperty("com.atomikos.icatch.threaded_2pc"), is("true"));
+        }
+    }
+    
     @Test
     public void assertClose() {
         atomikosTransactionManager.close();
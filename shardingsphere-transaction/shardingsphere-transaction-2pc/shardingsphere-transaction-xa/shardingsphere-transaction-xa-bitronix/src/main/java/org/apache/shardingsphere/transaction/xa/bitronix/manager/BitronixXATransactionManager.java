@@ -32,12 +32,19 @@ import javax.transaction.TransactionManager;
  */
 public final class BitronixXATransactionManager implements XATransactionManager {
     
-    private final BitronixTransactionManager bitronixTransactionManager = TransactionManagerServices.getTransactionManager();
+    private final BitronixTransactionManager bitronixTransactionManager = createTransactionManager();
     
     @Override
     public void init() {
     }
     
+    private static BitronixTransactionManager createTransactionManager() {
+        if (!TransactionManagerServices.isTransactionManagerRunning()) {
+            TransactionManagerServices.getConfiguration().setAsynchronous2Pc(true);
+        }
+        return TransactionManagerServices.getTransactionManager();
+    }
+    
     @SneakyThrows
     @Override
     public void registerRecoveryResource(final String dataSourceName, final XADataSource xaDataSource) {
@@ -21,11 +21,13 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import bitronix.tm.BitronixTransactionManager;
+import bitronix.tm.TransactionManagerServices;
 import bitronix.tm.resource.ResourceRegistrar;
 import javax.sql.XAConnection;
 import javax.sql.XADataSource;
@@ -61,6 +63,11 @@ public class BitronixXATransactionManagerTest {
         when(xaDataSource.getXAConnection()).thenReturn(xaConnection);
     }
     
+    @Test
+    public void assertTwoPhaseCommitIsAsynchronous() {
+        assertTrue(TransactionManagerServices.getConfiguration().isAsynchronous2Pc());
+    }
+    
     @Test
     public void assertRegisterRecoveryResourceThenRemove() {
         bitronixXATransactionManager.registerRecoveryResource("ds1", xaDataSource);
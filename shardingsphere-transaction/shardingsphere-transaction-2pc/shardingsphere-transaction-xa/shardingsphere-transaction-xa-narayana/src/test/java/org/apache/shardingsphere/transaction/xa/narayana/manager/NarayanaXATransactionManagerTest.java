@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.transaction.xa.narayana.manager;
 
+import com.arjuna.ats.arjuna.common.arjPropertyManager;
 import com.arjuna.ats.internal.jta.recovery.arjunacore.XARecoveryModule;
 import com.arjuna.ats.jbossatx.jta.RecoveryManagerService;
 import javax.sql.XADataSource;
@@ -32,7 +33,9 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -71,6 +74,13 @@ public class NarayanaXATransactionManagerTest {
         verify(recoveryManagerService).start();
     }
     
+    @Test
+    public void assertOnlyPreparePhaseIsAsync() {
+        assertTrue(arjPropertyManager.getCoordinatorEnvironmentBean().isAsyncPrepare());
+        assertFalse(arjPropertyManager.getCoordinatorEnvironmentBean().isAsyncCommit());
+        assertFalse(arjPropertyManager.getCoordinatorEnvironmentBean().isAsyncRollback());
+    }
+    
     @Test
     public void assertRegisterRecoveryResource() {
         narayanaXATransactionManager.registerRecoveryResource("ds1", xaDataSource);
@@ -32,31 +32,32 @@ public final class TransactionalSQLExecutionHook implements SQLExecutionHook {
     
     private static final String SEATA_TX_XID = "SEATA_TX_XID";
     
-    private boolean seataBranch;
-    
     @Override
-    public void start(final String dataSourceName, final String sql, final List<Object> parameters,
-                      final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+    public Object start(final String dataSourceName, final String sql, final List<Object> parameters,
+                        final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
         if (isTrunkThread) {
             if (RootContext.inGlobalTransaction()) {
                 ExecutorDataMap.getValue().put(SEATA_TX_XID, RootContext.getXID());
             }
         } else if (!RootContext.inGlobalTransaction() && shardingExecuteDataMap.containsKey(SEATA_TX_XID)) {
             RootContext.bind((String) shardingExecuteDataMap.get(SEATA_TX_XID));
-            seataBranch = true;
+            return Boolean.TRUE;
         }
+        return null;
     }
     
     @Override
-    public void finishSuccess() {
-        if (seataBranch) {
-            RootContext.unbind();
-        }
+    public void finishSuccess(final Object context) {
+        unbindIfSeataBranch(context);
     }
     
     @Override
-    public void finishFailure(final Exception cause) {
-        if (seataBranch) {
+    public void finishFailure(final Object context, final Exception cause) {
+        unbindIfSeataBranch(context);
+    }
+    
+    private void unbindIfSeataBranch(final Object context) {
+        if (Boolean.TRUE.equals(context)) {
             RootContext.unbind();
         }
     }
@@ -59,25 +59,25 @@ public final class TransactionalSQLExecutionHookTest {
     @Test
     public void assertTrunkThreadExecute() {
         RootContext.bind("xid");
-        executionHook.start("ds", "SELECT 1", Collections.emptyList(), dataSourceMetaData, true, shardingExecuteDataMap);
+        Object context = executionHook.start("ds", "SELECT 1", Collections.emptyList(), dataSourceMetaData, true, shardingExecuteDataMap);
         assertThat(ExecutorDataMap.getValue().get("SEATA_TX_XID"), is(RootContext.getXID()));
-        executionHook.finishSuccess();
+        executionHook.finishSuccess(context);
         assertTrue(RootContext.inGlobalTransaction());
     }
     
     @Test
     public void assertChildThreadExecute() {
-        executionHook.start("ds", "SELECT 1", Collections.emptyList(), dataSourceMetaData, false, shardingExecuteDataMap);
+        Object context = executionHook.start("ds", "SELECT 1", Collections.emptyList(), dataSourceMetaData, false, shardingExecuteDataMap);
         assertTrue(RootContext.inGlobalTransaction());
-        executionHook.finishSuccess();
+        executionHook.finishSuccess(context);
         assertFalse(RootContext.inGlobalTransaction());
     }
     
     @Test
     public void assertChildThreadExecuteFailed() {
-        executionHook.start("ds", "SELECT 1", Collections.emptyList(), dataSourceMetaData, false, shardingExecuteDataMap);
+        Object context = executionHook.start("ds", "SELECT 1", Collections.emptyList(), dataSourceMetaData, false, shardingExecuteDataMap);
         assertTrue(RootContext.inGlobalTransaction());
-        executionHook.finishFailure(new RuntimeException());
+        executionHook.finishFailure(context, new RuntimeException());
         assertFalse(RootContext.inGlobalTransaction());
     }
 }